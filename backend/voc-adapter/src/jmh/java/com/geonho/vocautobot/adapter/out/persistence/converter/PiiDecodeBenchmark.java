@@ -0,0 +1,92 @@
+package com.geonho.vocautobot.adapter.out.persistence.converter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * VOC 한 행의 고객 정보 컬럼 3개(이메일·이름·전화번호) 복원 비용 비교
+ *
+ * - legacyDecrypt: 호출마다 Cipher.getInstance·SecretKeySpec 생성 + IV/본문 배열 복사 (기존 AesEncryptConverter)
+ * - cachedDecrypt: 스레드별 Cipher 재사용 + 복사 없는 GCMParameterSpec/doFinal 오프셋
+ * - lazyUnread: EncryptedString으로 감싸기만 하고 읽지 않음 (통계 집계처럼 PII를 쓰지 않는 엔티티 조회)
+ * - lazyRead: EncryptedString으로 감싼 뒤 평문 조회
+ *
+ * 실행: ./gradlew :voc-adapter:jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PiiDecodeBenchmark {
+
+    private static final String KEY = "000102030405060708090a0b0c0d0e0f101112131415161718191a1b1c1d1e1f";
+
+    private byte[] legacyKey;
+    private String email;
+    private String name;
+    private String phone;
+
+    @Setup
+    public void setUp() {
+        new AesEncryptConverter().setSecretKey(KEY);
+        legacyKey = HexFormat.of().parseHex(KEY);
+        email = AesEncryptConverter.encrypt("customer@example.com");
+        name = AesEncryptConverter.encrypt("홍길동");
+        phone = AesEncryptConverter.encrypt("010-1234-5678");
+    }
+
+    @Benchmark
+    public void legacyDecrypt(Blackhole bh) throws Exception {
+        bh.consume(legacyDecrypt(email));
+        bh.consume(legacyDecrypt(name));
+        bh.consume(legacyDecrypt(phone));
+    }
+
+    @Benchmark
+    public void cachedDecrypt(Blackhole bh) {
+        bh.consume(AesEncryptConverter.decrypt(email));
+        bh.consume(AesEncryptConverter.decrypt(name));
+        bh.consume(AesEncryptConverter.decrypt(phone));
+    }
+
+    @Benchmark
+    public void lazyUnread(Blackhole bh) {
+        bh.consume(EncryptedString.ofCiphertext(email));
+        bh.consume(EncryptedString.ofCiphertext(name));
+        bh.consume(EncryptedString.ofCiphertext(phone));
+    }
+
+    @Benchmark
+    public void lazyRead(Blackhole bh) {
+        bh.consume(EncryptedString.ofCiphertext(email).plaintext());
+        bh.consume(EncryptedString.ofCiphertext(name).plaintext());
+        bh.consume(EncryptedString.ofCiphertext(phone).plaintext());
+    }
+
+    private String legacyDecrypt(String ciphertext) throws Exception {
+        byte[] decoded = Base64.getDecoder().decode(ciphertext);
+        ByteBuffer buffer = ByteBuffer.wrap(decoded);
+        byte[] iv = new byte[12];
+        buffer.get(iv);
+        byte[] encrypted = new byte[buffer.remaining()];
+        buffer.get(encrypted);
+
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(legacyKey, "AES"), new GCMParameterSpec(128, iv));
+        return new String(cipher.doFinal(encrypted), StandardCharsets.UTF_8);
+    }
+}
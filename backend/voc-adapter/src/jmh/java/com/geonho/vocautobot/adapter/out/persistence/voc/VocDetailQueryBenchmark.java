@@ -0,0 +1,193 @@
+package com.geonho.vocautobot.adapter.out.persistence.voc;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.geonho.vocautobot.adapter.out.persistence.converter.AesEncryptConverter;
+import com.geonho.vocautobot.adapter.out.persistence.voc.mapper.VocMapper;
+import com.geonho.vocautobot.application.analysis.dto.VocAnalysisDto;
+import com.geonho.vocautobot.application.voc.port.in.dto.VocDetailView;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * VOC 상세 조회 비교 (PostgreSQL 16, Testcontainers - Docker 필요)
+ * json_agg·LATERAL·IS JSON을 사용하므로 H2가 아닌 실제 PostgreSQL로 측정
+ *
+ * - entityDetail: VocJpaEntity 조회 + VocMapper 변환(첨부·메모 지연 로딩) + 분석 조회 후 JSON 컬럼 3개 파싱 (기존 방식)
+ * - detailQuery: VocDetailQueryAdapter 단일 쿼리
+ *
+ * 실행: ./gradlew :voc-adapter:jmh (Docker가 없으면 이 벤치마크의 Setup에서 실패)
+ * 호출당 SQL 수는 종료 시 출력되는 queries/op로 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VocDetailQueryBenchmark {
+
+    private static final String KEY = "000102030405060708090a0b0c0d0e0f101112131415161718191a1b1c1d1e1f";
+    private static final Long VOC_ID = 1L;
+
+    private PostgreSQLContainer<?> postgres;
+    private SessionFactory sessionFactory;
+    private EntityManager entityManager;
+    private Statistics statistics;
+    private VocDetailQueryAdapter adapter;
+    private final VocMapper mapper = new VocMapper();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private long invocations;
+
+    @Setup
+    public void setUp() {
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+        postgres.start();
+
+        AesEncryptConverter converter = new AesEncryptConverter();
+        converter.setSecretKey(KEY);
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(VocJpaEntity.class)
+                .addAnnotatedClass(VocAttachmentJpaEntity.class)
+                .addAnnotatedClass(VocMemoJpaEntity.class)
+                .addAnnotatedClass(VocAnalysisJpaEntity.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, postgres.getJdbcUrl())
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, postgres.getUsername())
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, postgres.getPassword())
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.GENERATE_STATISTICS, "true")
+                .buildSessionFactory();
+        statistics = sessionFactory.getStatistics();
+
+        // 첨부 2건, 메모 3건, 완료된 분석 결과가 있는 VOC 1건
+        LocalDateTime now = LocalDateTime.now();
+        sessionFactory.inTransaction(session -> {
+            session.createNativeMutationQuery("""
+                    INSERT INTO vocs (id, version, ticket_id, title, content, status, priority, category_id,
+                                      customer_email, customer_name, customer_phone, created_at, updated_at)
+                    VALUES (:id, 0, 'VOC-BENCH-0001', '배송 지연 문의', :content, 'IN_PROGRESS', 'HIGH', 1,
+                            :email, :name, :phone, :now, :now)
+                    """)
+                    .setParameter("id", VOC_ID)
+                    .setParameter("content", "주문한 상품이 예정일보다 지연되고 있습니다. ".repeat(20))
+                    .setParameter("email", converter.convertToDatabaseColumn("customer@example.com"))
+                    .setParameter("name", converter.convertToDatabaseColumn("홍길동"))
+                    .setParameter("phone", converter.convertToDatabaseColumn("010-1234-5678"))
+                    .setParameter("now", now)
+                    .executeUpdate();
+            for (int i = 1; i <= 2; i++) {
+                session.createNativeMutationQuery("""
+                        INSERT INTO voc_attachments (id, voc_id, original_filename, stored_filename, file_path,
+                                                     file_size, content_type, created_at, updated_at)
+                        VALUES (:id, :vocId, :name, :stored, :path, 1024, 'image/png', :now, :now)
+                        """)
+                        .setParameter("id", (long) i)
+                        .setParameter("vocId", VOC_ID)
+                        .setParameter("name", "receipt" + i + ".png")
+                        .setParameter("stored", "uuid-receipt" + i + ".png")
+                        .setParameter("path", "vocs/uuid-receipt" + i + ".png")
+                        .setParameter("now", now)
+                        .executeUpdate();
+            }
+            for (int i = 1; i <= 3; i++) {
+                session.createNativeMutationQuery("""
+                        INSERT INTO voc_memos (id, voc_id, author_id, content, is_internal, created_at, updated_at)
+                        VALUES (:id, :vocId, 1, :content, true, :now, :now)
+                        """)
+                        .setParameter("id", (long) i)
+                        .setParameter("vocId", VOC_ID)
+                        .setParameter("content", "고객 연락 메모 " + i)
+                        .setParameter("now", now)
+                        .executeUpdate();
+            }
+            session.createNativeMutationQuery("""
+                    INSERT INTO voc_analyses (voc_id, status, summary, confidence, keywords, possible_causes,
+                                              related_logs, recommendation, analyzed_at, created_at)
+                    VALUES (:vocId, 'COMPLETED', '배송 지연 이슈', 0.85, '["배송", "지연", "택배사"]',
+                            '["물류 센터 적체", "주소 오류"]',
+                            '[{"timestamp": "2026-02-10T09:00:00", "logLevel": "ERROR", "serviceName": "delivery",
+                               "message": "carrier timeout", "relevanceScore": 0.9}]',
+                            '고객 연락 후 재배송 안내', :now, :now)
+                    """)
+                    .setParameter("vocId", VOC_ID)
+                    .setParameter("now", now)
+                    .executeUpdate();
+        });
+
+        Session session = sessionFactory.openSession();
+        session.setDefaultReadOnly(true);
+        entityManager = session;
+        adapter = new VocDetailQueryAdapter(entityManager, objectMapper, converter);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+        statistics.clear();
+        invocations = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportQueries() {
+        if (invocations > 0) {
+            System.out.printf("%n  queries/op: %.1f%n", (double) statistics.getPrepareStatementCount() / invocations);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        sessionFactory.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    public VocDetailView entityDetail() throws JsonProcessingException {
+        entityManager.clear();
+        invocations++;
+
+        VocJpaEntity entity = entityManager.find(VocJpaEntity.class, VOC_ID);
+        VocAnalysisJpaEntity analysis = entityManager.createQuery(
+                        "SELECT a FROM VocAnalysisJpaEntity a WHERE a.vocId = :vocId", VocAnalysisJpaEntity.class)
+                .setParameter("vocId", VOC_ID)
+                .getSingleResult();
+        VocAnalysisDto dto = new VocAnalysisDto(
+                analysis.getId(),
+                analysis.getVocId(),
+                analysis.getStatus().name(),
+                analysis.getSummary(),
+                analysis.getConfidence(),
+                objectMapper.readValue(analysis.getKeywords(), new TypeReference<List<String>>() {}),
+                objectMapper.readValue(analysis.getPossibleCauses(), new TypeReference<List<String>>() {}),
+                objectMapper.readValue(analysis.getRelatedLogs(),
+                        new TypeReference<List<VocAnalysisDto.RelatedLogDto>>() {}),
+                analysis.getRecommendation(),
+                analysis.getErrorMessage(),
+                analysis.getAnalyzedAt(),
+                analysis.getCreatedAt()
+        );
+        return new VocDetailView(mapper.toDomain(entity), dto);
+    }
+
+    @Benchmark
+    public VocDetailView detailQuery() {
+        entityManager.clear();
+        invocations++;
+        return adapter.loadVocDetail(VOC_ID).orElseThrow();
+    }
+}
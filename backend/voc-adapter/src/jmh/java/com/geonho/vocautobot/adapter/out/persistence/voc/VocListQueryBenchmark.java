@@ -0,0 +1,167 @@
+package com.geonho.vocautobot.adapter.out.persistence.voc;
+
+import com.geonho.vocautobot.adapter.out.persistence.converter.AesEncryptConverter;
+import com.geonho.vocautobot.adapter.out.persistence.voc.mapper.VocMapper;
+import com.geonho.vocautobot.application.voc.port.in.dto.VocSummary;
+import com.geonho.vocautobot.domain.voc.VocDomain;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * VOC 목록 100건 페이지 조회 비교 (H2 인메모리)
+ * - entityPage: VocJpaEntity 조회 후 VocMapper로 도메인 변환 (기존 loadVocList 방식, 첨부·메모 지연 로딩 포함)
+ * - summaryPage: VocListQueryAdapter 생성자 프로젝션 (includePii = false)
+ * - summaryPageWithPii: VocListQueryAdapter 생성자 프로젝션 (includePii = true)
+ *
+ * 실행: ./gradlew :voc-adapter:jmh
+ * 호출당 할당량은 gc 프로파일러의 gc.alloc.rate.norm, 호출당 SQL 수는 종료 시 출력되는 queries/op로 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VocListQueryBenchmark {
+
+    private static final String KEY = "000102030405060708090a0b0c0d0e0f101112131415161718191a1b1c1d1e1f";
+
+    @Param({"100"})
+    private int pageSize;
+
+    private SessionFactory sessionFactory;
+    private EntityManager entityManager;
+    private Statistics statistics;
+    private VocListQueryAdapter adapter;
+    private final VocMapper mapper = new VocMapper();
+    private Pageable pageable;
+    private long invocations;
+
+    @Setup
+    public void setUp() {
+        new AesEncryptConverter().setSecretKey(KEY);
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(VocJpaEntity.class)
+                .addAnnotatedClass(VocAttachmentJpaEntity.class)
+                .addAnnotatedClass(VocMemoJpaEntity.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:voc-list;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.GENERATE_STATISTICS, "true")
+                .buildSessionFactory();
+        statistics = sessionFactory.getStatistics();
+
+        // 목록 2페이지 분량 (count 쿼리 생략 조건에 걸리지 않도록)
+        AesEncryptConverter converter = new AesEncryptConverter();
+        String content = "주문한 상품이 예정일보다 지연되고 있습니다. 배송 조회가 되지 않습니다. ".repeat(20);
+        LocalDateTime now = LocalDateTime.now();
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < pageSize * 2; i++) {
+                session.createNativeMutationQuery("""
+                        INSERT INTO vocs (version, ticket_id, title, content, status, priority, category_id,
+                                          customer_email, customer_name, customer_phone, created_at, updated_at)
+                        VALUES (0, :ticketId, :title, :content, 'NEW', 'NORMAL', 1,
+                                :email, :name, :phone, :createdAt, :createdAt)
+                        """)
+                        .setParameter("ticketId", "VOC-BENCH-" + i)
+                        .setParameter("title", "배송 지연 문의 " + i)
+                        .setParameter("content", content)
+                        .setParameter("email", converter.convertToDatabaseColumn("customer" + i + "@example.com"))
+                        .setParameter("name", converter.convertToDatabaseColumn("고객" + i))
+                        .setParameter("phone", converter.convertToDatabaseColumn("010-0000-" + i))
+                        .setParameter("createdAt", now.minusMinutes(i))
+                        .executeUpdate();
+            }
+        });
+
+        Session session = sessionFactory.openSession();
+        session.setDefaultReadOnly(true);
+        entityManager = session;
+        adapter = new VocListQueryAdapter(entityManager);
+        pageable = PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createdAt"));
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+        statistics.clear();
+        invocations = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportQueries() {
+        if (invocations > 0) {
+            System.out.printf("%n  queries/op: %.1f%n", (double) statistics.getPrepareStatementCount() / invocations);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Page<VocDomain> entityPage() {
+        entityManager.clear();
+        invocations++;
+
+        Specification<VocJpaEntity> spec = VocSpecification.withFilters(null, null, null, null, null, null);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<VocJpaEntity> query = cb.createQuery(VocJpaEntity.class);
+        Root<VocJpaEntity> root = query.from(VocJpaEntity.class);
+        query.where(spec.toPredicate(root, query, cb));
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        List<VocDomain> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList().stream()
+                .map(mapper::toDomain)
+                .toList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            CriteriaQuery<Long> count = cb.createQuery(Long.class);
+            Root<VocJpaEntity> countRoot = count.from(VocJpaEntity.class);
+            count.select(cb.count(countRoot)).where(spec.toPredicate(countRoot, count, cb));
+            return entityManager.createQuery(count).getSingleResult();
+        });
+    }
+
+    @Benchmark
+    public Page<VocSummary> summaryPage() {
+        entityManager.clear();
+        invocations++;
+        return adapter.loadVocSummaries(null, null, null, null, null, null, false, pageable);
+    }
+
+    @Benchmark
+    public Page<VocSummary> summaryPageWithPii() {
+        entityManager.clear();
+        invocations++;
+        return adapter.loadVocSummaries(null, null, null, null, null, null, true, pageable);
+    }
+}
@@ -0,0 +1,141 @@
+package com.geonho.vocautobot.adapter.out.search;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.geonho.vocautobot.application.analysis.dto.LogEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.opensearch.client.opensearch.core.search.Hit;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 로그 _source 디코딩 비교
+ * - mapBased: Map 역직렬화 후 별칭별 조회 (기존 LogSearchMapper 방식)
+ * - typed: LogDocumentDeserializer 스트리밍 역직렬화 후 LogEntry 변환
+ *
+ * 실행: ./gradlew :voc-adapter:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LogHitDecodingBenchmark {
+
+    private static final Set<String> STANDARD_FIELDS = Set.of(
+        "@timestamp", "timestamp", "time",
+        "level", "log_level", "logLevel",
+        "service", "service_name", "serviceName",
+        "message", "msg",
+        "logger", "logger_name", "loggerName",
+        "thread", "thread_name", "threadName"
+    );
+
+    @Param({"100", "1000"})
+    private int hitCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LogSearchMapper mapper = new LogSearchMapper();
+    private List<byte[]> sources;
+
+    @Setup
+    public void setUp() {
+        sources = new ArrayList<>(hitCount);
+        for (int i = 0; i < hitCount; i++) {
+            sources.add(source(i).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Benchmark
+    public List<LogEntry> mapBased() throws Exception {
+        List<LogEntry> entries = new ArrayList<>(sources.size());
+        for (int i = 0; i < sources.size(); i++) {
+            Map<String, Object> source = objectMapper.readValue(sources.get(i), Map.class);
+            entries.add(new LogEntry(
+                "log-" + i,
+                extractTimestamp(source),
+                extractString(source, "level", "log_level", "logLevel"),
+                extractString(source, "service", "service_name", "serviceName"),
+                extractString(source, "message", "msg"),
+                extractString(source, "logger", "logger_name", "loggerName"),
+                extractString(source, "thread", "thread_name", "threadName"),
+                source.entrySet().stream()
+                    .filter(entry -> !STANDARD_FIELDS.contains(entry.getKey()))
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))
+            ));
+        }
+        return entries;
+    }
+
+    @Benchmark
+    public List<LogEntry> typed() throws Exception {
+        List<LogEntry> entries = new ArrayList<>(sources.size());
+        for (int i = 0; i < sources.size(); i++) {
+            LogDocument document = objectMapper.readValue(sources.get(i), LogDocument.class);
+            String id = "log-" + i;
+            entries.add(mapper.toLogEntry(Hit.of(h -> h.index("app-logs").id(id).source(document))));
+        }
+        return entries;
+    }
+
+    /**
+     * 운영 로그와 비슷한 형태의 _source (별칭 혼용, 중첩 객체, 스택트레이스 포함)
+     */
+    private static String source(int i) {
+        boolean error = i % 10 == 0;
+        String levelField = i % 3 == 0 ? "log_level" : "level";
+        String serviceField = i % 4 == 0 ? "service_name" : "service";
+        return """
+            {"@timestamp":"2026-01-01T09:%02d:%02d.%03d+09:00","%s":"%s","%s":"%s",\
+            "message":"Request %d processed for /api/v1/vocs/%d","logger":"com.geonho.vocautobot.adapter.in.web.VocController",\
+            "thread":"http-nio-8080-exec-%d","trace_id":"%032x","span_id":"%016x","host":{"name":"voc-backend-%d"},\
+            "http":{"method":"GET","status":%d,"duration_ms":%d}%s}
+            """.formatted(
+                (i / 60) % 60, i % 60, i % 1000,
+                levelField, error ? "ERROR" : "INFO",
+                serviceField, i % 2 == 0 ? "voc-backend" : "ai-service",
+                i, i, i % 200, (long) i * 7919, (long) i * 104729, i % 3,
+                error ? 500 : 200, i % 900,
+                error ? ",\"stack_trace\":\"java.lang.IllegalStateException: failure\\n\\tat com.geonho.vocautobot.Service.run(Service.java:42)\"" : ""
+            ).strip();
+    }
+
+    private static LocalDateTime extractTimestamp(Map<String, Object> source) {
+        Object timestamp = getFirstNonNull(source, "@timestamp", "timestamp", "time");
+        if (timestamp instanceof String text) {
+            return LocalDateTime.parse(text.substring(0, 19));
+        }
+        if (timestamp instanceof Number millis) {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis.longValue()), ZoneId.systemDefault());
+        }
+        return LocalDateTime.now();
+    }
+
+    private static String extractString(Map<String, Object> source, String... fieldNames) {
+        Object value = getFirstNonNull(source, fieldNames);
+        return value != null ? value.toString() : null;
+    }
+
+    private static Object getFirstNonNull(Map<String, Object> source, String... fieldNames) {
+        for (String fieldName : fieldNames) {
+            Object value = source.get(fieldName);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+}
@@ -2,6 +2,7 @@ package com.geonho.vocautobot.adapter.common;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.geonho.vocautobot.application.common.pagination.CursorPage;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
@@ -35,6 +36,17 @@ public class ApiResponse<T> {
         private final Integer size;
         private final Long totalElements;
         private final Integer totalPages;
+
+        /** 다음 페이지 커서 (커서 페이지 응답에서 다음 페이지가 있을 때만 포함) */
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private final String nextCursor;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private final Boolean hasNext;
+
+        /** 대략적인 전체 건수 (커서 페이지 응답에서 요청한 경우만 포함) */
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private final Long approximateTotal;
     }
 
     public static <T> ApiResponse<T> success(T data) {
@@ -59,6 +71,20 @@ public class ApiResponse<T> {
                 .build();
     }
 
+    public static <T> ApiResponse<T> success(T data, CursorPage<?> page) {
+        return ApiResponse.<T>builder()
+                .success(true)
+                .data(data)
+                .meta(Meta.builder()
+                        .timestamp(Instant.now())
+                        .size(page.content().size())
+                        .nextCursor(page.nextCursor())
+                        .hasNext(page.hasNext())
+                        .approximateTotal(page.approximateTotal())
+                        .build())
+                .build();
+    }
+
     public static <T> ApiResponse<T> error(String code, String message) {
         return ApiResponse.<T>builder()
                 .success(false)
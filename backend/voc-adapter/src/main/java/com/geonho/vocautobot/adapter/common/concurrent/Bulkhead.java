@@ -0,0 +1,257 @@
+package com.geonho.vocautobot.adapter.common.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Semaphore 기반 Bulkhead
+ * 외부 백엔드(Ollama, Python AI 서비스 등)에 대한 동시 호출 수를 제한
+ *
+ * 가상 스레드 모드에서는 스레드 풀 크기가 더 이상 동시성 상한이 아니므로,
+ * 백엔드별 Bulkhead가 그 역할을 대신한다.
+ *
+ * 비동기 호출의 대기열도 블로킹 호출과 같은 규칙을 따른다.
+ * - 대기열 크기는 maxQueued로 제한하고, maxWait 안에 허가를 얻지 못하면 BulkheadFullException으로 실패
+ * - 대기 중인 호출은 허가를 반환한 스레드(대개 Netty 이벤트 루프)가 아닌 dispatcher에서 실행
+ * - 허가는 공정 모드로 얻으므로 먼저 기다리던 블로킹 호출을 앞지르지 않음
+ */
+public final class Bulkhead {
+
+    private final String name;
+    private final Semaphore semaphore;
+    private final Duration maxWait;
+    private final int maxQueued;
+    private final BlockingQueue<Waiter<?>> waitingCalls;
+    private final Executor dispatcher;
+
+    private Bulkhead(String name, Semaphore semaphore, Duration maxWait, int maxQueued, Executor dispatcher) {
+        this.name = name;
+        this.semaphore = semaphore;
+        this.maxWait = maxWait;
+        this.maxQueued = maxQueued;
+        this.waitingCalls = semaphore != null ? new LinkedBlockingQueue<>(maxQueued) : null;
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * 동시 호출 수가 제한된 Bulkhead 생성
+     *
+     * @param name 백엔드 이름 (로그/예외 메시지용)
+     * @param permits 최대 동시 호출 수
+     * @param maxWait 허가 획득 최대 대기 시간
+     * @param maxQueued 허가를 기다릴 수 있는 최대 비동기 호출 수
+     * @param dispatcher 대기열에서 꺼낸 비동기 호출을 실행할 Executor
+     */
+    public static Bulkhead of(String name, int permits, Duration maxWait, int maxQueued, Executor dispatcher) {
+        if (permits <= 0) {
+            throw new IllegalArgumentException("Bulkhead permits must be positive: " + permits);
+        }
+        if (maxQueued <= 0) {
+            throw new IllegalArgumentException("Bulkhead queue size must be positive: " + maxQueued);
+        }
+        return new Bulkhead(name, new Semaphore(permits, true), maxWait, maxQueued, dispatcher);
+    }
+
+    /**
+     * 제한 없는 Bulkhead 생성 (스레드 풀이 동시성을 제한하는 경우)
+     */
+    public static Bulkhead unbounded(String name) {
+        return new Bulkhead(name, null, Duration.ZERO, 0, null);
+    }
+
+    /**
+     * 허가를 획득한 상태에서 호출 실행
+     *
+     * @throws BulkheadFullException 대기 시간 내에 허가를 얻지 못한 경우
+     */
+    public <T> T execute(Supplier<T> call) {
+        if (semaphore == null) {
+            return call.get();
+        }
+
+        acquire();
+        try {
+            return call.get();
+        } finally {
+            releaseAndDrain();
+        }
+    }
+
+    /**
+     * 비동기 호출을 허가 범위 내에서 실행
+     * 허가가 없으면 스레드를 블로킹하지 않고 대기열에 넣었다가, 앞선 호출이 끝나 허가가 반환되면 dispatcher에서 실행한다.
+     * 대기열이 가득 찼거나 maxWait 안에 허가를 얻지 못하면 BulkheadFullException으로 실패한 Future를 반환한다.
+     *
+     * @param call 비동기 호출 (허가를 획득한 뒤에만 호출됨)
+     * @return 호출 결과
+     */
+    public <T> CompletableFuture<T> executeAsync(Supplier<CompletableFuture<T>> call) {
+        if (semaphore == null) {
+            return call.get();
+        }
+
+        // 앞서 기다리는 호출이 없고 허가가 남아 있으면 호출 스레드에서 바로 실행
+        if (waitingCalls.isEmpty() && tryAcquireFairly()) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            run(call, result);
+            return result;
+        }
+
+        Waiter<T> waiter = new Waiter<>(call);
+        if (!waitingCalls.offer(waiter)) {
+            return CompletableFuture.failedFuture(new BulkheadFullException(
+                    name + " bulkhead queue is full (" + maxQueued + " waiting)"));
+        }
+        CompletableFuture.delayedExecutor(maxWait.toMillis(), TimeUnit.MILLISECONDS, dispatcher)
+                .execute(() -> expire(waiter));
+        drain();
+        return waiter.result;
+    }
+
+    private <T> void run(Supplier<CompletableFuture<T>> call, CompletableFuture<T> result) {
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            releaseAndDrain();
+            result.completeExceptionally(e);
+            return;
+        }
+        future.whenComplete((value, error) -> {
+            releaseAndDrain();
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(value);
+            }
+        });
+    }
+
+    private void releaseAndDrain() {
+        semaphore.release();
+        drain();
+    }
+
+    /**
+     * 사용 가능한 허가만큼 대기 중인 호출을 dispatcher로 넘김
+     * 허가를 반환한 스레드에서는 대기열 정리만 하고 호출 자체는 실행하지 않음
+     */
+    private void drain() {
+        while (!waitingCalls.isEmpty() && tryAcquireFairly()) {
+            Waiter<?> next = waitingCalls.poll();
+            if (next == null) {
+                semaphore.release();
+                return;
+            }
+            if (!next.claim()) {
+                // 대기 시간이 지나 이미 실패 처리된 호출
+                semaphore.release();
+                continue;
+            }
+            dispatch(next);
+        }
+    }
+
+    private <T> void dispatch(Waiter<T> waiter) {
+        try {
+            dispatcher.execute(() -> run(waiter.call, waiter.result));
+        } catch (RejectedExecutionException e) {
+            semaphore.release();
+            waiter.result.completeExceptionally(
+                    new BulkheadFullException(name + " bulkhead dispatch rejected", e));
+        }
+    }
+
+    private void expire(Waiter<?> waiter) {
+        if (waiter.claim()) {
+            waitingCalls.remove(waiter);
+            waiter.result.completeExceptionally(new BulkheadFullException(
+                    name + " bulkhead is full (waited " + maxWait.toMillis() + "ms)"));
+        }
+    }
+
+    /**
+     * 대기 없이 허가 획득 (tryAcquire()와 달리 공정 모드를 지켜 먼저 기다리던 스레드를 앞지르지 않음)
+     */
+    private boolean tryAcquireFairly() {
+        try {
+            return semaphore.tryAcquire(0, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void acquire() {
+        try {
+            if (!semaphore.tryAcquire(maxWait.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new BulkheadFullException(
+                        name + " bulkhead is full (waited " + maxWait.toMillis() + "ms)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BulkheadFullException(name + " bulkhead acquisition interrupted", e);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isBounded() {
+        return semaphore != null;
+    }
+
+    /**
+     * 허가를 기다리는 비동기 호출 수
+     */
+    public int waitingCalls() {
+        return waitingCalls != null ? waitingCalls.size() : 0;
+    }
+
+    /**
+     * 현재 사용 가능한 허가 수 (제한 없는 경우 Integer.MAX_VALUE)
+     */
+    public int availablePermits() {
+        return semaphore != null ? semaphore.availablePermits() : Integer.MAX_VALUE;
+    }
+
+    /**
+     * 허가를 기다리는 비동기 호출 (허가 획득과 대기 시간 만료 중 먼저 claim한 쪽만 처리)
+     */
+    private static final class Waiter<T> {
+
+        private final Supplier<CompletableFuture<T>> call;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        private Waiter(Supplier<CompletableFuture<T>> call) {
+            this.call = call;
+        }
+
+        private boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+
+    /**
+     * Bulkhead Full Exception
+     */
+    public static class BulkheadFullException extends RuntimeException {
+        public BulkheadFullException(String message) {
+            super(message);
+        }
+
+        public BulkheadFullException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.geonho.vocautobot.adapter.common.concurrent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가상 스레드 Pinning 감시
+ * JFR jdk.VirtualThreadPinned 이벤트를 구독하여 캐리어 스레드를 점유한 위치를 기록
+ *
+ * synchronized 블록 안에서 블로킹하거나 네이티브 프레임을 거치는 동안에는
+ * 가상 스레드가 캐리어에서 분리되지 못하므로, 요청 처리 경로에서 발생하면 처리량이 급감한다.
+ * 감지된 위치는 가장 가까운 애플리케이션 프레임 기준으로 집계되며
+ * voc.virtual_threads.pinned 메트릭(frame, reason 태그)으로 노출된다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "spring.threads.virtual", name = "enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "com.geonho.vocautobot";
+    private static final String METRIC_NAME = "voc.virtual_threads.pinned";
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final Map<String, LongAdder> pinnedByFrame = new ConcurrentHashMap<>();
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${async.pinning-audit.threshold-ms:20}") long thresholdMs) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = Duration.ofMillis(thresholdMs);
+    }
+
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("Virtual thread pinning audit started (threshold: {}ms)", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace != null ? stackTrace.getFrames() : List.of();
+
+        String frame = findApplicationFrame(frames);
+        String reason = hasNativeFrame(frames) ? "native" : "monitor";
+
+        pinnedByFrame.computeIfAbsent(frame, key -> new LongAdder()).increment();
+        meterRegistry.counter(METRIC_NAME, "frame", frame, "reason", reason).increment();
+
+        log.warn("Virtual thread pinned for {}ms at {} (reason: {}, top frame: {})",
+                event.getDuration().toMillis(), frame, reason, describe(frames.isEmpty() ? null : frames.get(0)));
+    }
+
+    /**
+     * 지금까지 감지된 Pinning 위치별 횟수 (많은 순)
+     */
+    public Map<String, Long> getPinnedFrames() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        pinnedByFrame.entrySet().stream()
+                .sorted(Map.Entry.<String, LongAdder>comparingByValue(
+                        (a, b) -> Long.compare(b.sum(), a.sum())))
+                .forEach(entry -> result.put(entry.getKey(), entry.getValue().sum()));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * 스택에서 가장 가까운 애플리케이션 프레임 (없으면 최상단 프레임)
+     */
+    private String findApplicationFrame(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            if (frame.getMethod() != null
+                    && frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE)) {
+                return describe(frame);
+            }
+        }
+        return frames.isEmpty() ? "unknown" : describe(frames.get(0));
+    }
+
+    private boolean hasNativeFrame(List<RecordedFrame> frames) {
+        return frames.stream()
+                .anyMatch(frame -> frame.getMethod() != null
+                        && Modifier.isNative(frame.getMethod().getModifiers()));
+    }
+
+    private String describe(RecordedFrame frame) {
+        if (frame == null || frame.getMethod() == null) {
+            return "unknown";
+        }
+        String typeName = frame.getMethod().getType().getName();
+        String simpleName = typeName.substring(typeName.lastIndexOf('.') + 1);
+        return simpleName + "." + frame.getMethod().getName();
+    }
+}
@@ -2,6 +2,7 @@ package com.geonho.vocautobot.adapter.common.exception;
 
 import com.geonho.vocautobot.adapter.common.ApiResponse;
 import com.geonho.vocautobot.application.common.exception.BusinessException;
+import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
@@ -53,6 +54,18 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(INVALID_INPUT, message));
     }
 
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ApiResponse<Void>> handleConstraintViolationException(ConstraintViolationException e) {
+        log.error("ConstraintViolationException: {}", e.getMessage());
+        String message = e.getConstraintViolations().stream()
+                .findFirst()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .orElse("입력값이 올바르지 않습니다");
+        return ResponseEntity
+                .badRequest()
+                .body(ApiResponse.error(INVALID_INPUT, message));
+    }
+
     @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
     public ResponseEntity<ApiResponse<Void>> handleHttpRequestMethodNotSupportedException(
             HttpRequestMethodNotSupportedException e) {
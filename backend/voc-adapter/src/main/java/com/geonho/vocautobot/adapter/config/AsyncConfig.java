@@ -1,22 +1,46 @@
 package com.geonho.vocautobot.adapter.config;
 
+import com.geonho.vocautobot.adapter.common.concurrent.Bulkhead;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.time.Duration;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 
 /**
  * 비동기 작업 설정
  * VOC 분석과 같은 시간이 오래 걸리는 작업을 백그라운드로 처리
+ *
+ * async.mode=VIRTUAL 이면 작업마다 가상 스레드를 사용하고,
+ * 외부 백엔드 동시 호출 수는 스레드 풀 크기 대신 백엔드별 Bulkhead로 제한한다.
  */
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(AsyncConfig.class);
+
+    private final AsyncProperties properties;
+
+    public AsyncConfig(AsyncProperties properties) {
+        this.properties = properties;
+        log.info("Async execution mode: {}", properties.getMode());
+    }
+
     @Bean(name = "analysisExecutor")
     public Executor analysisExecutor() {
+        if (properties.isVirtualThreads()) {
+            return virtualThreadExecutor("voc-analysis-");
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(2);
         executor.setMaxPoolSize(5);
@@ -28,6 +52,10 @@ public class AsyncConfig {
 
     @Bean(name = "vocIndexingExecutor")
     public Executor vocIndexingExecutor() {
+        if (properties.isVirtualThreads()) {
+            return virtualThreadExecutor("voc-indexing-");
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(1);
         executor.setMaxPoolSize(3);
@@ -36,4 +64,89 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * VOC 일괄 작업 워커 (작업마다 묶음 트랜잭션을 순서대로 실행하므로 소수 스레드로 충분)
+     */
+    @Bean(name = "bulkJobExecutor")
+    public Executor bulkJobExecutor() {
+        if (properties.isVirtualThreads()) {
+            return virtualThreadExecutor("voc-bulk-job-");
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("voc-bulk-job-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * VOC 상세 조회의 include(이력·유사 VOC) 병렬 조회 (요청 처리 중 대기하므로 색인·분석 풀과 분리)
+     */
+    @Bean(name = "vocDetailExecutor")
+    public Executor vocDetailExecutor() {
+        if (properties.isVirtualThreads()) {
+            return virtualThreadExecutor("voc-detail-");
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("voc-detail-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * VOC 임베딩 군집화 (CPU 위주의 k-means 배정을 분할 실행하므로 모드와 무관하게 ForkJoinPool 사용)
+     * 공용 풀(commonPool)과 스케줄러 스레드를 점유하지 않도록 분리
+     */
+    @Bean(name = "clusteringExecutor", destroyMethod = "shutdown")
+    public ForkJoinPool clusteringExecutor(@Value("${voc.clustering.parallelism:2}") int parallelism) {
+        ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory = pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("voc-clustering-" + thread.getPoolIndex());
+            return thread;
+        };
+        return new ForkJoinPool(parallelism, threadFactory, null, false);
+    }
+
+    /**
+     * Ollama 호출 Bulkhead (생성 + 임베딩 공용)
+     */
+    @Bean(name = "ollamaBulkhead")
+    public Bulkhead ollamaBulkhead() {
+        return bulkhead("ollama", properties.getBulkhead().getOllama());
+    }
+
+    /**
+     * Python AI 서비스 호출 Bulkhead (로그 분석 + 감성 분석 공용)
+     */
+    @Bean(name = "aiServiceBulkhead")
+    public Bulkhead aiServiceBulkhead() {
+        return bulkhead("ai-service", properties.getBulkhead().getAiService());
+    }
+
+    /**
+     * PLATFORM 모드에서는 스레드 풀 크기가 이미 동시성을 제한하므로 Bulkhead를 적용하지 않음
+     * VIRTUAL 모드에서는 대기열에서 꺼낸 비동기 호출을 가상 스레드에서 실행
+     */
+    private Bulkhead bulkhead(String name, int permits) {
+        if (!properties.isVirtualThreads()) {
+            return Bulkhead.unbounded(name);
+        }
+        AsyncProperties.BulkheadLimits limits = properties.getBulkhead();
+        return Bulkhead.of(name, permits, Duration.ofMillis(limits.getMaxWaitMs()), limits.getMaxQueued(),
+                virtualThreadExecutor(name + "-bulkhead-"));
+    }
+
+    private Executor virtualThreadExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        return executor;
+    }
 }
@@ -0,0 +1,63 @@
+package com.geonho.vocautobot.adapter.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비동기 작업 실행 모드 설정 프로퍼티
+ */
+@Component
+@ConfigurationProperties(prefix = "async")
+@Getter
+@Setter
+public class AsyncProperties {
+
+    /**
+     * 실행 모드 (PLATFORM: 고정 크기 스레드 풀, VIRTUAL: 작업마다 가상 스레드)
+     */
+    private ExecutionMode mode = ExecutionMode.PLATFORM;
+
+    /**
+     * 백엔드별 동시 호출 제한 (VIRTUAL 모드에서만 적용)
+     */
+    private BulkheadLimits bulkhead = new BulkheadLimits();
+
+    /**
+     * 가상 스레드 모드 여부
+     */
+    public boolean isVirtualThreads() {
+        return mode == ExecutionMode.VIRTUAL;
+    }
+
+    public enum ExecutionMode {
+        PLATFORM,
+        VIRTUAL
+    }
+
+    @Getter
+    @Setter
+    public static class BulkheadLimits {
+
+        /**
+         * Ollama 동시 호출 수 (생성 + 임베딩)
+         */
+        private int ollama = 4;
+
+        /**
+         * Python AI 서비스 동시 호출 수 (로그 분석 + 감성 분석)
+         */
+        private int aiService = 16;
+
+        /**
+         * 허용 대기 시간 (밀리초), 초과 시 호출 거부
+         */
+        private long maxWaitMs = 60000;
+
+        /**
+         * 허가를 기다릴 수 있는 비동기 호출 수 (백엔드별), 초과 시 호출 거부
+         */
+        private int maxQueued = 1000;
+    }
+}
@@ -3,6 +3,8 @@ package com.geonho.vocautobot.adapter.in.web.admin;
 import com.geonho.vocautobot.adapter.common.ApiResponse;
 import com.geonho.vocautobot.adapter.in.web.admin.dto.AuditLogResponse;
 import com.geonho.vocautobot.application.audit.port.in.GetAuditLogsUseCase;
+import com.geonho.vocautobot.application.common.pagination.CursorPage;
+import com.geonho.vocautobot.application.common.pagination.CursorRequest;
 import com.geonho.vocautobot.domain.audit.AuditAction;
 import com.geonho.vocautobot.domain.audit.AuditEntityType;
 import com.geonho.vocautobot.domain.audit.AuditLog;
@@ -56,4 +58,30 @@ public class AuditLogController {
                 auditLogs.getTotalPages()
         );
     }
+
+    @Operation(summary = "감사 로그 커서 조회",
+            description = "최신순 키셋 페이지로 감사 로그를 조회합니다. 첫 페이지는 빈 cursor로 요청합니다")
+    @GetMapping(params = "cursor")
+    public ApiResponse<List<AuditLogResponse>> getAuditLogsByCursor(
+            @RequestParam String cursor,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) AuditAction action,
+            @RequestParam(required = false) AuditEntityType entityType,
+            @RequestParam(required = false) String entityId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        CursorPage<AuditLog> auditLogs = getAuditLogsUseCase.getAuditLogsAfter(
+                userId, action, entityType, entityId, startDate, endDate,
+                CursorRequest.latest(cursor, size, withTotal)
+        );
+
+        List<AuditLogResponse> content = auditLogs.content().stream()
+                .map(AuditLogResponse::from)
+                .toList();
+
+        return ApiResponse.success(content, auditLogs);
+    }
 }
@@ -3,6 +3,8 @@ package com.geonho.vocautobot.adapter.in.web.notification;
 import com.geonho.vocautobot.adapter.common.ApiResponse;
 import com.geonho.vocautobot.adapter.in.web.notification.dto.NotificationResponse;
 import com.geonho.vocautobot.adapter.out.sse.SseEmitterManager;
+import com.geonho.vocautobot.application.common.pagination.CursorPage;
+import com.geonho.vocautobot.application.common.pagination.CursorRequest;
 import com.geonho.vocautobot.application.notification.usecase.NotificationService;
 import com.geonho.vocautobot.domain.notification.Notification;
 import io.swagger.v3.oas.annotations.Operation;
@@ -66,6 +68,24 @@ public class NotificationController {
         );
     }
 
+    @Operation(summary = "알림 목록 커서 조회", description = "최신순 키셋 페이지 (첫 페이지는 빈 cursor)")
+    @GetMapping(params = "cursor")
+    public ApiResponse<List<NotificationResponse>> getNotificationsByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        Long resolvedUserId = resolveUserId();
+        CursorPage<Notification> notifications = notificationService.getNotificationsAfter(
+                resolvedUserId, CursorRequest.latest(cursor, size, withTotal));
+
+        List<NotificationResponse> response = notifications.content().stream()
+                .map(NotificationResponse::from)
+                .toList();
+
+        return ApiResponse.success(response, notifications);
+    }
+
     @Operation(summary = "읽지 않은 알림 수 조회")
     @GetMapping("/unread-count")
     public ApiResponse<Long> getUnreadCount() {
@@ -1,6 +1,7 @@
 package com.geonho.vocautobot.adapter.in.web.statistics;
 
 import com.geonho.vocautobot.adapter.in.web.statistics.dto.CategoryStatsResponse;
+import com.geonho.vocautobot.adapter.in.web.statistics.dto.ClusterStatsResponse;
 import com.geonho.vocautobot.adapter.in.web.statistics.dto.DashboardResponse;
 import com.geonho.vocautobot.adapter.in.web.statistics.dto.KpiResponse;
 import com.geonho.vocautobot.adapter.in.web.statistics.dto.KpiSnapshotResponse;
@@ -11,6 +12,7 @@ import com.geonho.vocautobot.application.statistics.port.in.GetCategoryStatsUseC
 import com.geonho.vocautobot.application.statistics.port.in.GetKpiUseCase;
 import com.geonho.vocautobot.application.statistics.port.in.GetPriorityStatsUseCase;
 import com.geonho.vocautobot.application.statistics.port.in.GetTrendUseCase;
+import com.geonho.vocautobot.application.statistics.port.in.GetVocClustersUseCase;
 import com.geonho.vocautobot.application.statistics.port.out.StatisticsQueryPort;
 import com.geonho.vocautobot.application.statistics.port.in.dto.CategoryStatsResult;
 import com.geonho.vocautobot.application.statistics.port.in.dto.KpiResult;
@@ -47,6 +49,7 @@ public class StatisticsController {
     private final GetCategoryStatsUseCase getCategoryStatsUseCase;
     private final GetPriorityStatsUseCase getPriorityStatsUseCase;
     private final KpiSnapshotUseCase kpiSnapshotUseCase;
+    private final GetVocClustersUseCase getVocClustersUseCase;
     private final StatisticsQueryPort statisticsQueryPort;
 
     @Operation(
@@ -229,4 +232,14 @@ public class StatisticsController {
                 .toList();
         return ApiResponse.success(snapshots);
     }
+
+    @Operation(
+            summary = "VOC 주제 군집 조회",
+            description = "임베딩 군집화 결과(군집별 건수, 대표 VOC, 증가율)를 조회합니다"
+    )
+    @GetMapping("/clusters")
+    public ApiResponse<ClusterStatsResponse> getClusters() {
+        ClusterStatsResponse response = ClusterStatsResponse.from(getVocClustersUseCase.getClusters());
+        return ApiResponse.success(response);
+    }
 }
@@ -0,0 +1,74 @@
+package com.geonho.vocautobot.adapter.in.web.statistics.dto;
+
+import com.geonho.vocautobot.application.statistics.port.in.dto.VocClusterResult;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * VOC 주제 군집 조회 응답 DTO.
+ */
+@Getter
+@Builder
+public class ClusterStatsResponse {
+
+    private List<Cluster> clusters;
+    private long totalVectors;
+    private LocalDateTime computedAt;
+
+    @Getter
+    @Builder
+    public static class Cluster {
+        private int clusterId;
+        private long size;
+        private double percentage;
+        private long recentCount;
+        private long previousCount;
+        private Double growthRate;
+        private List<Representative> representatives;
+
+        public static Cluster from(VocClusterResult.Cluster cluster) {
+            return Cluster.builder()
+                    .clusterId(cluster.clusterId())
+                    .size(cluster.size())
+                    .percentage(cluster.percentage())
+                    .recentCount(cluster.recentCount())
+                    .previousCount(cluster.previousCount())
+                    .growthRate(cluster.growthRate())
+                    .representatives(cluster.representatives().stream()
+                            .map(Representative::from)
+                            .toList())
+                    .build();
+        }
+    }
+
+    @Getter
+    @Builder
+    public static class Representative {
+        private Long vocId;
+        private String ticketId;
+        private String title;
+        private double similarity;
+
+        public static Representative from(VocClusterResult.Representative representative) {
+            return Representative.builder()
+                    .vocId(representative.vocId())
+                    .ticketId(representative.ticketId())
+                    .title(representative.title())
+                    .similarity(representative.similarity())
+                    .build();
+        }
+    }
+
+    public static ClusterStatsResponse from(VocClusterResult result) {
+        return ClusterStatsResponse.builder()
+                .clusters(result.clusters().stream()
+                        .map(Cluster::from)
+                        .toList())
+                .totalVectors(result.totalVectors())
+                .computedAt(result.computedAt())
+                .build();
+    }
+}
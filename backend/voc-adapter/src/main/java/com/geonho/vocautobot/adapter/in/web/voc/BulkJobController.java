@@ -0,0 +1,87 @@
+package com.geonho.vocautobot.adapter.in.web.voc;
+
+import com.geonho.vocautobot.adapter.common.ApiResponse;
+import com.geonho.vocautobot.adapter.in.web.voc.dto.BulkJobErrorResponse;
+import com.geonho.vocautobot.adapter.in.web.voc.dto.BulkJobRequest;
+import com.geonho.vocautobot.adapter.in.web.voc.dto.BulkJobResponse;
+import com.geonho.vocautobot.adapter.out.sse.BulkJobSseEmitters;
+import com.geonho.vocautobot.application.voc.port.in.BulkJobUseCase;
+import com.geonho.vocautobot.domain.voc.BulkJobItemError;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * VOC asynchronous bulk job REST controller
+ * 대량 일괄 작업을 등록하면 작업 ID를 바로 반환하고, 진행 상황은 폴링 또는 SSE로 확인
+ */
+@Tag(name = "VOC Bulk Jobs", description = "VOC 비동기 일괄 작업 API")
+@RestController
+@RequestMapping("/v1/vocs/batch/jobs")
+@RequiredArgsConstructor
+@PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+public class BulkJobController {
+
+    private final BulkJobUseCase bulkJobUseCase;
+    private final BulkJobSseEmitters bulkJobSseEmitters;
+
+    @Operation(summary = "일괄 작업 등록", description = "작업을 등록하고 작업 ID를 반환합니다 (처리는 백그라운드에서 묶음 단위로 진행)")
+    @PostMapping
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ApiResponse<BulkJobResponse> submit(@Valid @RequestBody BulkJobRequest request) {
+        return ApiResponse.success(BulkJobResponse.from(bulkJobUseCase.submit(request.toCommand())));
+    }
+
+    @Operation(summary = "일괄 작업 진행 상황 조회")
+    @GetMapping("/{jobId}")
+    public ApiResponse<BulkJobResponse> getJob(@PathVariable Long jobId) {
+        return ApiResponse.success(BulkJobResponse.from(bulkJobUseCase.getJob(jobId)));
+    }
+
+    @Operation(summary = "일괄 작업 진행 상황 스트림",
+            description = "묶음이 커밋될 때마다 progress 이벤트, 완료·취소·실패 시 done 이벤트 후 종료")
+    @GetMapping(value = "/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@PathVariable Long jobId) {
+        return bulkJobSseEmitters.subscribe(bulkJobUseCase.getJob(jobId));
+    }
+
+    @Operation(summary = "일괄 작업 실패 항목 조회", description = "처리하지 못한 VOC와 사유 (처리 순서)")
+    @GetMapping("/{jobId}/errors")
+    public ApiResponse<List<BulkJobErrorResponse>> getErrors(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size
+    ) {
+        Page<BulkJobItemError> errors = bulkJobUseCase.getErrors(jobId, PageRequest.of(page, size));
+        return ApiResponse.success(
+                errors.getContent().stream().map(BulkJobErrorResponse::from).toList(),
+                errors.getNumber(),
+                errors.getSize(),
+                errors.getTotalElements(),
+                errors.getTotalPages()
+        );
+    }
+
+    @Operation(summary = "일괄 작업 취소", description = "처리 중인 묶음은 롤백되고, 이미 처리된 VOC는 그대로 유지됩니다")
+    @PostMapping("/{jobId}/cancel")
+    public ApiResponse<BulkJobResponse> cancel(@PathVariable Long jobId) {
+        return ApiResponse.success(BulkJobResponse.from(bulkJobUseCase.cancel(jobId)));
+    }
+
+    @Operation(summary = "실패한 일괄 작업 재개", description = "마지막으로 처리된 위치 다음 VOC부터 이어서 처리합니다")
+    @PostMapping("/{jobId}/resume")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ApiResponse<BulkJobResponse> resume(@PathVariable Long jobId) {
+        return ApiResponse.success(BulkJobResponse.from(bulkJobUseCase.resume(jobId)));
+    }
+}
@@ -5,20 +5,30 @@ import com.geonho.vocautobot.adapter.in.web.voc.dto.*;
 import com.geonho.vocautobot.application.analysis.dto.VocAnalysisDto;
 import com.geonho.vocautobot.application.analysis.port.out.SentimentAnalysisPort;
 import com.geonho.vocautobot.application.analysis.port.out.VectorSearchPort;
+import com.geonho.vocautobot.application.analysis.routing.AnalysisPlan;
+import com.geonho.vocautobot.application.analysis.routing.AnalysisRouter;
+import com.geonho.vocautobot.application.analysis.routing.EnrichmentStage;
 import com.geonho.vocautobot.application.analysis.service.AsyncVocAnalysisService;
 import com.geonho.vocautobot.application.notification.usecase.NotificationService;
 import com.geonho.vocautobot.application.voc.port.out.UpdateVocSentimentPort;
 import com.geonho.vocautobot.domain.notification.NotificationType;
 import com.geonho.vocautobot.application.category.port.in.SuggestCategoryUseCase;
+import com.geonho.vocautobot.application.common.pagination.CursorPage;
+import com.geonho.vocautobot.application.common.pagination.CursorRequest;
 import com.geonho.vocautobot.application.category.port.in.dto.CategorySuggestionResult;
 import com.geonho.vocautobot.application.voc.port.in.*;
 import com.geonho.vocautobot.application.voc.port.in.dto.SimilarVocResult;
+import com.geonho.vocautobot.application.voc.port.in.dto.VocDetailView;
+import com.geonho.vocautobot.application.voc.port.in.dto.VocSummary;
+import com.geonho.vocautobot.application.voc.port.in.dto.VocTitle;
 import com.geonho.vocautobot.domain.voc.VocDomain;
 import com.geonho.vocautobot.adapter.common.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,11 +39,13 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
 
 /**
@@ -42,10 +54,12 @@ import java.util.concurrent.Executor;
 @Tag(name = "VOC", description = "VOC 관리 API (인증 필요)")
 @RestController
 @RequestMapping("/v1/vocs")
+@Validated
 public class VocController {
 
     private static final Logger log = LoggerFactory.getLogger(VocController.class);
     private static final Long DEV_DEFAULT_USER_ID = 1L;
+    private static final int DETAIL_SIMILAR_LIMIT = 5;
 
     @Value("${security.enabled:true}")
     private boolean securityEnabled;
@@ -58,14 +72,17 @@ public class VocController {
     private final AssignVocUseCase assignVocUseCase;
     private final AddMemoUseCase addMemoUseCase;
     private final AsyncVocAnalysisService asyncVocAnalysisService;
+    private final AnalysisRouter analysisRouter;
     private final GetSimilarVocsUseCase getSimilarVocsUseCase;
     private final SuggestCategoryUseCase suggestCategoryUseCase;
     private final GetVocStatusHistoryUseCase getVocStatusHistoryUseCase;
+    private final AutocompleteVocUseCase autocompleteVocUseCase;
     private final VectorSearchPort vectorSearchPort;
     private final SentimentAnalysisPort sentimentAnalysisPort;
     private final UpdateVocSentimentPort updateVocSentimentPort;
     private final NotificationService notificationService;
     private final Executor vocIndexingExecutor;
+    private final Executor vocDetailExecutor;
 
     public VocController(
             CreateVocUseCase createVocUseCase,
@@ -76,14 +93,17 @@ public class VocController {
             AssignVocUseCase assignVocUseCase,
             AddMemoUseCase addMemoUseCase,
             AsyncVocAnalysisService asyncVocAnalysisService,
+            AnalysisRouter analysisRouter,
             GetSimilarVocsUseCase getSimilarVocsUseCase,
             SuggestCategoryUseCase suggestCategoryUseCase,
             GetVocStatusHistoryUseCase getVocStatusHistoryUseCase,
+            AutocompleteVocUseCase autocompleteVocUseCase,
             VectorSearchPort vectorSearchPort,
             SentimentAnalysisPort sentimentAnalysisPort,
             UpdateVocSentimentPort updateVocSentimentPort,
             NotificationService notificationService,
-            @Qualifier("vocIndexingExecutor") Executor vocIndexingExecutor
+            @Qualifier("vocIndexingExecutor") Executor vocIndexingExecutor,
+            @Qualifier("vocDetailExecutor") Executor vocDetailExecutor
     ) {
         this.createVocUseCase = createVocUseCase;
         this.updateVocUseCase = updateVocUseCase;
@@ -93,14 +113,17 @@ public class VocController {
         this.assignVocUseCase = assignVocUseCase;
         this.addMemoUseCase = addMemoUseCase;
         this.asyncVocAnalysisService = asyncVocAnalysisService;
+        this.analysisRouter = analysisRouter;
         this.getSimilarVocsUseCase = getSimilarVocsUseCase;
         this.suggestCategoryUseCase = suggestCategoryUseCase;
         this.getVocStatusHistoryUseCase = getVocStatusHistoryUseCase;
+        this.autocompleteVocUseCase = autocompleteVocUseCase;
         this.vectorSearchPort = vectorSearchPort;
         this.sentimentAnalysisPort = sentimentAnalysisPort;
         this.updateVocSentimentPort = updateVocSentimentPort;
         this.notificationService = notificationService;
         this.vocIndexingExecutor = vocIndexingExecutor;
+        this.vocDetailExecutor = vocDetailExecutor;
     }
 
     @Operation(
@@ -117,44 +140,53 @@ public class VocController {
         // 2. 분석 레코드 생성 (PENDING 상태)
         asyncVocAnalysisService.createPendingAnalysis(voc.getId());
 
-        // 3. 백그라운드에서 AI 분석 시작 (비동기)
-        asyncVocAnalysisService.analyzeVocAsync(voc);
-        log.info("Background analysis triggered for VOC: {}", voc.getTicketId());
+        // 3. 라우팅 규칙으로 실행할 보강 단계 결정 후 백그라운드에서 AI 분석 시작 (비동기)
+        AnalysisPlan plan = analysisRouter.route(voc);
+        if (plan.runs(EnrichmentStage.LOG_ANALYSIS)) {
+            asyncVocAnalysisService.analyzeVocAsync(voc, plan.llmModel());
+            log.info("Background analysis triggered for VOC: {}", voc.getTicketId());
+        } else {
+            asyncVocAnalysisService.skipAnalysis(voc, plan);
+        }
 
-        // 4. pgvector에 VOC 임베딩 저장 (비동기, 유사 VOC 검색용)
-        CompletableFuture.runAsync(() -> {
-            try {
-                vectorSearchPort.saveEmbedding(voc.getId(), voc.getEmbeddingSourceText());
-            } catch (Exception e) {
-                log.warn("Failed to save VOC embedding for similarity search: {}", e.getMessage());
-            }
-        }, vocIndexingExecutor);
+        // 4. pgvector에 VOC 임베딩 저장 (비동기, 유사 VOC 검색용 - 임베딩 응답 대기 중에는 스레드를 점유하지 않음)
+        if (plan.runs(EnrichmentStage.EMBEDDING)) {
+            vectorSearchPort.saveEmbeddingAsync(voc.getId(), voc.getEmbeddingSourceText())
+                    .exceptionally(e -> {
+                        log.warn("Failed to save VOC embedding for similarity search: {}", e.getMessage());
+                        return null;
+                    });
+        }
 
         // 5. 감성 분석 (비동기)
-        CompletableFuture.runAsync(() -> {
-            try {
-                String text = voc.getTitle() + " " + voc.getContent();
-                SentimentAnalysisPort.SentimentResult sentiment = sentimentAnalysisPort.analyze(text);
-                updateVocSentimentPort.updateSentiment(voc.getId(), sentiment.sentiment(), sentiment.confidence());
-                log.info("Sentiment analysis completed for VOC {}: {}", voc.getTicketId(), sentiment.sentiment());
-            } catch (Exception e) {
-                log.warn("Failed to perform sentiment analysis for VOC {}: {}", voc.getTicketId(), e.getMessage());
-            }
-        }, vocIndexingExecutor);
+        if (plan.runs(EnrichmentStage.SENTIMENT)) {
+            CompletableFuture.runAsync(() -> {
+                try {
+                    String text = voc.getTitle() + " " + voc.getContent();
+                    SentimentAnalysisPort.SentimentResult sentiment = sentimentAnalysisPort.analyze(text);
+                    updateVocSentimentPort.updateSentiment(voc.getId(), sentiment.sentiment(), sentiment.confidence());
+                    log.info("Sentiment analysis completed for VOC {}: {}", voc.getTicketId(), sentiment.sentiment());
+                } catch (Exception e) {
+                    log.warn("Failed to perform sentiment analysis for VOC {}: {}", voc.getTicketId(), e.getMessage());
+                }
+            }, vocIndexingExecutor);
+        }
 
         // 6. 실시간 알림 발송 (비동기)
-        CompletableFuture.runAsync(() -> {
-            try {
-                notificationService.broadcast(
-                        NotificationType.VOC_CREATED,
-                        "새 VOC 접수",
-                        String.format("[%s] %s", voc.getTicketId(), voc.getTitle()),
-                        voc.getId()
-                );
-            } catch (Exception e) {
-                log.warn("Failed to send VOC creation notification: {}", e.getMessage());
-            }
-        }, vocIndexingExecutor);
+        if (plan.runs(EnrichmentStage.NOTIFICATION)) {
+            CompletableFuture.runAsync(() -> {
+                try {
+                    notificationService.broadcast(
+                            NotificationType.VOC_CREATED,
+                            "새 VOC 접수",
+                            String.format("[%s] %s", voc.getTicketId(), voc.getTitle()),
+                            voc.getId()
+                    );
+                } catch (Exception e) {
+                    log.warn("Failed to send VOC creation notification: {}", e.getMessage());
+                }
+            }, vocIndexingExecutor);
+        }
 
         // 7. 즉시 응답 (분석 대기 중 상태)
         VocResponse response = VocResponse.from(voc);
@@ -172,8 +204,9 @@ public class VocController {
             @Parameter(description = "검색 키워드") @RequestParam(required = false) String search,
             @Parameter(description = "페이지 번호") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
-            @Parameter(description = "정렬 필드") @RequestParam(defaultValue = "createdAt") String sortBy,
-            @Parameter(description = "정렬 방향") @RequestParam(defaultValue = "DESC") String sortDirection
+            @Parameter(description = "정렬 필드 (relevance: 검색 관련도순)") @RequestParam(defaultValue = "createdAt") String sortBy,
+            @Parameter(description = "정렬 방향") @RequestParam(defaultValue = "DESC") String sortDirection,
+            @Parameter(description = "고객 정보 포함 여부") @RequestParam(defaultValue = "false") boolean includePii
     ) {
         VocSearchFilter filter = new VocSearchFilter();
         if (status != null) {
@@ -191,8 +224,8 @@ public class VocController {
         filter.setSortBy(sortBy);
         filter.setSortDirection(sortDirection);
 
-        Page<VocDomain> vocPage = getVocListUseCase.getVocList(filter.toQuery());
-        VocListResponse response = VocListResponse.from(vocPage);
+        Page<VocSummary> summaryPage = getVocListUseCase.getVocSummaries(filter.toQuery(), includePii);
+        VocListResponse response = VocListResponse.fromSummaries(summaryPage);
 
         return ApiResponse.success(
                 response,
@@ -203,15 +236,85 @@ public class VocController {
         );
     }
 
-    @Operation(summary = "VOC 상세 조회", description = "ID로 VOC 상세 정보를 조회합니다 (분석 결과 포함)")
-    @GetMapping("/{id}")
-    public ApiResponse<VocDetailResponse> getVoc(@PathVariable Long id) {
-        VocDomain voc = getVocDetailUseCase.getVocById(id);
+    @Operation(summary = "VOC 목록 커서 조회",
+            description = "생성 시각 순 키셋 페이지로 VOC 목록을 조회합니다. 첫 페이지는 빈 cursor로 요청하고, "
+                    + "이후에는 응답 meta.nextCursor를 그대로 넘깁니다")
+    @GetMapping(params = "cursor")
+    public ApiResponse<List<VocResponse>> getVocsByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 빈 값)") @RequestParam String cursor,
+            @Parameter(description = "상태") @RequestParam(required = false) String status,
+            @Parameter(description = "우선순위") @RequestParam(required = false) String priority,
+            @Parameter(description = "카테고리 ID") @RequestParam(required = false) Long categoryId,
+            @Parameter(description = "담당자 ID") @RequestParam(required = false) Long assigneeId,
+            @Parameter(description = "고객 이메일") @RequestParam(required = false) String customerEmail,
+            @Parameter(description = "검색 키워드") @RequestParam(required = false) String search,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "정렬 방향") @RequestParam(defaultValue = "DESC") String sortDirection,
+            @Parameter(description = "고객 정보 포함 여부") @RequestParam(defaultValue = "false") boolean includePii,
+            @Parameter(description = "대략적인 전체 건수 포함 여부") @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        VocSearchFilter filter = new VocSearchFilter();
+        if (status != null) {
+            filter.setStatus(com.geonho.vocautobot.domain.voc.VocStatus.valueOf(status));
+        }
+        if (priority != null) {
+            filter.setPriority(com.geonho.vocautobot.domain.voc.VocPriority.valueOf(priority));
+        }
+        filter.setCategoryId(categoryId);
+        filter.setAssigneeId(assigneeId);
+        filter.setCustomerEmail(customerEmail);
+        filter.setSearch(search);
+        filter.setSortDirection(sortDirection);
 
-        // 분석 결과 조회
-        VocAnalysisDto analysis = asyncVocAnalysisService.getAnalysis(id).orElse(null);
+        CursorRequest cursorRequest = CursorRequest.of(
+                cursor, size, "ASC".equalsIgnoreCase(sortDirection), withTotal);
+        CursorPage<VocSummary> summaries = getVocListUseCase.getVocSummariesAfter(
+                filter.toQuery(), includePii, cursorRequest);
 
-        VocDetailResponse response = VocDetailResponse.from(voc, analysis);
+        return ApiResponse.success(summaries.content().stream().map(VocResponse::from).toList(), summaries);
+    }
+
+    @Operation(summary = "VOC 제목 자동완성",
+            description = "제목 단어 또는 티켓 ID 구간이 입력값으로 시작하는 VOC를 메모리 색인에서 조회합니다. "
+                    + "한글은 자모 단위로 비교하므로 조합 중인 글자로도 일치합니다")
+    @GetMapping("/autocomplete")
+    public ApiResponse<List<VocAutocompleteResponse>> autocomplete(
+            @Parameter(description = "입력 중인 검색어") @RequestParam String q,
+            @Parameter(description = "최대 결과 수 (1~20)") @RequestParam(defaultValue = "10") @Max(20) @Min(1) int limit
+    ) {
+        List<VocTitle> titles = autocompleteVocUseCase.autocomplete(q, limit);
+        return ApiResponse.success(titles.stream().map(VocAutocompleteResponse::from).toList());
+    }
+
+    @Operation(summary = "VOC 상세 조회",
+            description = "ID로 VOC 상세 정보를 조회합니다 (첨부·메모·분석 결과 포함, 한 번의 쿼리). "
+                    + "include=history,similar로 상태 변경 이력과 유사 VOC를 함께 조회할 수 있습니다")
+    @GetMapping("/{id}")
+    public ApiResponse<VocDetailResponse> getVoc(
+            @PathVariable Long id,
+            @Parameter(description = "함께 조회할 항목 (history, similar)") @RequestParam(required = false) List<String> include
+    ) {
+        // include 항목은 상세 조회와 동시에 별도 스레드에서 조회
+        CompletableFuture<List<VocStatusHistoryResponse>> history = includes(include, "history")
+                ? CompletableFuture.supplyAsync(() -> getVocStatusHistoryUseCase.getStatusHistory(id).stream()
+                        .map(VocStatusHistoryResponse::from)
+                        .toList(), vocDetailExecutor)
+                : null;
+        CompletableFuture<List<SimilarVocResponse>> similar = includes(include, "similar")
+                ? CompletableFuture.supplyAsync(() -> getSimilarVocsUseCase.getSimilarVocs(id, DETAIL_SIMILAR_LIMIT).stream()
+                        .map(SimilarVocResponse::from)
+                        .toList(), vocDetailExecutor)
+                        .exceptionally(e -> {
+                            // 유사 VOC는 보조 정보이므로 실패해도 상세 응답은 반환
+                            log.warn("Failed to load similar VOCs for VOC {}: {}", id, e.getMessage());
+                            return List.of();
+                        })
+                : null;
+
+        VocDetailView detail = getVocDetailUseCase.getVocDetail(id);
+
+        VocDetailResponse response = VocDetailResponse.from(detail.voc(), detail.analysis())
+                .withIncludes(await(history), await(similar));
         return ApiResponse.success(response);
     }
 
@@ -354,7 +457,7 @@ public class VocController {
     @GetMapping("/{id}/similar")
     public ApiResponse<List<SimilarVocResponse>> getSimilarVocs(
             @PathVariable Long id,
-            @Parameter(description = "최대 결과 수 (1~50)") @RequestParam(defaultValue = "5") @jakarta.validation.constraints.Max(50) @jakarta.validation.constraints.Min(1) int limit
+            @Parameter(description = "최대 결과 수 (1~50)") @RequestParam(defaultValue = "5") @Max(50) @Min(1) int limit
     ) {
         List<SimilarVocResult> results = getSimilarVocsUseCase.getSimilarVocs(id, limit);
         List<SimilarVocResponse> response = results.stream()
@@ -392,4 +495,25 @@ public class VocController {
                 .toList();
         return ApiResponse.success(response);
     }
+
+    private static boolean includes(List<String> include, String item) {
+        return include != null && include.stream().anyMatch(value -> item.equalsIgnoreCase(value.trim()));
+    }
+
+    /**
+     * 병렬 조회 결과 대기 (요청하지 않은 항목은 null, 실패 시 원래 예외를 그대로 던져 전역 예외 처리기로 전달)
+     */
+    private static <T> T await(CompletableFuture<T> future) {
+        if (future == null) {
+            return null;
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
 }
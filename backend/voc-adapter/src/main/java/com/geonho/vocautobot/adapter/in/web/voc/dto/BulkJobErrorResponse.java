@@ -0,0 +1,14 @@
+package com.geonho.vocautobot.adapter.in.web.voc.dto;
+
+import com.geonho.vocautobot.domain.voc.BulkJobItemError;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "일괄 작업에서 처리하지 못한 VOC")
+public record BulkJobErrorResponse(
+        @Schema(description = "VOC ID") Long vocId,
+        @Schema(description = "에러 메시지") String message
+) {
+    public static BulkJobErrorResponse from(BulkJobItemError error) {
+        return new BulkJobErrorResponse(error.vocId(), error.message());
+    }
+}
@@ -0,0 +1,45 @@
+package com.geonho.vocautobot.adapter.in.web.voc.dto;
+
+import com.geonho.vocautobot.application.voc.port.in.dto.SubmitBulkJobCommand;
+import com.geonho.vocautobot.domain.voc.BulkJobType;
+import com.geonho.vocautobot.domain.voc.VocPriority;
+import com.geonho.vocautobot.domain.voc.VocStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "VOC 일괄 작업 등록 요청 (type에 맞는 status / assigneeId / priority 중 하나 필요)")
+@Getter
+@NoArgsConstructor
+public class BulkJobRequest {
+
+    @Schema(description = "작업 종류", example = "ASSIGN")
+    @NotNull(message = "작업 종류를 선택해주세요")
+    private BulkJobType type;
+
+    @Schema(description = "대상 VOC ID 목록", example = "[1, 2, 3]")
+    @NotEmpty(message = "VOC ID 목록을 입력해주세요")
+    @Size(max = 50000, message = "한 작업에 최대 50,000건까지 처리 가능합니다")
+    private List<Long> vocIds;
+
+    @Schema(description = "변경할 상태 (STATUS)", example = "IN_PROGRESS")
+    private VocStatus status;
+
+    @Schema(description = "담당자 ID (ASSIGN)", example = "1")
+    private Long assigneeId;
+
+    @Schema(description = "변경할 우선순위 (PRIORITY)", example = "HIGH")
+    private VocPriority priority;
+
+    @Schema(description = "변경 사유 (STATUS)", example = "일괄 처리")
+    private String reason;
+
+    public SubmitBulkJobCommand toCommand() {
+        return new SubmitBulkJobCommand(type, vocIds, status, assigneeId, priority, reason);
+    }
+}
@@ -0,0 +1,39 @@
+package com.geonho.vocautobot.adapter.in.web.voc.dto;
+
+import com.geonho.vocautobot.domain.voc.BulkJob;
+import com.geonho.vocautobot.domain.voc.BulkJobStatus;
+import com.geonho.vocautobot.domain.voc.BulkJobType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "VOC 일괄 작업 진행 상황")
+public record BulkJobResponse(
+        @Schema(description = "작업 ID") Long id,
+        @Schema(description = "작업 종류") BulkJobType type,
+        @Schema(description = "작업 상태") BulkJobStatus status,
+        @Schema(description = "전체 건수") int totalCount,
+        @Schema(description = "처리 완료 건수 (커밋된 묶음 기준)") int processedCount,
+        @Schema(description = "성공 건수") int successCount,
+        @Schema(description = "실패 건수 (상세는 /errors)") int failedCount,
+        @Schema(description = "작업 실패 사유 (FAILED)") String failureMessage,
+        @Schema(description = "등록 시각") LocalDateTime createdAt,
+        @Schema(description = "처리 시작 시각") LocalDateTime startedAt,
+        @Schema(description = "종료 시각") LocalDateTime finishedAt
+) {
+    public static BulkJobResponse from(BulkJob job) {
+        return new BulkJobResponse(
+                job.id(),
+                job.type(),
+                job.status(),
+                job.totalCount(),
+                job.processedCount(),
+                job.successCount(),
+                job.failedCount(),
+                job.failureMessage(),
+                job.createdAt(),
+                job.startedAt(),
+                job.finishedAt()
+        );
+    }
+}
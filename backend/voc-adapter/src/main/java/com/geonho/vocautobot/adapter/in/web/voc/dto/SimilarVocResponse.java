@@ -5,6 +5,7 @@ import com.geonho.vocautobot.domain.voc.VocStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Response DTO for similar VOC results.
@@ -29,7 +30,10 @@ public record SimilarVocResponse(
         double similarity,
 
         @Schema(description = "생성 시간")
-        LocalDateTime createdAt
+        LocalDateTime createdAt,
+
+        @Schema(description = "원본 VOC와 공통된 사전 키워드", example = "[\"timeout\", \"api\"]")
+        List<String> sharedKeywords
 ) {
     /**
      * Creates a SimilarVocResponse from a SimilarVocResult.
@@ -44,7 +48,8 @@ public record SimilarVocResponse(
                 result.title(),
                 result.status(),
                 result.similarity(),
-                result.createdAt()
+                result.createdAt(),
+                result.sharedKeywords()
         );
     }
 }
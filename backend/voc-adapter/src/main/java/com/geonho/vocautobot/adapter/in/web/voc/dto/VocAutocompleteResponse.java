@@ -0,0 +1,24 @@
+package com.geonho.vocautobot.adapter.in.web.voc.dto;
+
+import com.geonho.vocautobot.application.voc.port.in.dto.VocTitle;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * VOC 자동완성 후보 응답
+ */
+@Schema(description = "VOC 자동완성 후보")
+public record VocAutocompleteResponse(
+
+        @Schema(description = "VOC ID", example = "42")
+        Long id,
+
+        @Schema(description = "티켓 ID", example = "VOC-20260125-0042")
+        String ticketId,
+
+        @Schema(description = "제목", example = "배송 지연 문의")
+        String title
+) {
+    public static VocAutocompleteResponse from(VocTitle title) {
+        return new VocAutocompleteResponse(title.id(), title.ticketId(), title.title());
+    }
+}
@@ -1,5 +1,6 @@
 package com.geonho.vocautobot.adapter.in.web.voc.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.geonho.vocautobot.application.analysis.dto.VocAnalysisDto;
 import com.geonho.vocautobot.domain.voc.VocAttachmentDomain;
 import com.geonho.vocautobot.domain.voc.VocDomain;
@@ -74,7 +75,15 @@ public record VocDetailResponse(
         String sentiment,
 
         @Schema(description = "감성 분석 신뢰도 (0.0 ~ 1.0)")
-        Double sentimentConfidence
+        Double sentimentConfidence,
+
+        @Schema(description = "상태 변경 이력 (include=history 요청 시)")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        List<VocStatusHistoryResponse> statusHistory,
+
+        @Schema(description = "유사 VOC 목록 (include=similar 요청 시)")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        List<SimilarVocResponse> similarVocs
 ) {
     public static VocDetailResponse from(VocDomain voc, VocAnalysisDto analysis) {
         List<AttachmentDto> attachments = voc.getAttachments() != null
@@ -105,7 +114,23 @@ public record VocDetailResponse(
                 memos,
                 analysis != null ? AnalysisDto.from(analysis) : null,
                 voc.getSentiment(),
-                voc.getSentimentConfidence()
+                voc.getSentimentConfidence(),
+                null,
+                null
+        );
+    }
+
+    /**
+     * include로 함께 요청한 이력·유사 VOC를 채운 응답 (요청하지 않은 항목은 null로 두어 응답에서 생략)
+     */
+    public VocDetailResponse withIncludes(List<VocStatusHistoryResponse> statusHistory,
+                                          List<SimilarVocResponse> similarVocs) {
+        return new VocDetailResponse(
+                id, ticketId, title, content, status, priority, categoryId,
+                customerEmail, customerName, customerPhone, assigneeId,
+                resolvedAt, closedAt, createdAt, updatedAt,
+                attachments, memos, aiAnalysis, sentiment, sentimentConfidence,
+                statusHistory, similarVocs
         );
     }
 
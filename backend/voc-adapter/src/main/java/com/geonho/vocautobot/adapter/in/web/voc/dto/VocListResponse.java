@@ -1,5 +1,6 @@
 package com.geonho.vocautobot.adapter.in.web.voc.dto;
 
+import com.geonho.vocautobot.application.voc.port.in.dto.VocSummary;
 import com.geonho.vocautobot.domain.voc.VocDomain;
 import io.swagger.v3.oas.annotations.media.Schema;
 import org.springframework.data.domain.Page;
@@ -34,19 +35,27 @@ public record VocListResponse(
         boolean empty
 ) {
     public static VocListResponse from(Page<VocDomain> vocPage) {
-        List<VocResponse> content = vocPage.getContent().stream()
+        return of(vocPage, vocPage.getContent().stream()
                 .map(VocResponse::from)
-                .toList();
+                .toList());
+    }
+
+    public static VocListResponse fromSummaries(Page<VocSummary> summaryPage) {
+        return of(summaryPage, summaryPage.getContent().stream()
+                .map(VocResponse::from)
+                .toList());
+    }
 
+    private static VocListResponse of(Page<?> page, List<VocResponse> content) {
         return new VocListResponse(
                 content,
-                vocPage.getNumber(),
-                vocPage.getSize(),
-                vocPage.getTotalElements(),
-                vocPage.getTotalPages(),
-                vocPage.isFirst(),
-                vocPage.isLast(),
-                vocPage.isEmpty()
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages(),
+                page.isFirst(),
+                page.isLast(),
+                page.isEmpty()
         );
     }
 }
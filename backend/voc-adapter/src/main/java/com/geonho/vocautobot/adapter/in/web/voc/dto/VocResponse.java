@@ -1,5 +1,6 @@
 package com.geonho.vocautobot.adapter.in.web.voc.dto;
 
+import com.geonho.vocautobot.application.voc.port.in.dto.VocSummary;
 import com.geonho.vocautobot.domain.voc.VocDomain;
 import com.geonho.vocautobot.domain.voc.VocPriority;
 import com.geonho.vocautobot.domain.voc.VocStatus;
@@ -82,4 +83,29 @@ public record VocResponse(
                 voc.getSentimentConfidence()
         );
     }
+
+    /**
+     * 목록 행 변환 (content는 null, 고객 정보는 조회한 경우에만 채워짐)
+     */
+    public static VocResponse from(VocSummary summary) {
+        return new VocResponse(
+                summary.id(),
+                summary.ticketId(),
+                summary.title(),
+                null,
+                summary.status(),
+                summary.priority(),
+                summary.categoryId(),
+                summary.customerEmail(),
+                summary.customerName(),
+                summary.customerPhone(),
+                summary.assigneeId(),
+                summary.resolvedAt(),
+                summary.closedAt(),
+                summary.createdAt(),
+                summary.updatedAt(),
+                summary.sentiment(),
+                summary.sentimentConfidence()
+        );
+    }
 }
@@ -0,0 +1,38 @@
+package com.geonho.vocautobot.adapter.out.ai;
+
+import com.geonho.vocautobot.application.analysis.routing.AnalysisRouter;
+import com.geonho.vocautobot.application.analysis.routing.EnrichmentStage;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * 분석 라우팅 메트릭
+ * 라우터의 단계별 스킵 누적값을 voc.analysis.stage.skipped(stage 태그) 카운터로 노출
+ */
+@Component
+public class AnalysisRoutingMetrics implements MeterBinder {
+
+    private final AnalysisRouter analysisRouter;
+
+    public AnalysisRoutingMetrics(AnalysisRouter analysisRouter) {
+        this.analysisRouter = analysisRouter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (EnrichmentStage stage : EnrichmentStage.values()) {
+            FunctionCounter.builder("voc.analysis.stage.skipped", analysisRouter,
+                            router -> router.skippedCounts().get(stage))
+                    .tag("stage", stage.name().toLowerCase(Locale.ROOT))
+                    .description("라우팅 규칙으로 건너뛴 보강 단계 수")
+                    .register(registry);
+        }
+        FunctionCounter.builder("voc.analysis.routed", analysisRouter, AnalysisRouter::routedCount)
+                .description("라우팅한 VOC 수")
+                .register(registry);
+    }
+}
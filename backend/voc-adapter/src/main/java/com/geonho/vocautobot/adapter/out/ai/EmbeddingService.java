@@ -2,24 +2,36 @@ package com.geonho.vocautobot.adapter.out.ai;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.geonho.vocautobot.adapter.common.concurrent.Bulkhead;
+import com.geonho.vocautobot.adapter.common.concurrent.Bulkhead.BulkheadFullException;
+import com.geonho.vocautobot.adapter.out.ai.OllamaModelResidencyManager.ModelKind;
 import com.geonho.vocautobot.adapter.out.ai.exception.LlmIntegrationException;
 import com.geonho.vocautobot.adapter.out.ai.exception.LlmIntegrationException.ErrorType;
+import com.geonho.vocautobot.application.analysis.port.out.EmbeddingPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Embedding Service
  * Ollama API를 통한 텍스트 임베딩 생성
  */
 @Service
-public class EmbeddingService {
+public class EmbeddingService implements EmbeddingPort {
 
     private static final Logger log = LoggerFactory.getLogger(EmbeddingService.class);
     private static final String EMBED_ENDPOINT = "/api/embed";
@@ -27,14 +39,20 @@ public class EmbeddingService {
     private final WebClient webClient;
     private final OllamaConfig config;
     private final ObjectMapper objectMapper;
+    private final Bulkhead ollamaBulkhead;
+    private final OllamaModelResidencyManager residencyManager;
 
     public EmbeddingService(
-            WebClient ollamaWebClient,
+            @Qualifier("ollamaWebClient") WebClient ollamaWebClient,
             OllamaConfig config,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            @Qualifier("ollamaBulkhead") Bulkhead ollamaBulkhead,
+            OllamaModelResidencyManager residencyManager) {
         this.webClient = ollamaWebClient;
         this.config = config;
         this.objectMapper = objectMapper;
+        this.ollamaBulkhead = ollamaBulkhead;
+        this.residencyManager = residencyManager;
     }
 
     /**
@@ -43,45 +61,74 @@ public class EmbeddingService {
      * @param text 임베딩할 텍스트
      * @return 임베딩 벡터 (float 배열)
      */
+    @Override
     public float[] generateEmbedding(String text) {
         log.debug("Generating embedding for text of length: {}", text.length());
 
         try {
-            Map<String, Object> requestBody = Map.of(
-                    "model", config.getEmbeddingModel(),
-                    "input", text
-            );
-
-            String response = webClient
-                    .post()
-                    .uri(EMBED_ENDPOINT)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofMillis(config.getTimeout()))
-                    .retryWhen(Retry.backoff(config.getMaxRetries(), Duration.ofMillis(500))
-                            .filter(this::isRetryableException)
-                            .doBeforeRetry(retrySignal ->
-                                log.warn("Retrying embedding API call, attempt: {}",
-                                    retrySignal.totalRetries() + 1))
-                            .onRetryExhaustedThrow((retryBackoffSpec, retrySignal) ->
-                                new LlmIntegrationException(ErrorType.NETWORK_ERROR,
-                                    "최대 재시도 횟수(" + config.getMaxRetries() + ")를 초과했습니다",
-                                    retrySignal.failure())))
-                    .onErrorMap(e -> !(e instanceof LlmIntegrationException),
-                            e -> new LlmIntegrationException(ErrorType.NETWORK_ERROR, e.getMessage(), e))
-                    .block();
-
+            String response = ollamaBulkhead.execute(() -> embed(text).block());
             return parseEmbeddingResponse(response);
 
         } catch (LlmIntegrationException e) {
             throw e;
+        } catch (BulkheadFullException e) {
+            log.warn("Ollama bulkhead rejected embedding request: {}", e.getMessage());
+            throw new LlmIntegrationException(ErrorType.TIMEOUT, e.getMessage(), e);
         } catch (Exception e) {
             log.error("Error generating embedding", e);
             throw new LlmIntegrationException(ErrorType.NETWORK_ERROR, "임베딩 생성 오류", e);
         }
     }
 
+    /**
+     * 텍스트를 임베딩 벡터로 변환 (비동기)
+     * Bulkhead 허가를 기다리는 동안에도 호출 스레드를 점유하지 않음
+     *
+     * @param text 임베딩할 텍스트
+     * @return 임베딩 벡터 Future
+     */
+    @Override
+    public CompletableFuture<float[]> generateEmbeddingAsync(String text) {
+        log.debug("Generating embedding (async) for text of length: {}", text.length());
+
+        return ollamaBulkhead.executeAsync(() -> embed(text).toFuture())
+                .thenApply(this::parseEmbeddingResponse)
+                .exceptionallyCompose(e -> CompletableFuture.failedFuture(toLlmException(e)));
+    }
+
+    /**
+     * /api/embed 호출 파이프라인 (구독 시점에 요청 전송)
+     *
+     * @param input 텍스트 하나 또는 텍스트 목록
+     */
+    private Mono<String> embed(Object input) {
+        Map<String, Object> requestBody = Map.of(
+                "model", config.getEmbeddingModel(),
+                "input", input,
+                "keep_alive", residencyManager.keepAlive()
+        );
+        residencyManager.recordRequest(ModelKind.EMBEDDING);
+
+        return webClient
+                .post()
+                .uri(EMBED_ENDPOINT)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(String.class)
+                .timeout(Duration.ofMillis(config.getTimeout()))
+                .retryWhen(Retry.backoff(config.getMaxRetries(), Duration.ofMillis(500))
+                        .filter(this::isRetryableException)
+                        .doBeforeRetry(retrySignal ->
+                            log.warn("Retrying embedding API call, attempt: {}",
+                                retrySignal.totalRetries() + 1))
+                        .onRetryExhaustedThrow((retryBackoffSpec, retrySignal) ->
+                            new LlmIntegrationException(ErrorType.NETWORK_ERROR,
+                                "최대 재시도 횟수(" + config.getMaxRetries() + ")를 초과했습니다",
+                                retrySignal.failure())))
+                .onErrorMap(e -> !(e instanceof LlmIntegrationException),
+                        e -> new LlmIntegrationException(ErrorType.NETWORK_ERROR, e.getMessage(), e));
+    }
+
     /**
      * 여러 텍스트를 한 번에 임베딩
      *
@@ -89,14 +136,112 @@ public class EmbeddingService {
      * @return 임베딩 벡터 배열
      */
     public float[][] generateEmbeddings(String[] texts) {
-        log.debug("Generating embeddings for {} texts", texts.length);
+        return generateEmbeddings(Arrays.asList(texts)).toArray(float[][]::new);
+    }
 
-        float[][] embeddings = new float[texts.length][];
-        for (int i = 0; i < texts.length; i++) {
-            embeddings[i] = generateEmbedding(texts[i]);
+    /**
+     * 여러 텍스트를 batchSize개씩 묶어 임베딩
+     * 길이 순으로 정렬한 뒤 묶어 배치 안의 패딩을 줄이고, 결과는 입력 순서대로 반환
+     *
+     * @param texts 임베딩할 텍스트 목록
+     * @return 입력 순서와 같은 임베딩 벡터 목록
+     */
+    public List<float[]> generateEmbeddings(List<String> texts) {
+        log.debug("Generating embeddings for {} texts", texts.size());
+
+        float[][] embeddings = new float[texts.size()][];
+        for (List<Integer> batch : batchesByLength(texts)) {
+            float[][] vectors = embedBatch(batch.stream().map(texts::get).toList());
+            for (int i = 0; i < vectors.length; i++) {
+                embeddings[batch.get(i)] = vectors[i];
+            }
         }
+        return Arrays.asList(embeddings);
+    }
 
-        return embeddings;
+    /**
+     * 여러 텍스트를 batchSize개씩 묶어 임베딩 (비동기)
+     * 배치별 요청은 Bulkhead 대기열을 거쳐 보내며, 결과는 입력 순서대로 반환
+     *
+     * @param texts 임베딩할 텍스트 목록
+     * @return 입력 순서와 같은 임베딩 벡터 목록 Future
+     */
+    public CompletableFuture<List<float[]>> generateEmbeddingsAsync(List<String> texts) {
+        log.debug("Generating embeddings (async) for {} texts", texts.size());
+
+        float[][] embeddings = new float[texts.size()][];
+        List<CompletableFuture<Void>> batches = new ArrayList<>();
+        for (List<Integer> batch : batchesByLength(texts)) {
+            List<String> batchTexts = batch.stream().map(texts::get).toList();
+            batches.add(ollamaBulkhead.executeAsync(() -> embed(batchTexts).toFuture())
+                    .thenAccept(response -> {
+                        float[][] vectors = parseBatch(response, batchTexts.size());
+                        for (int i = 0; i < vectors.length; i++) {
+                            embeddings[batch.get(i)] = vectors[i];
+                        }
+                    }));
+        }
+        return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new))
+                .<List<float[]>>thenApply(done -> Arrays.asList(embeddings))
+                .exceptionallyCompose(e -> CompletableFuture.failedFuture(toLlmException(e)));
+    }
+
+    /**
+     * 길이 순으로 정렬한 입력 인덱스를 batchSize개씩 묶음 (배치 안의 패딩 감소)
+     */
+    private List<List<Integer>> batchesByLength(List<String> texts) {
+        Integer[] order = new Integer[texts.size()];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, Comparator.comparingInt(i -> texts.get(i).length()));
+
+        int batchSize = Math.max(1, config.getChunking().getBatchSize());
+        List<List<Integer>> batches = new ArrayList<>();
+        for (int from = 0; from < order.length; from += batchSize) {
+            batches.add(Arrays.asList(order).subList(from, Math.min(order.length, from + batchSize)));
+        }
+        return batches;
+    }
+
+    private float[][] embedBatch(List<String> batch) {
+        try {
+            String response = ollamaBulkhead.execute(() -> embed(batch).block());
+            return parseBatch(response, batch.size());
+
+        } catch (LlmIntegrationException e) {
+            throw e;
+        } catch (BulkheadFullException e) {
+            log.warn("Ollama bulkhead rejected embedding batch: {}", e.getMessage());
+            throw new LlmIntegrationException(ErrorType.TIMEOUT, e.getMessage(), e);
+        } catch (Exception e) {
+            log.error("Error generating embedding batch", e);
+            throw new LlmIntegrationException(ErrorType.NETWORK_ERROR, "임베딩 생성 오류", e);
+        }
+    }
+
+    private float[][] parseBatch(String response, int expected) {
+        float[][] vectors = parseEmbeddings(response);
+        if (vectors.length != expected) {
+            throw new LlmIntegrationException(ErrorType.INVALID_RESPONSE,
+                "임베딩 응답 개수가 요청과 다릅니다: " + vectors.length + " != " + expected);
+        }
+        return vectors;
+    }
+
+    /**
+     * 비동기 호출 실패를 동기 호출과 같은 예외로 변환
+     * 대기열이 가득 찼거나 maxWait 안에 허가를 얻지 못하면 TIMEOUT
+     */
+    private static LlmIntegrationException toLlmException(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof LlmIntegrationException e) {
+            return e;
+        }
+        if (cause instanceof BulkheadFullException) {
+            log.warn("Ollama bulkhead rejected embedding request: {}", cause.getMessage());
+            return new LlmIntegrationException(ErrorType.TIMEOUT, cause.getMessage(), cause);
+        }
+        log.error("Error generating embedding", cause);
+        return new LlmIntegrationException(ErrorType.NETWORK_ERROR, "임베딩 생성 오류", cause);
     }
 
     /**
@@ -109,36 +254,47 @@ public class EmbeddingService {
     }
 
     /**
-     * Ollama 임베딩 응답 파싱
+     * Ollama 임베딩 응답 파싱 (단일 텍스트)
      * 응답 형식: {"embeddings": [[0.1, 0.2, ...]]}
      */
     private float[] parseEmbeddingResponse(String response) {
+        return parseEmbeddings(response)[0];
+    }
+
+    /**
+     * Ollama 임베딩 응답 파싱
+     * 응답 형식: {"embeddings": [[0.1, 0.2, ...], ...]} (입력 순서와 같음)
+     */
+    private float[][] parseEmbeddings(String response) {
         try {
             JsonNode rootNode = objectMapper.readTree(response);
+            residencyManager.recordResponse(ModelKind.EMBEDDING, rootNode);
 
-            // Ollama의 embed API는 "embeddings" 배열을 반환
-            // 단일 텍스트인 경우 첫 번째 임베딩만 사용
             JsonNode embeddingsNode = rootNode.get("embeddings");
             if (embeddingsNode == null || !embeddingsNode.isArray() || embeddingsNode.isEmpty()) {
                 throw new LlmIntegrationException(ErrorType.INVALID_RESPONSE,
                     "임베딩 응답에 embeddings 배열이 없습니다");
             }
 
-            JsonNode embeddingNode = embeddingsNode.get(0);
-            if (embeddingNode == null || !embeddingNode.isArray()) {
-                throw new LlmIntegrationException(ErrorType.INVALID_RESPONSE,
-                    "임베딩 데이터가 유효하지 않습니다");
-            }
-
-            int size = embeddingNode.size();
-            float[] embedding = new float[size];
+            float[][] embeddings = new float[embeddingsNode.size()][];
+            for (int e = 0; e < embeddings.length; e++) {
+                JsonNode embeddingNode = embeddingsNode.get(e);
+                if (embeddingNode == null || !embeddingNode.isArray()) {
+                    throw new LlmIntegrationException(ErrorType.INVALID_RESPONSE,
+                        "임베딩 데이터가 유효하지 않습니다");
+                }
 
-            for (int i = 0; i < size; i++) {
-                embedding[i] = (float) embeddingNode.get(i).asDouble();
+                int size = embeddingNode.size();
+                float[] embedding = new float[size];
+                for (int i = 0; i < size; i++) {
+                    embedding[i] = (float) embeddingNode.get(i).asDouble();
+                }
+                embeddings[e] = embedding;
             }
 
-            log.debug("Successfully parsed embedding vector of dimension: {}", size);
-            return embedding;
+            log.debug("Successfully parsed {} embedding vectors of dimension: {}",
+                embeddings.length, embeddings[0].length);
+            return embeddings;
 
         } catch (LlmIntegrationException e) {
             throw e;
@@ -0,0 +1,116 @@
+package com.geonho.vocautobot.adapter.out.ai;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 임베딩용 텍스트 청크 분할
+ * 붙여넣은 로그·메일 스레드처럼 긴 VOC가 모델 입력 한도에서 잘리지 않도록 문장 경계 기준으로 나눔
+ *
+ * - maxChars 이하 텍스트는 원문 그대로 한 청크로 반환
+ * - 문장(. ? ! 。 뒤 공백, 줄바꿈)을 maxChars까지 이어 붙이고, 한 문장이 maxChars보다 길면 공백 기준으로 자름
+ * - minChars보다 짧은 마지막 청크는 앞 청크에 합침 (최대 maxChars + minChars)
+ */
+@Component
+public class EmbeddingTextChunker {
+
+    private final int maxChars;
+    private final int minChars;
+
+    @Autowired
+    public EmbeddingTextChunker(OllamaConfig config) {
+        this(config.getChunking().getMaxChars(), config.getChunking().getMinChars());
+    }
+
+    EmbeddingTextChunker(int maxChars, int minChars) {
+        if (maxChars <= 0 || minChars < 0 || minChars >= maxChars) {
+            throw new IllegalArgumentException("청크 길이 설정이 올바르지 않습니다: max=" + maxChars + ", min=" + minChars);
+        }
+        this.maxChars = maxChars;
+        this.minChars = minChars;
+    }
+
+    public List<String> chunk(String text) {
+        if (text == null || text.length() <= maxChars) {
+            return text == null || text.isBlank() ? List.of() : List.of(text);
+        }
+
+        List<String> chunks = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String sentence : splitSentences(text)) {
+            if (sentence.length() > maxChars) {
+                flush(current, chunks);
+                current.append(splitLong(sentence, chunks));
+            } else {
+                if (current.length() > 0 && current.length() + 1 + sentence.length() > maxChars) {
+                    flush(current, chunks);
+                }
+                if (current.length() > 0) {
+                    current.append(' ');
+                }
+                current.append(sentence);
+            }
+        }
+        flush(current, chunks);
+
+        int last = chunks.size() - 1;
+        if (last > 0 && chunks.get(last).length() < minChars) {
+            chunks.set(last - 1, chunks.get(last - 1) + ' ' + chunks.remove(last));
+        }
+        return chunks;
+    }
+
+    private static List<String> splitSentences(String text) {
+        List<String> sentences = new ArrayList<>();
+        int start = 0;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            boolean boundary = c == '\n'
+                    || ((c == '.' || c == '?' || c == '!' || c == '。')
+                        && (i + 1 == length || Character.isWhitespace(text.charAt(i + 1))));
+            if (boundary) {
+                addTrimmed(text, start, i + 1, sentences);
+                start = i + 1;
+            }
+        }
+        addTrimmed(text, start, length, sentences);
+        return sentences;
+    }
+
+    private static void addTrimmed(String text, int from, int to, List<String> sentences) {
+        String sentence = text.substring(from, to).strip();
+        if (!sentence.isEmpty()) {
+            sentences.add(sentence);
+        }
+    }
+
+    /**
+     * maxChars보다 긴 문장을 maxChars 이내의 마지막 공백(없으면 maxChars)에서 잘라 추가
+     *
+     * @return 남은 뒷부분 (다음 문장과 이어 붙일 수 있도록 청크로 추가하지 않음)
+     */
+    private String splitLong(String sentence, List<String> chunks) {
+        int start = 0;
+        while (sentence.length() - start > maxChars) {
+            int end = start + maxChars;
+            int space = sentence.lastIndexOf(' ', end);
+            if (space > start + maxChars / 2) {
+                end = space;
+            }
+            chunks.add(sentence.substring(start, end).strip());
+            start = end;
+        }
+        return sentence.substring(start).strip();
+    }
+
+    private static void flush(StringBuilder current, List<String> chunks) {
+        if (current.length() > 0) {
+            chunks.add(current.toString());
+            current.setLength(0);
+        }
+    }
+}
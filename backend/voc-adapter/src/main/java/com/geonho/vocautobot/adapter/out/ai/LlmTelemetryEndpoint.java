@@ -0,0 +1,54 @@
+package com.geonho.vocautobot.adapter.out.ai;
+
+import com.geonho.vocautobot.application.analysis.port.out.LlmTask;
+import com.geonho.vocautobot.application.analysis.routing.AnalysisRouter;
+import com.geonho.vocautobot.application.analysis.routing.EnrichmentStage;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LLM 성능 조회 Actuator 엔드포인트 (/actuator/llm)
+ * 모델·용도별 tokens/sec, 대기 시간, 프롬프트 크기와 모델 상주 상태를 노출
+ * routing: 라우팅 규칙으로 건너뛴 단계 수와, 건너뛴 로그 분석 × 평균 추론 시간으로 추정한 GPU 절감 시간
+ */
+@Component
+@Endpoint(id = "llm")
+public class LlmTelemetryEndpoint {
+
+    private final OllamaTelemetry telemetry;
+    private final OllamaModelResidencyManager residencyManager;
+    private final AnalysisRouter analysisRouter;
+
+    public LlmTelemetryEndpoint(OllamaTelemetry telemetry, OllamaModelResidencyManager residencyManager,
+                                AnalysisRouter analysisRouter) {
+        this.telemetry = telemetry;
+        this.residencyManager = residencyManager;
+        this.analysisRouter = analysisRouter;
+    }
+
+    @ReadOperation
+    public Map<String, Object> llm() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("tasks", telemetry.snapshot());
+        result.put("residency", residencyManager.getResidency());
+        result.put("routing", routing());
+        return result;
+    }
+
+    private Map<String, Object> routing() {
+        Map<EnrichmentStage, Long> skipped = analysisRouter.skippedCounts();
+        long skippedLogAnalyses = skipped.get(EnrichmentStage.LOG_ANALYSIS);
+
+        Map<String, Object> routing = new LinkedHashMap<>();
+        routing.put("routed", analysisRouter.routedCount());
+        routing.put("skipped", skipped);
+        routing.put("ruleMatches", analysisRouter.ruleMatchCounts());
+        routing.put("estimatedSavedGpuMs",
+                skippedLogAnalyses * telemetry.averageInferenceMillis(LlmTask.LOG_ANALYSIS));
+        return routing;
+    }
+}
@@ -2,6 +2,9 @@ package com.geonho.vocautobot.adapter.out.ai;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.geonho.vocautobot.adapter.common.concurrent.Bulkhead;
+import com.geonho.vocautobot.adapter.common.concurrent.Bulkhead.BulkheadFullException;
+import com.geonho.vocautobot.adapter.out.ai.OllamaModelResidencyManager.ModelKind;
 import com.geonho.vocautobot.adapter.out.ai.exception.LlmIntegrationException;
 import com.geonho.vocautobot.adapter.out.ai.exception.LlmIntegrationException.ErrorType;
 import com.geonho.vocautobot.application.analysis.port.in.dto.VocAnalysisResult;
@@ -9,8 +12,10 @@ import com.geonho.vocautobot.application.analysis.port.in.dto.VocAnalysisResult.
 import com.geonho.vocautobot.application.analysis.port.in.dto.VocAnalysisResult.PrioritySuggestion;
 import com.geonho.vocautobot.application.analysis.port.in.dto.VocAnalysisResult.SimilarVoc;
 import com.geonho.vocautobot.application.analysis.port.out.LlmPort;
+import com.geonho.vocautobot.application.analysis.port.out.LlmTask;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
@@ -21,6 +26,8 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Ollama LLM Adapter
@@ -36,16 +43,25 @@ public class OllamaAdapter implements LlmPort {
     private final OllamaConfig config;
     private final PromptTemplate promptTemplate;
     private final ObjectMapper objectMapper;
+    private final Bulkhead ollamaBulkhead;
+    private final OllamaModelResidencyManager residencyManager;
+    private final OllamaTelemetry telemetry;
 
     public OllamaAdapter(
-            WebClient ollamaWebClient,
+            @Qualifier("ollamaWebClient") WebClient ollamaWebClient,
             OllamaConfig config,
             PromptTemplate promptTemplate,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            @Qualifier("ollamaBulkhead") Bulkhead ollamaBulkhead,
+            OllamaModelResidencyManager residencyManager,
+            OllamaTelemetry telemetry) {
         this.webClient = ollamaWebClient;
         this.config = config;
         this.promptTemplate = promptTemplate;
         this.objectMapper = objectMapper;
+        this.ollamaBulkhead = ollamaBulkhead;
+        this.residencyManager = residencyManager;
+        this.telemetry = telemetry;
     }
 
     @Override
@@ -53,21 +69,86 @@ public class OllamaAdapter implements LlmPort {
         log.info("Analyzing VOC with Ollama - Title: {}", vocTitle);
 
         String prompt = promptTemplate.createVocAnalysisPrompt(vocTitle, vocContent);
-        String llmResponse = sendPrompt(prompt);
+        String llmResponse = sendPrompt(prompt, LlmTask.VOC_ANALYSIS);
 
         return parseAnalysisResponse(llmResponse);
     }
 
     @Override
-    public String sendPrompt(String prompt) {
+    public String sendPrompt(String prompt, LlmTask task) {
         try {
+            long enqueuedAt = System.nanoTime();
+            return ollamaBulkhead.execute(() -> generate(prompt, task, config.getModel(), enqueuedAt).block());
+
+        } catch (LlmIntegrationException e) {
+            throw e;
+        } catch (BulkheadFullException e) {
+            log.warn("Ollama bulkhead rejected prompt: {}", e.getMessage());
+            throw new LlmIntegrationException(ErrorType.TIMEOUT, e.getMessage(), e);
+        } catch (Exception e) {
+            log.error("Error sending prompt to Ollama", e);
+            throw new LlmIntegrationException(ErrorType.NETWORK_ERROR, "LLM 통신 오류", e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<VocAnalysisResult> analyzeVocAsync(String vocContent, String vocTitle) {
+        log.info("Analyzing VOC with Ollama (async) - Title: {}", vocTitle);
+
+        String prompt = promptTemplate.createVocAnalysisPrompt(vocTitle, vocContent);
+        return sendPromptAsync(prompt, LlmTask.VOC_ANALYSIS).thenApply(this::parseAnalysisResponse);
+    }
+
+    @Override
+    public CompletableFuture<String> sendPromptAsync(String prompt, LlmTask task, String model) {
+        long enqueuedAt = System.nanoTime();
+        String resolvedModel = model != null ? model : config.getModel();
+        return ollamaBulkhead.executeAsync(() -> generate(prompt, task, resolvedModel, enqueuedAt).toFuture())
+                .exceptionallyCompose(e -> CompletableFuture.failedFuture(toLlmException(e)));
+    }
+
+    /**
+     * 비동기 호출 실패를 동기 sendPrompt와 같은 예외로 변환
+     * 대기열이 가득 찼거나 maxWait 안에 허가를 얻지 못하면 TIMEOUT
+     */
+    private static LlmIntegrationException toLlmException(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof LlmIntegrationException e) {
+            return e;
+        }
+        if (cause instanceof BulkheadFullException) {
+            log.warn("Ollama bulkhead rejected prompt: {}", cause.getMessage());
+            return new LlmIntegrationException(ErrorType.TIMEOUT, cause.getMessage(), cause);
+        }
+        log.error("Error sending prompt to Ollama", cause);
+        return new LlmIntegrationException(ErrorType.NETWORK_ERROR, "LLM 통신 오류", cause);
+    }
+
+    /**
+     * /api/generate 호출 파이프라인 (구독 시점에 요청 전송)
+     * Bulkhead 허가를 얻은 시점까지를 대기 시간으로 기록
+     *
+     * @param model 호출할 모델
+     * @param enqueuedAt 호출 요청 시각 (System.nanoTime)
+     * @return 응답 텍스트
+     */
+    private Mono<String> generate(String prompt, LlmTask task, String model, long enqueuedAt) {
+        return Mono.defer(() -> {
+            long queueNanos = System.nanoTime() - enqueuedAt;
+
             Map<String, Object> requestBody = Map.of(
-                    "model", config.getModel(),
+                    "model", model,
                     "prompt", prompt,
-                    "stream", false
+                    "stream", false,
+                    "keep_alive", residencyManager.keepAlive()
             );
+            // 상주 관리는 기본 생성 모델 기준 (규칙으로 지정된 다른 모델은 제외)
+            boolean defaultModel = model.equals(config.getModel());
+            if (defaultModel) {
+                residencyManager.recordRequest(ModelKind.GENERATION);
+            }
 
-            String response = webClient
+            return webClient
                     .post()
                     .uri(GENERATE_ENDPOINT)
                     .bodyValue(requestBody)
@@ -85,16 +166,8 @@ public class OllamaAdapter implements LlmPort {
                                     retrySignal.failure())))
                     .onErrorMap(e -> !(e instanceof LlmIntegrationException),
                             e -> new LlmIntegrationException(ErrorType.NETWORK_ERROR, e.getMessage(), e))
-                    .block();
-
-            return extractResponseText(response);
-
-        } catch (LlmIntegrationException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("Error sending prompt to Ollama", e);
-            throw new LlmIntegrationException(ErrorType.NETWORK_ERROR, "LLM 통신 오류", e);
-        }
+                    .map(response -> extractResponseText(response, prompt, task, model, defaultModel, queueNanos));
+        });
     }
 
     /**
@@ -108,14 +181,22 @@ public class OllamaAdapter implements LlmPort {
 
     /**
      * Ollama 응답에서 실제 텍스트 추출
+     * 응답의 타이밍 필드는 텔레메트리로 기록
      */
-    private String extractResponseText(String response) {
+    private String extractResponseText(String response, String prompt, LlmTask task, String model,
+                                       boolean defaultModel, long queueNanos) {
+        JsonNode jsonNode = null;
         try {
-            JsonNode jsonNode = objectMapper.readTree(response);
+            jsonNode = objectMapper.readTree(response);
+            if (defaultModel) {
+                residencyManager.recordResponse(ModelKind.GENERATION, jsonNode);
+            }
             return jsonNode.get("response").asText();
         } catch (Exception e) {
             log.error("Failed to parse Ollama response", e);
             return response;
+        } finally {
+            telemetry.record(model, task, prompt.length(), queueNanos, jsonNode);
         }
     }
 
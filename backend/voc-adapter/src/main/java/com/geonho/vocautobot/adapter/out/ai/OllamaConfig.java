@@ -5,6 +5,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.time.Duration;
+
 /**
  * Ollama LLM 연동 설정
  */
@@ -17,6 +19,8 @@ public class OllamaConfig {
     private String embeddingModel = "bge-m3:latest";
     private int timeout = 30000;
     private int maxRetries = 3;
+    private Residency residency = new Residency();
+    private Chunking chunking = new Chunking();
 
     @Bean
     public WebClient ollamaWebClient() {
@@ -64,4 +68,111 @@ public class OllamaConfig {
     public void setMaxRetries(int maxRetries) {
         this.maxRetries = maxRetries;
     }
+
+    public Residency getResidency() {
+        return residency;
+    }
+
+    public void setResidency(Residency residency) {
+        this.residency = residency;
+    }
+
+    public Chunking getChunking() {
+        return chunking;
+    }
+
+    public void setChunking(Chunking chunking) {
+        this.chunking = chunking;
+    }
+
+    /**
+     * 모델 상주(Residency) 설정
+     * 유휴 후 첫 요청이 모델 로드 시간을 부담하지 않도록 keep_alive와 keep-warm 주기를 제어
+     */
+    public static class Residency {
+
+        /** 애플리케이션 기동 시 생성/임베딩 모델 선로딩 여부 */
+        private boolean warmUpOnStartup = true;
+
+        /** 요청마다 전달하는 keep_alive (Ollama 기본값 5분) */
+        private Duration keepAlive = Duration.ofMinutes(30);
+
+        /** 마지막 사용자 요청 후 keep-warm 핑을 유지하는 기간 */
+        private Duration trafficWindow = Duration.ofHours(2);
+
+        /** 이 값 이상의 load_duration은 콜드 로드로 간주 */
+        private Duration coldLoadThreshold = Duration.ofMillis(500);
+
+        public boolean isWarmUpOnStartup() {
+            return warmUpOnStartup;
+        }
+
+        public void setWarmUpOnStartup(boolean warmUpOnStartup) {
+            this.warmUpOnStartup = warmUpOnStartup;
+        }
+
+        public Duration getKeepAlive() {
+            return keepAlive;
+        }
+
+        public void setKeepAlive(Duration keepAlive) {
+            this.keepAlive = keepAlive;
+        }
+
+        public Duration getTrafficWindow() {
+            return trafficWindow;
+        }
+
+        public void setTrafficWindow(Duration trafficWindow) {
+            this.trafficWindow = trafficWindow;
+        }
+
+        public Duration getColdLoadThreshold() {
+            return coldLoadThreshold;
+        }
+
+        public void setColdLoadThreshold(Duration coldLoadThreshold) {
+            this.coldLoadThreshold = coldLoadThreshold;
+        }
+    }
+
+    /**
+     * 긴 텍스트 임베딩 설정
+     * 본문을 문장 단위 청크로 나눠 길이가 비슷한 것끼리 묶어 한 번에 임베딩
+     */
+    public static class Chunking {
+
+        /** 청크 최대 문자 수 (이하 길이의 텍스트는 나누지 않음) */
+        private int maxChars = 1000;
+
+        /** 이보다 짧은 마지막 청크는 앞 청크에 합침 (인사말 등 짧은 청크가 유사도를 왜곡하지 않도록) */
+        private int minChars = 200;
+
+        /** /api/embed 요청 한 번에 보내는 최대 텍스트 수 */
+        private int batchSize = 16;
+
+        public int getMaxChars() {
+            return maxChars;
+        }
+
+        public void setMaxChars(int maxChars) {
+            this.maxChars = maxChars;
+        }
+
+        public int getMinChars() {
+            return minChars;
+        }
+
+        public void setMinChars(int minChars) {
+            this.minChars = minChars;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+    }
 }
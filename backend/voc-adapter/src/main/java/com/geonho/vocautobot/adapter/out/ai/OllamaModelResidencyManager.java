@@ -0,0 +1,252 @@
+package com.geonho.vocautobot.adapter.out.ai;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ollama 모델 상주 관리자
+ * 유휴 후 첫 VOC가 모델 로드 시간(수 초)을 부담하지 않도록 모델을 메모리에 유지
+ *
+ * - 기동 시 생성/임베딩 모델 선로딩 (warm-up)
+ * - 모든 요청에 keep_alive 전달
+ * - 응답의 load_duration으로 콜드 로드 감지
+ * - 최근 사용자 트래픽이 있는 모델만 keep_alive 만료 전에 keep-warm 핑
+ *
+ * 트래픽이 끊긴 뒤 trafficWindow가 지나면 핑을 멈추고 keep_alive 만료로 모델이 내려가도록 둔다.
+ */
+@Component
+public class OllamaModelResidencyManager {
+
+    private static final Logger log = LoggerFactory.getLogger(OllamaModelResidencyManager.class);
+    private static final String GENERATE_ENDPOINT = "/api/generate";
+    private static final String EMBED_ENDPOINT = "/api/embed";
+
+    private final WebClient webClient;
+    private final OllamaConfig config;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final Map<ModelKind, ModelState> states = new EnumMap<>(ModelKind.class);
+
+    @Autowired
+    public OllamaModelResidencyManager(
+            @Qualifier("ollamaWebClient") WebClient ollamaWebClient,
+            OllamaConfig config,
+            ObjectMapper objectMapper) {
+        this(ollamaWebClient, config, objectMapper, Clock.systemUTC());
+    }
+
+    OllamaModelResidencyManager(WebClient webClient, OllamaConfig config, ObjectMapper objectMapper, Clock clock) {
+        this.webClient = webClient;
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        for (ModelKind kind : ModelKind.values()) {
+            states.put(kind, new ModelState());
+        }
+    }
+
+    /**
+     * 기동 완료 시 모델 선로딩 (응답을 기다리지 않음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        if (!config.getResidency().isWarmUpOnStartup()) {
+            return;
+        }
+        log.info("Warming up Ollama models: {}, {}", config.getModel(), config.getEmbeddingModel());
+        warmUp().subscribe(
+                null,
+                e -> log.warn("Ollama warm-up failed: {}", e.getMessage()));
+    }
+
+    /**
+     * 생성/임베딩 모델을 모두 로드
+     */
+    public Mono<Void> warmUp() {
+        return Flux.fromArray(ModelKind.values())
+                .flatMap(this::ping)
+                .then();
+    }
+
+    /**
+     * 주기적으로 keep-warm 필요 여부를 확인하고 핑 전송
+     */
+    @Scheduled(
+            fixedDelayString = "${ollama.residency.check-interval-ms:60000}",
+            initialDelayString = "${ollama.residency.check-interval-ms:60000}")
+    public void keepWarm() {
+        keepWarmIfActive().subscribe(
+                null,
+                e -> log.warn("Ollama keep-warm ping failed: {}", e.getMessage()));
+    }
+
+    /**
+     * 최근 트래픽이 있고 keep_alive 만료가 가까운 모델에만 핑 전송
+     */
+    Mono<Void> keepWarmIfActive() {
+        Instant now = clock.instant();
+        return Flux.fromArray(ModelKind.values())
+                .filter(kind -> needsKeepWarm(states.get(kind), now))
+                .flatMap(kind -> {
+                    states.get(kind).keepWarmPings.incrementAndGet();
+                    log.debug("Sending keep-warm ping for {}", modelName(kind));
+                    return ping(kind);
+                })
+                .then();
+    }
+
+    private boolean needsKeepWarm(ModelState state, Instant now) {
+        Instant lastRequest = state.lastRequestAt;
+        if (lastRequest == null || lastRequest.plus(config.getResidency().getTrafficWindow()).isBefore(now)) {
+            return false;
+        }
+        Duration refreshAfter = config.getResidency().getKeepAlive().dividedBy(2);
+        return !state.lastActivityAt.plus(refreshAfter).isAfter(now);
+    }
+
+    /**
+     * 요청 본문에 넣을 keep_alive 값
+     */
+    public String keepAlive() {
+        return config.getResidency().getKeepAlive().toSeconds() + "s";
+    }
+
+    /**
+     * 사용자 요청 전송 기록
+     */
+    public void recordRequest(ModelKind kind) {
+        Instant now = clock.instant();
+        ModelState state = states.get(kind);
+        state.lastRequestAt = now;
+        state.lastActivityAt = now;
+    }
+
+    /**
+     * 사용자 요청 응답의 load_duration 기록
+     * 모델이 상주 중이어야 할 시점에 콜드 로드가 발생하면 다른 모델에 의한 축출로 판단해 경고
+     */
+    public void recordResponse(ModelKind kind, JsonNode response) {
+        ModelState state = states.get(kind);
+        Duration loadDuration = loadDuration(response);
+        if (loadDuration == null) {
+            return;
+        }
+
+        state.lastLoadDuration = loadDuration;
+        if (loadDuration.compareTo(config.getResidency().getColdLoadThreshold()) >= 0) {
+            long coldLoads = state.coldLoads.incrementAndGet();
+            log.warn("Cold load of Ollama model {} took {}ms (cold loads: {}). "
+                            + "If models keep evicting each other, check OLLAMA_MAX_LOADED_MODELS",
+                    modelName(kind), loadDuration.toMillis(), coldLoads);
+        }
+    }
+
+    /**
+     * 모델별 상주 상태 스냅샷
+     */
+    public Map<ModelKind, ModelResidency> getResidency() {
+        Map<ModelKind, ModelResidency> result = new EnumMap<>(ModelKind.class);
+        states.forEach((kind, state) -> result.put(kind, new ModelResidency(
+                modelName(kind),
+                state.lastRequestAt,
+                state.lastActivityAt,
+                state.lastLoadDuration,
+                state.coldLoads.get(),
+                state.keepWarmPings.get())));
+        return result;
+    }
+
+    /**
+     * 최소 요청으로 모델 로드 (생성: 빈 프롬프트, 임베딩: 짧은 입력)
+     */
+    private Mono<Void> ping(ModelKind kind) {
+        Map<String, Object> requestBody = kind == ModelKind.GENERATION
+                ? Map.of("model", config.getModel(), "prompt", "", "stream", false, "keep_alive", keepAlive())
+                : Map.of("model", config.getEmbeddingModel(), "input", "ping", "keep_alive", keepAlive());
+
+        return webClient
+                .post()
+                .uri(kind == ModelKind.GENERATION ? GENERATE_ENDPOINT : EMBED_ENDPOINT)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(String.class)
+                .timeout(Duration.ofMillis(config.getTimeout()))
+                .doOnNext(body -> {
+                    states.get(kind).lastActivityAt = clock.instant();
+                    Duration loadDuration = loadDuration(parse(body));
+                    if (loadDuration != null) {
+                        states.get(kind).lastLoadDuration = loadDuration;
+                        log.info("Ollama model {} is resident (load: {}ms)", modelName(kind), loadDuration.toMillis());
+                    }
+                })
+                .then();
+    }
+
+    private JsonNode parse(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * load_duration (나노초) 추출
+     */
+    private Duration loadDuration(JsonNode response) {
+        if (response == null || !response.hasNonNull("load_duration")) {
+            return null;
+        }
+        return Duration.ofNanos(response.get("load_duration").asLong());
+    }
+
+    private String modelName(ModelKind kind) {
+        return kind == ModelKind.GENERATION ? config.getModel() : config.getEmbeddingModel();
+    }
+
+    /**
+     * 모델 종류
+     */
+    public enum ModelKind {
+        GENERATION,
+        EMBEDDING
+    }
+
+    /**
+     * 모델 상주 상태
+     */
+    public record ModelResidency(
+            String model,
+            Instant lastRequestAt,
+            Instant lastActivityAt,
+            Duration lastLoadDuration,
+            long coldLoads,
+            long keepWarmPings
+    ) {}
+
+    private static class ModelState {
+        private volatile Instant lastRequestAt;
+        private volatile Instant lastActivityAt = Instant.EPOCH;
+        private volatile Duration lastLoadDuration;
+        private final AtomicLong coldLoads = new AtomicLong();
+        private final AtomicLong keepWarmPings = new AtomicLong();
+    }
+}
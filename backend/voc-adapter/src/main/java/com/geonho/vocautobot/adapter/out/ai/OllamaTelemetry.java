@@ -0,0 +1,164 @@
+package com.geonho.vocautobot.adapter.out.ai;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.geonho.vocautobot.application.analysis.port.out.LlmTask;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ollama 응답 타이밍 텔레메트리
+ * /api/generate 응답의 prompt_eval_count, prompt_eval_duration, eval_count, eval_duration, load_duration을
+ * 모델·용도(task) 태그의 Micrometer 히스토그램으로 기록
+ *
+ * 모든 duration 필드는 나노초 단위
+ */
+@Component
+public class OllamaTelemetry {
+
+    private static final String PREFIX = "voc.llm.";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Key, Stats> stats = new ConcurrentHashMap<>();
+
+    public OllamaTelemetry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 응답 한 건의 타이밍 기록
+     *
+     * @param model 모델명
+     * @param task 호출 용도
+     * @param promptChars 프롬프트 문자 수
+     * @param queueNanos Bulkhead 허가 대기 시간
+     * @param response Ollama 응답 (없으면 대기 시간과 프롬프트 크기만 기록)
+     */
+    public void record(String model, LlmTask task, int promptChars, long queueNanos, JsonNode response) {
+        String taskTag = task.name().toLowerCase(Locale.ROOT);
+        Stats stat = stats.computeIfAbsent(new Key(model, taskTag), key -> new Stats());
+        stat.requests.increment();
+
+        summary("prompt.chars", model, taskTag).record(promptChars);
+        stat.promptChars.add(promptChars);
+
+        timer("queue.duration", model, taskTag).record(queueNanos, TimeUnit.NANOSECONDS);
+        stat.queueNanos.add(queueNanos);
+
+        if (response == null) {
+            return;
+        }
+
+        long promptTokens = response.path("prompt_eval_count").asLong(0);
+        long evalTokens = response.path("eval_count").asLong(0);
+        long promptEvalNanos = response.path("prompt_eval_duration").asLong(0);
+        long evalNanos = response.path("eval_duration").asLong(0);
+        long loadNanos = response.path("load_duration").asLong(0);
+
+        summary("prompt.tokens", model, taskTag).record(promptTokens);
+        summary("eval.tokens", model, taskTag).record(evalTokens);
+        timer("prompt_eval.duration", model, taskTag).record(promptEvalNanos, TimeUnit.NANOSECONDS);
+        timer("eval.duration", model, taskTag).record(evalNanos, TimeUnit.NANOSECONDS);
+        timer("load.duration", model, taskTag).record(loadNanos, TimeUnit.NANOSECONDS);
+
+        stat.responses.increment();
+        stat.promptTokens.add(promptTokens);
+        stat.maxPromptTokens.accumulate(promptTokens);
+        stat.evalTokens.add(evalTokens);
+        stat.promptEvalNanos.add(promptEvalNanos);
+        stat.evalNanos.add(evalNanos);
+        stat.loadNanos.add(loadNanos);
+    }
+
+    /**
+     * 모델·용도별 누적 통계 (actuator 조회용)
+     */
+    public Map<String, Map<String, Object>> snapshot() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        stats.forEach((key, stat) -> {
+            long requests = stat.requests.sum();
+            Map<String, Object> view = new LinkedHashMap<>();
+            view.put("requests", requests);
+            view.put("evalTokensPerSecond", perSecond(stat.evalTokens.sum(), stat.evalNanos.sum()));
+            view.put("promptTokensPerSecond", perSecond(stat.promptTokens.sum(), stat.promptEvalNanos.sum()));
+            view.put("avgQueueMs", averageMillis(stat.queueNanos.sum(), requests));
+            view.put("avgLoadMs", averageMillis(stat.loadNanos.sum(), requests));
+            view.put("avgPromptChars", requests > 0 ? stat.promptChars.sum() / requests : 0);
+            view.put("avgPromptTokens", requests > 0 ? stat.promptTokens.sum() / requests : 0);
+            view.put("maxPromptTokens", stat.maxPromptTokens.get());
+            result.put(key.model() + "/" + key.task(), view);
+        });
+        return result;
+    }
+
+    /**
+     * 용도별 응답 1건당 평균 추론 시간 (prompt_eval + eval, 모든 모델 합산)
+     * 라우팅 규칙으로 건너뛴 호출의 GPU 절감량 추정에 사용
+     */
+    public long averageInferenceMillis(LlmTask task) {
+        String taskTag = task.name().toLowerCase(Locale.ROOT);
+        long responses = 0;
+        long nanos = 0;
+        for (Map.Entry<Key, Stats> entry : stats.entrySet()) {
+            if (entry.getKey().task().equals(taskTag)) {
+                Stats stat = entry.getValue();
+                responses += stat.responses.sum();
+                nanos += stat.promptEvalNanos.sum() + stat.evalNanos.sum();
+            }
+        }
+        return averageMillis(nanos, responses);
+    }
+
+    private DistributionSummary summary(String name, String model, String task) {
+        return DistributionSummary.builder(PREFIX + name)
+                .tag("model", model)
+                .tag("task", task)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Timer timer(String name, String model, String task) {
+        return Timer.builder(PREFIX + name)
+                .tag("model", model)
+                .tag("task", task)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(Duration.ofMinutes(2))
+                .register(meterRegistry);
+    }
+
+    private static double perSecond(long count, long nanos) {
+        if (nanos <= 0) {
+            return 0.0;
+        }
+        return Math.round(count * 1_000_000_000.0 / nanos * 10) / 10.0;
+    }
+
+    private static long averageMillis(long nanos, long requests) {
+        return requests > 0 ? TimeUnit.NANOSECONDS.toMillis(nanos / requests) : 0;
+    }
+
+    private record Key(String model, String task) {}
+
+    private static class Stats {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder responses = new LongAdder();
+        private final LongAdder promptChars = new LongAdder();
+        private final LongAdder promptTokens = new LongAdder();
+        private final LongAccumulator maxPromptTokens = new LongAccumulator(Math::max, 0);
+        private final LongAdder evalTokens = new LongAdder();
+        private final LongAdder promptEvalNanos = new LongAdder();
+        private final LongAdder evalNanos = new LongAdder();
+        private final LongAdder loadNanos = new LongAdder();
+        private final LongAdder queueNanos = new LongAdder();
+    }
+}
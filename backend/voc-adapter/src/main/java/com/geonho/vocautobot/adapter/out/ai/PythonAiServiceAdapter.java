@@ -1,5 +1,6 @@
 package com.geonho.vocautobot.adapter.out.ai;
 
+import com.geonho.vocautobot.adapter.common.concurrent.Bulkhead;
 import com.geonho.vocautobot.application.analysis.dto.VocLogAnalysis;
 import com.geonho.vocautobot.application.analysis.dto.VocLogAnalysis.AnalysisMethod;
 import com.geonho.vocautobot.application.analysis.dto.VocLogAnalysis.ConfidenceBreakdown;
@@ -17,9 +18,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -32,13 +37,19 @@ public class PythonAiServiceAdapter implements AiAnalysisPort {
     private static final Logger log = LoggerFactory.getLogger(PythonAiServiceAdapter.class);
 
     private final RestTemplate aiServiceRestTemplate;
+    private final WebClient aiServiceWebClient;
     private final PythonAiServiceConfig config;
+    private final Bulkhead aiServiceBulkhead;
 
     public PythonAiServiceAdapter(
             @Qualifier("aiServiceRestTemplate") RestTemplate aiServiceRestTemplate,
-            PythonAiServiceConfig config) {
+            @Qualifier("aiServiceWebClient") WebClient aiServiceWebClient,
+            PythonAiServiceConfig config,
+            @Qualifier("aiServiceBulkhead") Bulkhead aiServiceBulkhead) {
         this.aiServiceRestTemplate = aiServiceRestTemplate;
+        this.aiServiceWebClient = aiServiceWebClient;
         this.config = config;
+        this.aiServiceBulkhead = aiServiceBulkhead;
         log.info("PythonAiServiceAdapter initialized with custom RestTemplate (timeout configured)");
     }
 
@@ -70,10 +81,12 @@ public class PythonAiServiceAdapter implements AiAnalysisPort {
             String analyzeUrl = config.getAnalyzeUrl();
             log.debug("Calling AI service at: {}", analyzeUrl);
 
-            ResponseEntity<PythonAiResponse> response = aiServiceRestTemplate.postForEntity(
-                analyzeUrl,
-                requestEntity,
-                PythonAiResponse.class
+            ResponseEntity<PythonAiResponse> response = aiServiceBulkhead.execute(() ->
+                aiServiceRestTemplate.postForEntity(
+                    analyzeUrl,
+                    requestEntity,
+                    PythonAiResponse.class
+                )
             );
 
             if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
@@ -88,12 +101,48 @@ public class PythonAiServiceAdapter implements AiAnalysisPort {
         } catch (RestClientException e) {
             log.error("Failed to call Python AI service", e);
             return VocLogAnalysis.empty("AI 서비스 호출 중 오류가 발생했습니다: " + e.getMessage());
+        } catch (Bulkhead.BulkheadFullException e) {
+            log.warn("AI service bulkhead rejected analysis: {}", e.getMessage());
+            return VocLogAnalysis.empty("AI 서비스 동시 처리 한도를 초과했습니다.");
         } catch (Exception e) {
             log.error("Unexpected error during AI service call", e);
             return VocLogAnalysis.empty("AI 분석 중 예상치 못한 오류가 발생했습니다.");
         }
     }
 
+    /**
+     * Python AI 서비스를 비동기로 호출하여 VOC 로그 분석 수행
+     * 오류 시 동기 버전과 동일하게 빈 분석 결과로 완료됨
+     *
+     * @param vocTitle   VOC 제목
+     * @param vocContent VOC 내용
+     * @return AI 분석 결과 Future
+     */
+    @Override
+    public CompletableFuture<VocLogAnalysis> analyzeVocAsync(String vocTitle, String vocContent) {
+        log.info("Calling Python AI service (async) for VOC analysis: {}", vocTitle);
+
+        Map<String, String> requestBody = Map.of(
+            "title", vocTitle,
+            "content", vocContent
+        );
+
+        return aiServiceBulkhead.executeAsync(() -> aiServiceWebClient.post()
+                .uri(config.getAnalyzeEndpoint())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(PythonAiResponse.class)
+                .timeout(Duration.ofMillis(config.getTimeout()))
+                .map(this::convertToVocLogAnalysis)
+                .defaultIfEmpty(VocLogAnalysis.empty("AI 서비스가 정상 응답을 반환하지 않았습니다."))
+                .onErrorResume(e -> {
+                    log.error("Failed to call Python AI service (async)", e);
+                    return Mono.just(VocLogAnalysis.empty("AI 서비스 호출 중 오류가 발생했습니다: " + e.getMessage()));
+                })
+                .toFuture());
+    }
+
     /**
      * Python AI 서비스 응답을 VocLogAnalysis로 변환
      */
@@ -7,6 +7,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
 
 /**
  * Python AI 서비스 연동 설정
@@ -56,6 +57,20 @@ public class PythonAiServiceConfig {
         return restTemplate;
     }
 
+    /**
+     * 비동기 호출용 WebClient (응답 대기 중 스레드를 점유하지 않음)
+     */
+    @Bean
+    public WebClient aiServiceWebClient() {
+        WebClient.Builder builder = WebClient.builder().baseUrl(url);
+
+        if (apiKey != null && !apiKey.isBlank()) {
+            builder.defaultHeader("X-API-Key", apiKey);
+        }
+
+        return builder.build();
+    }
+
     /**
      * 분석 API의 전체 URL 반환
      */
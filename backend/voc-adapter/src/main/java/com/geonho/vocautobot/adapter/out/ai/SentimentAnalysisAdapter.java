@@ -1,5 +1,6 @@
 package com.geonho.vocautobot.adapter.out.ai;
 
+import com.geonho.vocautobot.adapter.common.concurrent.Bulkhead;
 import com.geonho.vocautobot.application.analysis.port.out.SentimentAnalysisPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,12 +26,15 @@ public class SentimentAnalysisAdapter implements SentimentAnalysisPort {
 
     private final RestTemplate aiServiceRestTemplate;
     private final PythonAiServiceConfig config;
+    private final Bulkhead aiServiceBulkhead;
 
     public SentimentAnalysisAdapter(
             @Qualifier("aiServiceRestTemplate") RestTemplate aiServiceRestTemplate,
-            PythonAiServiceConfig config) {
+            PythonAiServiceConfig config,
+            @Qualifier("aiServiceBulkhead") Bulkhead aiServiceBulkhead) {
         this.aiServiceRestTemplate = aiServiceRestTemplate;
         this.config = config;
+        this.aiServiceBulkhead = aiServiceBulkhead;
     }
 
     @Override
@@ -44,8 +48,8 @@ public class SentimentAnalysisAdapter implements SentimentAnalysisPort {
             String sentimentUrl = config.getUrl() + "/api/v1/sentiment";
             log.debug("Calling sentiment analysis at: {}", sentimentUrl);
 
-            ResponseEntity<SentimentResponse> response = aiServiceRestTemplate.postForEntity(
-                    sentimentUrl, requestEntity, SentimentResponse.class);
+            ResponseEntity<SentimentResponse> response = aiServiceBulkhead.execute(() ->
+                    aiServiceRestTemplate.postForEntity(sentimentUrl, requestEntity, SentimentResponse.class));
 
             if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
                 log.warn("Sentiment analysis returned non-success: {}", response.getStatusCode());
@@ -61,6 +65,9 @@ public class SentimentAnalysisAdapter implements SentimentAnalysisPort {
         } catch (RestClientException e) {
             log.error("Failed to call sentiment analysis service: {}", e.getMessage());
             return new SentimentResult("neutral", 0.5, Map.of());
+        } catch (Bulkhead.BulkheadFullException e) {
+            log.warn("AI service bulkhead rejected sentiment analysis: {}", e.getMessage());
+            return new SentimentResult("neutral", 0.5, Map.of());
         }
     }
 
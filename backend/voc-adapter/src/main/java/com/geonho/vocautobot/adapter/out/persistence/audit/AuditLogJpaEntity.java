@@ -14,14 +14,15 @@ import java.time.LocalDateTime;
     @Index(name = "idx_audit_user", columnList = "user_id"),
     @Index(name = "idx_audit_entity", columnList = "entity_type, entity_id"),
     @Index(name = "idx_audit_action", columnList = "action"),
-    @Index(name = "idx_audit_created", columnList = "created_at")
+    @Index(name = "idx_audit_created_id", columnList = "created_at, id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class AuditLogJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audit_logs_id_seq")
+    @SequenceGenerator(name = "audit_logs_id_seq", sequenceName = "audit_logs_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "user_id")
@@ -1,10 +1,16 @@
 package com.geonho.vocautobot.adapter.out.persistence.audit;
 
+import com.geonho.vocautobot.adapter.out.persistence.common.KeysetQueries;
 import com.geonho.vocautobot.application.audit.port.out.LoadAuditLogPort;
 import com.geonho.vocautobot.application.audit.port.out.SaveAuditLogPort;
+import com.geonho.vocautobot.application.common.pagination.CursorPage;
+import com.geonho.vocautobot.application.common.pagination.CursorRequest;
+import com.geonho.vocautobot.application.common.pagination.KeysetCursor;
 import com.geonho.vocautobot.domain.audit.AuditAction;
 import com.geonho.vocautobot.domain.audit.AuditEntityType;
 import com.geonho.vocautobot.domain.audit.AuditLog;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -12,6 +18,7 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
@@ -20,6 +27,9 @@ public class AuditLogPersistenceAdapter implements SaveAuditLogPort, LoadAuditLo
     private final AuditLogJpaRepository auditLogJpaRepository;
     private final AuditLogMapper auditLogMapper;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Override
     public void save(AuditLog auditLog) {
         AuditLogJpaEntity entity = auditLogMapper.toEntity(auditLog);
@@ -48,4 +58,36 @@ public class AuditLogPersistenceAdapter implements SaveAuditLogPort, LoadAuditLo
         return auditLogJpaRepository.findAll(spec, pageable)
                 .map(auditLogMapper::toDomain);
     }
+
+    @Override
+    public CursorPage<AuditLog> loadAuditLogsAfter(
+            Long userId,
+            AuditAction action,
+            AuditEntityType entityType,
+            String entityId,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            CursorRequest cursor
+    ) {
+        Specification<AuditLogJpaEntity> spec = AuditLogSpecification.withFilters(
+                userId,
+                action != null ? action.name() : null,
+                entityType != null ? entityType.name() : null,
+                entityId,
+                startDate,
+                endDate
+        );
+
+        List<AuditLogJpaEntity> fetched = KeysetQueries.findAfter(
+                entityManager, AuditLogJpaEntity.class, spec, cursor);
+        Long total = null;
+        if (cursor.withTotal()) {
+            boolean filtered = userId != null || action != null || entityType != null
+                    || (entityId != null && !entityId.isBlank()) || startDate != null || endDate != null;
+            total = KeysetQueries.total(entityManager, AuditLogJpaEntity.class, spec, "audit_logs", filtered);
+        }
+        return CursorPage.of(fetched, cursor.size(),
+                        entity -> new KeysetCursor(entity.getCreatedAt(), entity.getId()), total)
+                .map(auditLogMapper::toDomain);
+    }
 }
@@ -0,0 +1,40 @@
+package com.geonho.vocautobot.adapter.out.persistence.bulkjob;
+
+import com.geonho.vocautobot.domain.voc.BulkJobItemError;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "voc_bulk_job_errors", indexes = {
+    @Index(name = "idx_voc_bulk_job_errors_job", columnList = "job_id, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BulkJobErrorJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "voc_bulk_job_errors_id_seq")
+    @SequenceGenerator(name = "voc_bulk_job_errors_id_seq", sequenceName = "voc_bulk_job_errors_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "voc_id", nullable = false)
+    private Long vocId;
+
+    @Column(name = "message", nullable = false, columnDefinition = "TEXT")
+    private String message;
+
+    public BulkJobErrorJpaEntity(Long jobId, BulkJobItemError error) {
+        this.jobId = jobId;
+        this.vocId = error.vocId();
+        this.message = error.message();
+    }
+
+    public BulkJobItemError toDomain() {
+        return new BulkJobItemError(vocId, message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.geonho.vocautobot.adapter.out.persistence.bulkjob;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BulkJobErrorJpaRepository extends JpaRepository<BulkJobErrorJpaEntity, Long> {
+
+    Page<BulkJobErrorJpaEntity> findByJobIdOrderByIdAsc(Long jobId, Pageable pageable);
+}
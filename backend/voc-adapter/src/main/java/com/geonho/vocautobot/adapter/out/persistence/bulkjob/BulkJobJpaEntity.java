@@ -0,0 +1,105 @@
+package com.geonho.vocautobot.adapter.out.persistence.bulkjob;
+
+import com.geonho.vocautobot.domain.voc.BulkJob;
+import com.geonho.vocautobot.domain.voc.BulkJobStatus;
+import com.geonho.vocautobot.domain.voc.BulkJobType;
+import com.geonho.vocautobot.domain.voc.VocPriority;
+import com.geonho.vocautobot.domain.voc.VocStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Entity
+@Table(name = "voc_bulk_jobs", indexes = {
+    @Index(name = "idx_voc_bulk_jobs_status_updated", columnList = "status, updated_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BulkJobJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type", nullable = false, length = 20)
+    private BulkJobType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private BulkJobStatus status;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "voc_ids", nullable = false, columnDefinition = "jsonb")
+    private List<Long> vocIds;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_status", length = 20)
+    private VocStatus targetStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_priority", length = 20)
+    private VocPriority targetPriority;
+
+    @Column(name = "assignee_id")
+    private Long assigneeId;
+
+    @Column(name = "reason", columnDefinition = "TEXT")
+    private String reason;
+
+    @Column(name = "total_count", nullable = false)
+    private int totalCount;
+
+    @Column(name = "processed_count", nullable = false)
+    private int processedCount;
+
+    @Column(name = "success_count", nullable = false)
+    private int successCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private int failedCount;
+
+    @Column(name = "failure_message", columnDefinition = "TEXT")
+    private String failureMessage;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static BulkJobJpaEntity fromDomain(BulkJob job) {
+        BulkJobJpaEntity entity = new BulkJobJpaEntity();
+        entity.type = job.type();
+        entity.status = job.status();
+        entity.vocIds = job.vocIds();
+        entity.targetStatus = job.targetStatus();
+        entity.targetPriority = job.targetPriority();
+        entity.assigneeId = job.assigneeId();
+        entity.reason = job.reason();
+        entity.totalCount = job.totalCount();
+        entity.processedCount = job.processedCount();
+        entity.successCount = job.successCount();
+        entity.failedCount = job.failedCount();
+        entity.createdAt = job.createdAt();
+        entity.updatedAt = job.createdAt();
+        return entity;
+    }
+
+    public BulkJob toDomain() {
+        return new BulkJob(id, type, status, List.copyOf(vocIds), targetStatus, targetPriority, assigneeId, reason,
+                processedCount, successCount, failedCount, failureMessage, createdAt, startedAt, finishedAt);
+    }
+}
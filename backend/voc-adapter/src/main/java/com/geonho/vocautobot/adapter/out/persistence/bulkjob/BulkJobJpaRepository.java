@@ -0,0 +1,57 @@
+package com.geonho.vocautobot.adapter.out.persistence.bulkjob;
+
+import com.geonho.vocautobot.domain.voc.BulkJobStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface BulkJobJpaRepository extends JpaRepository<BulkJobJpaEntity, Long> {
+
+    @Modifying
+    @Query("""
+            UPDATE BulkJobJpaEntity j
+            SET j.status = :running, j.startedAt = COALESCE(j.startedAt, :now), j.finishedAt = null, j.updatedAt = :now
+            WHERE j.id = :id AND j.status = :queued
+            """)
+    int claim(@Param("id") Long id, @Param("queued") BulkJobStatus queued,
+              @Param("running") BulkJobStatus running, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+            UPDATE BulkJobJpaEntity j
+            SET j.processedCount = :processed, j.successCount = :success, j.failedCount = :failed, j.updatedAt = :now
+            WHERE j.id = :id AND j.status = :running AND j.processedCount = :expected
+            """)
+    int updateProgress(@Param("id") Long id, @Param("running") BulkJobStatus running,
+                       @Param("expected") int expected, @Param("processed") int processed,
+                       @Param("success") int success, @Param("failed") int failed,
+                       @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+            UPDATE BulkJobJpaEntity j
+            SET j.status = :to, j.failureMessage = :failureMessage, j.finishedAt = :finishedAt, j.updatedAt = :now
+            WHERE j.id = :id AND j.status IN :from
+            """)
+    int transition(@Param("id") Long id, @Param("from") Collection<BulkJobStatus> from,
+                   @Param("to") BulkJobStatus to, @Param("failureMessage") String failureMessage,
+                   @Param("finishedAt") LocalDateTime finishedAt, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+            UPDATE BulkJobJpaEntity j
+            SET j.status = :queued, j.updatedAt = :now
+            WHERE j.status = :running AND j.updatedAt < :before
+            """)
+    int requeueStale(@Param("running") BulkJobStatus running, @Param("queued") BulkJobStatus queued,
+                     @Param("before") LocalDateTime before, @Param("now") LocalDateTime now);
+
+    @Query("SELECT j.id FROM BulkJobJpaEntity j WHERE j.status = :status ORDER BY j.id")
+    List<Long> findIdsByStatus(@Param("status") BulkJobStatus status, Pageable pageable);
+}
@@ -0,0 +1,84 @@
+package com.geonho.vocautobot.adapter.out.persistence.bulkjob;
+
+import com.geonho.vocautobot.application.voc.port.out.BulkJobPersistencePort;
+import com.geonho.vocautobot.domain.voc.BulkJob;
+import com.geonho.vocautobot.domain.voc.BulkJobItemError;
+import com.geonho.vocautobot.domain.voc.BulkJobStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class BulkJobPersistenceAdapter implements BulkJobPersistencePort {
+
+    private final BulkJobJpaRepository bulkJobJpaRepository;
+    private final BulkJobErrorJpaRepository bulkJobErrorJpaRepository;
+
+    @Override
+    @Transactional
+    public BulkJob save(BulkJob job) {
+        return bulkJobJpaRepository.save(BulkJobJpaEntity.fromDomain(job)).toDomain();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<BulkJob> findById(Long jobId) {
+        return bulkJobJpaRepository.findById(jobId).map(BulkJobJpaEntity::toDomain);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<BulkJobItemError> findErrors(Long jobId, Pageable pageable) {
+        return bulkJobErrorJpaRepository.findByJobIdOrderByIdAsc(jobId, pageable)
+                .map(BulkJobErrorJpaEntity::toDomain);
+    }
+
+    @Override
+    @Transactional
+    public boolean claim(Long jobId) {
+        return bulkJobJpaRepository.claim(jobId, BulkJobStatus.QUEUED, BulkJobStatus.RUNNING, LocalDateTime.now()) == 1;
+    }
+
+    @Override
+    @Transactional
+    public boolean recordProgress(Long jobId, int expectedProcessed, BulkJob progressed, List<BulkJobItemError> errors) {
+        int updated = bulkJobJpaRepository.updateProgress(jobId, BulkJobStatus.RUNNING, expectedProcessed,
+                progressed.processedCount(), progressed.successCount(), progressed.failedCount(), LocalDateTime.now());
+        if (updated != 1) {
+            return false;
+        }
+        bulkJobErrorJpaRepository.saveAll(errors.stream()
+                .map(error -> new BulkJobErrorJpaEntity(jobId, error))
+                .toList());
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public boolean transition(Long jobId, Set<BulkJobStatus> from, BulkJobStatus to, String failureMessage) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime finishedAt = to.isTerminal() || to == BulkJobStatus.FAILED ? now : null;
+        return bulkJobJpaRepository.transition(jobId, from, to, failureMessage, finishedAt, now) == 1;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findQueuedIds(int limit) {
+        return bulkJobJpaRepository.findIdsByStatus(BulkJobStatus.QUEUED, PageRequest.ofSize(limit));
+    }
+
+    @Override
+    @Transactional
+    public int requeueStale(LocalDateTime before) {
+        return bulkJobJpaRepository.requeueStale(BulkJobStatus.RUNNING, BulkJobStatus.QUEUED, before, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,119 @@
+package com.geonho.vocautobot.adapter.out.persistence.common;
+
+import com.geonho.vocautobot.application.common.pagination.CursorRequest;
+import com.geonho.vocautobot.application.common.pagination.KeysetCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * (created_at, id) 키셋 페이지네이션 쿼리
+ * OFFSET 대신 마지막 행 위치 다음부터 읽어, 깊은 페이지도 (created_at, id) 인덱스 범위 탐색으로 조회
+ *
+ * - 최신순: created_at <= :c AND (created_at < :c OR id < :id) ORDER BY created_at DESC, id DESC
+ * - 오래된순: 부등호 방향만 반대
+ * - created_at 조건을 먼저 두어 복합 인덱스의 범위 시작점으로 쓰이도록 함
+ * - 다음 페이지 여부는 size + 1건 조회로 판단하므로 COUNT 쿼리가 없음
+ */
+public final class KeysetQueries {
+
+    private static final String CREATED_AT = "createdAt";
+    private static final String ID = "id";
+
+    private KeysetQueries() {}
+
+    /**
+     * spec 조건에 맞는 엔티티를 커서 다음부터 size + 1건까지 조회
+     */
+    public static <E> List<E> findAfter(EntityManager entityManager, Class<E> type,
+                                        Specification<E> spec, CursorRequest cursor) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<E> query = cb.createQuery(type);
+        Root<E> root = query.from(type);
+        query.where(where(cb, root, query, spec, cursor));
+        query.orderBy(orders(cb, root, cursor.ascending()));
+        return entityManager.createQuery(query)
+                .setMaxResults(cursor.size() + 1)
+                .getResultList();
+    }
+
+    /**
+     * spec 조건과 커서 위치 조건을 합친 WHERE 절
+     */
+    public static <E> Predicate where(CriteriaBuilder cb, Root<E> root, CriteriaQuery<?> query,
+                                      Specification<E> spec, CursorRequest cursor) {
+        Predicate filters = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (cursor.after() == null) {
+            return filters != null ? filters : cb.conjunction();
+        }
+        Predicate seek = seek(cb, root, cursor.after(), cursor.ascending());
+        return filters != null ? cb.and(filters, seek) : seek;
+    }
+
+    public static <E> List<Order> orders(CriteriaBuilder cb, Root<E> root, boolean ascending) {
+        return ascending
+                ? List.of(cb.asc(root.get(CREATED_AT)), cb.asc(root.get(ID)))
+                : List.of(cb.desc(root.get(CREATED_AT)), cb.desc(root.get(ID)));
+    }
+
+    /**
+     * 전체 건수
+     * 필터가 없으면 planner 통계(pg_class.reltuples) 추정치를 쓰고, 통계가 없거나 필터가 있으면 COUNT
+     *
+     * @param table 추정치를 읽을 테이블 이름
+     * @param filtered 필터 조건 유무
+     */
+    public static <E> long total(EntityManager entityManager, Class<E> type, Specification<E> spec,
+                                 String table, boolean filtered) {
+        if (!filtered) {
+            Long estimate = estimateRows(entityManager, table);
+            if (estimate != null) {
+                return estimate;
+            }
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<E> root = query.from(type);
+        query.select(cb.count(root));
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * @return ANALYZE 전이라 통계가 없으면 null
+     */
+    private static Long estimateRows(EntityManager entityManager, String table) {
+        List<?> result = entityManager.createNativeQuery(
+                        "SELECT reltuples FROM pg_class WHERE oid = to_regclass(:table)")
+                .setParameter("table", table)
+                .getResultList();
+        if (result.isEmpty() || !(result.get(0) instanceof Number reltuples) || reltuples.doubleValue() < 0) {
+            return null;
+        }
+        return reltuples.longValue();
+    }
+
+    private static <E> Predicate seek(CriteriaBuilder cb, Root<E> root, KeysetCursor after, boolean ascending) {
+        Path<LocalDateTime> createdAt = root.get(CREATED_AT);
+        Path<Long> id = root.get(ID);
+        if (ascending) {
+            return cb.and(
+                    cb.greaterThanOrEqualTo(createdAt, after.createdAt()),
+                    cb.or(cb.greaterThan(createdAt, after.createdAt()), cb.greaterThan(id, after.id())));
+        }
+        return cb.and(
+                cb.lessThanOrEqualTo(createdAt, after.createdAt()),
+                cb.or(cb.lessThan(createdAt, after.createdAt()), cb.lessThan(id, after.id())));
+    }
+}
@@ -10,10 +10,18 @@ import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.SecureRandom;
 import java.util.Base64;
 import java.util.HexFormat;
 
+/**
+ * AES-256-GCM 컬럼 암호화
+ *
+ * Cipher는 스레드마다 하나를 만들어 두고 호출마다 IV로 다시 초기화하며(Cipher.getInstance의 provider 조회 생략),
+ * IV 생성용 SecureRandom은 모든 스레드가 공유 (thread-safe)
+ * 엔티티 필드는 EncryptedString으로 읽을 때까지 복호화를 미루며, 이 클래스의 static encrypt/decrypt를 사용
+ */
 @Converter
 @Component
 public class AesEncryptConverter implements AttributeConverter<String, String> {
@@ -22,26 +30,36 @@ public class AesEncryptConverter implements AttributeConverter<String, String> {
     private static final int GCM_TAG_LENGTH = 128;
     private static final int IV_LENGTH = 12;
 
-    private static byte[] secretKey;
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final ThreadLocal<Cipher> CIPHER = ThreadLocal.withInitial(AesEncryptConverter::newCipher);
+
+    private static volatile SecretKeySpec secretKey;
 
     @Value("${encryption.key}")
     public void setSecretKey(String key) {
-        secretKey = HexFormat.of().parseHex(key);
+        secretKey = new SecretKeySpec(HexFormat.of().parseHex(key), "AES");
     }
 
     @Override
     public String convertToDatabaseColumn(String attribute) {
-        if (attribute == null) return null;
+        return encrypt(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(String dbData) {
+        return decrypt(dbData);
+    }
+
+    static String encrypt(String plaintext) {
+        if (plaintext == null) return null;
         try {
             byte[] iv = new byte[IV_LENGTH];
-            new SecureRandom().nextBytes(iv);
+            RANDOM.nextBytes(iv);
 
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            cipher.init(Cipher.ENCRYPT_MODE,
-                new SecretKeySpec(secretKey, "AES"),
-                new GCMParameterSpec(GCM_TAG_LENGTH, iv));
+            Cipher cipher = CIPHER.get();
+            cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(GCM_TAG_LENGTH, iv));
 
-            byte[] encrypted = cipher.doFinal(attribute.getBytes(StandardCharsets.UTF_8));
+            byte[] encrypted = cipher.doFinal(plaintext.getBytes(StandardCharsets.UTF_8));
 
             ByteBuffer buffer = ByteBuffer.allocate(IV_LENGTH + encrypted.length);
             buffer.put(iv);
@@ -53,33 +71,32 @@ public class AesEncryptConverter implements AttributeConverter<String, String> {
         }
     }
 
-    @Override
-    public String convertToEntityAttribute(String dbData) {
-        if (dbData == null) return null;
+    static String decrypt(String ciphertext) {
+        if (ciphertext == null) return null;
         try {
-            byte[] decoded = Base64.getDecoder().decode(dbData);
+            byte[] decoded = Base64.getDecoder().decode(ciphertext);
 
             // Minimum size: IV (12 bytes) + GCM tag (16 bytes) + at least 1 byte data
             if (decoded.length < IV_LENGTH + 16) {
-                return dbData;
+                return ciphertext;
             }
 
-            ByteBuffer buffer = ByteBuffer.wrap(decoded);
-            byte[] iv = new byte[IV_LENGTH];
-            buffer.get(iv);
-            byte[] encrypted = new byte[buffer.remaining()];
-            buffer.get(encrypted);
-
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            cipher.init(Cipher.DECRYPT_MODE,
-                new SecretKeySpec(secretKey, "AES"),
-                new GCMParameterSpec(GCM_TAG_LENGTH, iv));
+            Cipher cipher = CIPHER.get();
+            cipher.init(Cipher.DECRYPT_MODE, secretKey, new GCMParameterSpec(GCM_TAG_LENGTH, decoded, 0, IV_LENGTH));
 
-            return new String(cipher.doFinal(encrypted), StandardCharsets.UTF_8);
+            byte[] decrypted = cipher.doFinal(decoded, IV_LENGTH, decoded.length - IV_LENGTH);
+            return new String(decrypted, StandardCharsets.UTF_8);
         } catch (Exception e) {
             // Plain text data from before encryption was enabled
-            return dbData;
+            return ciphertext;
         }
     }
 
+    private static Cipher newCipher() {
+        try {
+            return Cipher.getInstance(ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES/GCM not available", e);
+        }
+    }
 }
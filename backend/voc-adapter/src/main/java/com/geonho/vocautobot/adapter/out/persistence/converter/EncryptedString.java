@@ -0,0 +1,92 @@
+package com.geonho.vocautobot.adapter.out.persistence.converter;
+
+import java.util.Objects;
+
+/**
+ * 암호화 컬럼 값 (고객 이메일·이름·전화번호)
+ *
+ * DB에서 읽은 값은 암호문만 들고 있다가 평문을 처음 읽을 때 한 번만 복호화하므로,
+ * 엔티티를 조회해도 PII 필드를 읽지 않는 경로(통계 집계 등)에서는 AES-GCM을 실행하지 않음
+ * 새 값은 평문으로 만들고, 저장 시점에 한 번 암호화한 암호문을 재사용
+ *
+ * 불변 값으로 취급되어(EncryptedStringConverter) 변경 감지는 같은 인스턴스인지로 먼저 판단하므로 복호화를 일으키지 않음
+ */
+public final class EncryptedString {
+
+    private volatile String ciphertext;
+    private volatile String plaintext;
+
+    private EncryptedString(String ciphertext, String plaintext) {
+        this.ciphertext = ciphertext;
+        this.plaintext = plaintext;
+    }
+
+    /**
+     * DB에서 읽은 암호문 (복호화는 plaintext() 호출 시)
+     */
+    public static EncryptedString ofCiphertext(String ciphertext) {
+        return ciphertext != null ? new EncryptedString(ciphertext, null) : null;
+    }
+
+    /**
+     * 새로 저장할 평문 (암호화는 ciphertext() 호출 시)
+     */
+    public static EncryptedString of(String plaintext) {
+        return plaintext != null ? new EncryptedString(null, plaintext) : null;
+    }
+
+    /**
+     * null-safe 평문 조회
+     */
+    public static String plaintextOf(EncryptedString value) {
+        return value != null ? value.plaintext() : null;
+    }
+
+    public String plaintext() {
+        String value = plaintext;
+        if (value == null) {
+            // 동시에 처음 읽으면 두 번 복호화될 수 있지만 결과는 같으므로 잠그지 않음
+            value = AesEncryptConverter.decrypt(ciphertext);
+            plaintext = value;
+        }
+        return value;
+    }
+
+    public String ciphertext() {
+        String value = ciphertext;
+        if (value == null) {
+            value = AesEncryptConverter.encrypt(plaintext);
+            ciphertext = value;
+        }
+        return value;
+    }
+
+    /**
+     * 복호화(또는 평문 생성)가 이미 되었는지 여부
+     */
+    public boolean isDecrypted() {
+        return plaintext != null;
+    }
+
+    /**
+     * 같은 암호문이면 복호화 없이 같다고 보고, 그 외에는 평문으로 비교 (IV가 달라 암호문이 달라도 평문은 같을 수 있음)
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EncryptedString other)) return false;
+        String mine = ciphertext;
+        if (mine != null && mine.equals(other.ciphertext)) return true;
+        return plaintext().equals(other.plaintext());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(plaintext());
+    }
+
+    @Override
+    public String toString() {
+        return "EncryptedString[****]";
+    }
+}
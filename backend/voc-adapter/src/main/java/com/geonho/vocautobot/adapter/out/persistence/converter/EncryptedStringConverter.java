@@ -0,0 +1,26 @@
+package com.geonho.vocautobot.adapter.out.persistence.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * EncryptedString <-> 암호문 컬럼 변환
+ * 조회 시 복호화하지 않고 암호문만 감싸며, 저장 시 필요한 경우에만 암호화 (암복호화 자체는 AesEncryptConverter)
+ *
+ * EncryptedString은 바뀌지 않는 값이므로 @Immutable로 표시해 스냅샷 복사(암호문 변환 왕복)를 하지 않음
+ */
+@Converter
+@Immutable
+public class EncryptedStringConverter implements AttributeConverter<EncryptedString, String> {
+
+    @Override
+    public String convertToDatabaseColumn(EncryptedString attribute) {
+        return attribute != null ? attribute.ciphertext() : null;
+    }
+
+    @Override
+    public EncryptedString convertToEntityAttribute(String dbData) {
+        return EncryptedString.ofCiphertext(dbData);
+    }
+}
@@ -0,0 +1,40 @@
+package com.geonho.vocautobot.adapter.out.persistence.keyword;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 키워드 사전 항목 (표현 1건 = 1행)
+ */
+@Entity
+@Table(name = "keyword_dictionary")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class KeywordDictionaryJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "keyword", nullable = false, length = 100)
+    private String keyword;
+
+    @Column(name = "term", nullable = false, length = 100)
+    private String term;
+
+    @Column(name = "log_query", length = 200)
+    private String logQuery;
+
+    @Column(name = "sort_order", nullable = false)
+    private int sortOrder;
+
+    @Column(name = "is_active", nullable = false)
+    private boolean active;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+}
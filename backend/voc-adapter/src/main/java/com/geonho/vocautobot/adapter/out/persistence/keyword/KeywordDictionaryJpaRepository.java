@@ -0,0 +1,10 @@
+package com.geonho.vocautobot.adapter.out.persistence.keyword;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface KeywordDictionaryJpaRepository extends JpaRepository<KeywordDictionaryJpaEntity, Long> {
+
+    List<KeywordDictionaryJpaEntity> findByActiveTrueOrderBySortOrderAscIdAsc();
+}
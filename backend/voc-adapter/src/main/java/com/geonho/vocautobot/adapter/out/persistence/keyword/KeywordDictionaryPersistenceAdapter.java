@@ -0,0 +1,38 @@
+package com.geonho.vocautobot.adapter.out.persistence.keyword;
+
+import com.geonho.vocautobot.application.analysis.keyword.KeywordDictionary;
+import com.geonho.vocautobot.application.analysis.port.out.KeywordDictionaryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class KeywordDictionaryPersistenceAdapter implements KeywordDictionaryPort {
+
+    private final KeywordDictionaryJpaRepository repository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeywordDictionary loadDictionary() {
+        Map<String, List<String>> terms = new LinkedHashMap<>();
+        Map<String, String> logQueries = new LinkedHashMap<>();
+
+        for (KeywordDictionaryJpaEntity row : repository.findByActiveTrueOrderBySortOrderAscIdAsc()) {
+            terms.computeIfAbsent(row.getKeyword(), keyword -> new ArrayList<>()).add(row.getTerm());
+            if (row.getLogQuery() != null) {
+                logQueries.putIfAbsent(row.getKeyword(), row.getLogQuery());
+            }
+        }
+
+        List<KeywordDictionary.Entry> entries = new ArrayList<>(terms.size());
+        terms.forEach((keyword, keywordTerms) ->
+                entries.add(new KeywordDictionary.Entry(keyword, keywordTerms, logQueries.get(keyword))));
+        return new KeywordDictionary(entries);
+    }
+}
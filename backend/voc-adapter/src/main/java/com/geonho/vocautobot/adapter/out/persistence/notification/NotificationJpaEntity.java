@@ -9,15 +9,16 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "notifications", indexes = {
-    @Index(name = "idx_notification_user_id", columnList = "user_id"),
-    @Index(name = "idx_notification_read", columnList = "user_id, is_read")
+    @Index(name = "idx_notification_read", columnList = "user_id, is_read"),
+    @Index(name = "idx_notification_user_created_id", columnList = "user_id, created_at, id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class NotificationJpaEntity extends BaseJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notifications_id_seq")
+    @SequenceGenerator(name = "notifications_id_seq", sequenceName = "notifications_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "user_id")
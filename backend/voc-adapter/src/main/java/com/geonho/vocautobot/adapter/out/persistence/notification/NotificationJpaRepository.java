@@ -11,6 +11,8 @@ public interface NotificationJpaRepository extends JpaRepository<NotificationJpa
 
     Page<NotificationJpaEntity> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
 
+    long countByUserId(Long userId);
+
     long countByUserIdAndReadFalse(Long userId);
 
     @Modifying
@@ -1,20 +1,32 @@
 package com.geonho.vocautobot.adapter.out.persistence.notification;
 
+import com.geonho.vocautobot.adapter.out.persistence.common.KeysetQueries;
+import com.geonho.vocautobot.application.common.pagination.CursorPage;
+import com.geonho.vocautobot.application.common.pagination.CursorRequest;
+import com.geonho.vocautobot.application.common.pagination.KeysetCursor;
 import com.geonho.vocautobot.application.notification.port.out.LoadNotificationPort;
 import com.geonho.vocautobot.application.notification.port.out.SaveNotificationPort;
 import com.geonho.vocautobot.domain.notification.Notification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class NotificationPersistenceAdapter implements SaveNotificationPort, LoadNotificationPort {
 
     private final NotificationJpaRepository repository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Override
     @Transactional
     public Notification save(Notification notification) {
@@ -51,6 +63,18 @@ public class NotificationPersistenceAdapter implements SaveNotificationPort, Loa
                 .map(this::toDomain);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Notification> loadByUserIdAfter(Long userId, CursorRequest cursor) {
+        Specification<NotificationJpaEntity> spec = (root, query, cb) -> cb.equal(root.get("userId"), userId);
+        List<NotificationJpaEntity> fetched = KeysetQueries.findAfter(
+                entityManager, NotificationJpaEntity.class, spec, cursor);
+        Long total = cursor.withTotal() ? repository.countByUserId(userId) : null;
+        return CursorPage.of(fetched, cursor.size(),
+                        entity -> new KeysetCursor(entity.getCreatedAt(), entity.getId()), total)
+                .map(this::toDomain);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public long countUnread(Long userId) {
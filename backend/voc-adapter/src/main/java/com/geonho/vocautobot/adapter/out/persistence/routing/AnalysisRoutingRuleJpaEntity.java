@@ -0,0 +1,55 @@
+package com.geonho.vocautobot.adapter.out.persistence.routing;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 분석 라우팅 규칙 (목록형 조건은 쉼표 구분 문자열)
+ */
+@Entity
+@Table(name = "analysis_routing_rules")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AnalysisRoutingRuleJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    @Column(name = "category_codes", length = 500)
+    private String categoryCodes;
+
+    @Column(name = "priorities", length = 100)
+    private String priorities;
+
+    @Column(name = "min_content_length")
+    private Integer minContentLength;
+
+    @Column(name = "max_content_length")
+    private Integer maxContentLength;
+
+    @Column(name = "customer_email_domains", length = 500)
+    private String customerEmailDomains;
+
+    @Column(name = "skip_stages", length = 200)
+    private String skipStages;
+
+    @Column(name = "llm_model", length = 100)
+    private String llmModel;
+
+    @Column(name = "sort_order", nullable = false)
+    private int sortOrder;
+
+    @Column(name = "is_active", nullable = false)
+    private boolean active;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+}
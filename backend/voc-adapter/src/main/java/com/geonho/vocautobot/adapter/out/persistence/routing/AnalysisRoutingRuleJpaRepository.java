@@ -0,0 +1,10 @@
+package com.geonho.vocautobot.adapter.out.persistence.routing;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface AnalysisRoutingRuleJpaRepository extends JpaRepository<AnalysisRoutingRuleJpaEntity, Long> {
+
+    List<AnalysisRoutingRuleJpaEntity> findByActiveTrueOrderBySortOrderAscIdAsc();
+}
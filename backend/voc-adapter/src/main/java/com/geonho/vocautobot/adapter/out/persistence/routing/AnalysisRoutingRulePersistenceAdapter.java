@@ -0,0 +1,84 @@
+package com.geonho.vocautobot.adapter.out.persistence.routing;
+
+import com.geonho.vocautobot.adapter.out.persistence.category.CategoryJpaEntity;
+import com.geonho.vocautobot.adapter.out.persistence.category.CategoryJpaRepository;
+import com.geonho.vocautobot.application.analysis.port.out.AnalysisRoutingRulePort;
+import com.geonho.vocautobot.application.analysis.routing.EnrichmentStage;
+import com.geonho.vocautobot.application.analysis.routing.RoutingRule;
+import com.geonho.vocautobot.domain.voc.VocPriority;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 분석 라우팅 규칙 조회
+ * 카테고리 코드는 ID로 변환하며, 대분류 코드는 하위 카테고리까지 포함
+ * 해석할 수 없는 값이 있는 규칙은 경고 후 제외 (잘못된 규칙이 의도보다 넓게 적용되지 않도록)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class AnalysisRoutingRulePersistenceAdapter implements AnalysisRoutingRulePort {
+
+    private final AnalysisRoutingRuleJpaRepository repository;
+    private final CategoryJpaRepository categoryRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RoutingRule> loadRules() {
+        List<RoutingRule> rules = new ArrayList<>();
+        for (AnalysisRoutingRuleJpaEntity row : repository.findByActiveTrueOrderBySortOrderAscIdAsc()) {
+            try {
+                rules.add(toRule(row));
+            } catch (IllegalArgumentException e) {
+                log.warn("Skipping invalid analysis routing rule '{}': {}", row.getName(), e.getMessage());
+            }
+        }
+        return rules;
+    }
+
+    private RoutingRule toRule(AnalysisRoutingRuleJpaEntity row) {
+        return new RoutingRule(
+                row.getName(),
+                resolveCategoryIds(row.getCategoryCodes()),
+                parseList(row.getPriorities(), VocPriority::valueOf),
+                row.getMinContentLength(),
+                row.getMaxContentLength(),
+                parseList(row.getCustomerEmailDomains(), domain -> domain.toLowerCase(Locale.ROOT)),
+                parseList(row.getSkipStages(), EnrichmentStage::valueOf),
+                row.getLlmModel() == null || row.getLlmModel().isBlank() ? null : row.getLlmModel().trim()
+        );
+    }
+
+    private Set<Long> resolveCategoryIds(String codes) {
+        Set<Long> ids = new HashSet<>();
+        for (String code : parseList(codes, Function.identity())) {
+            CategoryJpaEntity category = categoryRepository.findByCode(code)
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown category code: " + code));
+            ids.add(category.getId());
+            categoryRepository.findByParentId(category.getId()).forEach(child -> ids.add(child.getId()));
+        }
+        return ids;
+    }
+
+    private static <T> Set<T> parseList(String value, Function<String, T> parser) {
+        if (value == null || value.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(token -> !token.isEmpty())
+                .map(parser)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,79 @@
+package com.geonho.vocautobot.adapter.out.persistence.vector;
+
+import com.geonho.vocautobot.application.statistics.port.out.EmbeddingScanPort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Embedding Scan Adapter
+ * vector_embeddings를 id keyset 페이지로 읽어 평탄 float 배열로 변환
+ */
+@Component
+public class EmbeddingScanAdapter implements EmbeddingScanPort {
+
+    private final VectorEmbeddingRepository vectorEmbeddingRepository;
+
+    public EmbeddingScanAdapter(VectorEmbeddingRepository vectorEmbeddingRepository) {
+        this.vectorEmbeddingRepository = vectorEmbeddingRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EmbeddingPage scan(long afterId, int limit) {
+        List<VectorEmbeddingRepository.EmbeddingRowProjection> rows =
+            vectorEmbeddingRepository.findPageAfterId(afterId, limit);
+        if (rows.isEmpty()) {
+            return EmbeddingPage.empty(afterId);
+        }
+
+        int size = rows.size();
+        int dimension = dimensionOf(rows.get(0).getEmbedding());
+        long[] vocIds = new long[size];
+        int[] createdDays = new int[size];
+        float[] vectors = new float[size * dimension];
+
+        for (int i = 0; i < size; i++) {
+            VectorEmbeddingRepository.EmbeddingRowProjection row = rows.get(i);
+            vocIds[i] = row.getVocId();
+            createdDays[i] = row.getCreatedDay() != null ? row.getCreatedDay() : Integer.MIN_VALUE;
+            parseInto(row.getEmbedding(), vectors, i * dimension, dimension);
+        }
+        return new EmbeddingPage(vocIds, createdDays, vectors, dimension, size, rows.get(size - 1).getId());
+    }
+
+    private static int dimensionOf(String vector) {
+        int dimension = 1;
+        for (int i = 0; i < vector.length(); i++) {
+            if (vector.charAt(i) == ',') {
+                dimension++;
+            }
+        }
+        return dimension;
+    }
+
+    /**
+     * pgvector 텍스트("[0.1,0.2,...]")를 정규식·split 없이 대상 배열에 바로 채움
+     */
+    static void parseInto(String vector, float[] target, int offset, int dimension) {
+        int index = 0;
+        int start = vector.indexOf('[') + 1;
+        int end = vector.lastIndexOf(']');
+        if (end < 0) {
+            end = vector.length();
+        }
+        while (start < end) {
+            int comma = vector.indexOf(',', start);
+            int valueEnd = comma < 0 || comma > end ? end : comma;
+            if (index >= dimension) {
+                throw new IllegalStateException("임베딩 차원이 페이지 내에서 일치하지 않습니다");
+            }
+            target[offset + index++] = Float.parseFloat(vector.substring(start, valueEnd).trim());
+            start = valueEnd + 1;
+        }
+        if (index != dimension) {
+            throw new IllegalStateException("임베딩 차원이 페이지 내에서 일치하지 않습니다");
+        }
+    }
+}
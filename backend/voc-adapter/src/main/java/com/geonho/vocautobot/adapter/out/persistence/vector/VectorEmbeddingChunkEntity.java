@@ -0,0 +1,58 @@
+package com.geonho.vocautobot.adapter.out.persistence.vector;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Vector Embedding Chunk Entity
+ * 여러 청크로 나눠 임베딩한 긴 VOC의 청크별 벡터 (한 청크짜리 VOC는 저장하지 않음)
+ * VOC 대표 벡터(청크 평균)는 vector_embeddings에 저장
+ */
+@Entity
+@Table(name = "vector_embedding_chunks")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class VectorEmbeddingChunkEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vector_embedding_chunks_id_seq")
+    @SequenceGenerator(name = "vector_embedding_chunks_id_seq", sequenceName = "vector_embedding_chunks_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "voc_id", nullable = false)
+    private Long vocId;
+
+    @Column(name = "chunk_index", nullable = false)
+    private int chunkIndex;
+
+    @Column(name = "char_count", nullable = false)
+    private int charCount;
+
+    @Column(name = "embedding", columnDefinition = "vector(1024)", nullable = false)
+    @org.hibernate.annotations.ColumnTransformer(write = "CAST(? AS vector)")
+    private String embedding;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public VectorEmbeddingChunkEntity(Long vocId, int chunkIndex, int charCount, String embedding) {
+        if (vocId == null || vocId <= 0) {
+            throw new IllegalArgumentException("VOC ID는 양수여야 합니다");
+        }
+        if (embedding == null || embedding.isEmpty()) {
+            throw new IllegalArgumentException("임베딩 벡터는 비어있을 수 없습니다");
+        }
+        this.vocId = vocId;
+        this.chunkIndex = chunkIndex;
+        this.charCount = charCount;
+        this.embedding = embedding;
+    }
+}
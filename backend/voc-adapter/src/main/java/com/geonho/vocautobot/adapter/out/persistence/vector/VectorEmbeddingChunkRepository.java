@@ -0,0 +1,22 @@
+package com.geonho.vocautobot.adapter.out.persistence.vector;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Vector Embedding Chunk Repository
+ */
+public interface VectorEmbeddingChunkRepository extends JpaRepository<VectorEmbeddingChunkEntity, Long> {
+
+    /**
+     * VOC의 청크 임베딩 일괄 삭제 (재임베딩 전 정리)
+     *
+     * @param vocId VOC ID
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM VectorEmbeddingChunkEntity c WHERE c.vocId = :vocId")
+    int deleteByVocId(@Param("vocId") Long vocId);
+}
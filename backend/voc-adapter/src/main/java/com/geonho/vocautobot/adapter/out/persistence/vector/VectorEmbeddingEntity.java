@@ -22,6 +22,10 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public class VectorEmbeddingEntity {
 
+    /**
+     * 군집화 배치가 id 순으로 새 임베딩을 이어 읽으므로(id > 마지막 id) IDENTITY 유지
+     * pooled 시퀀스는 인스턴스마다 다른 구간을 미리 받아 id가 저장 순서와 어긋남 (VOC당 한 건 저장이라 배치 이득도 없음)
+     */
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -57,6 +57,7 @@ public interface VectorEmbeddingRepository extends JpaRepository<VectorEmbedding
 
     /**
      * 코사인 유사도 기반 유사 벡터 검색 (임계값 포함)
+     * 대표 벡터와 청크 벡터에서 각각 HNSW로 후보(limit * 4)를 뽑고 VOC별 최고 유사도로 집계
      *
      * @param vocId 기준 VOC ID
      * @param threshold 유사도 임계값 (0.0 ~ 1.0)
@@ -64,17 +65,29 @@ public interface VectorEmbeddingRepository extends JpaRepository<VectorEmbedding
      * @return 유사한 VOC와 유사도 점수 리스트
      */
     @Query(value = """
-        SELECT ve.voc_id as vocId,
-               1 - (ve.embedding <=> base.embedding) as similarity
-        FROM vector_embeddings ve
-        CROSS JOIN (
+        WITH base AS (
             SELECT embedding
             FROM vector_embeddings
             WHERE voc_id = :vocId
-        ) base
-        WHERE ve.voc_id != :vocId
-          AND 1 - (ve.embedding <=> base.embedding) >= :threshold
-        ORDER BY ve.embedding <=> base.embedding
+        ),
+        hits AS (
+            (SELECT ve.voc_id, 1 - (ve.embedding <=> base.embedding) AS similarity
+             FROM vector_embeddings ve CROSS JOIN base
+             WHERE ve.voc_id != :vocId
+             ORDER BY ve.embedding <=> base.embedding
+             LIMIT :limit * 4)
+            UNION ALL
+            (SELECT c.voc_id, 1 - (c.embedding <=> base.embedding) AS similarity
+             FROM vector_embedding_chunks c CROSS JOIN base
+             WHERE c.voc_id != :vocId
+             ORDER BY c.embedding <=> base.embedding
+             LIMIT :limit * 4)
+        )
+        SELECT voc_id as vocId, MAX(similarity) as similarity
+        FROM hits
+        WHERE similarity >= :threshold
+        GROUP BY voc_id
+        ORDER BY MAX(similarity) DESC
         LIMIT :limit
         """, nativeQuery = true)
     List<VectorSimilarityProjection> findSimilarByVocIdWithThreshold(
@@ -85,6 +98,7 @@ public interface VectorEmbeddingRepository extends JpaRepository<VectorEmbedding
 
     /**
      * 텍스트 임베딩으로 직접 유사도 검색
+     * 대표 벡터와 청크 벡터 후보를 VOC별 최고 유사도로 집계
      *
      * @param embedding 검색할 임베딩 벡터 (pgvector 형식 문자열)
      * @param threshold 유사도 임계값
@@ -92,11 +106,22 @@ public interface VectorEmbeddingRepository extends JpaRepository<VectorEmbedding
      * @return 유사한 VOC와 유사도 점수 리스트
      */
     @Query(value = """
-        SELECT ve.voc_id as vocId,
-               1 - (ve.embedding <=> CAST(:embedding AS vector)) as similarity
-        FROM vector_embeddings ve
-        WHERE 1 - (ve.embedding <=> CAST(:embedding AS vector)) >= :threshold
-        ORDER BY ve.embedding <=> CAST(:embedding AS vector)
+        WITH hits AS (
+            (SELECT ve.voc_id, 1 - (ve.embedding <=> CAST(:embedding AS vector)) AS similarity
+             FROM vector_embeddings ve
+             ORDER BY ve.embedding <=> CAST(:embedding AS vector)
+             LIMIT :limit * 4)
+            UNION ALL
+            (SELECT c.voc_id, 1 - (c.embedding <=> CAST(:embedding AS vector)) AS similarity
+             FROM vector_embedding_chunks c
+             ORDER BY c.embedding <=> CAST(:embedding AS vector)
+             LIMIT :limit * 4)
+        )
+        SELECT voc_id as vocId, MAX(similarity) as similarity
+        FROM hits
+        WHERE similarity >= :threshold
+        GROUP BY voc_id
+        ORDER BY MAX(similarity) DESC
         LIMIT :limit
         """, nativeQuery = true)
     List<VectorSimilarityProjection> findSimilarByEmbedding(
@@ -114,6 +139,39 @@ public interface VectorEmbeddingRepository extends JpaRepository<VectorEmbedding
     @Query("SELECT ve.vocId FROM VectorEmbeddingEntity ve WHERE ve.vocId IN :vocIds")
     List<Long> findVocIdsByVocIdIn(@Param("vocIds") java.util.Collection<Long> vocIds);
 
+    /**
+     * id 순 임베딩 페이지 조회 (군집화 배치용 keyset 페이지네이션)
+     * 벡터는 pgvector 텍스트 형식, 생성일은 epoch day로 반환
+     *
+     * @param afterId 직전 페이지의 마지막 id
+     * @param limit 조회 개수
+     * @return 임베딩 행 리스트
+     */
+    @Query(value = """
+        SELECT ve.id as id,
+               ve.voc_id as vocId,
+               CAST(ve.embedding AS text) as embedding,
+               CAST(ve.created_at AS date) - DATE '1970-01-01' as createdDay
+        FROM vector_embeddings ve
+        WHERE ve.id > :afterId
+        ORDER BY ve.id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<EmbeddingRowProjection> findPageAfterId(
+        @Param("afterId") long afterId,
+        @Param("limit") int limit
+    );
+
+    /**
+     * 임베딩 페이지 조회 Projection
+     */
+    interface EmbeddingRowProjection {
+        Long getId();
+        Long getVocId();
+        String getEmbedding();
+        Integer getCreatedDay();
+    }
+
     /**
      * 유사도 검색 결과 Projection
      */
@@ -1,18 +1,27 @@
 package com.geonho.vocautobot.adapter.out.persistence.vector;
 
 import com.geonho.vocautobot.adapter.out.ai.EmbeddingService;
+import com.geonho.vocautobot.adapter.out.ai.EmbeddingTextChunker;
 import com.geonho.vocautobot.application.analysis.port.out.VectorSearchPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
  * Vector Search Adapter
  * pgvector를 활용한 유사도 검색 구현
+ *
+ * 긴 텍스트는 청크로 나눠 임베딩하고, 청크 길이 가중 평균을 VOC 대표 벡터로,
+ * 청크별 벡터는 vector_embedding_chunks에 저장 (유사도 검색 시 VOC별 최고 유사도로 집계)
  */
 @Component
 public class VectorSearchAdapter implements VectorSearchPort {
@@ -21,13 +30,25 @@ public class VectorSearchAdapter implements VectorSearchPort {
     private static final double DEFAULT_SIMILARITY_THRESHOLD = 0.7;
 
     private final VectorEmbeddingRepository vectorEmbeddingRepository;
+    private final VectorEmbeddingChunkRepository chunkRepository;
     private final EmbeddingService embeddingService;
+    private final EmbeddingTextChunker chunker;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor storeExecutor;
 
     public VectorSearchAdapter(
             VectorEmbeddingRepository vectorEmbeddingRepository,
-            EmbeddingService embeddingService) {
+            VectorEmbeddingChunkRepository chunkRepository,
+            EmbeddingService embeddingService,
+            EmbeddingTextChunker chunker,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("vocIndexingExecutor") Executor storeExecutor) {
         this.vectorEmbeddingRepository = vectorEmbeddingRepository;
+        this.chunkRepository = chunkRepository;
         this.embeddingService = embeddingService;
+        this.chunker = chunker;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.storeExecutor = storeExecutor;
     }
 
     @Override
@@ -36,36 +57,154 @@ public class VectorSearchAdapter implements VectorSearchPort {
         log.info("Saving embedding for VOC ID: {}", vocId);
 
         try {
-            // 1. 텍스트를 임베딩 벡터로 변환
-            float[] embeddingVector = embeddingService.generateEmbedding(text);
+            // 1. 텍스트를 임베딩 벡터로 변환 (긴 텍스트는 청크별로 한 번에 임베딩)
+            List<String> chunks = chunker.chunk(text);
+            if (chunks.size() <= 1) {
+                return store(vocId, embeddingService.generateEmbedding(text), List.of(), List.of());
+            }
+            return store(vocId, null, chunks, embeddingService.generateEmbeddings(chunks));
 
-            // 2. 벡터를 pgvector 형식 문자열로 변환
-            String embeddingString = VectorEmbeddingEntity.vectorToString(embeddingVector);
+        } catch (Exception e) {
+            log.error("Failed to save embedding for VOC ID: {}", vocId, e);
+            throw new VectorSearchException("임베딩 저장 실패", e);
+        }
+    }
 
-            // 3. 기존 임베딩이 있는지 확인하고 업데이트 또는 생성
-            Optional<VectorEmbeddingEntity> existingEmbedding =
-                vectorEmbeddingRepository.findByVocId(vocId);
-
-            VectorEmbeddingEntity entity;
-            if (existingEmbedding.isPresent()) {
-                entity = existingEmbedding.get();
-                entity.updateEmbedding(embeddingString);
-                log.debug("Updating existing embedding for VOC ID: {}", vocId);
-            } else {
-                entity = new VectorEmbeddingEntity(vocId, embeddingString);
-                log.debug("Creating new embedding for VOC ID: {}", vocId);
-            }
+    /**
+     * 임베딩 요청은 Bulkhead 대기열을 거쳐 비동기로 보내고,
+     * 응답이 오면 저장만 vocIndexingExecutor에서 한 트랜잭션으로 수행
+     */
+    @Override
+    public CompletableFuture<Long> saveEmbeddingAsync(Long vocId, String text) {
+        log.info("Saving embedding (async) for VOC ID: {}", vocId);
+
+        List<String> chunks = chunker.chunk(text);
+        CompletableFuture<Long> saved = chunks.size() <= 1
+            ? embeddingService.generateEmbeddingAsync(text).thenApplyAsync(
+                vector -> transactionTemplate.execute(status -> store(vocId, vector, List.of(), List.of())),
+                storeExecutor)
+            : embeddingService.generateEmbeddingsAsync(chunks).thenApplyAsync(
+                vectors -> transactionTemplate.execute(status -> store(vocId, null, chunks, vectors)),
+                storeExecutor);
+
+        return saved.exceptionallyCompose(e -> {
+            log.error("Failed to save embedding for VOC ID: {}", vocId, e);
+            return CompletableFuture.failedFuture(new VectorSearchException("임베딩 저장 실패", e));
+        });
+    }
 
-            VectorEmbeddingEntity saved = vectorEmbeddingRepository.save(entity);
-            log.info("Successfully saved embedding with ID: {} for VOC ID: {}",
-                saved.getId(), vocId);
+    @Override
+    @Transactional
+    public int saveEmbeddings(Map<Long, String> textsByVocId) {
+        log.info("Saving embeddings for {} VOCs", textsByVocId.size());
 
-            return saved.getId();
+        try {
+            // 모든 VOC의 청크를 모아 한 번에 임베딩 (길이 순 배치 구성은 EmbeddingService가 담당)
+            List<String> allChunks = new ArrayList<>();
+            Map<Long, List<String>> chunksByVocId = new LinkedHashMap<>();
+            textsByVocId.forEach((vocId, text) -> {
+                List<String> chunks = chunker.chunk(text);
+                if (!chunks.isEmpty()) {
+                    chunksByVocId.put(vocId, chunks);
+                    allChunks.addAll(chunks);
+                }
+            });
+            List<float[]> vectors = embeddingService.generateEmbeddings(allChunks);
+
+            int offset = 0;
+            for (Map.Entry<Long, List<String>> entry : chunksByVocId.entrySet()) {
+                List<String> chunks = entry.getValue();
+                List<float[]> chunkVectors = vectors.subList(offset, offset + chunks.size());
+                offset += chunks.size();
+                if (chunks.size() == 1) {
+                    store(entry.getKey(), chunkVectors.get(0), List.of(), List.of());
+                } else {
+                    store(entry.getKey(), null, chunks, chunkVectors);
+                }
+            }
+            return chunksByVocId.size();
 
         } catch (Exception e) {
-            log.error("Failed to save embedding for VOC ID: {}", vocId, e);
-            throw new VectorSearchException("임베딩 저장 실패", e);
+            log.error("Failed to save embeddings for {} VOCs", textsByVocId.size(), e);
+            throw new VectorSearchException("임베딩 일괄 저장 실패", e);
+        }
+    }
+
+    /**
+     * 대표 벡터를 저장하고 청크 벡터를 교체
+     *
+     * @param vector 대표 벡터 (null이면 청크 벡터의 가중 평균)
+     * @param chunks 청크 텍스트 (한 청크짜리면 비어 있음)
+     * @param chunkVectors 청크별 벡터
+     * @return 저장된 임베딩 ID
+     */
+    private Long store(Long vocId, float[] vector, List<String> chunks, List<float[]> chunkVectors) {
+        float[] embeddingVector = vector != null ? vector : pool(chunks, chunkVectors);
+
+        // 1. 벡터를 pgvector 형식 문자열로 변환
+        String embeddingString = VectorEmbeddingEntity.vectorToString(embeddingVector);
+
+        // 2. 기존 임베딩이 있는지 확인하고 업데이트 또는 생성
+        Optional<VectorEmbeddingEntity> existingEmbedding =
+            vectorEmbeddingRepository.findByVocId(vocId);
+
+        VectorEmbeddingEntity entity;
+        if (existingEmbedding.isPresent()) {
+            entity = existingEmbedding.get();
+            entity.updateEmbedding(embeddingString);
+            log.debug("Updating existing embedding for VOC ID: {}", vocId);
+        } else {
+            entity = new VectorEmbeddingEntity(vocId, embeddingString);
+            log.debug("Creating new embedding for VOC ID: {}", vocId);
+        }
+
+        VectorEmbeddingEntity saved = vectorEmbeddingRepository.save(entity);
+
+        // 3. 청크 벡터 교체 (본문이 짧아져 한 청크가 된 경우 기존 청크만 삭제)
+        if (existingEmbedding.isPresent() || !chunks.isEmpty()) {
+            chunkRepository.deleteByVocId(vocId);
+        }
+        if (!chunks.isEmpty()) {
+            List<VectorEmbeddingChunkEntity> chunkEntities = new ArrayList<>(chunks.size());
+            for (int i = 0; i < chunks.size(); i++) {
+                chunkEntities.add(new VectorEmbeddingChunkEntity(vocId, i, chunks.get(i).length(),
+                    VectorEmbeddingEntity.vectorToString(chunkVectors.get(i))));
+            }
+            chunkRepository.saveAll(chunkEntities);
+        }
+
+        log.info("Successfully saved embedding with ID: {} for VOC ID: {} ({} chunks)",
+            saved.getId(), vocId, Math.max(1, chunks.size()));
+        return saved.getId();
+    }
+
+    /**
+     * 청크 길이 가중 평균 후 L2 정규화
+     */
+    static float[] pool(List<String> chunks, List<float[]> chunkVectors) {
+        int dimension = chunkVectors.get(0).length;
+        double[] sum = new double[dimension];
+        for (int i = 0; i < chunkVectors.size(); i++) {
+            float[] chunkVector = chunkVectors.get(i);
+            if (chunkVector.length != dimension) {
+                throw new IllegalStateException("청크 임베딩 차원이 일치하지 않습니다");
+            }
+            int weight = chunks.get(i).length();
+            for (int d = 0; d < dimension; d++) {
+                sum[d] += (double) weight * chunkVector[d];
+            }
+        }
+
+        double norm = 0;
+        for (double value : sum) {
+            norm += value * value;
+        }
+        double scale = norm > 0 ? 1.0 / Math.sqrt(norm) : 0;
+        float[] pooled = new float[dimension];
+        for (int d = 0; d < dimension; d++) {
+            pooled[d] = (float) (sum[d] * scale);
         }
+        return pooled;
     }
 
     @Override
@@ -135,6 +274,7 @@ public class VectorSearchAdapter implements VectorSearchPort {
         log.info("Deleting embedding for VOC ID: {}", vocId);
 
         try {
+            chunkRepository.deleteByVocId(vocId);
             vectorEmbeddingRepository.deleteByVocId(vocId);
             log.info("Successfully deleted embedding for VOC ID: {}", vocId);
 
@@ -16,7 +16,8 @@ import lombok.Setter;
 public class VocAttachmentJpaEntity extends BaseJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "voc_attachments_id_seq")
+    @SequenceGenerator(name = "voc_attachments_id_seq", sequenceName = "voc_attachments_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
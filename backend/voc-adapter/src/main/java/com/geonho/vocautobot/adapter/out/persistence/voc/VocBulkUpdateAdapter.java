@@ -0,0 +1,162 @@
+package com.geonho.vocautobot.adapter.out.persistence.voc;
+
+import com.geonho.vocautobot.application.voc.port.out.BulkUpdateVocPort;
+import com.geonho.vocautobot.domain.voc.VocPriority;
+import com.geonho.vocautobot.domain.voc.VocStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * VOC 일괄 변경 어댑터 (PostgreSQL)
+ * CHUNK_SIZE건씩 id·version·이전 상태 배열을 unnest한 대상 목록과 조인해 UPDATE 한 문장으로 반영
+ *
+ * - version이 조회 시점과 같은 행만 갱신 (낙관적 락과 같은 의미, 충돌 행은 RETURNING에서 빠짐)
+ * - 상태 이력은 같은 문장의 data-modifying CTE로 갱신된 행만큼 INSERT ... SELECT
+ * - resolved_at·closed_at은 VocDomain.updateStatus처럼 변경 시각으로 덮어씀
+ * - 배열은 '{1,2,3}' 형태 문자열로 바인딩 후 CAST (드라이버 배열 타입 등록 불필요)
+ *
+ * 1,000건 기준 VOC 조회·저장 2,000여 문장 대신 조회 2 + 변경 2 문장
+ */
+@Repository
+public class VocBulkUpdateAdapter implements BulkUpdateVocPort {
+
+    /** 한 문장에 담는 최대 VOC 수 */
+    static final int CHUNK_SIZE = 500;
+
+    private static final String TARGET = """
+            WITH target AS (
+                SELECT * FROM unnest(CAST(:ids AS bigint[]), CAST(:versions AS bigint[]),
+                                     CAST(:statuses AS varchar[])) AS t(id, version, previous_status)
+            )""";
+
+    private static final String UPDATE_STATUS = TARGET + """
+            , updated AS (
+                UPDATE vocs v
+                SET status = :status,
+                    resolved_at = CASE WHEN :status = 'RESOLVED' THEN :now ELSE v.resolved_at END,
+                    closed_at = CASE WHEN :status = 'CLOSED' THEN :now ELSE v.closed_at END,
+                    version = v.version + 1,
+                    updated_at = :now
+                FROM target t
+                WHERE v.id = t.id AND v.version = t.version
+                RETURNING v.id, t.previous_status
+            ), history AS (
+                INSERT INTO voc_status_history (voc_id, previous_status, new_status, change_reason, created_at)
+                SELECT id, previous_status, :status, CAST(:reason AS text), :now FROM updated
+            )
+            SELECT id FROM updated
+            """;
+
+    private static final String ASSIGN = TARGET + """
+            , updated AS (
+                UPDATE vocs v
+                SET assignee_id = :assigneeId,
+                    status = CASE WHEN v.status = 'NEW' THEN 'IN_PROGRESS' ELSE v.status END,
+                    version = v.version + 1,
+                    updated_at = :now
+                FROM target t
+                WHERE v.id = t.id AND v.version = t.version
+                RETURNING v.id, t.previous_status
+            ), history AS (
+                INSERT INTO voc_status_history (voc_id, previous_status, new_status, created_at)
+                SELECT id, previous_status, 'IN_PROGRESS', :now FROM updated WHERE previous_status = 'NEW'
+            )
+            SELECT id FROM updated
+            """;
+
+    private static final String UPDATE_PRIORITY = TARGET + """
+            UPDATE vocs v
+            SET priority = :priority,
+                version = v.version + 1,
+                updated_at = :now
+            FROM target t
+            WHERE v.id = t.id AND v.version = t.version
+            RETURNING v.id
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<VocState> loadVocStates(List<Long> vocIds) {
+        List<VocState> states = new ArrayList<>(vocIds.size());
+        for (List<Long> chunk : chunks(vocIds)) {
+            CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+            CriteriaQuery<VocState> query = cb.createQuery(VocState.class);
+            Root<VocJpaEntity> root = query.from(VocJpaEntity.class);
+            query.select(cb.construct(VocState.class, root.get("id"), root.get("version"), root.get("status")));
+            query.where(root.get("id").in(chunk));
+            states.addAll(entityManager.createQuery(query).getResultList());
+        }
+        return states;
+    }
+
+    @Override
+    public Set<Long> updateStatus(List<VocState> targets, VocStatus status, String reason) {
+        return execute(UPDATE_STATUS, targets, query -> query
+                .setParameter("status", status.name())
+                .setParameter("reason", reason));
+    }
+
+    @Override
+    public Set<Long> assign(List<VocState> targets, Long assigneeId) {
+        return execute(ASSIGN, targets, query -> query.setParameter("assigneeId", assigneeId));
+    }
+
+    @Override
+    public Set<Long> updatePriority(List<VocState> targets, VocPriority priority) {
+        return execute(UPDATE_PRIORITY, targets, query -> query.setParameter("priority", priority.name()));
+    }
+
+    private Set<Long> execute(String sql, List<VocState> targets, Function<Query, Query> binder) {
+        Set<Long> updated = new HashSet<>();
+        if (targets.isEmpty()) {
+            return updated;
+        }
+        // 영속성 컨텍스트에 남은 변경을 먼저 반영하고, 이후 조회가 갱신 전 엔티티를 재사용하지 않도록 비움
+        entityManager.flush();
+        LocalDateTime now = LocalDateTime.now();
+        for (List<VocState> chunk : chunks(targets)) {
+            Query query = entityManager.createNativeQuery(sql)
+                    .setParameter("ids", arrayLiteral(chunk, VocState::id))
+                    .setParameter("versions", arrayLiteral(chunk, VocState::version))
+                    .setParameter("statuses", arrayLiteral(chunk, state -> state.status().name()))
+                    .setParameter("now", now);
+            for (Object id : binder.apply(query).getResultList()) {
+                updated.add(((Number) id).longValue());
+            }
+        }
+        entityManager.clear();
+        return updated;
+    }
+
+    private static <T> List<List<T>> chunks(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += CHUNK_SIZE) {
+            chunks.add(items.subList(from, Math.min(items.size(), from + CHUNK_SIZE)));
+        }
+        return chunks;
+    }
+
+    /**
+     * PostgreSQL 배열 리터럴 ('{a,b,c}'), 숫자·enum 이름만 담으므로 따옴표 처리 불필요
+     */
+    static <T> String arrayLiteral(List<T> items, Function<T, ?> value) {
+        return items.stream()
+                .map(item -> String.valueOf(value.apply(item)))
+                .collect(Collectors.joining(",", "{", "}"));
+    }
+}
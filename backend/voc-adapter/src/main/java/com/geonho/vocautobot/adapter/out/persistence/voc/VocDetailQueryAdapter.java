@@ -0,0 +1,306 @@
+package com.geonho.vocautobot.adapter.out.persistence.voc;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.geonho.vocautobot.adapter.out.persistence.converter.AesEncryptConverter;
+import com.geonho.vocautobot.application.analysis.dto.VocAnalysisDto;
+import com.geonho.vocautobot.application.voc.port.in.dto.VocDetailView;
+import com.geonho.vocautobot.application.voc.port.out.LoadVocDetailPort;
+import com.geonho.vocautobot.domain.voc.VocAttachmentDomain;
+import com.geonho.vocautobot.domain.voc.VocDomain;
+import com.geonho.vocautobot.domain.voc.VocMemoDomain;
+import com.geonho.vocautobot.domain.voc.VocPriority;
+import com.geonho.vocautobot.domain.voc.VocStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * VOC 상세 조회 어댑터
+ * VOC·첨부·메모·분석 결과를 json_build_object/json_agg와 LATERAL 조인으로 한 문서로 묶어 한 번에 조회
+ *
+ * - 엔티티 조회 + 첨부·메모 지연 로딩 + 분석 조회(쿼리 4회)를 SQL 1회로 대체
+ * - 분석 결과의 JSON 텍스트 컬럼(keywords, possible_causes, related_logs)은 문서 안에 그대로 포함해
+ *   컬럼별로 다시 파싱하지 않음 (JSON 배열이 아닌 값은 빈 목록으로 처리)
+ * - 고객 정보 컬럼은 AesEncryptConverter로 복호화 (엔티티 조회와 같은 결과)
+ * - 엔티티를 영속성 컨텍스트에 올리지 않으므로 조회 결과는 수정에 사용하지 않음
+ */
+@Slf4j
+@Repository
+public class VocDetailQueryAdapter implements LoadVocDetailPort {
+
+    private static final String DETAIL_SQL = """
+            SELECT CAST(json_build_object(
+                       'id', v.id,
+                       'version', v.version,
+                       'ticketId', v.ticket_id,
+                       'title', v.title,
+                       'content', v.content,
+                       'status', v.status,
+                       'priority', v.priority,
+                       'categoryId', v.category_id,
+                       'customerEmail', v.customer_email,
+                       'customerName', v.customer_name,
+                       'customerPhone', v.customer_phone,
+                       'assigneeId', v.assignee_id,
+                       'resolvedAt', v.resolved_at,
+                       'closedAt', v.closed_at,
+                       'sentiment', v.sentiment,
+                       'sentimentConfidence', v.sentiment_confidence,
+                       'createdAt', v.created_at,
+                       'updatedAt', v.updated_at,
+                       'attachments', COALESCE(att.items, CAST('[]' AS json)),
+                       'memos', COALESCE(memo.items, CAST('[]' AS json)),
+                       'analysis', an.item
+                   ) AS text)
+            FROM vocs v
+            LEFT JOIN LATERAL (
+                SELECT json_agg(json_build_object(
+                           'id', a.id,
+                           'originalFilename', a.original_filename,
+                           'storedFilename', a.stored_filename,
+                           'filePath', a.file_path,
+                           'fileSize', a.file_size,
+                           'contentType', a.content_type,
+                           'createdAt', a.created_at,
+                           'updatedAt', a.updated_at
+                       ) ORDER BY a.id) AS items
+                FROM voc_attachments a
+                WHERE a.voc_id = v.id
+            ) att ON true
+            LEFT JOIN LATERAL (
+                SELECT json_agg(json_build_object(
+                           'id', m.id,
+                           'authorId', m.author_id,
+                           'content', m.content,
+                           'internal', m.is_internal,
+                           'createdAt', m.created_at,
+                           'updatedAt', m.updated_at
+                       ) ORDER BY m.id) AS items
+                FROM voc_memos m
+                WHERE m.voc_id = v.id
+            ) memo ON true
+            LEFT JOIN LATERAL (
+                SELECT json_build_object(
+                           'id', va.id,
+                           'status', va.status,
+                           'summary', va.summary,
+                           'confidence', va.confidence,
+                           'keywords', CASE WHEN va.keywords IS JSON ARRAY THEN CAST(va.keywords AS json) END,
+                           'possibleCauses', CASE WHEN va.possible_causes IS JSON ARRAY
+                                                  THEN CAST(va.possible_causes AS json) END,
+                           'relatedLogs', CASE WHEN va.related_logs IS JSON ARRAY
+                                               THEN CAST(va.related_logs AS json) END,
+                           'recommendation', va.recommendation,
+                           'errorMessage', va.error_message,
+                           'analyzedAt', va.analyzed_at,
+                           'createdAt', va.created_at
+                       ) AS item
+                FROM voc_analyses va
+                WHERE va.voc_id = v.id
+            ) an ON true
+            WHERE v.id = :id
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper;
+    private final AesEncryptConverter encryptConverter;
+
+    @Autowired
+    public VocDetailQueryAdapter(ObjectMapper objectMapper, AesEncryptConverter encryptConverter) {
+        this.objectMapper = objectMapper;
+        this.encryptConverter = encryptConverter;
+    }
+
+    /**
+     * 스프링 컨텍스트 밖(벤치마크)에서 EntityManager를 직접 넘길 때 사용
+     */
+    VocDetailQueryAdapter(EntityManager entityManager, ObjectMapper objectMapper,
+                          AesEncryptConverter encryptConverter) {
+        this(objectMapper, encryptConverter);
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<VocDetailView> loadVocDetail(Long id) {
+        List<?> rows = entityManager.createNativeQuery(DETAIL_SQL, String.class)
+                .setParameter("id", id)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        DetailRow row;
+        try {
+            row = objectMapper.readValue((String) rows.get(0), DetailRow.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read VOC detail: " + id, e);
+        }
+        return Optional.of(new VocDetailView(toDomain(row), toAnalysis(row)));
+    }
+
+    private VocDomain toDomain(DetailRow row) {
+        List<VocAttachmentDomain> attachments = new ArrayList<>();
+        for (AttachmentRow attachment : row.attachments()) {
+            attachments.add(VocAttachmentDomain.builder()
+                    .id(attachment.id())
+                    .vocId(row.id())
+                    .originalFilename(attachment.originalFilename())
+                    .storedFilename(attachment.storedFilename())
+                    .filePath(attachment.filePath())
+                    .fileSize(attachment.fileSize())
+                    .contentType(attachment.contentType())
+                    .createdAt(attachment.createdAt())
+                    .updatedAt(attachment.updatedAt())
+                    .build());
+        }
+
+        List<VocMemoDomain> memos = new ArrayList<>();
+        for (MemoRow memo : row.memos()) {
+            memos.add(VocMemoDomain.builder()
+                    .id(memo.id())
+                    .vocId(row.id())
+                    .authorId(memo.authorId())
+                    .content(memo.content())
+                    .internal(memo.internal())
+                    .createdAt(memo.createdAt())
+                    .updatedAt(memo.updatedAt())
+                    .build());
+        }
+
+        return VocDomain.builder()
+                .id(row.id())
+                .version(row.version())
+                .ticketId(row.ticketId())
+                .title(row.title())
+                .content(row.content())
+                .status(row.status())
+                .priority(row.priority())
+                .categoryId(row.categoryId())
+                .customerEmail(encryptConverter.convertToEntityAttribute(row.customerEmail()))
+                .customerName(encryptConverter.convertToEntityAttribute(row.customerName()))
+                .customerPhone(encryptConverter.convertToEntityAttribute(row.customerPhone()))
+                .assigneeId(row.assigneeId())
+                .resolvedAt(row.resolvedAt())
+                .closedAt(row.closedAt())
+                .sentiment(row.sentiment())
+                .sentimentConfidence(row.sentimentConfidence())
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .attachments(attachments)
+                .memos(memos)
+                .build();
+    }
+
+    private VocAnalysisDto toAnalysis(DetailRow row) {
+        AnalysisRow analysis = row.analysis();
+        if (analysis == null) {
+            return null;
+        }
+        return new VocAnalysisDto(
+                analysis.id(),
+                row.id(),
+                analysis.status(),
+                analysis.summary(),
+                analysis.confidence(),
+                toList(analysis.keywords(), new TypeReference<List<String>>() {}),
+                toList(analysis.possibleCauses(), new TypeReference<List<String>>() {}),
+                toList(analysis.relatedLogs(), new TypeReference<List<VocAnalysisDto.RelatedLogDto>>() {}),
+                analysis.recommendation(),
+                analysis.errorMessage(),
+                analysis.analyzedAt(),
+                analysis.createdAt()
+        );
+    }
+
+    /**
+     * 이미 파싱된 JSON 배열 노드를 목록으로 변환 (형식이 맞지 않으면 VocAnalysisPersistenceAdapter와 같이 빈 목록)
+     */
+    private <T> List<T> toList(JsonNode node, TypeReference<List<T>> type) {
+        if (node == null || node.isNull()) {
+            return Collections.emptyList();
+        }
+        try {
+            return objectMapper.convertValue(node, type);
+        } catch (IllegalArgumentException e) {
+            log.warn("Failed to convert analysis JSON list: {}", node, e);
+            return Collections.emptyList();
+        }
+    }
+
+    record DetailRow(
+            Long id,
+            Long version,
+            String ticketId,
+            String title,
+            String content,
+            VocStatus status,
+            VocPriority priority,
+            Long categoryId,
+            String customerEmail,
+            String customerName,
+            String customerPhone,
+            Long assigneeId,
+            LocalDateTime resolvedAt,
+            LocalDateTime closedAt,
+            String sentiment,
+            Double sentimentConfidence,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt,
+            List<AttachmentRow> attachments,
+            List<MemoRow> memos,
+            AnalysisRow analysis
+    ) {
+    }
+
+    record AttachmentRow(
+            Long id,
+            String originalFilename,
+            String storedFilename,
+            String filePath,
+            Long fileSize,
+            String contentType,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+    ) {
+    }
+
+    record MemoRow(
+            Long id,
+            Long authorId,
+            String content,
+            boolean internal,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+    ) {
+    }
+
+    record AnalysisRow(
+            Long id,
+            String status,
+            String summary,
+            Double confidence,
+            JsonNode keywords,
+            JsonNode possibleCauses,
+            JsonNode relatedLogs,
+            String recommendation,
+            String errorMessage,
+            LocalDateTime analyzedAt,
+            LocalDateTime createdAt
+    ) {
+    }
+}
@@ -1,13 +1,15 @@
 package com.geonho.vocautobot.adapter.out.persistence.voc;
 
 import com.geonho.vocautobot.adapter.out.persistence.common.BaseJpaEntity;
-import com.geonho.vocautobot.adapter.out.persistence.converter.AesEncryptConverter;
+import com.geonho.vocautobot.adapter.out.persistence.converter.EncryptedString;
+import com.geonho.vocautobot.adapter.out.persistence.converter.EncryptedStringConverter;
 import com.geonho.vocautobot.domain.voc.VocPriority;
 import com.geonho.vocautobot.domain.voc.VocStatus;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OptimisticLock;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
@@ -23,14 +25,17 @@ import java.util.List;
     @Index(name = "idx_voc_status", columnList = "status"),
     @Index(name = "idx_voc_category", columnList = "category_id"),
     @Index(name = "idx_voc_assignee", columnList = "assignee_id"),
-    @Index(name = "idx_voc_created_at", columnList = "created_at")
+    @Index(name = "idx_voc_created_id", columnList = "created_at, id"),
+    @Index(name = "idx_voc_status_created_id", columnList = "status, created_at, id"),
+    @Index(name = "idx_voc_assignee_created_id", columnList = "assignee_id, created_at, id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class VocJpaEntity extends BaseJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vocs_id_seq")
+    @SequenceGenerator(name = "vocs_id_seq", sequenceName = "vocs_id_seq", allocationSize = 50)
     private Long id;
 
     @Version
@@ -57,17 +62,17 @@ public class VocJpaEntity extends BaseJpaEntity {
     @Column(name = "category_id", nullable = false)
     private Long categoryId;
 
-    @Convert(converter = AesEncryptConverter.class)
+    @Convert(converter = EncryptedStringConverter.class)
     @Column(name = "customer_email", nullable = false, length = 512)
-    private String customerEmail;
+    private EncryptedString customerEmail;
 
-    @Convert(converter = AesEncryptConverter.class)
+    @Convert(converter = EncryptedStringConverter.class)
     @Column(name = "customer_name", length = 512)
-    private String customerName;
+    private EncryptedString customerName;
 
-    @Convert(converter = AesEncryptConverter.class)
+    @Convert(converter = EncryptedStringConverter.class)
     @Column(name = "customer_phone", length = 512)
-    private String customerPhone;
+    private EncryptedString customerPhone;
 
     @Column(name = "customer_email_hash", length = 64)
     private String customerEmailHash;
@@ -87,10 +92,13 @@ public class VocJpaEntity extends BaseJpaEntity {
     @Column(name = "sentiment_confidence")
     private Double sentimentConfidence;
 
+    // 첨부·메모 추가/삭제는 VOC 버전을 올리지 않음 (메모 동시 작성이 낙관적 락 충돌로 이어지지 않도록)
     @OneToMany(mappedBy = "voc", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OptimisticLock(excluded = true)
     private List<VocAttachmentJpaEntity> attachments = new ArrayList<>();
 
     @OneToMany(mappedBy = "voc", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OptimisticLock(excluded = true)
     private List<VocMemoJpaEntity> memos = new ArrayList<>();
 
     public VocJpaEntity(String ticketId, String title, String content, VocStatus status,
@@ -102,12 +110,25 @@ public class VocJpaEntity extends BaseJpaEntity {
         this.status = status;
         this.priority = priority;
         this.categoryId = categoryId;
-        this.customerEmail = customerEmail;
-        this.customerName = customerName;
-        this.customerPhone = customerPhone;
+        this.customerEmail = EncryptedString.of(customerEmail);
+        this.customerName = EncryptedString.of(customerName);
+        this.customerPhone = EncryptedString.of(customerPhone);
         this.assigneeId = assigneeId;
     }
 
+    // 고객 정보는 읽을 때 복호화 (조회만 하고 읽지 않는 경로에서는 AES-GCM을 실행하지 않음)
+    public String getCustomerEmail() {
+        return EncryptedString.plaintextOf(customerEmail);
+    }
+
+    public String getCustomerName() {
+        return EncryptedString.plaintextOf(customerName);
+    }
+
+    public String getCustomerPhone() {
+        return EncryptedString.plaintextOf(customerPhone);
+    }
+
     public void updateSentiment(String sentiment, Double sentimentConfidence) {
         this.sentiment = sentiment;
         this.sentimentConfidence = sentimentConfidence;
@@ -142,13 +163,14 @@ public class VocJpaEntity extends BaseJpaEntity {
         }
     }
 
+    // 이메일은 생성 후 바뀌지 않으므로 해시가 없을 때만 계산 (수정 시 복호화하지 않도록)
     @PrePersist
     @PreUpdate
     private void computeEmailHash() {
-        if (this.customerEmail != null) {
+        if (this.customerEmail != null && this.customerEmailHash == null) {
             try {
                 MessageDigest digest = MessageDigest.getInstance("SHA-256");
-                byte[] hash = digest.digest(this.customerEmail.getBytes(StandardCharsets.UTF_8));
+                byte[] hash = digest.digest(this.customerEmail.plaintext().getBytes(StandardCharsets.UTF_8));
                 this.customerEmailHash = HexFormat.of().formatHex(hash);
             } catch (NoSuchAlgorithmException e) {
                 throw new RuntimeException("SHA-256 not available", e);
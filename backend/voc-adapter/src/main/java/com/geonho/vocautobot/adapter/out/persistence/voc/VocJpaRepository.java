@@ -13,20 +13,6 @@ public interface VocJpaRepository extends JpaRepository<VocJpaEntity, Long>,
 
     Optional<VocJpaEntity> findByTicketId(String ticketId);
 
-    /**
-     * Finds VOC by ticket ID and customer email (case-insensitive).
-     * Single query that validates both conditions together to prevent information disclosure.
-     *
-     * @param ticketId the ticket ID
-     * @param email the customer email (case-insensitive comparison)
-     * @return Optional containing the VOC if both conditions match
-     */
-    @Query("SELECT v FROM VocJpaEntity v WHERE v.ticketId = :ticketId AND LOWER(v.customerEmail) = LOWER(:email)")
-    Optional<VocJpaEntity> findByTicketIdAndCustomerEmailIgnoreCase(
-            @Param("ticketId") String ticketId,
-            @Param("email") String email
-    );
-
     boolean existsByTicketId(String ticketId);
 
     @Query("SELECT COUNT(v) FROM VocJpaEntity v WHERE CAST(v.createdAt AS date) = :date")
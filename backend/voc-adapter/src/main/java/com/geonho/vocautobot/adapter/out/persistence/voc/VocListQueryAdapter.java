@@ -0,0 +1,232 @@
+package com.geonho.vocautobot.adapter.out.persistence.voc;
+
+import com.geonho.vocautobot.adapter.out.persistence.common.KeysetQueries;
+import com.geonho.vocautobot.adapter.out.persistence.converter.EncryptedString;
+import com.geonho.vocautobot.application.common.pagination.CursorPage;
+import com.geonho.vocautobot.application.common.pagination.CursorRequest;
+import com.geonho.vocautobot.application.common.pagination.KeysetCursor;
+import com.geonho.vocautobot.application.voc.port.in.dto.VocSummary;
+import com.geonho.vocautobot.application.voc.port.in.dto.VocTitle;
+import com.geonho.vocautobot.application.voc.port.out.LoadVocSummaryPort;
+import com.geonho.vocautobot.domain.voc.VocPriority;
+import com.geonho.vocautobot.domain.voc.VocStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.NoArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * VOC 목록 조회 어댑터
+ * VocJpaEntity 대신 목록 컬럼만 Tuple로 조회해 VocSummary로 변환
+ *
+ * - content(TEXT)와 첨부·메모 컬렉션을 읽지 않아 행마다의 지연 로딩 쿼리가 없음
+ * - 고객 정보 컬럼은 includePii일 때만 SELECT에 포함해 이때만 복호화 (그 외에는 null)
+ * - 엔티티를 영속성 컨텍스트에 올리지 않으므로 dirty checking 스냅샷도 만들지 않음
+ * - 첫 페이지가 페이지 크기보다 적게 조회되면 count 쿼리 생략
+ * - 키셋 페이지 조회는 KeysetQueries의 (created_at, id) 위치 조건으로 OFFSET·COUNT 없이 조회
+ * - 검색어는 voc.search.mode=FULLTEXT(선택, 기본은 LIKE)면 전문 검색 인덱스를 함께 사용하며, sortBy=relevance면 관련도순 정렬
+ * - 자동완성 색인 적재는 id·티켓 ID·제목 세 컬럼만 조회
+ */
+@Repository
+@NoArgsConstructor
+public class VocListQueryAdapter implements LoadVocSummaryPort {
+
+    /** 관련도순 정렬 요청 시 사용하는 정렬 필드 이름 */
+    static final String RELEVANCE = "relevance";
+
+    private static final List<String> SUMMARY_COLUMNS = List.of(
+            "id", "ticketId", "title", "status", "priority", "categoryId", "assigneeId",
+            "resolvedAt", "closedAt", "createdAt", "updatedAt", "sentiment", "sentimentConfidence");
+
+    private static final List<String> PII_COLUMNS = List.of("customerEmail", "customerName", "customerPhone");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${voc.search.mode:LIKE}")
+    private VocSearchMode searchMode = VocSearchMode.LIKE;
+
+    /**
+     * 스프링 컨텍스트 밖(벤치마크)에서 EntityManager를 직접 넘길 때 사용
+     */
+    VocListQueryAdapter(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<VocSummary> loadVocSummaries(
+            VocStatus status,
+            VocPriority priority,
+            Long categoryId,
+            Long assigneeId,
+            String customerEmail,
+            String search,
+            boolean includePii,
+            Pageable pageable) {
+
+        Specification<VocJpaEntity> spec = VocSpecification.withFilters(
+                status, priority, categoryId, assigneeId, customerEmail, search, searchMode);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<VocJpaEntity> root = query.from(VocJpaEntity.class);
+        query.multiselect(summary(root, includePii));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(orders(pageable.getSort(), root, cb, search));
+        }
+
+        List<VocSummary> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList().stream()
+                .map(tuple -> toSummary(tuple, includePii))
+                .toList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec, cb));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<VocSummary> loadVocSummariesAfter(
+            VocStatus status,
+            VocPriority priority,
+            Long categoryId,
+            Long assigneeId,
+            String customerEmail,
+            String search,
+            boolean includePii,
+            CursorRequest cursor) {
+
+        Specification<VocJpaEntity> spec = VocSpecification.withFilters(
+                status, priority, categoryId, assigneeId, customerEmail, search, searchMode);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<VocJpaEntity> root = query.from(VocJpaEntity.class);
+        query.multiselect(summary(root, includePii));
+        query.where(KeysetQueries.where(cb, root, query, spec, cursor));
+        query.orderBy(KeysetQueries.orders(cb, root, cursor.ascending()));
+
+        List<VocSummary> fetched = entityManager.createQuery(query)
+                .setMaxResults(cursor.size() + 1)
+                .getResultList().stream()
+                .map(tuple -> toSummary(tuple, includePii))
+                .toList();
+
+        Long total = null;
+        if (cursor.withTotal()) {
+            boolean filtered = status != null || priority != null || categoryId != null || assigneeId != null
+                    || (customerEmail != null && !customerEmail.isBlank()) || (search != null && !search.isBlank());
+            total = KeysetQueries.total(entityManager, VocJpaEntity.class, spec, "vocs", filtered);
+        }
+        return CursorPage.of(fetched, cursor.size(),
+                summary -> new KeysetCursor(summary.createdAt(), summary.id()), total);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<VocTitle> loadRecentVocTitles(int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<VocTitle> query = cb.createQuery(VocTitle.class);
+        Root<VocJpaEntity> root = query.from(VocJpaEntity.class);
+        query.select(cb.construct(VocTitle.class, root.get("id"), root.get("ticketId"), root.get("title")));
+        query.orderBy(cb.desc(root.get("id")));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private static List<Selection<?>> summary(Root<VocJpaEntity> root, boolean includePii) {
+        List<Selection<?>> columns = new ArrayList<>();
+        for (String attribute : SUMMARY_COLUMNS) {
+            columns.add(root.get(attribute).alias(attribute));
+        }
+        if (includePii) {
+            for (String attribute : PII_COLUMNS) {
+                columns.add(root.get(attribute).alias(attribute));
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * 고객 정보는 EncryptedString(암호문)으로 조회되며 여기서 복호화
+     */
+    private static VocSummary toSummary(Tuple tuple, boolean includePii) {
+        return new VocSummary(
+                tuple.get("id", Long.class),
+                tuple.get("ticketId", String.class),
+                tuple.get("title", String.class),
+                tuple.get("status", VocStatus.class),
+                tuple.get("priority", VocPriority.class),
+                tuple.get("categoryId", Long.class),
+                includePii ? pii(tuple, "customerEmail") : null,
+                includePii ? pii(tuple, "customerName") : null,
+                includePii ? pii(tuple, "customerPhone") : null,
+                tuple.get("assigneeId", Long.class),
+                tuple.get("resolvedAt", LocalDateTime.class),
+                tuple.get("closedAt", LocalDateTime.class),
+                tuple.get("createdAt", LocalDateTime.class),
+                tuple.get("updatedAt", LocalDateTime.class),
+                tuple.get("sentiment", String.class),
+                tuple.get("sentimentConfidence", Double.class)
+        );
+    }
+
+    /**
+     * Pageable 정렬을 ORDER BY로 변환
+     * relevance는 FULLTEXT 검색일 때 관련도 내림차순(동률은 최신순)으로, 그 외에는 최신순으로 대체
+     */
+    private List<Order> orders(Sort sort, Root<VocJpaEntity> root, CriteriaBuilder cb, String search) {
+        Sort.Order relevance = sort.getOrderFor(RELEVANCE);
+        if (relevance == null) {
+            return QueryUtils.toOrders(sort, root, cb);
+        }
+        List<Order> orders = new ArrayList<>();
+        if (searchMode == VocSearchMode.FULLTEXT && VocSpecification.isIndexable(search)) {
+            orders.add(cb.desc(VocSpecification.searchRank(root, cb, search)));
+        }
+        orders.add(cb.desc(root.get("createdAt")));
+        orders.add(cb.desc(root.get("id")));
+        return orders;
+    }
+
+    private long count(Specification<VocJpaEntity> spec, CriteriaBuilder cb) {
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<VocJpaEntity> root = query.from(VocJpaEntity.class);
+        query.select(cb.count(root));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static String pii(Tuple tuple, String alias) {
+        return EncryptedString.plaintextOf(tuple.get(alias, EncryptedString.class));
+    }
+}
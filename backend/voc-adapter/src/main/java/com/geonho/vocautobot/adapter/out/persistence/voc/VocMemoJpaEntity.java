@@ -17,7 +17,8 @@ import lombok.Setter;
 public class VocMemoJpaEntity extends BaseJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "voc_memos_id_seq")
+    @SequenceGenerator(name = "voc_memos_id_seq", sequenceName = "voc_memos_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -45,4 +46,9 @@ public class VocMemoJpaEntity extends BaseJpaEntity {
             this.content = content;
         }
     }
+
+    public void update(String content, boolean internal) {
+        updateContent(content);
+        this.internal = internal;
+    }
 }
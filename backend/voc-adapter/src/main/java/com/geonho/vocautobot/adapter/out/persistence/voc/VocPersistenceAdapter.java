@@ -4,7 +4,9 @@ import com.geonho.vocautobot.adapter.out.persistence.voc.mapper.VocMapper;
 import com.geonho.vocautobot.application.voc.port.out.LoadVocPort;
 import com.geonho.vocautobot.application.voc.port.out.SaveVocPort;
 import com.geonho.vocautobot.application.voc.port.out.UpdateVocSentimentPort;
+import com.geonho.vocautobot.domain.voc.VocAttachmentDomain;
 import com.geonho.vocautobot.domain.voc.VocDomain;
+import com.geonho.vocautobot.domain.voc.VocMemoDomain;
 import com.geonho.vocautobot.domain.voc.VocPriority;
 import com.geonho.vocautobot.domain.voc.VocStatus;
 import lombok.RequiredArgsConstructor;
@@ -15,7 +17,12 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Persistence adapter for VOC domain.
@@ -45,7 +52,9 @@ public class VocPersistenceAdapter implements LoadVocPort, SaveVocPort, UpdateVo
     @Override
     @Transactional(readOnly = true)
     public Optional<VocDomain> loadVocByTicketIdAndEmail(String ticketId, String email) {
-        return vocJpaRepository.findByTicketIdAndCustomerEmailIgnoreCase(ticketId, email)
+        // 이메일 컬럼은 IV가 매번 다른 암호문이라 SQL로 비교할 수 없으므로 티켓으로 조회한 뒤 복호화해 비교
+        return vocJpaRepository.findByTicketId(ticketId)
+                .filter(voc -> voc.getCustomerEmail() != null && voc.getCustomerEmail().equalsIgnoreCase(email))
                 .map(vocMapper::toDomain);
     }
 
@@ -100,23 +109,9 @@ public class VocPersistenceAdapter implements LoadVocPort, SaveVocPort, UpdateVo
                     voc.getAssigneeId()
             );
 
-            // Update attachments
-            entity.getAttachments().clear();
-            if (voc.getAttachments() != null) {
-                voc.getAttachments().forEach(attachment -> {
-                    VocAttachmentJpaEntity attachmentEntity = vocMapper.toAttachmentEntity(attachment);
-                    entity.addAttachment(attachmentEntity);
-                });
-            }
-
-            // Update memos
-            entity.getMemos().clear();
-            if (voc.getMemos() != null) {
-                voc.getMemos().forEach(memo -> {
-                    VocMemoJpaEntity memoEntity = vocMapper.toMemoEntity(memo);
-                    entity.addMemo(memoEntity);
-                });
-            }
+            // Apply only the child rows that changed
+            syncAttachments(entity, voc.getAttachments());
+            syncMemos(entity, voc.getMemos());
         } else {
             // Create new entity
             entity = vocMapper.toEntity(voc);
@@ -126,6 +121,42 @@ public class VocPersistenceAdapter implements LoadVocPort, SaveVocPort, UpdateVo
         return vocMapper.toDomain(savedEntity);
     }
 
+    /**
+     * Merges domain attachments into the entity collection by id.
+     * Deletes only attachments missing from the domain and inserts only new ones (attachments are immutable).
+     */
+    private void syncAttachments(VocJpaEntity entity, List<VocAttachmentDomain> attachments) {
+        Set<Long> retained = attachments.stream()
+                .map(VocAttachmentDomain::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        entity.getAttachments().removeIf(existing -> !retained.contains(existing.getId()));
+        attachments.stream()
+                .filter(attachment -> attachment.getId() == null)
+                .map(vocMapper::toAttachmentEntity)
+                .forEach(entity::addAttachment);
+    }
+
+    /**
+     * Merges domain memos into the entity collection by id.
+     * Deletes removed memos, copies content/visibility onto retained ones (dirty checking issues an
+     * UPDATE only if they changed) and inserts memos without an id.
+     */
+    private void syncMemos(VocJpaEntity entity, List<VocMemoDomain> memos) {
+        Map<Long, VocMemoDomain> retained = memos.stream()
+                .filter(memo -> memo.getId() != null)
+                .collect(Collectors.toMap(VocMemoDomain::getId, Function.identity(), (first, second) -> second));
+        entity.getMemos().removeIf(existing -> !retained.containsKey(existing.getId()));
+        entity.getMemos().forEach(existing -> {
+            VocMemoDomain memo = retained.get(existing.getId());
+            existing.update(memo.getContent(), memo.isInternal());
+        });
+        memos.stream()
+                .filter(memo -> memo.getId() == null)
+                .map(vocMapper::toMemoEntity)
+                .forEach(entity::addMemo);
+    }
+
     @Override
     @Transactional
     public void updateSentiment(Long vocId, String sentiment, Double sentimentConfidence) {
@@ -0,0 +1,13 @@
+package com.geonho.vocautobot.adapter.out.persistence.voc;
+
+/**
+ * VOC 검색어 조회 방식 (voc.search.mode)
+ */
+public enum VocSearchMode {
+
+    /** 제목·본문·티켓 ID LIKE '%검색어%' (인덱스 미사용) */
+    LIKE,
+
+    /** bigram 전문 검색 GIN 인덱스로 후보를 좁힌 뒤 LIKE로 확인 (결과는 LIKE와 동일, 관련도 정렬 지원) */
+    FULLTEXT
+}
@@ -2,7 +2,10 @@ package com.geonho.vocautobot.adapter.out.persistence.voc;
 
 import com.geonho.vocautobot.domain.voc.VocPriority;
 import com.geonho.vocautobot.domain.voc.VocStatus;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.nio.charset.StandardCharsets;
@@ -21,6 +24,20 @@ public class VocSpecification {
             Long assigneeId,
             String customerEmail,
             String search) {
+        return withFilters(status, priority, categoryId, assigneeId, customerEmail, search, VocSearchMode.LIKE);
+    }
+
+    /**
+     * @param searchMode FULLTEXT면 bigram 전문 검색 인덱스(V18)로 후보를 좁힌 뒤 LIKE로 다시 확인
+     */
+    public static Specification<VocJpaEntity> withFilters(
+            VocStatus status,
+            VocPriority priority,
+            Long categoryId,
+            Long assigneeId,
+            String customerEmail,
+            String search,
+            VocSearchMode searchMode) {
 
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
@@ -54,6 +71,11 @@ public class VocSpecification {
                 Predicate ticketIdPredicate = criteriaBuilder.like(
                         criteriaBuilder.lower(root.get("ticketId")), searchPattern);
 
+                if (searchMode == VocSearchMode.FULLTEXT && isIndexable(search)) {
+                    predicates.add(criteriaBuilder.isTrue(criteriaBuilder.function("voc_search_match", Boolean.class,
+                            root.get("title"), root.get("content"), root.get("ticketId"),
+                            criteriaBuilder.literal(search))));
+                }
                 predicates.add(criteriaBuilder.or(titlePredicate, contentPredicate, ticketIdPredicate));
             }
 
@@ -61,6 +83,22 @@ public class VocSpecification {
         };
     }
 
+    /**
+     * 검색 관련도 (FULLTEXT 검색 정렬용, 높을수록 관련도 높음)
+     */
+    public static Expression<Float> searchRank(Root<VocJpaEntity> root, CriteriaBuilder criteriaBuilder, String search) {
+        return criteriaBuilder.function("voc_search_rank", Float.class,
+                root.get("title"), root.get("content"), root.get("ticketId"), criteriaBuilder.literal(search));
+    }
+
+    /**
+     * 전문 검색 인덱스로 후보를 좁힐 수 있는 검색어인지 여부
+     * 글자·숫자가 없으면(문장부호만 있으면) 어휘소가 없어 인덱스 조건이 항상 거짓이므로 LIKE만 사용
+     */
+    public static boolean isIndexable(String search) {
+        return search != null && search.codePoints().anyMatch(Character::isLetterOrDigit);
+    }
+
     private static String sha256(String input) {
         try {
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
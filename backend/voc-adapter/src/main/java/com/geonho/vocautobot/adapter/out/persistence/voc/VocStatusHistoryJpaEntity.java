@@ -19,7 +19,8 @@ import java.time.LocalDateTime;
 public class VocStatusHistoryJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "voc_status_history_id_seq")
+    @SequenceGenerator(name = "voc_status_history_id_seq", sequenceName = "voc_status_history_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,25 @@
+package com.geonho.vocautobot.adapter.out.search;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * OpenSearch 로그 문서의 _source
+ * 필드 별칭(level/log_level/logLevel 등)은 역직렬화 시점에 정규화됨 ({@link LogDocumentDeserializer})
+ *
+ * @param timestamp 타임스탬프 (없거나 파싱 불가하면 null)
+ * @param additionalFields 표준 필드를 제외한 나머지 필드
+ */
+@JsonDeserialize(using = LogDocumentDeserializer.class)
+public record LogDocument(
+    LocalDateTime timestamp,
+    String level,
+    String service,
+    String message,
+    String logger,
+    String thread,
+    Map<String, Object> additionalFields
+) {
+}
@@ -0,0 +1,177 @@
+package com.geonho.vocautobot.adapter.out.search;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 로그 _source 스트리밍 역직렬화기
+ * 중간 Map 없이 토큰을 한 번 순회하며 필드명으로 별칭을 판별해 {@link LogDocument}를 생성
+ *
+ * 같은 항목의 별칭이 여러 개 있으면 앞선 이름이 우선 (예: level > log_level > logLevel)
+ */
+public class LogDocumentDeserializer extends StdDeserializer<LogDocument> {
+
+    private static final Logger log = LoggerFactory.getLogger(LogDocumentDeserializer.class);
+
+    private static final int TIMESTAMP = 0;
+    private static final int LEVEL = 1;
+    private static final int SERVICE = 2;
+    private static final int MESSAGE = 3;
+    private static final int LOGGER = 4;
+    private static final int THREAD = 5;
+    private static final int SLOTS = 6;
+    private static final int RANKS = 3;
+
+    public LogDocumentDeserializer() {
+        super(LogDocument.class);
+    }
+
+    @Override
+    public LogDocument deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        Object[] values = new Object[SLOTS];
+        int[] ranks = new int[SLOTS];
+        Arrays.fill(ranks, RANKS);
+        Map<String, Object> additionalFields = null;
+
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        }
+
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String field = parser.currentName();
+            JsonToken valueToken = parser.nextToken();
+            int alias = aliasOf(field);
+
+            if (alias < 0) {
+                if (additionalFields == null) {
+                    additionalFields = new LinkedHashMap<>();
+                }
+                additionalFields.put(field, context.readValue(parser, Object.class));
+                continue;
+            }
+
+            int slot = alias / RANKS;
+            int rank = alias % RANKS;
+            if (valueToken == JsonToken.VALUE_NULL || rank >= ranks[slot]) {
+                parser.skipChildren();
+                continue;
+            }
+
+            Object value = slot == TIMESTAMP
+                ? readTimestamp(parser, valueToken)
+                : readString(parser, valueToken, context);
+            if (value != null) {
+                values[slot] = value;
+                ranks[slot] = rank;
+            }
+        }
+
+        return new LogDocument(
+            (LocalDateTime) values[TIMESTAMP],
+            (String) values[LEVEL],
+            (String) values[SERVICE],
+            (String) values[MESSAGE],
+            (String) values[LOGGER],
+            (String) values[THREAD],
+            additionalFields != null ? additionalFields : Map.of()
+        );
+    }
+
+    /**
+     * 필드명 → (항목 * RANKS + 우선순위), 표준 필드가 아니면 -1
+     */
+    private static int aliasOf(String field) {
+        return switch (field) {
+            case "@timestamp" -> TIMESTAMP * RANKS;
+            case "timestamp" -> TIMESTAMP * RANKS + 1;
+            case "time" -> TIMESTAMP * RANKS + 2;
+            case "level" -> LEVEL * RANKS;
+            case "log_level" -> LEVEL * RANKS + 1;
+            case "logLevel" -> LEVEL * RANKS + 2;
+            case "service" -> SERVICE * RANKS;
+            case "service_name" -> SERVICE * RANKS + 1;
+            case "serviceName" -> SERVICE * RANKS + 2;
+            case "message" -> MESSAGE * RANKS;
+            case "msg" -> MESSAGE * RANKS + 1;
+            case "logger" -> LOGGER * RANKS;
+            case "logger_name" -> LOGGER * RANKS + 1;
+            case "loggerName" -> LOGGER * RANKS + 2;
+            case "thread" -> THREAD * RANKS;
+            case "thread_name" -> THREAD * RANKS + 1;
+            case "threadName" -> THREAD * RANKS + 2;
+            default -> -1;
+        };
+    }
+
+    private static String readString(JsonParser parser, JsonToken token, DeserializationContext context)
+            throws IOException {
+        if (token.isScalarValue()) {
+            return parser.getValueAsString();
+        }
+        return String.valueOf(context.readValue(parser, Object.class));
+    }
+
+    /**
+     * 문자열은 ISO 8601 앞 19자리(yyyy-MM-ddTHH:mm:ss)만 사용하고 소수 초·오프셋은 무시,
+     * 숫자는 epoch millis로 해석
+     */
+    private static LocalDateTime readTimestamp(JsonParser parser, JsonToken token) throws IOException {
+        try {
+            if (token == JsonToken.VALUE_STRING) {
+                return parseLocalDateTime(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+            }
+            if (token == JsonToken.VALUE_NUMBER_INT) {
+                return LocalDateTime.ofInstant(Instant.ofEpochMilli(parser.getLongValue()), ZoneId.systemDefault());
+            }
+        } catch (DateTimeException e) {
+            log.warn("Failed to parse timestamp: {}", parser.getText());
+            return null;
+        }
+
+        parser.skipChildren();
+        return null;
+    }
+
+    static LocalDateTime parseLocalDateTime(char[] text, int offset, int length) {
+        if (length < 19
+                || text[offset + 4] != '-' || text[offset + 7] != '-' || text[offset + 10] != 'T'
+                || text[offset + 13] != ':' || text[offset + 16] != ':') {
+            throw new DateTimeException("Unsupported timestamp format");
+        }
+
+        return LocalDateTime.of(
+            digits(text, offset, 4),
+            digits(text, offset + 5, 2),
+            digits(text, offset + 8, 2),
+            digits(text, offset + 11, 2),
+            digits(text, offset + 14, 2),
+            digits(text, offset + 17, 2)
+        );
+    }
+
+    private static int digits(char[] text, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = text[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new DateTimeException("Unsupported timestamp format");
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,120 @@
+package com.geonho.vocautobot.adapter.out.search;
+
+import com.geonho.vocautobot.application.analysis.dto.LogAnalysisResult;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+
+/**
+ * 로그 다중 검색 결과 캐시
+ * 장애 시 같은 키워드로 VOC가 몰려 동일한 24시간 검색이 반복되는 것을 막기 위해
+ * 키워드 집합 + 분 단위로 맞춘 검색 구간을 키로 짧게 캐시
+ * 구간 시작은 내림, 끝은 올림해 요청한 구간의 최근 로그가 빠지지 않게 함
+ *
+ * 같은 키의 검색이 진행 중이면 새로 요청하지 않고 그 결과를 함께 기다림 (singleflight)
+ * 실패한 검색과 일부 검색어만 성공한 결과는 캐시하지 않음
+ */
+@Component
+public class LogSearchCache {
+
+    private static final Logger log = LoggerFactory.getLogger(LogSearchCache.class);
+
+    private final ConcurrentMap<Key, CompletableFuture<LogAnalysisResult>> entries;
+
+    public LogSearchCache(OpenSearchProperties properties) {
+        if (properties.getSearchCacheTtlSeconds() <= 0) {
+            this.entries = null;
+            return;
+        }
+        AsyncCache<Key, LogAnalysisResult> cache = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(properties.getSearchCacheTtlSeconds()))
+            .maximumSize(properties.getSearchCacheMaxSize())
+            .buildAsync();
+        this.entries = cache.asMap();
+    }
+
+    /**
+     * 캐시된 결과 반환, 없으면 분 단위로 넓힌 구간으로 검색
+     *
+     * @param search (구간 시작, 구간 끝) → 검색 결과
+     */
+    public LogAnalysisResult get(
+        List<String> queries,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        int maxResultsPerQuery,
+        BiFunction<LocalDateTime, LocalDateTime, SearchOutcome> search
+    ) {
+        LocalDateTime windowStart = startTime.truncatedTo(ChronoUnit.MINUTES);
+        LocalDateTime windowEnd = roundUpToMinute(endTime);
+        if (entries == null) {
+            return search.apply(windowStart, windowEnd).result();
+        }
+
+        Key key = new Key(queries.stream().distinct().sorted().toList(), windowStart, windowEnd, maxResultsPerQuery);
+        CompletableFuture<LogAnalysisResult> pending = new CompletableFuture<>();
+        CompletableFuture<LogAnalysisResult> existing = entries.putIfAbsent(key, pending);
+        if (existing != null) {
+            log.debug("Log search cache hit - {}", key.queries());
+            return await(existing);
+        }
+
+        try {
+            SearchOutcome outcome = search.apply(windowStart, windowEnd);
+            if (!outcome.complete()) {
+                // 기다리던 호출에는 부분 결과를 넘기되 이후 호출은 다시 검색
+                entries.remove(key, pending);
+            }
+            pending.complete(outcome.result());
+            return outcome.result();
+        } catch (RuntimeException e) {
+            entries.remove(key, pending);
+            pending.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static LocalDateTime roundUpToMinute(LocalDateTime time) {
+        LocalDateTime truncated = time.truncatedTo(ChronoUnit.MINUTES);
+        return truncated.equals(time) ? time : truncated.plusMinutes(1);
+    }
+
+    private static LogAnalysisResult await(CompletableFuture<LogAnalysisResult> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 검색 결과와 모든 검색어가 성공했는지 여부
+     */
+    public record SearchOutcome(LogAnalysisResult result, boolean complete) {
+
+        public static SearchOutcome complete(LogAnalysisResult result) {
+            return new SearchOutcome(result, true);
+        }
+
+        public static SearchOutcome partial(LogAnalysisResult result) {
+            return new SearchOutcome(result, false);
+        }
+    }
+
+    private record Key(List<String> queries, LocalDateTime start, LocalDateTime end, int maxResultsPerQuery) {
+    }
+}
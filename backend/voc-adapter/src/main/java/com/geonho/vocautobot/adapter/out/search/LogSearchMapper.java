@@ -2,15 +2,16 @@ package com.geonho.vocautobot.adapter.out.search;
 
 import com.geonho.vocautobot.application.analysis.dto.LogAnalysisResult;
 import com.geonho.vocautobot.application.analysis.dto.LogEntry;
+import org.opensearch.client.opensearch._types.aggregations.Aggregate;
+import org.opensearch.client.opensearch._types.aggregations.DateHistogramBucket;
+import org.opensearch.client.opensearch._types.aggregations.StringTermsBucket;
 import org.opensearch.client.opensearch.core.SearchResponse;
 import org.opensearch.client.opensearch.core.search.Hit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import java.time.Instant;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -22,46 +23,76 @@ public class LogSearchMapper {
 
     private static final Logger log = LoggerFactory.getLogger(LogSearchMapper.class);
 
+    static final String LEVELS_AGG = "levels";
+    static final String SERVICES_AGG = "services";
+    static final String ERRORS_AGG = "errors";
+    static final String TIMELINE_AGG = "timeline";
+    static final String TIMELINE_FORMAT = "yyyy-MM-dd HH:00";
+
     /**
      * OpenSearch Hit을 LogEntry로 변환
+     * 필드 별칭 처리는 _source 역직렬화 시점에 끝나 있음 ({@link LogDocumentDeserializer})
      */
-    public LogEntry toLogEntry(Hit<Map> hit) {
-        try {
-            Map<String, Object> source = hit.source();
-            if (source == null) {
-                log.warn("Hit source is null for document ID: {}", hit.id());
-                return null;
-            }
-
-            return new LogEntry(
-                hit.id(),
-                extractTimestamp(source),
-                extractString(source, "level", "log_level", "logLevel"),
-                extractString(source, "service", "service_name", "serviceName"),
-                extractString(source, "message", "msg"),
-                extractString(source, "logger", "logger_name", "loggerName"),
-                extractString(source, "thread", "thread_name", "threadName"),
-                extractAdditionalFields(source)
-            );
-        } catch (Exception e) {
-            log.error("Failed to map hit to LogEntry: {}", hit.id(), e);
+    public LogEntry toLogEntry(Hit<LogDocument> hit) {
+        LogDocument source = hit.source();
+        if (source == null) {
+            log.warn("Hit source is null for document ID: {}", hit.id());
             return null;
         }
+
+        return new LogEntry(
+            hit.id(),
+            source.timestamp() != null ? source.timestamp() : LocalDateTime.now(),
+            source.level(),
+            source.service(),
+            source.message(),
+            source.logger(),
+            source.thread(),
+            source.additionalFields()
+        );
     }
 
     /**
      * SearchResponse를 LogAnalysisResult로 변환
      */
-    public LogAnalysisResult toLogAnalysisResult(SearchResponse<Map> response) {
+    public LogAnalysisResult toLogAnalysisResult(SearchResponse<LogDocument> response) {
         List<LogEntry> logs = response.hits().hits().stream()
             .map(this::toLogEntry)
             .filter(Objects::nonNull)
             .collect(Collectors.toList());
 
+        return toLogAnalysisResult(logs, response.hits().total().value());
+    }
+
+    /**
+     * 여러 검색 결과의 Hit 목록을 병합하여 LogAnalysisResult로 변환
+     * 문서 ID 기준으로 중복 제거하며, 먼저 나온 Hit을 유지
+     */
+    public LogAnalysisResult toMergedLogAnalysisResult(List<List<Hit<LogDocument>>> hitGroups) {
+        Map<String, LogEntry> uniqueLogs = new LinkedHashMap<>();
+        for (List<Hit<LogDocument>> hits : hitGroups) {
+            for (Hit<LogDocument> hit : hits) {
+                if (uniqueLogs.containsKey(hit.id())) {
+                    continue;
+                }
+                LogEntry entry = toLogEntry(hit);
+                if (entry != null) {
+                    uniqueLogs.put(hit.id(), entry);
+                }
+            }
+        }
+
+        List<LogEntry> logs = new ArrayList<>(uniqueLogs.values());
+        return toLogAnalysisResult(logs, logs.size());
+    }
+
+    /**
+     * LogEntry 목록으로 통계를 계산하여 LogAnalysisResult 생성
+     */
+    public LogAnalysisResult toLogAnalysisResult(List<LogEntry> logs, long totalCount) {
         Map<String, Integer> errorCounts = calculateErrorCounts(logs);
         Map<String, Integer> logLevelCounts = calculateLogLevelCounts(logs);
         Map<String, Integer> serviceCounts = calculateServiceCounts(logs);
-        long totalCount = response.hits().total().value();
 
         String summary = generateSummary(logs, totalCount, errorCounts);
 
@@ -76,69 +107,92 @@ public class LogSearchMapper {
     }
 
     /**
-     * 타임스탬프 추출 및 변환
+     * 통계 집계 응답(size: 0)을 LogAnalysisResult로 변환
+     * - levels: 레벨별 건수
+     * - services: 서비스별 건수
+     * - errors: ERROR 필터 > 서비스별 건수(services), 시간대별 건수(timeline)
      */
-    private LocalDateTime extractTimestamp(Map<String, Object> source) {
-        // @timestamp, timestamp, time 등 다양한 필드명 시도
-        Object timestampObj = getFirstNonNull(source, "@timestamp", "timestamp", "time");
-
-        if (timestampObj == null) {
-            return LocalDateTime.now();
-        }
-
-        try {
-            if (timestampObj instanceof String) {
-                // ISO 8601 형식 파싱
-                return LocalDateTime.parse(timestampObj.toString().substring(0, 19));
-            } else if (timestampObj instanceof Number) {
-                // Unix timestamp (milliseconds)
-                long millis = ((Number) timestampObj).longValue();
-                return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
-            }
-        } catch (Exception e) {
-            log.warn("Failed to parse timestamp: {}", timestampObj, e);
+    public LogAnalysisResult toStatisticsResult(SearchResponse<LogDocument> response) {
+        Map<String, Aggregate> aggregations = response.aggregations();
+        long totalCount = response.hits().total() != null ? response.hits().total().value() : 0;
+
+        Map<String, Integer> logLevelCounts = toTermCounts(aggregations.get(LEVELS_AGG));
+        Map<String, Integer> serviceCounts = toTermCounts(aggregations.get(SERVICES_AGG));
+
+        Map<String, Integer> errorCounts = Map.of();
+        long errorTotal = 0;
+        String peakErrorHour = null;
+        Aggregate errors = aggregations.get(ERRORS_AGG);
+        if (errors != null && errors.isFilter()) {
+            errorTotal = errors.filter().docCount();
+            Map<String, Aggregate> errorAggregations = errors.filter().aggregations();
+            errorCounts = toTermCounts(errorAggregations.get(SERVICES_AGG));
+            peakErrorHour = findPeakBucket(errorAggregations.get(TIMELINE_AGG));
         }
 
-        return LocalDateTime.now();
+        return new LogAnalysisResult(
+            List.of(),
+            errorCounts,
+            logLevelCounts,
+            serviceCounts,
+            totalCount,
+            generateStatisticsSummary(totalCount, errorTotal, errorCounts, peakErrorHour)
+        );
     }
 
     /**
-     * 문자열 필드 추출 (여러 필드명 시도)
+     * terms 집계 버킷을 key → doc_count 맵으로 변환
      */
-    private String extractString(Map<String, Object> source, String... fieldNames) {
-        Object value = getFirstNonNull(source, fieldNames);
-        return value != null ? value.toString() : null;
+    private Map<String, Integer> toTermCounts(Aggregate aggregate) {
+        if (aggregate == null || !aggregate.isSterms()) {
+            return Map.of();
+        }
+
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (StringTermsBucket bucket : aggregate.sterms().buckets().array()) {
+            counts.put(bucket.key(), (int) bucket.docCount());
+        }
+        return counts;
     }
 
     /**
-     * 첫 번째로 존재하는 필드 값 반환
+     * date_histogram 집계에서 건수가 가장 많은 구간
      */
-    private Object getFirstNonNull(Map<String, Object> source, String... fieldNames) {
-        for (String fieldName : fieldNames) {
-            Object value = source.get(fieldName);
-            if (value != null) {
-                return value;
-            }
+    private String findPeakBucket(Aggregate aggregate) {
+        if (aggregate == null || !aggregate.isDateHistogram()) {
+            return null;
         }
-        return null;
+
+        return aggregate.dateHistogram().buckets().array().stream()
+            .filter(bucket -> bucket.docCount() > 0)
+            .max(Comparator.comparingLong(DateHistogramBucket::docCount))
+            .map(DateHistogramBucket::keyAsString)
+            .orElse(null);
     }
 
     /**
-     * 추가 필드 추출 (표준 필드를 제외한 나머지)
+     * 통계 요약 메시지 생성
      */
-    private Map<String, Object> extractAdditionalFields(Map<String, Object> source) {
-        Set<String> standardFields = Set.of(
-            "@timestamp", "timestamp", "time",
-            "level", "log_level", "logLevel",
-            "service", "service_name", "serviceName",
-            "message", "msg",
-            "logger", "logger_name", "loggerName",
-            "thread", "thread_name", "threadName"
-        );
+    private String generateStatisticsSummary(
+        long totalCount,
+        long errorCount,
+        Map<String, Integer> errorCounts,
+        String peakErrorHour
+    ) {
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("총 %d건의 로그", totalCount));
+
+        if (errorCount > 0) {
+            summary.append(String.format(", %d건의 에러 발생", errorCount));
+            errorCounts.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .ifPresent(top -> summary.append(String.format(" (주요 발생 서비스: %s)", top.getKey())));
+            if (peakErrorHour != null) {
+                summary.append(String.format(", 에러 최다 시간대: %s", peakErrorHour));
+            }
+        }
 
-        return source.entrySet().stream()
-            .filter(entry -> !standardFields.contains(entry.getKey()))
-            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        return summary.toString();
     }
 
     /**
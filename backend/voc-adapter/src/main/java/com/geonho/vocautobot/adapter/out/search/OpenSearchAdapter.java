@@ -1,41 +1,44 @@
 package com.geonho.vocautobot.adapter.out.search;
 
 import com.geonho.vocautobot.application.analysis.dto.LogAnalysisResult;
+import com.geonho.vocautobot.application.analysis.dto.LogEntry;
 import com.geonho.vocautobot.application.analysis.port.out.LogSearchPort;
 import jakarta.annotation.PostConstruct;
-import jakarta.annotation.PreDestroy;
-import org.apache.hc.client5.http.auth.AuthScope;
-import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
-import org.apache.hc.client5.http.impl.auth.BasicCredentialsProvider;
-import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
-import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
-import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
-import org.apache.hc.core5.http.HttpHost;
-import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
-import org.apache.hc.core5.ssl.SSLContextBuilder;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch._types.SortOrder;
+import org.opensearch.client.opensearch._types.Time;
 import org.opensearch.client.opensearch._types.query_dsl.BoolQuery;
 import org.opensearch.client.opensearch._types.query_dsl.Query;
 import org.opensearch.client.opensearch._types.query_dsl.RangeQuery;
+import org.opensearch.client.opensearch.core.MsearchRequest;
+import org.opensearch.client.opensearch.core.MsearchResponse;
 import org.opensearch.client.opensearch.core.SearchRequest;
 import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.client.opensearch.core.msearch.MultiSearchResponseItem;
+import org.opensearch.client.opensearch.core.pit.CreatePitRequest;
+import org.opensearch.client.opensearch.core.pit.DeletePitRequest;
+import org.opensearch.client.opensearch.core.search.Hit;
 import org.opensearch.client.json.JsonData;
-import org.opensearch.client.json.jackson.JacksonJsonpMapper;
-import org.opensearch.client.transport.OpenSearchTransport;
-import org.opensearch.client.transport.httpclient5.ApacheHttpClient5TransportBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import javax.net.ssl.SSLContext;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * OpenSearch Adapter 구현
  * LogSearchPort를 구현하여 OpenSearch와 연동
+ *
+ * 연결 가능 여부는 기동 시 확인한 뒤 주기적으로 다시 확인 (opensearch.availability-check-interval-ms)
+ * 기동 시 OpenSearch가 내려가 있었거나 운영 중 끊겨도 재시작 없이 복구를 따라감
  */
 @Component
 public class OpenSearchAdapter implements LogSearchPort {
@@ -45,51 +48,101 @@ public class OpenSearchAdapter implements LogSearchPort {
     private static final String LOG_LEVEL_FIELD = "level";
     private static final String SERVICE_NAME_FIELD = "service";
     private static final String MESSAGE_FIELD = "message";
+    private static final String ID_FIELD = "_id";
+    private static final int STATISTICS_TERMS_SIZE = 100;
 
     private final OpenSearchProperties properties;
     private final LogSearchMapper mapper;
-    private OpenSearchClient client;
-    private OpenSearchTransport transport;
-    private boolean available = false;
+    private final LogSearchCache searchCache;
+    private final OpenSearchClient client;
+    private final OpenSearchAsyncClient asyncClient;
+    private volatile boolean available = false;
 
-    public OpenSearchAdapter(OpenSearchProperties properties, LogSearchMapper mapper) {
+    /**
+     * opensearch.enabled=true 일 때만 클라이언트 빈이 존재 (OpenSearchConfig)
+     */
+    public OpenSearchAdapter(
+        OpenSearchProperties properties,
+        LogSearchMapper mapper,
+        LogSearchCache searchCache,
+        ObjectProvider<OpenSearchClient> clientProvider,
+        ObjectProvider<OpenSearchAsyncClient> asyncClientProvider
+    ) {
+        this(properties, mapper, searchCache, clientProvider.getIfAvailable(), asyncClientProvider.getIfAvailable());
+    }
+
+    OpenSearchAdapter(
+        OpenSearchProperties properties,
+        LogSearchMapper mapper,
+        LogSearchCache searchCache,
+        OpenSearchClient client,
+        OpenSearchAsyncClient asyncClient
+    ) {
         this.properties = properties;
         this.mapper = mapper;
+        this.searchCache = searchCache;
+        this.client = client;
+        this.asyncClient = asyncClient;
     }
 
     @PostConstruct
     public void initialize() {
-        // TODO: OpenSearch 연동 구현 예정 (GitHub Issue 참조)
-        // 현재는 OpenSearch 연결을 비활성화하고, 빈 결과를 반환합니다.
-        log.info("OpenSearch integration is currently disabled. Will be implemented in future release.");
-        available = false;
+        if (client == null || asyncClient == null) {
+            log.info("OpenSearch integration is disabled (opensearch.enabled=false)");
+            available = false;
+            return;
+        }
+
+        available = ping();
+        if (!available) {
+            // 로그 분석은 부가 기능이므로 연결 실패 시에도 기동은 계속
+            log.warn("OpenSearch is not reachable at {}, log search will return empty results until it recovers",
+                properties.getConnectionUrl());
+        }
     }
 
-    @PreDestroy
-    public void cleanup() {
-        try {
-            if (transport != null) {
-                transport.close();
-                log.info("OpenSearch transport closed");
+    /**
+     * 연결 가능 여부 재확인
+     * 상태가 바뀔 때만 로그를 남김
+     */
+    @Scheduled(
+        initialDelayString = "${opensearch.availability-check-interval-ms:30000}",
+        fixedDelayString = "${opensearch.availability-check-interval-ms:30000}"
+    )
+    public void refreshAvailability() {
+        if (client == null || asyncClient == null) {
+            return;
+        }
+
+        boolean reachable = ping();
+        if (reachable != available) {
+            available = reachable;
+            if (reachable) {
+                log.info("OpenSearch is reachable again at {}", properties.getConnectionUrl());
+            } else {
+                log.warn("OpenSearch became unreachable at {}, log search will return empty results",
+                    properties.getConnectionUrl());
             }
-        } catch (Exception e) {
-            log.error("Error closing OpenSearch transport", e);
         }
     }
 
+    boolean isAvailable() {
+        return available;
+    }
+
     /**
      * 연결 테스트
      */
-    private void testConnection() {
+    private boolean ping() {
         try {
             boolean pingResult = client.ping().value();
-            if (!pingResult) {
-                throw new OpenSearchException("OpenSearch ping 실패");
+            if (pingResult) {
+                log.debug("OpenSearch connection test successful");
             }
-            log.info("OpenSearch connection test successful");
+            return pingResult;
         } catch (Exception e) {
-            log.error("OpenSearch connection test failed", e);
-            throw new OpenSearchException("OpenSearch 연결 테스트 실패", e);
+            log.debug("OpenSearch connection test failed: {}", e.getMessage());
+            return false;
         }
     }
 
@@ -110,15 +163,7 @@ public class OpenSearchAdapter implements LogSearchPort {
                 .filter(timeRangeQuery)
             )._toQuery();
 
-            SearchRequest request = SearchRequest.of(s -> s
-                .index(properties.getDefaultIndexPattern())
-                .query(combinedQuery)
-                .size(maxResults)
-                .sort(sort -> sort.field(f -> f.field(TIMESTAMP_FIELD).order(SortOrder.Desc)))
-            );
-
-            SearchResponse<Map> response = client.search(request, Map.class);
-            LogAnalysisResult result = mapper.toLogAnalysisResult(response);
+            LogAnalysisResult result = search(combinedQuery, maxResults);
 
             log.info("Search completed - Found {} logs out of {} total",
                 result.logs().size(), result.totalCount());
@@ -130,6 +175,86 @@ public class OpenSearchAdapter implements LogSearchPort {
         }
     }
 
+    /**
+     * 여러 쿼리를 _msearch 한 번으로 검색하고 문서 ID 기준으로 중복 제거
+     * 결과는 키워드 집합 + 분 단위 구간으로 짧게 캐시되며, 동시에 들어온 같은 검색은 한 번만 요청 (LogSearchCache)
+     */
+    @Override
+    public LogAnalysisResult multiSearchLogs(
+        List<String> queries,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        int maxResultsPerQuery
+    ) {
+        if (!available) {
+            log.warn("OpenSearch is not available, returning empty result");
+            return LogAnalysisResult.empty();
+        }
+        if (queries.isEmpty()) {
+            return LogAnalysisResult.empty("No queries");
+        }
+        return searchCache.get(queries, startTime, endTime, maxResultsPerQuery,
+            (windowStart, windowEnd) -> multiSearch(queries, windowStart, windowEnd, maxResultsPerQuery));
+    }
+
+    private LogSearchCache.SearchOutcome multiSearch(
+        List<String> queries,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        int maxResultsPerQuery
+    ) {
+        log.info("Multi-searching logs - Queries: {}, Time range: {} to {}", queries, startTime, endTime);
+
+        try {
+            Query timeRangeQuery = buildTimeRangeQuery(startTime, endTime);
+
+            MsearchRequest request = MsearchRequest.of(m -> {
+                for (String query : queries) {
+                    Query combinedQuery = BoolQuery.of(b -> b
+                        .must(buildQueryStringQuery(query))
+                        .filter(timeRangeQuery)
+                    )._toQuery();
+
+                    m.searches(item -> item
+                        .header(h -> h.index(properties.getDefaultIndexPattern()))
+                        .body(body -> body
+                            .query(combinedQuery)
+                            .size(maxResultsPerQuery)
+                            .sort(sort -> sort.field(f -> f.field(TIMESTAMP_FIELD).order(SortOrder.Desc)))
+                        )
+                    );
+                }
+                return m;
+            });
+
+            MsearchResponse<LogDocument> response = client.msearch(request, LogDocument.class);
+
+            List<List<Hit<LogDocument>>> hitGroups = new ArrayList<>();
+            List<MultiSearchResponseItem<LogDocument>> items = response.responses();
+            int failures = 0;
+            for (int i = 0; i < items.size(); i++) {
+                MultiSearchResponseItem<LogDocument> item = items.get(i);
+                if (item.isFailure()) {
+                    log.warn("Log search failed for query: {} - {}", queries.get(i), item.failure().error().reason());
+                    failures++;
+                    continue;
+                }
+                hitGroups.add(item.result().hits().hits());
+            }
+
+            LogAnalysisResult result = mapper.toMergedLogAnalysisResult(hitGroups);
+            log.info("Multi-search completed - Found {} unique logs for {} queries ({} failed)",
+                result.logs().size(), queries.size(), failures);
+            return failures == 0
+                ? LogSearchCache.SearchOutcome.complete(result)
+                : LogSearchCache.SearchOutcome.partial(result);
+
+        } catch (Exception e) {
+            log.error("Failed to multi-search logs", e);
+            throw new OpenSearchException("로그 다중 검색 실패", e);
+        }
+    }
+
     @Override
     public LogAnalysisResult searchErrorLogs(String serviceName, LocalDateTime startTime, LocalDateTime endTime, int maxResults) {
         if (!available) {
@@ -149,15 +274,7 @@ public class OpenSearchAdapter implements LogSearchPort {
 
             Query query = boolQueryBuilder.build()._toQuery();
 
-            SearchRequest request = SearchRequest.of(s -> s
-                .index(properties.getDefaultIndexPattern())
-                .query(query)
-                .size(maxResults)
-                .sort(sort -> sort.field(f -> f.field(TIMESTAMP_FIELD).order(SortOrder.Desc)))
-            );
-
-            SearchResponse<Map> response = client.search(request, Map.class);
-            LogAnalysisResult result = mapper.toLogAnalysisResult(response);
+            LogAnalysisResult result = search(query, maxResults);
 
             log.info("Error log search completed - Found {} error logs", result.logs().size());
             return result;
@@ -179,15 +296,29 @@ public class OpenSearchAdapter implements LogSearchPort {
         try {
             Query timeRangeQuery = buildTimeRangeQuery(startTime, endTime);
 
+            // 문서를 가져오지 않고 서버 측 집계만 수행
             SearchRequest request = SearchRequest.of(s -> s
                 .index(properties.getDefaultIndexPattern())
                 .query(timeRangeQuery)
-                .size(1000) // 통계를 위해 충분한 샘플 조회
-                .sort(sort -> sort.field(f -> f.field(TIMESTAMP_FIELD).order(SortOrder.Desc)))
+                .size(0)
+                .trackTotalHits(t -> t.enabled(true))
+                .aggregations(LogSearchMapper.LEVELS_AGG, a -> a
+                    .terms(t -> t.field(LOG_LEVEL_FIELD).size(STATISTICS_TERMS_SIZE)))
+                .aggregations(LogSearchMapper.SERVICES_AGG, a -> a
+                    .terms(t -> t.field(SERVICE_NAME_FIELD).size(STATISTICS_TERMS_SIZE)))
+                .aggregations(LogSearchMapper.ERRORS_AGG, a -> a
+                    .filter(buildLogLevelQuery("ERROR"))
+                    .aggregations(LogSearchMapper.SERVICES_AGG, sub -> sub
+                        .terms(t -> t.field(SERVICE_NAME_FIELD).size(STATISTICS_TERMS_SIZE)))
+                    .aggregations(LogSearchMapper.TIMELINE_AGG, sub -> sub
+                        .dateHistogram(d -> d
+                            .field(TIMESTAMP_FIELD)
+                            .fixedInterval(i -> i.time("1h"))
+                            .format(LogSearchMapper.TIMELINE_FORMAT))))
             );
 
-            SearchResponse<Map> response = client.search(request, Map.class);
-            LogAnalysisResult result = mapper.toLogAnalysisResult(response);
+            SearchResponse<LogDocument> response = client.search(request, LogDocument.class);
+            LogAnalysisResult result = mapper.toStatisticsResult(response);
 
             log.info("Statistics retrieved - Total: {}, Errors: {}",
                 result.totalCount(), result.errorCounts().values().stream().mapToInt(Integer::intValue).sum());
@@ -225,22 +356,108 @@ public class OpenSearchAdapter implements LogSearchPort {
 
             Query query = boolQueryBuilder.build()._toQuery();
 
+            LogAnalysisResult result = search(query, maxResults);
+
+            log.info("Service log search completed - Found {} logs", result.logs().size());
+            return result;
+
+        } catch (Exception e) {
+            log.error("Failed to search service logs", e);
+            throw new OpenSearchException("서비스 로그 검색 실패", e);
+        }
+    }
+
+    /**
+     * 최신순 로그 조회
+     * maxResults가 페이지 크기(batchSize) 이하면 단일 검색, 초과하면 PIT + search_after로 페이지 단위 조회
+     */
+    private LogAnalysisResult search(Query query, int maxResults) throws Exception {
+        int pageSize = properties.getBatchSize();
+        if (maxResults <= pageSize) {
             SearchRequest request = SearchRequest.of(s -> s
                 .index(properties.getDefaultIndexPattern())
                 .query(query)
                 .size(maxResults)
                 .sort(sort -> sort.field(f -> f.field(TIMESTAMP_FIELD).order(SortOrder.Desc)))
             );
+            return mapper.toLogAnalysisResult(client.search(request, LogDocument.class));
+        }
+        return searchWithPit(query, maxResults, pageSize);
+    }
 
-            SearchResponse<Map> response = client.search(request, Map.class);
-            LogAnalysisResult result = mapper.toLogAnalysisResult(response);
+    /**
+     * PIT 스냅샷 위에서 search_after로 페이지 반복 조회
+     * 현재 페이지를 매핑하는 동안 다음 페이지를 비동기 클라이언트로 미리 요청
+     * 같은 타임스탬프의 로그가 페이지 경계에서 빠지거나 중복되지 않도록 _id를 보조 정렬 키로 사용
+     */
+    private LogAnalysisResult searchWithPit(Query query, int maxResults, int pageSize) throws Exception {
+        String pitId = client.createPit(CreatePitRequest.of(r -> r
+            .targetIndexes(properties.getDefaultIndexPattern())
+            .keepAlive(Time.of(t -> t.time(properties.getPitKeepAlive())))
+        )).pitId();
 
-            log.info("Service log search completed - Found {} logs", result.logs().size());
-            return result;
+        try {
+            List<LogEntry> logs = new ArrayList<>();
+            long totalCount = 0;
+            int requested = Math.min(pageSize, maxResults);
+            CompletableFuture<SearchResponse<LogDocument>> nextPage = asyncClient.search(
+                pitPageRequest(pitId, query, requested, null), LogDocument.class);
+            int pages = 0;
+
+            while (true) {
+                SearchResponse<LogDocument> page = nextPage.join();
+                List<Hit<LogDocument>> hits = page.hits().hits();
+                if (pages++ == 0 && page.hits().total() != null) {
+                    totalCount = page.hits().total().value();
+                }
+
+                int fetched = logs.size() + hits.size();
+                boolean lastPage = hits.size() < requested || fetched >= maxResults;
+                if (!lastPage) {
+                    List<String> searchAfter = hits.get(hits.size() - 1).sort();
+                    requested = Math.min(pageSize, maxResults - fetched);
+                    nextPage = asyncClient.search(
+                        pitPageRequest(pitId, query, requested, searchAfter), LogDocument.class);
+                }
+
+                hits.stream()
+                    .map(mapper::toLogEntry)
+                    .filter(Objects::nonNull)
+                    .forEach(logs::add);
+
+                if (lastPage) {
+                    break;
+                }
+            }
+
+            log.debug("PIT search completed - {} pages, {} logs", pages, logs.size());
+            return mapper.toLogAnalysisResult(logs, totalCount);
 
+        } finally {
+            deletePit(pitId);
+        }
+    }
+
+    private SearchRequest pitPageRequest(String pitId, Query query, int size, List<String> searchAfter) {
+        return SearchRequest.of(s -> {
+            s.pit(p -> p.id(pitId).keepAlive(properties.getPitKeepAlive()))
+                .query(query)
+                .size(size)
+                .sort(sort -> sort.field(f -> f.field(TIMESTAMP_FIELD).order(SortOrder.Desc)))
+                .sort(sort -> sort.field(f -> f.field(ID_FIELD).order(SortOrder.Asc)));
+            if (searchAfter != null && !searchAfter.isEmpty()) {
+                s.searchAfter(searchAfter);
+            }
+            return s;
+        });
+    }
+
+    private void deletePit(String pitId) {
+        try {
+            client.deletePit(DeletePitRequest.of(r -> r.pitId(List.of(pitId))));
         } catch (Exception e) {
-            log.error("Failed to search service logs", e);
-            throw new OpenSearchException("서비스 로그 검색 실패", e);
+            // keep_alive 만료 시 자동 해제되므로 실패해도 무시
+            log.warn("Failed to delete PIT: {}", e.getMessage());
         }
     }
 
@@ -2,6 +2,7 @@ package com.geonho.vocautobot.adapter.out.search;
 
 import org.apache.hc.client5.http.auth.AuthScope;
 import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
+import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.impl.auth.BasicCredentialsProvider;
 import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
 import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
@@ -9,6 +10,8 @@ import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
 import org.apache.hc.core5.http.HttpHost;
 import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
 import org.apache.hc.core5.ssl.SSLContextBuilder;
+import org.apache.hc.core5.util.Timeout;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.json.jackson.JacksonJsonpMapper;
 import org.opensearch.client.transport.OpenSearchTransport;
@@ -33,6 +36,7 @@ public class OpenSearchConfig {
 
     /**
      * OpenSearch Transport 빈 생성
+     * 풀링 비동기 커넥션 매니저를 사용하여 동기/비동기 클라이언트가 연결을 공유
      */
     @Bean
     public OpenSearchTransport openSearchTransport(OpenSearchProperties properties) {
@@ -45,14 +49,13 @@ public class OpenSearchConfig {
                 properties.getPort()
             );
 
-            ApacheHttpClient5TransportBuilder builder = ApacheHttpClient5TransportBuilder
-                .builder(host)
-                .setMapper(new JacksonJsonpMapper());
+            PoolingAsyncClientConnectionManager connectionManager = createConnectionManager(properties);
 
             // 인증 설정
+            BasicCredentialsProvider credentialsProvider = null;
             if (properties.requiresAuthentication()) {
                 log.info("Configuring authentication for user: {}", properties.getUsername());
-                BasicCredentialsProvider credentialsProvider = new BasicCredentialsProvider();
+                credentialsProvider = new BasicCredentialsProvider();
                 credentialsProvider.setCredentials(
                     new AuthScope(host),
                     new UsernamePasswordCredentials(
@@ -60,18 +63,20 @@ public class OpenSearchConfig {
                         properties.getPassword().toCharArray()
                     )
                 );
-                builder.setHttpClientConfigCallback(httpClientBuilder ->
-                    httpClientBuilder.setDefaultCredentialsProvider(credentialsProvider)
-                );
-            }
-
-            // SSL 설정
-            if (properties.isUseSsl()) {
-                log.info("Configuring SSL for OpenSearch connection");
-                configureSsl(builder, properties);
             }
 
-            return builder.build();
+            BasicCredentialsProvider credentials = credentialsProvider;
+            return ApacheHttpClient5TransportBuilder
+                .builder(host)
+                .setMapper(new JacksonJsonpMapper())
+                .setHttpClientConfigCallback(httpClientBuilder -> {
+                    httpClientBuilder.setConnectionManager(connectionManager);
+                    if (credentials != null) {
+                        httpClientBuilder.setDefaultCredentialsProvider(credentials);
+                    }
+                    return httpClientBuilder;
+                })
+                .build();
 
         } catch (Exception e) {
             log.error("Failed to create OpenSearch transport", e);
@@ -81,49 +86,55 @@ public class OpenSearchConfig {
 
     /**
      * OpenSearchClient 빈 생성
+     * 연결 확인은 OpenSearchAdapter 초기화 시 수행 (연결 실패 시 기동을 막지 않음)
      */
     @Bean
     public OpenSearchClient openSearchClient(OpenSearchTransport transport) {
-        try {
-            OpenSearchClient client = new OpenSearchClient(transport);
-
-            // 연결 테스트
-            boolean pingResult = client.ping().value();
-            if (!pingResult) {
-                throw new IllegalStateException("OpenSearch ping 실패");
-            }
+        return new OpenSearchClient(transport);
+    }
 
-            log.info("OpenSearch client created and connection verified");
-            return client;
+    /**
+     * OpenSearchAsyncClient 빈 생성 (동시 쿼리 및 페이지 선조회용)
+     */
+    @Bean
+    public OpenSearchAsyncClient openSearchAsyncClient(OpenSearchTransport transport) {
+        return new OpenSearchAsyncClient(transport);
+    }
 
-        } catch (Exception e) {
-            log.error("Failed to create OpenSearch client", e);
-            throw new IllegalStateException("OpenSearchClient 생성 실패", e);
+    /**
+     * 풀링 비동기 커넥션 매니저 생성 (타임아웃, 풀 크기, SSL)
+     */
+    private PoolingAsyncClientConnectionManager createConnectionManager(OpenSearchProperties properties) {
+        PoolingAsyncClientConnectionManagerBuilder builder = PoolingAsyncClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(properties.getMaxConnections())
+            .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(properties.getConnectionTimeout()))
+                .setSocketTimeout(Timeout.ofMilliseconds(properties.getSocketTimeout()))
+                .build());
+
+        // SSL 설정
+        if (properties.isUseSsl()) {
+            log.info("Configuring SSL for OpenSearch connection");
+            builder.setTlsStrategy(createTlsStrategy(properties));
         }
+
+        return builder.build();
     }
 
     /**
      * SSL 설정
      */
-    private void configureSsl(ApacheHttpClient5TransportBuilder builder, OpenSearchProperties properties) {
+    private TlsStrategy createTlsStrategy(OpenSearchProperties properties) {
         try {
             SSLContext sslContext = SSLContextBuilder.create()
                 .loadTrustMaterial(null, (chains, authType) -> !properties.isVerifySslCertificate())
                 .build();
 
-            TlsStrategy tlsStrategy = ClientTlsStrategyBuilder.create()
+            return ClientTlsStrategyBuilder.create()
                 .setSslContext(sslContext)
                 .build();
 
-            PoolingAsyncClientConnectionManager connectionManager =
-                PoolingAsyncClientConnectionManagerBuilder.create()
-                    .setTlsStrategy(tlsStrategy)
-                    .build();
-
-            builder.setHttpClientConfigCallback(httpClientBuilder ->
-                httpClientBuilder.setConnectionManager(connectionManager)
-            );
-
         } catch (Exception e) {
             log.error("Failed to configure SSL", e);
             throw new IllegalStateException("SSL 설정 실패", e);
@@ -60,10 +60,35 @@ public class OpenSearchProperties {
     private int maxRetries = 3;
 
     /**
-     * 배치 크기 (벌크 작업용)
+     * 배치 크기 (벌크 작업 및 search_after 페이지 크기)
      */
     private int batchSize = 1000;
 
+    /**
+     * 커넥션 풀 전체 최대 연결 수
+     */
+    private int maxConnections = 20;
+
+    /**
+     * 호스트당 최대 연결 수
+     */
+    private int maxConnectionsPerRoute = 10;
+
+    /**
+     * PIT(Point In Time) 유지 시간 (페이지 조회 간격보다 길어야 함)
+     */
+    private String pitKeepAlive = "1m";
+
+    /**
+     * 로그 다중 검색 결과 캐시 유지 시간 (초, 0이면 캐시 미사용)
+     */
+    private int searchCacheTtlSeconds = 30;
+
+    /**
+     * 로그 다중 검색 결과 캐시 최대 항목 수
+     */
+    private int searchCacheMaxSize = 500;
+
     /**
      * SSL 사용 여부
      */
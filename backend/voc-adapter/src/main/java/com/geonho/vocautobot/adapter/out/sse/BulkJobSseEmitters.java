@@ -0,0 +1,88 @@
+package com.geonho.vocautobot.adapter.out.sse;
+
+import com.geonho.vocautobot.adapter.in.web.voc.dto.BulkJobResponse;
+import com.geonho.vocautobot.application.voc.port.out.BulkJobProgressPort;
+import com.geonho.vocautobot.domain.voc.BulkJob;
+import com.geonho.vocautobot.domain.voc.BulkJobStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 일괄 작업 진행 상황 SSE 구독 관리
+ * 작업별로 여러 구독자를 두고, 묶음이 커밋될 때마다 'progress' 이벤트, 끝나면 'done' 이벤트 후 연결 종료
+ *
+ * 이벤트는 작업을 처리 중인 인스턴스에서만 발생하므로,
+ * 다른 인스턴스에 연결된 구독자는 연결 직후의 현재 상태만 받고 이후는 GET /v1/vocs/batch/jobs/{id} 폴링으로 확인
+ */
+@Slf4j
+@Component
+public class BulkJobSseEmitters implements BulkJobProgressPort {
+
+    private static final long SSE_TIMEOUT = 30 * 60 * 1000L; // 30분
+
+    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    /**
+     * 구독 등록 후 현재 상태를 바로 전송 (이미 끝난 작업이면 'done' 전송 후 종료)
+     */
+    public SseEmitter subscribe(BulkJob current) {
+        Long jobId = current.id();
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT);
+        emitter.onCompletion(() -> remove(jobId, emitter));
+        emitter.onTimeout(() -> remove(jobId, emitter));
+        emitter.onError(e -> remove(jobId, emitter));
+
+        if (!isFinished(current)) {
+            emitters.computeIfAbsent(jobId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+        }
+        send(jobId, emitter, current);
+        return emitter;
+    }
+
+    @Override
+    public void publish(BulkJob job) {
+        List<SseEmitter> subscribers = isFinished(job) ? emitters.remove(job.id()) : emitters.get(job.id());
+        if (subscribers == null) {
+            return;
+        }
+        for (SseEmitter emitter : subscribers) {
+            send(job.id(), emitter, job);
+        }
+    }
+
+    private void send(Long jobId, SseEmitter emitter, BulkJob job) {
+        boolean finished = isFinished(job);
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(finished ? "done" : "progress")
+                    .data(BulkJobResponse.from(job)));
+            if (finished) {
+                emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Failed to send bulk job {} progress: {}", jobId, e.getMessage());
+            remove(jobId, emitter);
+        }
+    }
+
+    private void remove(Long jobId, SseEmitter emitter) {
+        emitters.computeIfPresent(jobId, (id, list) -> {
+            list.remove(emitter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    /**
+     * 완료·취소·실패 (실패는 재개 전까지 더 진행하지 않으므로 스트림을 닫음)
+     */
+    private static boolean isFinished(BulkJob job) {
+        return job.status().isTerminal() || job.status() == BulkJobStatus.FAILED;
+    }
+}
@@ -0,0 +1,188 @@
+package com.geonho.vocautobot.adapter.common.concurrent;
+
+import com.geonho.vocautobot.adapter.common.concurrent.Bulkhead.BulkheadFullException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Bulkhead 테스트")
+class BulkheadTest {
+
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(r -> new Thread(r, "bulkhead-dispatch"));
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("허가 수를 넘는 비동기 호출은 대기열에 두었다가 허가가 반환되면 실행한다")
+    void executeAsync_queuesCallsBeyondPermits() throws Exception {
+        // given
+        Bulkhead bulkhead = Bulkhead.of("test", 2, Duration.ofSeconds(10), 10, dispatcher);
+        List<CompletableFuture<String>> backend = new CopyOnWriteArrayList<>();
+
+        // when
+        List<CompletableFuture<String>> results = List.of(
+                bulkhead.executeAsync(() -> pending(backend)),
+                bulkhead.executeAsync(() -> pending(backend)),
+                bulkhead.executeAsync(() -> pending(backend)));
+
+        // then
+        assertThat(backend).hasSize(2);
+        assertThat(bulkhead.waitingCalls()).isEqualTo(1);
+
+        backend.get(0).complete("first");
+        awaitSize(backend, 3);
+
+        assertThat(results.get(0).get(1, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(bulkhead.waitingCalls()).isZero();
+        assertThat(bulkhead.availablePermits()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기열에서 꺼낸 호출은 허가를 반환한 스레드가 아닌 dispatcher에서 실행한다")
+    void executeAsync_dispatchesQueuedCallsToExecutor() throws Exception {
+        // given
+        Bulkhead bulkhead = Bulkhead.of("test", 1, Duration.ofSeconds(10), 10, dispatcher);
+        CompletableFuture<String> first = new CompletableFuture<>();
+        AtomicReference<String> queuedCallThread = new AtomicReference<>();
+        bulkhead.executeAsync(() -> first);
+        CompletableFuture<String> second = bulkhead.executeAsync(() -> {
+            queuedCallThread.set(Thread.currentThread().getName());
+            return CompletableFuture.completedFuture("second");
+        });
+
+        // when - 테스트 스레드에서 허가 반환
+        first.complete("first");
+
+        // then
+        assertThat(second.get(1, TimeUnit.SECONDS)).isEqualTo("second");
+        assertThat(queuedCallThread.get()).isEqualTo("bulkhead-dispatch");
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 즉시 BulkheadFullException으로 실패한다")
+    void executeAsync_rejectsWhenQueueIsFull() {
+        // given
+        Bulkhead bulkhead = Bulkhead.of("test", 1, Duration.ofSeconds(10), 1, dispatcher);
+        AtomicInteger invoked = new AtomicInteger();
+        bulkhead.executeAsync(() -> pending(invoked));
+        bulkhead.executeAsync(() -> pending(invoked));
+
+        // when
+        CompletableFuture<String> rejected = bulkhead.executeAsync(() -> pending(invoked));
+
+        // then
+        assertThat(rejected).isCompletedExceptionally();
+        assertThat(rejected.handle((value, error) -> error).join()).isInstanceOf(BulkheadFullException.class);
+        assertThat(invoked).hasValue(1);
+        assertThat(bulkhead.waitingCalls()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("maxWait 안에 허가를 얻지 못한 호출은 실행하지 않고 실패 처리한다")
+    void executeAsync_failsAfterMaxWait() throws Exception {
+        // given
+        Bulkhead bulkhead = Bulkhead.of("test", 1, Duration.ofMillis(50), 10, dispatcher);
+        CompletableFuture<String> first = new CompletableFuture<>();
+        AtomicInteger invoked = new AtomicInteger();
+        bulkhead.executeAsync(() -> first);
+
+        // when
+        CompletableFuture<String> queued = bulkhead.executeAsync(() -> pending(invoked));
+
+        // then
+        Throwable error = queued.handle((value, e) -> e).get(5, TimeUnit.SECONDS);
+        assertThat(error).isInstanceOf(BulkheadFullException.class);
+        assertThat(bulkhead.waitingCalls()).isZero();
+
+        first.complete("first");
+        assertThat(bulkhead.availablePermits()).isEqualTo(1);
+        assertThat(invoked).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("허가가 반환되면 먼저 기다리던 블로킹 호출이 대기열의 비동기 호출보다 먼저 얻는다")
+    void executeAsync_doesNotBargePastBlockedCallers() throws Exception {
+        // given
+        Bulkhead bulkhead = Bulkhead.of("test", 1, Duration.ofSeconds(10), 10, dispatcher);
+        CompletableFuture<String> holder = new CompletableFuture<>();
+        List<String> order = new CopyOnWriteArrayList<>();
+        CountDownLatch blockingDone = new CountDownLatch(1);
+        bulkhead.executeAsync(() -> holder);
+
+        Thread blockingCaller = new Thread(() -> {
+            bulkhead.execute(() -> order.add("blocking"));
+            blockingDone.countDown();
+        });
+        blockingCaller.start();
+        awaitWaiting(blockingCaller);
+
+        CompletableFuture<Boolean> async = bulkhead.executeAsync(
+                () -> CompletableFuture.completedFuture(order.add("async")));
+
+        // when
+        holder.complete("done");
+
+        // then
+        assertThat(blockingDone.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(async.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(order).containsExactly("blocking", "async");
+    }
+
+    @Test
+    @DisplayName("제한 없는 Bulkhead는 호출을 그대로 실행한다")
+    void unbounded_passesThrough() {
+        // given
+        Bulkhead bulkhead = Bulkhead.unbounded("test");
+
+        // when
+        CompletableFuture<String> result = bulkhead.executeAsync(() -> CompletableFuture.completedFuture("ok"));
+
+        // then
+        assertThat(result).isCompletedWithValue("ok");
+        assertThat(bulkhead.isBounded()).isFalse();
+        assertThat(bulkhead.waitingCalls()).isZero();
+    }
+
+    private static CompletableFuture<String> pending(List<CompletableFuture<String>> backend) {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        backend.add(future);
+        return future;
+    }
+
+    private static CompletableFuture<String> pending(AtomicInteger invoked) {
+        invoked.incrementAndGet();
+        return new CompletableFuture<>();
+    }
+
+    private static void awaitSize(List<?> list, int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (list.size() < size && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(list).hasSize(size);
+    }
+
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.TIMED_WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(thread.getState()).isEqualTo(Thread.State.TIMED_WAITING);
+    }
+}
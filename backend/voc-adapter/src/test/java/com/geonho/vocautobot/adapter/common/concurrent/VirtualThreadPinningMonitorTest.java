@@ -0,0 +1,135 @@
+package com.geonho.vocautobot.adapter.common.concurrent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * VirtualThreadPinningMonitor 단위 테스트
+ * JFR 스트림 없이 jdk.VirtualThreadPinned 이벤트를 직접 전달하여 집계 규칙을 검증
+ */
+@DisplayName("VirtualThreadPinningMonitor 테스트")
+class VirtualThreadPinningMonitorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new VirtualThreadPinningMonitor(meterRegistry, 20);
+    }
+
+    @Test
+    @DisplayName("JDK 프레임 아래의 가장 가까운 애플리케이션 프레임 기준으로 monitor 사유를 집계한다")
+    void onPinned_countsNearestApplicationFrame() {
+        // given - synchronized 안에서 대기 중인 스택
+        RecordedEvent event = pinnedEvent(
+                frame("java.lang.Object", "wait0", 0),
+                frame("com.geonho.vocautobot.adapter.out.ai.OllamaAdapter", "sendPrompt", Modifier.PUBLIC),
+                frame("com.geonho.vocautobot.adapter.in.web.VocController", "create", Modifier.PUBLIC));
+
+        // when
+        monitor.onPinned(event);
+        monitor.onPinned(event);
+
+        // then
+        assertThat(monitor.getPinnedFrames()).containsExactly(Map.entry("OllamaAdapter.sendPrompt", 2L));
+        assertThat(meterRegistry.get("voc.virtual_threads.pinned")
+                .tag("frame", "OllamaAdapter.sendPrompt")
+                .tag("reason", "monitor")
+                .counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("네이티브 프레임이 있으면 native 사유로, 애플리케이션 프레임이 없으면 최상단 프레임으로 집계한다")
+    void onPinned_fallsBackToTopFrameAndDetectsNative() {
+        // given
+        RecordedEvent event = pinnedEvent(
+                frame("sun.nio.ch.Net", "poll", Modifier.STATIC | Modifier.NATIVE),
+                frame("java.net.Socket", "connect", Modifier.PUBLIC));
+
+        // when
+        monitor.onPinned(event);
+
+        // then
+        assertThat(monitor.getPinnedFrames()).containsOnlyKeys("Net.poll");
+        assertThat(meterRegistry.get("voc.virtual_threads.pinned")
+                .tag("frame", "Net.poll")
+                .tag("reason", "native")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("스택 트레이스가 없는 이벤트는 unknown 위치로 집계한다")
+    void onPinned_withoutStackTraceCountsUnknown() {
+        // given
+        RecordedEvent event = mock(RecordedEvent.class);
+        when(event.getDuration()).thenReturn(Duration.ofMillis(30));
+
+        // when
+        monitor.onPinned(event);
+
+        // then
+        assertThat(monitor.getPinnedFrames()).containsEntry("unknown", 1L);
+        assertThat(meterRegistry.get("voc.virtual_threads.pinned")
+                .tag("frame", "unknown")
+                .tag("reason", "monitor")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Pinning 위치는 발생 횟수가 많은 순으로 조회된다")
+    void getPinnedFrames_sortedByCountDescending() {
+        // given
+        RecordedEvent rare = pinnedEvent(frame("com.geonho.vocautobot.adapter.out.mail.EmailAdapter", "send", 0));
+        RecordedEvent frequent = pinnedEvent(frame("com.geonho.vocautobot.adapter.out.search.LogSearchCache", "get", 0));
+
+        // when
+        monitor.onPinned(rare);
+        monitor.onPinned(frequent);
+        monitor.onPinned(frequent);
+        monitor.onPinned(frequent);
+
+        // then
+        assertThat(monitor.getPinnedFrames().keySet())
+                .containsExactly("LogSearchCache.get", "EmailAdapter.send");
+        assertThat(monitor.getPinnedFrames()).containsEntry("LogSearchCache.get", 3L);
+    }
+
+    private RecordedEvent pinnedEvent(RecordedFrame... frames) {
+        RecordedStackTrace stackTrace = mock(RecordedStackTrace.class);
+        when(stackTrace.getFrames()).thenReturn(List.of(frames));
+        RecordedEvent event = mock(RecordedEvent.class);
+        when(event.getStackTrace()).thenReturn(stackTrace);
+        when(event.getDuration()).thenReturn(Duration.ofMillis(50));
+        return event;
+    }
+
+    private RecordedFrame frame(String typeName, String methodName, int modifiers) {
+        RecordedClass type = mock(RecordedClass.class);
+        when(type.getName()).thenReturn(typeName);
+        RecordedMethod method = mock(RecordedMethod.class);
+        when(method.getType()).thenReturn(type);
+        when(method.getName()).thenReturn(methodName);
+        when(method.getModifiers()).thenReturn(modifiers);
+        RecordedFrame frame = mock(RecordedFrame.class);
+        when(frame.getMethod()).thenReturn(method);
+        return frame;
+    }
+}
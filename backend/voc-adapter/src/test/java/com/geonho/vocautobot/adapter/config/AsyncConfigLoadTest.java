@@ -0,0 +1,163 @@
+package com.geonho.vocautobot.adapter.config;
+
+import com.geonho.vocautobot.adapter.common.concurrent.Bulkhead;
+import com.geonho.vocautobot.adapter.config.AsyncProperties.ExecutionMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AsyncConfig 부하 테스트
+ * 분석 작업이 Ollama/Python 응답을 기다리며 블로킹되는 상황을 래치로 재현하고,
+ * 실행 모드별로 같은 힙에서 동시에 진행 중인 분석 수를 비교한다.
+ */
+@DisplayName("AsyncConfig 실행 모드 부하 테스트")
+class AsyncConfigLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncConfigLoadTest.class);
+    private static final int SUBMITTED_ANALYSES = 5_000;
+
+    @Test
+    @DisplayName("PLATFORM 모드는 최대 풀 크기만큼만 동시에 분석하고 큐 초과분은 거부한다")
+    void platformMode_isLimitedByPoolSize() throws Exception {
+        LoadResult result = runLoad(ExecutionMode.PLATFORM, 5);
+
+        assertThat(result.peakInFlight()).isEqualTo(5);
+        assertThat(result.rejected()).isEqualTo(SUBMITTED_ANALYSES - 5 - 100);
+    }
+
+    @Test
+    @DisplayName("VIRTUAL 모드는 제출된 분석을 모두 동시에 대기 상태로 유지한다")
+    void virtualMode_keepsAllAnalysesInFlight() throws Exception {
+        LoadResult result = runLoad(ExecutionMode.VIRTUAL, SUBMITTED_ANALYSES);
+
+        assertThat(result.peakInFlight()).isEqualTo(SUBMITTED_ANALYSES);
+        assertThat(result.rejected()).isZero();
+    }
+
+    @Test
+    @DisplayName("VIRTUAL 모드의 Bulkhead는 백엔드 동시 호출 수를 설정값으로 제한한다")
+    void virtualMode_bulkheadLimitsBackendConcurrency() throws Exception {
+        AsyncProperties properties = new AsyncProperties();
+        properties.setMode(ExecutionMode.VIRTUAL);
+        properties.getBulkhead().setOllama(3);
+
+        AsyncConfig asyncConfig = new AsyncConfig(properties);
+        Executor executor = asyncConfig.analysisExecutor();
+        Bulkhead bulkhead = asyncConfig.ollamaBulkhead();
+
+        AtomicInteger inBackend = new AtomicInteger();
+        AtomicInteger peakInBackend = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(200);
+
+        for (int i = 0; i < 200; i++) {
+            executor.execute(() -> {
+                bulkhead.execute(() -> {
+                    peakInBackend.accumulateAndGet(inBackend.incrementAndGet(), Math::max);
+                    sleep(Duration.ofMillis(5));
+                    return inBackend.decrementAndGet();
+                });
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(peakInBackend.get()).isEqualTo(3);
+        shutdown(executor);
+    }
+
+    @Test
+    @DisplayName("PLATFORM 모드의 Bulkhead는 제한을 두지 않는다")
+    void platformMode_bulkheadIsUnbounded() {
+        AsyncConfig asyncConfig = new AsyncConfig(new AsyncProperties());
+
+        assertThat(asyncConfig.ollamaBulkhead().isBounded()).isFalse();
+        assertThat(asyncConfig.aiServiceBulkhead().isBounded()).isFalse();
+    }
+
+    /**
+     * 분석 작업을 제출하고 expectedInFlight 개가 동시에 블로킹될 때까지 기다린 후 측정
+     */
+    private LoadResult runLoad(ExecutionMode mode, int expectedInFlight) throws Exception {
+        AsyncProperties properties = new AsyncProperties();
+        properties.setMode(mode);
+        Executor executor = new AsyncConfig(properties).analysisExecutor();
+
+        CountDownLatch backendResponse = new CountDownLatch(1);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peakInFlight = new AtomicInteger();
+        int rejected = 0;
+
+        System.gc();
+        long heapBefore = usedHeap();
+
+        for (int i = 0; i < SUBMITTED_ANALYSES; i++) {
+            try {
+                executor.execute(() -> {
+                    peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    try {
+                        backendResponse.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+            } catch (TaskRejectedException e) {
+                rejected++;
+            }
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (inFlight.get() < expectedInFlight && System.nanoTime() < deadline) {
+            sleep(Duration.ofMillis(10));
+        }
+
+        long heapDelta = Math.max(0, usedHeap() - heapBefore);
+        int peak = peakInFlight.get();
+        log.info("[{}] concurrent analyses: {}, rejected: {}, heap delta: {} KB ({} bytes/analysis)",
+                mode, peak, rejected, heapDelta / 1024, peak > 0 ? heapDelta / peak : 0);
+
+        backendResponse.countDown();
+        shutdown(executor);
+
+        return new LoadResult(peak, rejected);
+    }
+
+    private void shutdown(Executor executor) {
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            pool.setWaitForTasksToCompleteOnShutdown(true);
+            pool.setAwaitTerminationSeconds(30);
+            pool.shutdown();
+        } else if (executor instanceof SimpleAsyncTaskExecutor simple) {
+            simple.close();
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record LoadResult(int peakInFlight, int rejected) {}
+}
@@ -0,0 +1,141 @@
+package com.geonho.vocautobot.adapter.config;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.coyote.AbstractProtocol;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서블릿 요청 처리 스레드 모델 벤치마크
+ * /v1/vocs 요청이 JDBC·Redis 응답을 기다리는 상황을 sleep으로 재현하고,
+ * 기본 Tomcat 스레드 풀과 가상 스레드 디스패치(spring.threads.virtual.enabled)의
+ * p99 지연 시간과 최대 동시 처리 수를 비교한다.
+ * 최대 동시 처리 수는 스레드 수로 결정되어 일반 test에서 검증하고, p99 비교는 benchmark 태그로 분리한다.
+ */
+@DisplayName("서블릿 스레드 모델 벤치마크")
+class ServletThreadingBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ServletThreadingBenchmarkTest.class);
+    private static final int MAX_THREADS = 20;
+    private static final int CONCURRENT_REQUESTS = 400;
+    private static final Duration BLOCKING_IO = Duration.ofMillis(50);
+
+    @Test
+    @DisplayName("가상 스레드 모드는 스레드 풀 크기를 넘어 동시에 처리한다")
+    void virtualThreads_exceedPlatformPoolConcurrency() throws Exception {
+        BenchmarkResult platform = run(false);
+        BenchmarkResult virtual = run(true);
+
+        assertThat(platform.peakConcurrency()).isLessThanOrEqualTo(MAX_THREADS);
+        assertThat(virtual.peakConcurrency()).isGreaterThan(MAX_THREADS);
+    }
+
+    /**
+     * 실행 시간 비교는 공유 CI 환경에서 흔들리므로 일반 test에서 제외 (./gradlew :voc-adapter:benchmarkTest)
+     */
+    @Test
+    @Tag("benchmark")
+    @DisplayName("가상 스레드 모드는 블로킹 부하에서 p99 지연이 더 낮다")
+    void virtualThreads_lowerP99UnderBlockingLoad() throws Exception {
+        BenchmarkResult platform = run(false);
+        BenchmarkResult virtual = run(true);
+
+        log.info("[PLATFORM] max concurrency: {}, p99: {}ms", platform.peakConcurrency(), platform.p99Millis());
+        log.info("[VIRTUAL] max concurrency: {}, p99: {}ms", virtual.peakConcurrency(), virtual.p99Millis());
+
+        assertThat(virtual.p99Millis()).isLessThan(platform.p99Millis());
+    }
+
+    private BenchmarkResult run(boolean virtualThreads) throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory(0);
+        factory.addConnectorCustomizers(connector ->
+                ((AbstractProtocol<?>) connector.getProtocolHandler()).setMaxThreads(MAX_THREADS));
+        if (virtualThreads) {
+            // TomcatVirtualThreadsWebServerFactoryCustomizer와 동일한 설정
+            factory.addProtocolHandlerCustomizers(protocolHandler ->
+                    protocolHandler.setExecutor(new VirtualThreadExecutor("tomcat-handler-")));
+        }
+
+        WebServer server = factory.getWebServer(servletContext ->
+                servletContext.addServlet("vocs", new BlockingServlet(inFlight, peak)).addMapping("/v1/vocs"));
+        server.start();
+
+        try (HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build()) {
+            URI uri = URI.create("http://localhost:" + server.getPort() + "/v1/vocs");
+
+            List<CompletableFuture<Long>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                long start = System.nanoTime();
+                futures.add(client.sendAsync(HttpRequest.newBuilder(uri).GET().build(),
+                                HttpResponse.BodyHandlers.discarding())
+                        .thenApply(response -> Duration.ofNanos(System.nanoTime() - start).toMillis()));
+            }
+
+            List<Long> latencies = new ArrayList<>();
+            for (CompletableFuture<Long> future : futures) {
+                latencies.add(future.join());
+            }
+            Collections.sort(latencies);
+            long p99 = latencies.get((int) Math.ceil(latencies.size() * 0.99) - 1);
+
+            return new BenchmarkResult(peak.get(), p99);
+        } finally {
+            server.stop();
+        }
+    }
+
+    private static class BlockingServlet extends HttpServlet {
+
+        private final AtomicInteger inFlight;
+        private final AtomicInteger peak;
+
+        BlockingServlet(AtomicInteger inFlight, AtomicInteger peak) {
+            this.inFlight = inFlight;
+            this.peak = peak;
+        }
+
+        @Override
+        protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(BLOCKING_IO.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            response.getWriter().write("ok");
+        }
+    }
+
+    private record BenchmarkResult(int peakConcurrency, long p99Millis) {}
+}
@@ -6,15 +6,22 @@ import com.geonho.vocautobot.adapter.in.security.JwtAuthenticationFilter;
 import com.geonho.vocautobot.application.analysis.dto.VocAnalysisDto;
 import com.geonho.vocautobot.application.analysis.port.out.SentimentAnalysisPort;
 import com.geonho.vocautobot.application.analysis.port.out.VectorSearchPort;
+import com.geonho.vocautobot.application.analysis.routing.AnalysisPlan;
+import com.geonho.vocautobot.application.analysis.routing.AnalysisRouter;
+import com.geonho.vocautobot.application.analysis.routing.EnrichmentStage;
 import com.geonho.vocautobot.application.analysis.service.AsyncVocAnalysisService;
 import com.geonho.vocautobot.application.category.port.in.SuggestCategoryUseCase;
 import com.geonho.vocautobot.application.notification.usecase.NotificationService;
 import com.geonho.vocautobot.application.voc.port.in.*;
 import com.geonho.vocautobot.application.voc.port.in.dto.SimilarVocResult;
+import com.geonho.vocautobot.application.voc.port.in.dto.VocDetailView;
+import com.geonho.vocautobot.application.voc.port.in.dto.VocSummary;
+import com.geonho.vocautobot.application.voc.port.in.dto.VocTitle;
 import com.geonho.vocautobot.application.voc.port.out.UpdateVocSentimentPort;
 import com.geonho.vocautobot.domain.voc.VocDomain;
 import com.geonho.vocautobot.domain.voc.VocPriority;
 import com.geonho.vocautobot.domain.voc.VocStatus;
+import com.geonho.vocautobot.domain.voc.VocStatusHistory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -33,12 +40,16 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -76,12 +87,21 @@ class VocControllerTest {
     @MockBean
     private AsyncVocAnalysisService asyncVocAnalysisService;
 
+    @MockBean
+    private AnalysisRouter analysisRouter;
+
     @MockBean
     private GetSimilarVocsUseCase getSimilarVocsUseCase;
 
     @MockBean
     private SuggestCategoryUseCase suggestCategoryUseCase;
 
+    @MockBean
+    private GetVocStatusHistoryUseCase getVocStatusHistoryUseCase;
+
+    @MockBean
+    private AutocompleteVocUseCase autocompleteVocUseCase;
+
     @MockBean
     private VectorSearchPort vectorSearchPort;
 
@@ -97,6 +117,9 @@ class VocControllerTest {
     @MockBean(name = "vocIndexingExecutor")
     private Executor vocIndexingExecutor;
 
+    @MockBean(name = "vocDetailExecutor")
+    private Executor vocDetailExecutor;
+
     @MockBean
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
@@ -132,6 +155,8 @@ class VocControllerTest {
         void shouldCreateVocWithValidRequest() throws Exception {
             VocDomain voc = createSampleVoc();
             given(createVocUseCase.createVoc(any())).willReturn(voc);
+            given(analysisRouter.route(any())).willReturn(AnalysisPlan.full());
+            given(vectorSearchPort.saveEmbeddingAsync(any(), any())).willReturn(CompletableFuture.completedFuture(1L));
 
             String requestBody = """
                     {
@@ -155,6 +180,36 @@ class VocControllerTest {
                     .andExpect(jsonPath("$.data.status").value("NEW"));
         }
 
+        @Test
+        @DisplayName("라우팅 규칙이 로그 분석을 제외하면 분석 대신 생략 처리를 비동기로 요청")
+        void shouldSkipLogAnalysisWhenRoutedOut() throws Exception {
+            VocDomain voc = createSampleVoc();
+            AnalysisPlan plan = new AnalysisPlan(Set.of(EnrichmentStage.EMBEDDING), null, "low-priority");
+            given(createVocUseCase.createVoc(any())).willReturn(voc);
+            given(analysisRouter.route(any())).willReturn(plan);
+            given(vectorSearchPort.saveEmbeddingAsync(any(), any())).willReturn(CompletableFuture.completedFuture(1L));
+
+            String requestBody = """
+                    {
+                        "title": "배송 지연 문의",
+                        "content": "주문한 상품이 3일째 배송되지 않습니다.",
+                        "categoryId": 1,
+                        "customerEmail": "customer@example.com",
+                        "priority": "LOW"
+                    }
+                    """;
+
+            mockMvc.perform(post("/v1/vocs")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(requestBody))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.data.ticketId").value("VOC-20260210-0001"));
+
+            verify(asyncVocAnalysisService).skipAnalysis(voc, plan);
+            verify(asyncVocAnalysisService, never()).analyzeVocAsync(any(), any());
+            verify(vectorSearchPort).saveEmbeddingAsync(voc.getId(), voc.getEmbeddingSourceText());
+        }
+
         @Test
         @DisplayName("제목 누락 시 400 에러")
         void shouldReturn400WhenTitleMissing() throws Exception {
@@ -218,9 +273,8 @@ class VocControllerTest {
         @Test
         @DisplayName("페이징된 VOC 목록 조회 성공")
         void shouldReturnPagedVocList() throws Exception {
-            VocDomain voc = createSampleVoc();
-            Page<VocDomain> page = new PageImpl<>(List.of(voc), PageRequest.of(0, 20), 1);
-            given(getVocListUseCase.getVocList(any())).willReturn(page);
+            Page<VocSummary> page = new PageImpl<>(List.of(createSampleSummary(null)), PageRequest.of(0, 20), 1);
+            given(getVocListUseCase.getVocSummaries(any(), eq(false))).willReturn(page);
 
             mockMvc.perform(get("/v1/vocs")
                             .param("page", "0")
@@ -229,14 +283,28 @@ class VocControllerTest {
                     .andExpect(jsonPath("$.success").value(true))
                     .andExpect(jsonPath("$.data.content").isArray())
                     .andExpect(jsonPath("$.data.content[0].ticketId").value("VOC-20260210-0001"))
+                    .andExpect(jsonPath("$.data.content[0].content").isEmpty())
+                    .andExpect(jsonPath("$.data.content[0].customerName").isEmpty())
                     .andExpect(jsonPath("$.meta.totalElements").value(1));
         }
 
+        @Test
+        @DisplayName("includePii=true면 고객 정보를 포함해 조회")
+        void shouldIncludePiiWhenRequested() throws Exception {
+            Page<VocSummary> page = new PageImpl<>(List.of(createSampleSummary("홍길동")), PageRequest.of(0, 20), 1);
+            given(getVocListUseCase.getVocSummaries(any(), eq(true))).willReturn(page);
+
+            mockMvc.perform(get("/v1/vocs")
+                            .param("includePii", "true"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content[0].customerName").value("홍길동"));
+        }
+
         @Test
         @DisplayName("상태 필터링된 VOC 목록 조회")
         void shouldReturnFilteredVocList() throws Exception {
-            Page<VocDomain> emptyPage = new PageImpl<>(List.of(), PageRequest.of(0, 20), 0);
-            given(getVocListUseCase.getVocList(any())).willReturn(emptyPage);
+            Page<VocSummary> emptyPage = new PageImpl<>(List.of(), PageRequest.of(0, 20), 0);
+            given(getVocListUseCase.getVocSummaries(any(), anyBoolean())).willReturn(emptyPage);
 
             mockMvc.perform(get("/v1/vocs")
                             .param("status", "NEW")
@@ -245,6 +313,12 @@ class VocControllerTest {
                     .andExpect(jsonPath("$.success").value(true))
                     .andExpect(jsonPath("$.data.content").isArray());
         }
+
+        private VocSummary createSampleSummary(String customerName) {
+            return new VocSummary(1L, "VOC-20260210-0001", "테스트 VOC 제목", VocStatus.NEW, VocPriority.NORMAL,
+                    1L, null, customerName, null, null, null, null,
+                    LocalDateTime.now(), LocalDateTime.now(), null, null);
+        }
     }
 
     @Nested
@@ -255,14 +329,15 @@ class VocControllerTest {
         @DisplayName("VOC 상세 조회 성공")
         void shouldReturnVocDetail() throws Exception {
             VocDomain voc = createSampleVoc();
-            given(getVocDetailUseCase.getVocById(1L)).willReturn(voc);
-            given(asyncVocAnalysisService.getAnalysis(1L)).willReturn(Optional.empty());
+            given(getVocDetailUseCase.getVocDetail(1L)).willReturn(new VocDetailView(voc, null));
 
             mockMvc.perform(get("/v1/vocs/1"))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.success").value(true))
                     .andExpect(jsonPath("$.data.id").value(1))
-                    .andExpect(jsonPath("$.data.ticketId").value("VOC-20260210-0001"));
+                    .andExpect(jsonPath("$.data.ticketId").value("VOC-20260210-0001"))
+                    .andExpect(jsonPath("$.data.statusHistory").doesNotExist())
+                    .andExpect(jsonPath("$.data.similarVocs").doesNotExist());
         }
 
         @Test
@@ -275,8 +350,7 @@ class VocControllerTest {
                     List.of(), "고객 연락 후 재배송 안내", null,
                     LocalDateTime.now(), LocalDateTime.now()
             );
-            given(getVocDetailUseCase.getVocById(1L)).willReturn(voc);
-            given(asyncVocAnalysisService.getAnalysis(1L)).willReturn(Optional.of(analysis));
+            given(getVocDetailUseCase.getVocDetail(1L)).willReturn(new VocDetailView(voc, analysis));
 
             mockMvc.perform(get("/v1/vocs/1"))
                     .andExpect(status().isOk())
@@ -284,6 +358,26 @@ class VocControllerTest {
                     .andExpect(jsonPath("$.data.aiAnalysis.status").value("COMPLETED"))
                     .andExpect(jsonPath("$.data.aiAnalysis.summary").value("배송 지연 이슈"));
         }
+
+        @Test
+        @DisplayName("include=history,similar면 이력과 유사 VOC를 함께 조회")
+        void shouldIncludeHistoryAndSimilarVocs() throws Exception {
+            doAnswer(invocation -> {
+                invocation.<Runnable>getArgument(0).run();
+                return null;
+            }).when(vocDetailExecutor).execute(any(Runnable.class));
+            given(getVocDetailUseCase.getVocDetail(1L)).willReturn(new VocDetailView(createSampleVoc(), null));
+            given(getVocStatusHistoryUseCase.getStatusHistory(1L)).willReturn(List.of(
+                    VocStatusHistory.create(1L, VocStatus.NEW, VocStatus.IN_PROGRESS, 3L, "담당자 배정")));
+            given(getSimilarVocsUseCase.getSimilarVocs(1L, 5)).willReturn(List.of(new SimilarVocResult(
+                    2L, "VOC-20260210-0002", "유사 배송 문의", VocStatus.RESOLVED, 0.85, LocalDateTime.now(), List.of())));
+
+            mockMvc.perform(get("/v1/vocs/1").param("include", "history,similar"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.ticketId").value("VOC-20260210-0001"))
+                    .andExpect(jsonPath("$.data.statusHistory[0].newStatus").value("IN_PROGRESS"))
+                    .andExpect(jsonPath("$.data.similarVocs[0].ticketId").value("VOC-20260210-0002"));
+        }
     }
 
     @Nested
@@ -428,7 +522,7 @@ class VocControllerTest {
         void shouldReturnSimilarVocs() throws Exception {
             SimilarVocResult result = new SimilarVocResult(
                     2L, "VOC-20260210-0002", "유사 배송 문의",
-                    VocStatus.RESOLVED, 0.85, LocalDateTime.now()
+                    VocStatus.RESOLVED, 0.85, LocalDateTime.now(), List.of("timeout")
             );
             given(getSimilarVocsUseCase.getSimilarVocs(1L, 5)).willReturn(List.of(result));
 
@@ -437,7 +531,44 @@ class VocControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.success").value(true))
                     .andExpect(jsonPath("$.data").isArray())
-                    .andExpect(jsonPath("$.data[0].ticketId").value("VOC-20260210-0002"));
+                    .andExpect(jsonPath("$.data[0].ticketId").value("VOC-20260210-0002"))
+                    .andExpect(jsonPath("$.data[0].sharedKeywords[0]").value("timeout"));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /v1/vocs/autocomplete - 제목 자동완성")
+    class Autocomplete {
+
+        @Test
+        @DisplayName("조합 중인 글자로 자동완성 후보 조회")
+        void shouldReturnAutocompleteCandidates() throws Exception {
+            given(autocompleteVocUseCase.autocomplete("뱃", 10)).willReturn(List.of(
+                    new VocTitle(1L, "VOC-20260210-0001", "배송 지연 문의")));
+
+            mockMvc.perform(get("/v1/vocs/autocomplete")
+                            .param("q", "뱃"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.data[0].id").value(1))
+                    .andExpect(jsonPath("$.data[0].title").value("배송 지연 문의"));
+        }
+
+        @Test
+        @DisplayName("limit이 1~20 범위를 벗어나면 400을 반환하고 조회하지 않는다")
+        void shouldRejectOutOfRangeLimit() throws Exception {
+            mockMvc.perform(get("/v1/vocs/autocomplete")
+                            .param("q", "뱃")
+                            .param("limit", "21"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.success").value(false));
+
+            mockMvc.perform(get("/v1/vocs/autocomplete")
+                            .param("q", "뱃")
+                            .param("limit", "0"))
+                    .andExpect(status().isBadRequest());
+
+            verify(autocompleteVocUseCase, never()).autocomplete(anyString(), anyInt());
         }
     }
 }
@@ -0,0 +1,63 @@
+package com.geonho.vocautobot.adapter.out.ai;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("임베딩 텍스트 청크 분할 테스트")
+class EmbeddingTextChunkerTest {
+
+    private final EmbeddingTextChunker chunker = new EmbeddingTextChunker(50, 15);
+
+    @Test
+    @DisplayName("최대 길이 이하 텍스트는 원문 그대로 한 청크로 반환한다")
+    void chunk_keepsShortTextAsIs() {
+        // given
+        String text = "배송 지연 문의\n주문한 상품이 3일째 배송되지 않습니다.";
+
+        // when
+        List<String> chunks = chunker.chunk(text);
+
+        // then
+        assertThat(chunks).containsExactly(text);
+        assertThat(chunker.chunk("  ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("문장 경계에서 최대 길이까지 이어 붙여 나눈다")
+    void chunk_packsSentencesUpToBudget() {
+        // given - 문장당 17~19자
+        String text = "결제 화면에서 계속 오류가 납니다. 카드 승인이 몇 번이나 거절됩니다. "
+            + "다른 카드로 해도 마찬가지입니다. 환불도 아직 처리되지 않았어요!";
+
+        // when
+        List<String> chunks = chunker.chunk(text);
+
+        // then
+        assertThat(chunks).containsExactly(
+            "결제 화면에서 계속 오류가 납니다. 카드 승인이 몇 번이나 거절됩니다.",
+            "다른 카드로 해도 마찬가지입니다. 환불도 아직 처리되지 않았어요!");
+        assertThat(chunks).allSatisfy(chunk -> assertThat(chunk.length()).isLessThanOrEqualTo(50));
+    }
+
+    @Test
+    @DisplayName("최대 길이보다 긴 문장은 공백에서 자르고 짧은 마지막 청크는 앞 청크에 합친다")
+    void chunk_splitsLongSentenceAndMergesShortTail() {
+        // given - 줄바꿈 없는 로그 한 줄 + 짧은 인사말
+        String log = "ERROR 2026-01-15 10:00:00 PaymentGateway timeout after 30000ms requestId=abc123 retry=3 upstream=pg.example.com";
+        String text = log + "\n감사합니다.";
+
+        // when
+        List<String> chunks = chunker.chunk(text);
+
+        // then
+        assertThat(chunks).hasSizeGreaterThan(1);
+        assertThat(String.join(" ", chunks)).isEqualTo(log + " 감사합니다.");
+        assertThat(chunks.get(chunks.size() - 1)).endsWith("감사합니다.").hasSizeGreaterThanOrEqualTo(15);
+        assertThat(chunks.subList(0, chunks.size() - 1))
+            .allSatisfy(chunk -> assertThat(chunk.length()).isLessThanOrEqualTo(50));
+    }
+}
@@ -1,7 +1,12 @@
 package com.geonho.vocautobot.adapter.out.ai;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.geonho.vocautobot.adapter.common.concurrent.Bulkhead;
+import com.geonho.vocautobot.adapter.out.ai.exception.LlmIntegrationException;
+import com.geonho.vocautobot.adapter.out.ai.exception.LlmIntegrationException.ErrorType;
 import com.geonho.vocautobot.application.analysis.port.in.dto.VocAnalysisResult;
+import com.geonho.vocautobot.application.analysis.port.out.LlmTask;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -12,6 +17,10 @@ import org.junit.jupiter.api.Test;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -24,6 +33,8 @@ class OllamaAdapterTest {
     private OllamaConfig config;
     private PromptTemplate promptTemplate;
     private ObjectMapper objectMapper;
+    private SimpleMeterRegistry meterRegistry;
+    private OllamaTelemetry telemetry;
 
     @BeforeEach
     void setUp() throws IOException {
@@ -41,8 +52,13 @@ class OllamaAdapterTest {
 
         promptTemplate = new PromptTemplate();
         objectMapper = new ObjectMapper();
+        meterRegistry = new SimpleMeterRegistry();
+        telemetry = new OllamaTelemetry(meterRegistry);
 
-        ollamaAdapter = new OllamaAdapter(webClient, config, promptTemplate, objectMapper);
+        ollamaAdapter = new OllamaAdapter(webClient, config, promptTemplate, objectMapper,
+                Bulkhead.unbounded("ollama"),
+                new OllamaModelResidencyManager(webClient, config, objectMapper),
+                telemetry);
     }
 
     @AfterEach
@@ -166,4 +182,75 @@ class OllamaAdapterTest {
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("LLM 응답 파싱 실패");
     }
+
+    @Test
+    @DisplayName("응답 타이밍 필드를 모델·용도 태그의 메트릭으로 기록")
+    void sendPrompt_shouldRecordTimingTelemetry() {
+        // given
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("""
+                        {
+                          "model": "exaone3.5:7.8b",
+                          "response": "ok",
+                          "prompt_eval_count": 120,
+                          "prompt_eval_duration": 600000000,
+                          "eval_count": 40,
+                          "eval_duration": 2000000000,
+                          "load_duration": 5000000
+                        }
+                        """)
+                .addHeader("Content-Type", "application/json"));
+
+        // when
+        ollamaAdapter.sendPrompt("test prompt", LlmTask.CATEGORY_SUGGESTION);
+
+        // then
+        assertThat(meterRegistry.get("voc.llm.prompt.tokens")
+                .tag("model", "exaone3.5:7.8b")
+                .tag("task", "category_suggestion")
+                .summary().totalAmount()).isEqualTo(120);
+        assertThat(meterRegistry.get("voc.llm.eval.duration")
+                .tag("task", "category_suggestion")
+                .timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(2000);
+        assertThat(meterRegistry.get("voc.llm.prompt.chars")
+                .summary().totalAmount()).isEqualTo("test prompt".length());
+
+        Map<String, Object> view = telemetry.snapshot().get("exaone3.5:7.8b/category_suggestion");
+        assertThat(view.get("evalTokensPerSecond")).isEqualTo(20.0);
+        assertThat(view.get("promptTokensPerSecond")).isEqualTo(200.0);
+        assertThat(view.get("maxPromptTokens")).isEqualTo(120L);
+    }
+
+    @Test
+    @DisplayName("비동기 호출이 Bulkhead 대기열에서 거절되거나 만료되면 동기 호출과 같은 TIMEOUT 예외로 실패")
+    void sendPromptAsync_mapsBulkheadRejectionToTimeout() throws Exception {
+        // given - 허가 1개, 대기열 1칸, 대기 100ms
+        Bulkhead bulkhead = Bulkhead.of("ollama", 1, Duration.ofMillis(100), 1, Runnable::run);
+        OllamaAdapter boundedAdapter = new OllamaAdapter(
+                WebClient.builder().baseUrl(config.getBaseUrl()).build(), config, promptTemplate, objectMapper,
+                bulkhead, new OllamaModelResidencyManager(WebClient.create(config.getBaseUrl()), config, objectMapper),
+                telemetry);
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("""
+                        {"model": "exaone3.5:7.8b", "response": "slow"}
+                        """)
+                .addHeader("Content-Type", "application/json")
+                .setHeadersDelay(1, TimeUnit.SECONDS));
+
+        // when - 첫 호출이 허가를 잡고 있는 동안 두 번째는 대기, 세 번째는 대기열 초과
+        CompletableFuture<String> holding = boundedAdapter.sendPromptAsync("slow prompt", LlmTask.VOC_ANALYSIS);
+        CompletableFuture<String> queued = boundedAdapter.sendPromptAsync("queued prompt", LlmTask.VOC_ANALYSIS);
+        CompletableFuture<String> rejected = boundedAdapter.sendPromptAsync("rejected prompt", LlmTask.VOC_ANALYSIS);
+
+        // then
+        assertThat(rejected.handle((value, error) -> error).get(1, TimeUnit.SECONDS))
+                .isInstanceOfSatisfying(LlmIntegrationException.class,
+                        e -> assertThat(e.getErrorType()).isEqualTo(ErrorType.TIMEOUT));
+        assertThat(queued.handle((value, error) -> error).get(5, TimeUnit.SECONDS))
+                .isInstanceOfSatisfying(LlmIntegrationException.class,
+                        e -> assertThat(e.getErrorType()).isEqualTo(ErrorType.TIMEOUT));
+        assertThat(holding.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(1);
+    }
+
 }
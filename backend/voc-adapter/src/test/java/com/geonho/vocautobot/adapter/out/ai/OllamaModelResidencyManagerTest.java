@@ -0,0 +1,206 @@
+package com.geonho.vocautobot.adapter.out.ai;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.geonho.vocautobot.adapter.out.ai.OllamaModelResidencyManager.ModelKind;
+import com.geonho.vocautobot.adapter.out.ai.OllamaModelResidencyManager.ModelResidency;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OllamaModelResidencyManager 테스트")
+class OllamaModelResidencyManagerTest {
+
+    private MockWebServer mockWebServer;
+    private OllamaConfig config;
+    private ObjectMapper objectMapper;
+    private MutableClock clock;
+    private OllamaModelResidencyManager residencyManager;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.start();
+
+        config = new OllamaConfig();
+        config.setBaseUrl(mockWebServer.url("/").toString());
+        config.setTimeout(5000);
+        config.getResidency().setKeepAlive(Duration.ofMinutes(30));
+        config.getResidency().setTrafficWindow(Duration.ofHours(2));
+
+        objectMapper = new ObjectMapper();
+        clock = new MutableClock(Instant.parse("2026-01-01T09:00:00Z"));
+
+        WebClient webClient = WebClient.builder().baseUrl(config.getBaseUrl()).build();
+        residencyManager = new OllamaModelResidencyManager(webClient, config, objectMapper, clock);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    @DisplayName("warm-up은 생성/임베딩 모델을 keep_alive와 함께 로드한다")
+    void warmUp_loadsBothModelsWithKeepAlive() throws Exception {
+        // given - 두 모델을 동시에 로드하므로 도착 순서와 무관하게 경로별로 응답
+        mockWebServer.setDispatcher(pathDispatcher(Map.of(
+                "/api/generate", "{\"model\":\"exaone3.5:7.8b\",\"response\":\"\",\"load_duration\":4200000000}",
+                "/api/embed", "{\"model\":\"bge-m3:latest\",\"embeddings\":[[0.1]],\"load_duration\":900000000}")));
+
+        // when
+        residencyManager.warmUp().block(Duration.ofSeconds(5));
+
+        // then
+        List<RecordedRequest> requests = takeRequests(2);
+        assertThat(requests).extracting(RecordedRequest::getPath)
+                .containsExactlyInAnyOrder("/api/generate", "/api/embed");
+
+        for (RecordedRequest request : requests) {
+            JsonNode body = objectMapper.readTree(request.getBody().readUtf8());
+            assertThat(body.get("keep_alive").asText()).isEqualTo("1800s");
+            if ("/api/generate".equals(request.getPath())) {
+                assertThat(body.get("model").asText()).isEqualTo("exaone3.5:7.8b");
+                assertThat(body.get("prompt").asText()).isEmpty();
+            } else {
+                assertThat(body.get("model").asText()).isEqualTo("bge-m3:latest");
+            }
+        }
+
+        // warm-up 로드는 사용자 콜드 로드로 집계하지 않음
+        ModelResidency generation = residencyManager.getResidency().get(ModelKind.GENERATION);
+        assertThat(generation.lastLoadDuration()).isEqualTo(Duration.ofMillis(4200));
+        assertThat(generation.coldLoads()).isZero();
+        ModelResidency embedding = residencyManager.getResidency().get(ModelKind.EMBEDDING);
+        assertThat(embedding.lastLoadDuration()).isEqualTo(Duration.ofMillis(900));
+        assertThat(embedding.coldLoads()).isZero();
+    }
+
+    @Test
+    @DisplayName("사용자 요청 응답의 load_duration이 임계값 이상이면 콜드 로드로 집계한다")
+    void recordResponse_countsColdLoads() throws Exception {
+        // when
+        residencyManager.recordResponse(ModelKind.GENERATION,
+                objectMapper.readTree("{\"response\":\"ok\",\"load_duration\":3000000000}"));
+        residencyManager.recordResponse(ModelKind.GENERATION,
+                objectMapper.readTree("{\"response\":\"ok\",\"load_duration\":2000000}"));
+
+        // then
+        ModelResidency generation = residencyManager.getResidency().get(ModelKind.GENERATION);
+        assertThat(generation.coldLoads()).isEqualTo(1);
+        assertThat(generation.lastLoadDuration()).isEqualTo(Duration.ofMillis(2));
+    }
+
+    @Test
+    @DisplayName("최근 트래픽이 있는 모델만 keep_alive 만료 전에 keep-warm 핑을 보낸다")
+    void keepWarm_pingsOnlyModelsWithRecentTraffic() throws Exception {
+        // given - 생성 모델만 사용됨
+        residencyManager.recordRequest(ModelKind.GENERATION);
+        mockWebServer.enqueue(jsonResponse("{\"response\":\"\",\"load_duration\":1000000}"));
+
+        // when - keep_alive 절반이 지나기 전에는 핑하지 않음
+        clock.advance(Duration.ofMinutes(10));
+        residencyManager.keepWarmIfActive().block(Duration.ofSeconds(5));
+        assertThat(mockWebServer.getRequestCount()).isZero();
+
+        // when - keep_alive 절반 경과
+        clock.advance(Duration.ofMinutes(5));
+        residencyManager.keepWarmIfActive().block(Duration.ofSeconds(5));
+
+        // then
+        RecordedRequest request = mockWebServer.takeRequest(1, TimeUnit.SECONDS);
+        assertThat(request).isNotNull();
+        assertThat(request.getPath()).isEqualTo("/api/generate");
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(1);
+        assertThat(residencyManager.getResidency().get(ModelKind.GENERATION).keepWarmPings()).isEqualTo(1);
+        assertThat(residencyManager.getResidency().get(ModelKind.EMBEDDING).keepWarmPings()).isZero();
+    }
+
+    @Test
+    @DisplayName("트래픽 윈도우가 지나면 keep-warm 핑을 멈춘다")
+    void keepWarm_stopsAfterTrafficWindow() {
+        // given
+        residencyManager.recordRequest(ModelKind.GENERATION);
+
+        // when
+        clock.advance(Duration.ofHours(3));
+        residencyManager.keepWarmIfActive().block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(mockWebServer.getRequestCount()).isZero();
+    }
+
+    private MockResponse jsonResponse(String body) {
+        return new MockResponse()
+                .setBody(body)
+                .addHeader("Content-Type", "application/json");
+    }
+
+    /**
+     * 요청 경로별로 고정 응답을 돌려주는 Dispatcher (동시 요청의 도착 순서에 의존하지 않음)
+     */
+    private Dispatcher pathDispatcher(Map<String, String> bodiesByPath) {
+        return new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String body = bodiesByPath.get(request.getPath());
+                return body != null ? jsonResponse(body) : new MockResponse().setResponseCode(404);
+            }
+        };
+    }
+
+    private List<RecordedRequest> takeRequests(int count) throws InterruptedException {
+        List<RecordedRequest> requests = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            requests.add(mockWebServer.takeRequest(1, TimeUnit.SECONDS));
+        }
+        return requests;
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
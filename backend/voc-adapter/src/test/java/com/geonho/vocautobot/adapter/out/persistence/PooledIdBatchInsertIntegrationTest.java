@@ -0,0 +1,231 @@
+package com.geonho.vocautobot.adapter.out.persistence;
+
+import com.geonho.vocautobot.adapter.out.persistence.audit.AuditLogJpaEntity;
+import com.geonho.vocautobot.adapter.out.persistence.audit.AuditLogJpaRepository;
+import com.geonho.vocautobot.adapter.out.persistence.audit.AuditLogMapper;
+import com.geonho.vocautobot.adapter.out.persistence.audit.AuditLogPersistenceAdapter;
+import com.geonho.vocautobot.adapter.out.persistence.bulkjob.BulkJobErrorJpaRepository;
+import com.geonho.vocautobot.adapter.out.persistence.bulkjob.BulkJobJpaEntity;
+import com.geonho.vocautobot.adapter.out.persistence.bulkjob.BulkJobJpaRepository;
+import com.geonho.vocautobot.adapter.out.persistence.bulkjob.BulkJobPersistenceAdapter;
+import com.geonho.vocautobot.adapter.out.persistence.converter.AesEncryptConverter;
+import com.geonho.vocautobot.adapter.out.persistence.notification.NotificationJpaEntity;
+import com.geonho.vocautobot.adapter.out.persistence.notification.NotificationJpaRepository;
+import com.geonho.vocautobot.adapter.out.persistence.notification.NotificationPersistenceAdapter;
+import com.geonho.vocautobot.adapter.out.persistence.voc.VocJpaEntity;
+import com.geonho.vocautobot.adapter.out.persistence.voc.VocJpaRepository;
+import com.geonho.vocautobot.adapter.out.persistence.voc.VocPersistenceAdapter;
+import com.geonho.vocautobot.adapter.out.persistence.voc.mapper.VocMapper;
+import com.geonho.vocautobot.domain.audit.AuditAction;
+import com.geonho.vocautobot.domain.audit.AuditEntityType;
+import com.geonho.vocautobot.domain.audit.AuditLog;
+import com.geonho.vocautobot.domain.notification.Notification;
+import com.geonho.vocautobot.domain.notification.NotificationType;
+import com.geonho.vocautobot.domain.voc.BulkJob;
+import com.geonho.vocautobot.domain.voc.BulkJobItemError;
+import com.geonho.vocautobot.domain.voc.BulkJobType;
+import com.geonho.vocautobot.domain.voc.BulkOperationResult;
+import com.geonho.vocautobot.domain.voc.VocAttachmentDomain;
+import com.geonho.vocautobot.domain.voc.VocDomain;
+import com.geonho.vocautobot.domain.voc.VocMemoDomain;
+import com.geonho.vocautobot.domain.voc.VocPriority;
+import com.geonho.vocautobot.domain.voc.VocStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * pooled 시퀀스(V20)로 바꾼 다건 저장 경로가 JDBC 배치로 나가는지 실행 SQL 수로 확인 (PostgreSQL 16, Testcontainers)
+ * VOC 접수(첨부·메모), 일괄 작업 오류, 감사 로그, 알림 저장을 검증하며 Docker가 없으면 건너뜀
+ *
+ * 시퀀스 조회(nextval)가 섞이지 않도록 setUp에서 각 테이블의 첫 id 구간을 미리 받아 둠
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "encryption.key=000102030405060708090a0b0c0d0e0f101112131415161718191a1b1c1d1e1f"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("pooled 시퀀스 다건 저장 배치 테스트")
+class PooledIdBatchInsertIntegrationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private VocPersistenceAdapter vocAdapter;
+
+    @Autowired
+    private BulkJobPersistenceAdapter bulkJobAdapter;
+
+    @Autowired
+    private AuditLogPersistenceAdapter auditLogAdapter;
+
+    @Autowired
+    private NotificationPersistenceAdapter notificationAdapter;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private BulkJob bulkJob;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        vocAdapter.saveVoc(newVoc("VOC-20260210-0001", 1, 1));
+        auditLogAdapter.save(auditLog("1"));
+        notificationAdapter.save(notification(1L));
+
+        BulkJob created = bulkJobAdapter.save(BulkJob.create(BulkJobType.STATUS,
+                LongStream.rangeClosed(1, 10).boxed().toList(), VocStatus.RESOLVED, null, null, "일괄 해결"));
+        bulkJobAdapter.claim(created.id());
+        bulkJob = created.advance(1, new BulkOperationResult(0, List.of(1L), Map.of(1L, "없는 VOC")));
+        bulkJobAdapter.recordProgress(created.id(), 0, bulkJob, List.of(new BulkJobItemError(1L, "없는 VOC")));
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("첨부·메모가 있는 새 VOC는 테이블마다 INSERT 한 번으로 묶어 보낸다")
+    void saveVoc_newVocWithChildrenIssuesOneBatchPerTable() {
+        // when
+        VocDomain saved = vocAdapter.saveVoc(newVoc("VOC-20260210-0002", 2, 3));
+        testEntityManager.flush();
+
+        // then
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(6);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(saved.getAttachments()).extracting(VocAttachmentDomain::getId).doesNotContainNull();
+        assertThat(saved.getMemos()).extracting(VocMemoDomain::getId).doesNotContainNull().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("일괄 작업 진행 기록은 진행 UPDATE와 오류 INSERT 배치 한 번으로 끝난다")
+    void recordProgress_insertsErrorsInSingleBatch() {
+        // given
+        List<BulkJobItemError> errors = List.of(
+                new BulkJobItemError(2L, "권한 없음"),
+                new BulkJobItemError(3L, "이미 종료됨"),
+                new BulkJobItemError(4L, "버전 충돌"));
+        BulkJob progressed = bulkJob.advance(3, new BulkOperationResult(0, List.of(2L, 3L, 4L),
+                Map.of(2L, "권한 없음", 3L, "이미 종료됨", 4L, "버전 충돌")));
+
+        // when
+        boolean recorded = bulkJobAdapter.recordProgress(bulkJob.id(), 1, progressed, errors);
+        testEntityManager.flush();
+
+        // then
+        assertThat(recorded).isTrue();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("한 트랜잭션의 감사 로그 여러 건은 INSERT 한 번으로 묶어 보낸다")
+    void saveAuditLogs_batchesInserts() {
+        // when
+        auditLogAdapter.save(auditLog("2"));
+        auditLogAdapter.save(auditLog("3"));
+        auditLogAdapter.save(auditLog("4"));
+        testEntityManager.flush();
+
+        // then
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 트랜잭션의 알림 여러 건은 서로 다른 id로 INSERT 한 번에 묶어 보낸다")
+    void saveNotifications_batchesInserts() {
+        // when
+        List<Long> ids = LongStream.rangeClosed(2, 4)
+                .mapToObj(userId -> notificationAdapter.save(notification(userId)).getId())
+                .toList();
+        testEntityManager.flush();
+
+        // then
+        assertThat(ids).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private static VocDomain newVoc(String ticketId, int attachments, int memos) {
+        VocDomain voc = VocDomain.create(ticketId, "배송 지연 문의", "3일째 배송되지 않습니다.",
+                1L, "customer@example.com", "홍길동", "010-1234-5678", VocPriority.NORMAL);
+        for (int i = 0; i < attachments; i++) {
+            voc.addAttachment(VocAttachmentDomain.create(
+                    "receipt" + i + ".png", "uuid-receipt" + i + ".png", "vocs/uuid-receipt" + i + ".png",
+                    1024L, "image/png"));
+        }
+        for (int i = 0; i < memos; i++) {
+            voc.addMemo(VocMemoDomain.create(1L, "처리 메모 " + i, true));
+        }
+        return voc;
+    }
+
+    private static AuditLog auditLog(String entityId) {
+        return AuditLog.create(1L, "admin", AuditAction.UPDATE, AuditEntityType.VOC, entityId,
+                null, null, "127.0.0.1", "JUnit");
+    }
+
+    private static Notification notification(Long userId) {
+        return Notification.create(userId, NotificationType.VOC_CREATED, "새 VOC", "새 VOC가 접수되었습니다.", 1L);
+    }
+
+    @Configuration
+    @EnableJpaAuditing
+    @EntityScan(basePackageClasses = {
+            VocJpaEntity.class, BulkJobJpaEntity.class, AuditLogJpaEntity.class, NotificationJpaEntity.class})
+    @EnableJpaRepositories(basePackageClasses = {
+            VocJpaRepository.class, BulkJobJpaRepository.class, AuditLogJpaRepository.class,
+            NotificationJpaRepository.class}, includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+            classes = {VocJpaRepository.class, BulkJobJpaRepository.class, BulkJobErrorJpaRepository.class,
+                    AuditLogJpaRepository.class, NotificationJpaRepository.class}))
+    @Import({VocPersistenceAdapter.class, VocMapper.class, AesEncryptConverter.class, BulkJobPersistenceAdapter.class,
+            AuditLogPersistenceAdapter.class, AuditLogMapper.class, NotificationPersistenceAdapter.class})
+    static class Config {
+    }
+}
@@ -0,0 +1,74 @@
+package com.geonho.vocautobot.adapter.out.persistence.converter;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EncryptedStringTest {
+
+    private static AesEncryptConverter converter;
+    private static final EncryptedStringConverter stringConverter = new EncryptedStringConverter();
+
+    @BeforeAll
+    static void setUp() {
+        converter = new AesEncryptConverter();
+        converter.setSecretKey("0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef");
+    }
+
+    @Test
+    void shouldNotDecryptUntilRead() {
+        String ciphertext = converter.convertToDatabaseColumn("test@example.com");
+
+        EncryptedString value = stringConverter.convertToEntityAttribute(ciphertext);
+
+        assertThat(value.isDecrypted()).isFalse();
+        assertThat(value.plaintext()).isEqualTo("test@example.com");
+        assertThat(value.isDecrypted()).isTrue();
+    }
+
+    @Test
+    void shouldWriteCiphertextReadableByAesConverter() {
+        EncryptedString value = EncryptedString.of("홍길동");
+
+        String ciphertext = stringConverter.convertToDatabaseColumn(value);
+
+        assertThat(ciphertext).isNotEqualTo("홍길동");
+        assertThat(converter.convertToEntityAttribute(ciphertext)).isEqualTo("홍길동");
+    }
+
+    @Test
+    void shouldEncryptNewValueOnlyOnce() {
+        EncryptedString value = EncryptedString.of("010-1234-5678");
+
+        // Same instance must keep the same ciphertext across flushes
+        assertThat(stringConverter.convertToDatabaseColumn(value))
+                .isEqualTo(stringConverter.convertToDatabaseColumn(value));
+    }
+
+    @Test
+    void shouldReturnLoadedCiphertextUnchanged() {
+        String ciphertext = converter.convertToDatabaseColumn("test@example.com");
+
+        EncryptedString value = stringConverter.convertToEntityAttribute(ciphertext);
+
+        assertThat(stringConverter.convertToDatabaseColumn(value)).isEqualTo(ciphertext);
+        assertThat(value.isDecrypted()).isFalse();
+    }
+
+    @Test
+    void shouldCompareByPlaintext() {
+        EncryptedString loaded = EncryptedString.ofCiphertext(converter.convertToDatabaseColumn("test@example.com"));
+        EncryptedString created = EncryptedString.of("test@example.com");
+
+        assertThat(loaded).isEqualTo(created);
+        assertThat(loaded).hasSameHashCodeAs(created);
+    }
+
+    @Test
+    void shouldHandleNull() {
+        assertThat(stringConverter.convertToDatabaseColumn(null)).isNull();
+        assertThat(stringConverter.convertToEntityAttribute(null)).isNull();
+        assertThat(EncryptedString.of(null)).isNull();
+        assertThat(EncryptedString.plaintextOf(null)).isNull();
+    }
+}
@@ -1,16 +1,22 @@
 package com.geonho.vocautobot.adapter.out.persistence.vector;
 
 import com.geonho.vocautobot.adapter.out.ai.EmbeddingService;
+import com.geonho.vocautobot.adapter.out.ai.EmbeddingTextChunker;
+import com.geonho.vocautobot.adapter.out.ai.OllamaConfig;
 import com.geonho.vocautobot.application.analysis.port.out.VectorSearchPort.SimilarVocResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -22,14 +28,23 @@ class VectorSearchAdapterTest {
     @Mock
     private VectorEmbeddingRepository vectorEmbeddingRepository;
 
+    @Mock
+    private VectorEmbeddingChunkRepository chunkRepository;
+
     @Mock
     private EmbeddingService embeddingService;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Runnable> storeTasks = new ArrayList<>();
+
     private VectorSearchAdapter vectorSearchAdapter;
 
     @BeforeEach
     void setUp() {
-        vectorSearchAdapter = new VectorSearchAdapter(vectorEmbeddingRepository, embeddingService);
+        vectorSearchAdapter = new VectorSearchAdapter(vectorEmbeddingRepository, chunkRepository,
+                embeddingService, new EmbeddingTextChunker(new OllamaConfig()), transactionManager, storeTasks::add);
     }
 
     @Test
@@ -85,6 +100,93 @@ class VectorSearchAdapterTest {
         verify(vectorEmbeddingRepository).save(existingEntity);
     }
 
+    @Test
+    @DisplayName("임베딩 저장 - 긴 텍스트는 청크별로 한 번에 임베딩하고 가중 평균을 대표 벡터로 저장")
+    @SuppressWarnings("unchecked")
+    void saveEmbedding_withLongText_shouldStorePooledAndChunkVectors() {
+        // given - 기본 청크 한도(1000자)를 넘는 두 문단
+        Long vocId = 1L;
+        String first = "결제 오류가 발생합니다. ".repeat(71).strip();
+        String second = "로그인이 되지 않습니다. ".repeat(30).strip();
+        String text = first + "\n" + second;
+
+        VectorEmbeddingEntity savedEntity = mock(VectorEmbeddingEntity.class);
+        when(savedEntity.getId()).thenReturn(1L);
+        when(embeddingService.generateEmbeddings(anyList()))
+                .thenReturn(List.of(new float[]{1f, 0f}, new float[]{0f, 1f}));
+        when(vectorEmbeddingRepository.findByVocId(vocId)).thenReturn(Optional.empty());
+        when(vectorEmbeddingRepository.save(any(VectorEmbeddingEntity.class))).thenReturn(savedEntity);
+
+        // when
+        vectorSearchAdapter.saveEmbedding(vocId, text);
+
+        // then
+        verify(embeddingService, never()).generateEmbedding(anyString());
+        verify(embeddingService).generateEmbeddings(List.of(first, second));
+
+        ArgumentCaptor<VectorEmbeddingEntity> pooled = ArgumentCaptor.forClass(VectorEmbeddingEntity.class);
+        verify(vectorEmbeddingRepository).save(pooled.capture());
+        float[] pooledVector = VectorEmbeddingEntity.stringToVector(pooled.getValue().getEmbedding());
+        assertThat(pooledVector[0]).isGreaterThan(pooledVector[1]);
+        assertThat(pooledVector[0] * pooledVector[0] + pooledVector[1] * pooledVector[1])
+                .isCloseTo(1f, within(1e-5f));
+
+        ArgumentCaptor<List<VectorEmbeddingChunkEntity>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(chunkRepository).deleteByVocId(vocId);
+        verify(chunkRepository).saveAll(chunks.capture());
+        assertThat(chunks.getValue())
+                .extracting(VectorEmbeddingChunkEntity::getChunkIndex, VectorEmbeddingChunkEntity::getCharCount)
+                .containsExactly(tuple(0, first.length()), tuple(1, second.length()));
+    }
+
+    @Test
+    @DisplayName("비동기 임베딩 저장 - 임베딩 응답이 오면 저장만 저장용 Executor에서 트랜잭션으로 수행")
+    void saveEmbeddingAsync_shouldStoreOnExecutorAfterEmbeddingCompletes() {
+        // given
+        Long vocId = 1L;
+        String text = "VOC 제목과 내용";
+        CompletableFuture<float[]> embedding = new CompletableFuture<>();
+        VectorEmbeddingEntity savedEntity = mock(VectorEmbeddingEntity.class);
+        when(savedEntity.getId()).thenReturn(1L);
+        when(embeddingService.generateEmbeddingAsync(text)).thenReturn(embedding);
+        when(vectorEmbeddingRepository.findByVocId(vocId)).thenReturn(Optional.empty());
+        when(vectorEmbeddingRepository.save(any(VectorEmbeddingEntity.class))).thenReturn(savedEntity);
+
+        // when
+        CompletableFuture<Long> result = vectorSearchAdapter.saveEmbeddingAsync(vocId, text);
+
+        // then - 임베딩 응답 전에는 저장 작업이 없음
+        assertThat(result).isNotDone();
+        assertThat(storeTasks).isEmpty();
+
+        embedding.complete(new float[]{0.1f, 0.2f, 0.3f});
+        assertThat(storeTasks).hasSize(1);
+        verify(vectorEmbeddingRepository, never()).save(any());
+
+        storeTasks.get(0).run();
+        assertThat(result).isCompletedWithValue(1L);
+        verify(transactionManager).commit(any());
+        verify(embeddingService, never()).generateEmbedding(anyString());
+    }
+
+    @Test
+    @DisplayName("비동기 임베딩 저장 - 임베딩 생성이 실패하면 저장하지 않고 실패한 Future 반환")
+    void saveEmbeddingAsync_shouldFailWithoutStoringWhenEmbeddingFails() {
+        // given
+        when(embeddingService.generateEmbeddingAsync(anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("ollama down")));
+
+        // when
+        CompletableFuture<Long> result = vectorSearchAdapter.saveEmbeddingAsync(1L, "VOC 제목과 내용");
+
+        // then
+        assertThat(result).isCompletedExceptionally();
+        assertThat(result.handle((value, error) -> error).join())
+                .isInstanceOf(VectorSearchAdapter.VectorSearchException.class);
+        assertThat(storeTasks).isEmpty();
+        verify(vectorEmbeddingRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("유사 VOC 검색 성공")
     void findSimilarVocs_shouldReturnSimilarVocs() {
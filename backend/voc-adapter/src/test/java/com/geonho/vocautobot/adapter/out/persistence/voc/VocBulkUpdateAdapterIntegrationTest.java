@@ -0,0 +1,213 @@
+package com.geonho.vocautobot.adapter.out.persistence.voc;
+
+import com.geonho.vocautobot.adapter.out.persistence.converter.AesEncryptConverter;
+import com.geonho.vocautobot.adapter.out.persistence.voc.mapper.VocMapper;
+import com.geonho.vocautobot.application.voc.port.out.BulkUpdateVocPort.VocState;
+import com.geonho.vocautobot.domain.voc.VocDomain;
+import com.geonho.vocautobot.domain.voc.VocPriority;
+import com.geonho.vocautobot.domain.voc.VocStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * VocBulkUpdateAdapter 통합 테스트
+ * unnest 배열 조인·UPDATE ... FROM·RETURNING·data-modifying CTE를 사용하므로 PostgreSQL 16(Testcontainers)으로 검증
+ * Docker가 없으면 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "encryption.key=000102030405060708090a0b0c0d0e0f101112131415161718191a1b1c1d1e1f"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("VocBulkUpdateAdapter 통합 테스트")
+class VocBulkUpdateAdapterIntegrationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private VocBulkUpdateAdapter adapter;
+
+    @Autowired
+    private VocPersistenceAdapter persistenceAdapter;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @BeforeEach
+    void setUp() {
+        // 운영 스키마(V8)처럼 이력 id를 DB 기본값으로 채움 (CTE의 INSERT ... SELECT는 id를 지정하지 않음)
+        testEntityManager.getEntityManager().createNativeQuery(
+                "ALTER TABLE voc_status_history ALTER COLUMN id SET DEFAULT nextval('voc_status_history_id_seq')")
+                .executeUpdate();
+    }
+
+    @Test
+    @DisplayName("상태 변경은 조회 후 version이 바뀐 행을 건너뛰고, 갱신된 행만 이력을 남긴다")
+    void updateStatus_skipsVersionMismatchAndWritesHistory() {
+        // given
+        List<Long> ids = saveVocs(3);
+        List<VocState> states = adapter.loadVocStates(ids);
+        Long concurrentlyModified = ids.get(1);
+        testEntityManager.getEntityManager()
+                .createNativeQuery("UPDATE vocs SET version = version + 1 WHERE id = :id")
+                .setParameter("id", concurrentlyModified)
+                .executeUpdate();
+
+        // when
+        Set<Long> updated = adapter.updateStatus(states, VocStatus.RESOLVED, "일괄 해결");
+
+        // then
+        assertThat(updated).containsExactlyInAnyOrder(ids.get(0), ids.get(2));
+        assertThat(statusOf(ids.get(0))).isEqualTo("RESOLVED");
+        assertThat(statusOf(concurrentlyModified)).isEqualTo("NEW");
+        assertThat(countWhere("SELECT count(*) FROM vocs WHERE resolved_at IS NOT NULL")).isEqualTo(2);
+        assertThat(history())
+                .extracting(row -> ((Number) row[0]).longValue(), row -> row[1], row -> row[2], row -> row[3])
+                .containsExactlyInAnyOrder(
+                        tuple(ids.get(0), "NEW", "RESOLVED", "일괄 해결"),
+                        tuple(ids.get(2), "NEW", "RESOLVED", "일괄 해결"));
+        VocState before = states.stream().filter(state -> state.id().equals(ids.get(0))).findFirst().orElseThrow();
+        assertThat(adapter.loadVocStates(List.of(ids.get(0))))
+                .singleElement()
+                .extracting(VocState::version)
+                .isEqualTo(before.version() + 1);
+    }
+
+    @Test
+    @DisplayName("해결 처리는 VocDomain.updateStatus처럼 기존 resolved_at을 변경 시각으로 덮어쓴다")
+    void updateStatus_overwritesResolvedAtLikeDomain() {
+        // given - 이전에 해결 시각이 남아 있는 VOC
+        List<Long> ids = saveVocs(1);
+        testEntityManager.getEntityManager()
+                .createNativeQuery("UPDATE vocs SET resolved_at = TIMESTAMP '2020-01-01 00:00:00' WHERE id = :id")
+                .setParameter("id", ids.get(0))
+                .executeUpdate();
+
+        // when
+        adapter.updateStatus(adapter.loadVocStates(ids), VocStatus.RESOLVED, null);
+
+        // then
+        assertThat(countWhere("SELECT count(*) FROM vocs WHERE resolved_at > CURRENT_DATE - 1")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("담당자 지정은 NEW 상태만 IN_PROGRESS로 바꾸고 그 행의 이력만 남긴다")
+    void assign_movesNewToInProgressWithHistory() {
+        // given
+        List<Long> ids = saveVocs(2);
+        Long inProgress = ids.get(1);
+        testEntityManager.getEntityManager()
+                .createNativeQuery("UPDATE vocs SET status = 'IN_PROGRESS' WHERE id = :id")
+                .setParameter("id", inProgress)
+                .executeUpdate();
+        List<VocState> states = adapter.loadVocStates(ids);
+
+        // when
+        Set<Long> updated = adapter.assign(states, 7L);
+
+        // then
+        assertThat(updated).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(countWhere("SELECT count(*) FROM vocs WHERE assignee_id = 7 AND status = 'IN_PROGRESS'"))
+                .isEqualTo(2);
+        assertThat(history())
+                .extracting(row -> ((Number) row[0]).longValue(), row -> row[1], row -> row[2])
+                .containsExactly(tuple(ids.get(0), "NEW", "IN_PROGRESS"));
+    }
+
+    @Test
+    @DisplayName("CHUNK_SIZE를 넘는 대상도 묶음별로 나눠 모두 갱신한다")
+    void updateStatus_spansMultipleChunks() {
+        // given
+        int total = VocBulkUpdateAdapter.CHUNK_SIZE + 20;
+        List<Long> ids = saveVocs(total);
+        List<VocState> states = adapter.loadVocStates(ids);
+
+        // when
+        Set<Long> updated = adapter.updateStatus(states, VocStatus.IN_PROGRESS, null);
+        Set<Long> reprioritized = adapter.updatePriority(adapter.loadVocStates(ids), VocPriority.URGENT);
+
+        // then
+        assertThat(states).hasSize(total);
+        assertThat(updated).hasSize(total).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(reprioritized).hasSize(total);
+        assertThat(countWhere("SELECT count(*) FROM vocs WHERE status = 'IN_PROGRESS' AND priority = 'URGENT'"))
+                .isEqualTo(total);
+        assertThat(countWhere("SELECT count(*) FROM voc_status_history")).isEqualTo(total);
+    }
+
+    private List<Long> saveVocs(int count) {
+        List<Long> ids = IntStream.rangeClosed(1, count)
+                .mapToObj(i -> persistenceAdapter.saveVoc(VocDomain.create(
+                        "VOC-20260210-%04d".formatted(i), "배송 지연 문의 " + i, "배송되지 않습니다.",
+                        1L, "customer@example.com", "홍길동", "010-1234-5678", VocPriority.NORMAL)).getId())
+                .toList();
+        testEntityManager.flush();
+        testEntityManager.clear();
+        return ids;
+    }
+
+    private String statusOf(Long id) {
+        return (String) testEntityManager.getEntityManager()
+                .createNativeQuery("SELECT status FROM vocs WHERE id = :id")
+                .setParameter("id", id)
+                .getSingleResult();
+    }
+
+    private long countWhere(String sql) {
+        return ((Number) testEntityManager.getEntityManager().createNativeQuery(sql).getSingleResult()).longValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> history() {
+        return testEntityManager.getEntityManager()
+                .createNativeQuery("""
+                        SELECT voc_id, previous_status, new_status, change_reason
+                        FROM voc_status_history ORDER BY voc_id
+                        """)
+                .getResultList();
+    }
+
+    @Configuration
+    @EnableJpaAuditing
+    @EntityScan(basePackageClasses = VocJpaEntity.class)
+    @EnableJpaRepositories(basePackageClasses = VocJpaRepository.class, includeFilters =
+            @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = VocJpaRepository.class))
+    @Import({VocPersistenceAdapter.class, VocBulkUpdateAdapter.class, VocMapper.class, AesEncryptConverter.class})
+    static class Config {
+    }
+}
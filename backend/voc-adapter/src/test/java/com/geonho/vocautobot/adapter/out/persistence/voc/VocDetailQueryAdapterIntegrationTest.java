@@ -0,0 +1,194 @@
+package com.geonho.vocautobot.adapter.out.persistence.voc;
+
+import com.geonho.vocautobot.adapter.out.persistence.converter.AesEncryptConverter;
+import com.geonho.vocautobot.adapter.out.persistence.voc.mapper.VocMapper;
+import com.geonho.vocautobot.application.analysis.dto.VocAnalysisDto;
+import com.geonho.vocautobot.application.voc.port.in.dto.VocDetailView;
+import com.geonho.vocautobot.domain.voc.VocAttachmentDomain;
+import com.geonho.vocautobot.domain.voc.VocDomain;
+import com.geonho.vocautobot.domain.voc.VocMemoDomain;
+import com.geonho.vocautobot.domain.voc.VocPriority;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * VocDetailQueryAdapter 통합 테스트
+ * json_agg·LATERAL·IS JSON ARRAY를 사용하므로 H2가 아닌 PostgreSQL 16(Testcontainers)으로 검증
+ * Docker가 없으면 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "encryption.key=000102030405060708090a0b0c0d0e0f101112131415161718191a1b1c1d1e1f"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("VocDetailQueryAdapter 통합 테스트")
+class VocDetailQueryAdapterIntegrationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private VocDetailQueryAdapter adapter;
+
+    @Autowired
+    private VocPersistenceAdapter persistenceAdapter;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private Long vocId;
+
+    @BeforeEach
+    void setUp() {
+        // 첨부 2건, 메모 3건이 있는 VOC
+        VocDomain voc = VocDomain.create("VOC-20260210-0001", "배송 지연 문의", "3일째 배송되지 않습니다.",
+                1L, "customer@example.com", "홍길동", "010-1234-5678", VocPriority.HIGH);
+        voc.addAttachment(VocAttachmentDomain.create(
+                "receipt.png", "uuid-receipt.png", "vocs/uuid-receipt.png", 1024L, "image/png"));
+        voc.addAttachment(VocAttachmentDomain.create(
+                "invoice.pdf", "uuid-invoice.pdf", "vocs/uuid-invoice.pdf", 2048L, "application/pdf"));
+        voc.addMemo(VocMemoDomain.create(1L, "고객에게 연락함", true));
+        voc.addMemo(VocMemoDomain.create(2L, "택배사 확인 요청", true));
+        voc.addMemo(VocMemoDomain.create(1L, "배송 재개 안내", false));
+        vocId = persistenceAdapter.saveVoc(voc).getId();
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Test
+    @DisplayName("첨부와 메모를 id 순으로 함께 조회한다")
+    void loadVocDetail_returnsAttachmentsAndMemosInOrder() {
+        // when
+        VocDetailView detail = adapter.loadVocDetail(vocId).orElseThrow();
+
+        // then
+        VocDomain voc = detail.voc();
+        assertThat(voc.getId()).isEqualTo(vocId);
+        assertThat(voc.getTicketId()).isEqualTo("VOC-20260210-0001");
+        assertThat(voc.getPriority()).isEqualTo(VocPriority.HIGH);
+        assertThat(voc.getAttachments())
+                .extracting(VocAttachmentDomain::getOriginalFilename)
+                .containsExactly("receipt.png", "invoice.pdf");
+        assertThat(voc.getAttachments())
+                .extracting(VocAttachmentDomain::getId)
+                .isSorted()
+                .doesNotContainNull();
+        assertThat(voc.getMemos())
+                .extracting(VocMemoDomain::getContent)
+                .containsExactly("고객에게 연락함", "택배사 확인 요청", "배송 재개 안내");
+        assertThat(voc.getMemos())
+                .extracting(VocMemoDomain::isInternal)
+                .containsExactly(true, true, false);
+        assertThat(voc.getMemos()).extracting(VocMemoDomain::getVocId).containsOnly(vocId);
+    }
+
+    @Test
+    @DisplayName("고객 정보는 암호화되어 저장되고 조회 시 복호화된다")
+    void loadVocDetail_decryptsCustomerInfo() {
+        // given
+        Object storedEmail = testEntityManager.getEntityManager()
+                .createNativeQuery("SELECT customer_email FROM vocs WHERE id = :id")
+                .setParameter("id", vocId)
+                .getSingleResult();
+
+        // when
+        VocDomain voc = adapter.loadVocDetail(vocId).orElseThrow().voc();
+
+        // then
+        assertThat(storedEmail).isNotEqualTo("customer@example.com");
+        assertThat(voc.getCustomerEmail()).isEqualTo("customer@example.com");
+        assertThat(voc.getCustomerName()).isEqualTo("홍길동");
+        assertThat(voc.getCustomerPhone()).isEqualTo("010-1234-5678");
+    }
+
+    @Test
+    @DisplayName("분석 결과의 JSON 목록을 파싱하고 배열이 아닌 값은 빈 목록으로 반환한다")
+    void loadVocDetail_parsesAnalysisLists() {
+        // given - possible_causes는 JSON 배열이 아닌 문자열
+        testEntityManager.getEntityManager().createNativeQuery("""
+                        INSERT INTO voc_analyses (voc_id, status, summary, confidence, keywords, possible_causes,
+                                                  related_logs, recommendation, analyzed_at, created_at)
+                        VALUES (:vocId, 'COMPLETED', '배송 지연 이슈', 0.85, '["배송", "지연"]', 'not a json array',
+                                '[{"timestamp": "2026-02-10T09:00:00", "logLevel": "ERROR",
+                                   "serviceName": "delivery", "message": "carrier timeout", "relevanceScore": 0.9}]',
+                                '고객 연락 후 재배송 안내', :now, :now)
+                        """)
+                .setParameter("vocId", vocId)
+                .setParameter("now", LocalDateTime.of(2026, 2, 10, 9, 30))
+                .executeUpdate();
+
+        // when
+        VocAnalysisDto analysis = adapter.loadVocDetail(vocId).orElseThrow().analysis();
+
+        // then
+        assertThat(analysis).isNotNull();
+        assertThat(analysis.vocId()).isEqualTo(vocId);
+        assertThat(analysis.status()).isEqualTo("COMPLETED");
+        assertThat(analysis.confidence()).isEqualTo(0.85);
+        assertThat(analysis.keywords()).containsExactly("배송", "지연");
+        assertThat(analysis.possibleCauses()).isEmpty();
+        assertThat(analysis.relatedLogs()).singleElement().satisfies(log -> {
+            assertThat(log.serviceName()).isEqualTo("delivery");
+            assertThat(log.message()).isEqualTo("carrier timeout");
+        });
+        assertThat(analysis.analyzedAt()).isEqualTo(LocalDateTime.of(2026, 2, 10, 9, 30));
+    }
+
+    @Test
+    @DisplayName("분석 결과가 없으면 analysis는 null이다")
+    void loadVocDetail_returnsNullAnalysisWhenNotAnalyzed() {
+        // when
+        VocDetailView detail = adapter.loadVocDetail(vocId).orElseThrow();
+
+        // then
+        assertThat(detail.analysis()).isNull();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 id면 빈 Optional을 반환한다")
+    void loadVocDetail_returnsEmptyForMissingId() {
+        assertThat(adapter.loadVocDetail(vocId + 1_000)).isEmpty();
+    }
+
+    @Configuration
+    @EnableJpaAuditing
+    @EntityScan(basePackageClasses = VocJpaEntity.class)
+    @EnableJpaRepositories(basePackageClasses = VocJpaRepository.class, includeFilters =
+            @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = VocJpaRepository.class))
+    @ImportAutoConfiguration(JacksonAutoConfiguration.class)
+    @Import({VocPersistenceAdapter.class, VocDetailQueryAdapter.class, VocMapper.class, AesEncryptConverter.class})
+    static class Config {
+    }
+}
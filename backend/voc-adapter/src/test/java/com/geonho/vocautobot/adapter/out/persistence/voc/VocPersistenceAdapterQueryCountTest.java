@@ -0,0 +1,145 @@
+package com.geonho.vocautobot.adapter.out.persistence.voc;
+
+import com.geonho.vocautobot.adapter.out.persistence.converter.AesEncryptConverter;
+import com.geonho.vocautobot.adapter.out.persistence.voc.mapper.VocMapper;
+import com.geonho.vocautobot.domain.voc.VocAttachmentDomain;
+import com.geonho.vocautobot.domain.voc.VocDomain;
+import com.geonho.vocautobot.domain.voc.VocMemoDomain;
+import com.geonho.vocautobot.domain.voc.VocPriority;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * saveVoc가 바뀐 자식 행만 반영하는지 실행 SQL 수로 확인 (H2)
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "encryption.key=000102030405060708090a0b0c0d0e0f101112131415161718191a1b1c1d1e1f"
+})
+@DisplayName("VocPersistenceAdapter 자식 컬렉션 동기화 쿼리 수 테스트")
+class VocPersistenceAdapterQueryCountTest {
+
+    @Autowired
+    private VocPersistenceAdapter adapter;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private VocDomain loaded;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // 첨부 1건, 메모 2건이 있는 VOC를 저장한 뒤 영속성 컨텍스트를 비우고 다시 조회
+        VocDomain voc = VocDomain.create("VOC-20260210-0001", "배송 지연 문의", "3일째 배송되지 않습니다.",
+                1L, "customer@example.com", "홍길동", "010-1234-5678", VocPriority.NORMAL);
+        voc.addAttachment(VocAttachmentDomain.create(
+                "receipt.png", "uuid-receipt.png", "vocs/uuid-receipt.png", 1024L, "image/png"));
+        voc.addMemo(VocMemoDomain.create(1L, "고객에게 연락함", true));
+        voc.addMemo(VocMemoDomain.create(1L, "택배사 확인 요청", true));
+        Long id = adapter.saveVoc(voc).getId();
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        loaded = adapter.loadVocById(id).orElseThrow();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("메모 하나를 추가하면 INSERT 한 번만 실행한다")
+    void saveVoc_addingMemoIssuesSingleInsert() {
+        // given
+        loaded.addMemo(VocMemoDomain.create(2L, "배송 재개 안내", false));
+
+        // when
+        VocDomain saved = adapter.saveVoc(loaded);
+        testEntityManager.flush();
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(saved.getMemos()).hasSize(3).allSatisfy(memo -> assertThat(memo.getId()).isNotNull());
+        assertThat(saved.getAttachments()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("메모 여러 개를 추가하면 INSERT를 한 번의 배치로 보낸다")
+    void saveVoc_addingMemosIssuesSingleBatch() {
+        // given
+        loaded.addMemo(VocMemoDomain.create(2L, "배송 재개 안내", false));
+        loaded.addMemo(VocMemoDomain.create(2L, "고객 회신 대기", false));
+        loaded.addMemo(VocMemoDomain.create(2L, "처리 완료 예정", false));
+
+        // when
+        VocDomain saved = adapter.saveVoc(loaded);
+        testEntityManager.flush();
+
+        // then
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(saved.getMemos()).hasSize(5).allSatisfy(memo -> assertThat(memo.getId()).isNotNull());
+    }
+
+    @Test
+    @DisplayName("메모 내용만 바뀌면 해당 메모 UPDATE 한 번만 실행한다")
+    void saveVoc_updatingMemoIssuesSingleUpdate() {
+        // given
+        loaded.getMemos().get(0).updateContent("고객에게 재연락함");
+
+        // when
+        adapter.saveVoc(loaded);
+        testEntityManager.flush();
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("자식이 그대로면 SQL을 실행하지 않는다")
+    void saveVoc_unchangedChildrenIssueNoStatements() {
+        // when
+        adapter.saveVoc(loaded);
+        testEntityManager.flush();
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Configuration
+    @EnableJpaAuditing
+    @EntityScan(basePackageClasses = VocJpaEntity.class)
+    @EnableJpaRepositories(basePackageClasses = VocJpaRepository.class, includeFilters =
+            @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = VocJpaRepository.class))
+    @Import({VocPersistenceAdapter.class, VocMapper.class, AesEncryptConverter.class})
+    static class Config {
+    }
+}
@@ -0,0 +1,89 @@
+package com.geonho.vocautobot.adapter.out.search;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LogDocumentDeserializer 단위 테스트
+ */
+@DisplayName("LogDocumentDeserializer 테스트")
+class LogDocumentDeserializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("표준 필드명과 추가 필드를 한 번에 매핑한다")
+    void deserialize_StandardFields() throws Exception {
+        // when
+        LogDocument document = objectMapper.readValue("""
+            {
+              "@timestamp": "2024-01-25T10:30:00.123+09:00",
+              "level": "ERROR",
+              "service": "voc-service",
+              "message": "Database connection failed",
+              "logger": "com.example.DbService",
+              "thread": "main",
+              "trace_id": "abc123",
+              "http": {"status": 500}
+            }
+            """, LogDocument.class);
+
+        // then
+        assertThat(document.timestamp()).isEqualTo(LocalDateTime.of(2024, 1, 25, 10, 30, 0));
+        assertThat(document.level()).isEqualTo("ERROR");
+        assertThat(document.service()).isEqualTo("voc-service");
+        assertThat(document.message()).isEqualTo("Database connection failed");
+        assertThat(document.logger()).isEqualTo("com.example.DbService");
+        assertThat(document.thread()).isEqualTo("main");
+        assertThat(document.additionalFields())
+            .containsEntry("trace_id", "abc123")
+            .containsEntry("http", Map.of("status", 500))
+            .doesNotContainKeys("level", "message");
+    }
+
+    @Test
+    @DisplayName("대체 필드명을 매핑하고 여러 별칭이 있으면 앞선 이름을 우선한다")
+    void deserialize_AlternativeFieldNames() throws Exception {
+        // when
+        LogDocument document = objectMapper.readValue("""
+            {
+              "timestamp": 1706146200000,
+              "logLevel": "INFO",
+              "log_level": "WARN",
+              "service_name": "voc-service",
+              "msg": "Warning message",
+              "thread_name": null
+            }
+            """, LogDocument.class);
+
+        // then
+        assertThat(document.timestamp()).isEqualTo(
+            LocalDateTime.ofInstant(Instant.ofEpochMilli(1706146200000L), ZoneId.systemDefault()));
+        assertThat(document.level()).isEqualTo("WARN");
+        assertThat(document.service()).isEqualTo("voc-service");
+        assertThat(document.message()).isEqualTo("Warning message");
+        assertThat(document.thread()).isNull();
+        assertThat(document.additionalFields()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("파싱할 수 없는 타임스탬프는 null로 남긴다")
+    void deserialize_InvalidTimestamp() throws Exception {
+        // when
+        LogDocument document = objectMapper.readValue("""
+            {"@timestamp": "25/01/2024 10:30", "level": "INFO"}
+            """, LogDocument.class);
+
+        // then
+        assertThat(document.timestamp()).isNull();
+        assertThat(document.level()).isEqualTo("INFO");
+    }
+}
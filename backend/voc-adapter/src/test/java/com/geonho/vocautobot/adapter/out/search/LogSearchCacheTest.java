@@ -0,0 +1,184 @@
+package com.geonho.vocautobot.adapter.out.search;
+
+import com.geonho.vocautobot.adapter.out.search.LogSearchCache.SearchOutcome;
+import com.geonho.vocautobot.application.analysis.dto.LogAnalysisResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LogSearchCache 테스트")
+class LogSearchCacheTest {
+
+    private static final LocalDateTime END = LocalDateTime.of(2026, 1, 1, 10, 30, 15);
+    private static final LocalDateTime START = END.minusHours(24);
+
+    private LogSearchCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new LogSearchCache(new OpenSearchProperties());
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 검색은 한 번만 실행하고 결과를 공유한다")
+    void get_coalescesConcurrentIdenticalSearches() throws Exception {
+        // given
+        AtomicInteger searches = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        LogAnalysisResult expected = LogAnalysisResult.empty("shared");
+        int callers = 8;
+        List<FutureTask<LogAnalysisResult>> tasks = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < callers; i++) {
+            // 같은 분 안의 서로 다른 시각, 다른 키워드 순서
+            LocalDateTime end = END.plusSeconds(i);
+            List<String> queries = i % 2 == 0 ? List.of("error", "timeout") : List.of("timeout", "error");
+            FutureTask<LogAnalysisResult> task = new FutureTask<>(() ->
+                cache.get(queries, end.minusHours(24), end, 25, (s, e) -> {
+                    searches.incrementAndGet();
+                    await(release);
+                    return SearchOutcome.complete(expected);
+                }));
+            Thread thread = new Thread(task, "log-search-" + i);
+            tasks.add(task);
+            threads.add(thread);
+            thread.start();
+        }
+        // 한 호출은 검색 중(release 대기), 나머지는 진행 중인 검색 결과를 기다리는 상태
+        for (Thread thread : threads) {
+            awaitBlocked(thread);
+        }
+        assertThat(searches.get()).isEqualTo(1);
+        release.countDown();
+
+        // then
+        for (FutureTask<LogAnalysisResult> task : tasks) {
+            assertThat(task.get(5, TimeUnit.SECONDS)).isSameAs(expected);
+        }
+        assertThat(searches.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("검색 구간 끝은 분 단위로 올림해 최근 로그를 포함하고, 구간이 바뀌면 새로 검색한다")
+    void get_bucketsWindowByMinute() {
+        // given
+        List<LocalDateTime> windows = new ArrayList<>();
+
+        // when
+        cache.get(List.of("error"), START, END, 25, (s, e) -> {
+            windows.add(s);
+            windows.add(e);
+            return SearchOutcome.complete(LogAnalysisResult.empty());
+        });
+        cache.get(List.of("error"), START.plusMinutes(1), END.plusMinutes(1), 25, (s, e) -> {
+            windows.add(s);
+            windows.add(e);
+            return SearchOutcome.complete(LogAnalysisResult.empty());
+        });
+
+        // then - 시작은 내림, 끝은 올림 (10:30:15 → 10:31)
+        assertThat(windows).containsExactly(
+            LocalDateTime.of(2025, 12, 31, 10, 30), LocalDateTime.of(2026, 1, 1, 10, 31),
+            LocalDateTime.of(2025, 12, 31, 10, 31), LocalDateTime.of(2026, 1, 1, 10, 32));
+    }
+
+    @Test
+    @DisplayName("검색 구간 끝이 정각이면 그대로 검색한다")
+    void get_keepsWindowEndOnMinuteBoundary() {
+        // given
+        List<LocalDateTime> windowEnds = new ArrayList<>();
+        LocalDateTime end = LocalDateTime.of(2026, 1, 1, 10, 30);
+
+        // when
+        cache.get(List.of("error"), end.minusHours(24), end, 25, (s, e) -> {
+            windowEnds.add(e);
+            return SearchOutcome.complete(LogAnalysisResult.empty());
+        });
+
+        // then
+        assertThat(windowEnds).containsExactly(end);
+    }
+
+    @Test
+    @DisplayName("실패한 검색은 캐시하지 않는다")
+    void get_doesNotCacheFailures() {
+        // given
+        AtomicInteger searches = new AtomicInteger();
+
+        // when
+        assertThatThrownBy(() -> cache.get(List.of("error"), START, END, 25, (s, e) -> {
+            searches.incrementAndGet();
+            throw new OpenSearchAdapter.OpenSearchException("unavailable");
+        })).isInstanceOf(OpenSearchAdapter.OpenSearchException.class);
+
+        LogAnalysisResult result = cache.get(List.of("error"), START, END, 25, (s, e) -> {
+            searches.incrementAndGet();
+            return SearchOutcome.complete(LogAnalysisResult.empty("recovered"));
+        });
+
+        // then
+        assertThat(searches.get()).isEqualTo(2);
+        assertThat(result.summary()).isEqualTo("recovered");
+    }
+
+    @Test
+    @DisplayName("일부 검색어가 실패한 결과는 반환하되 캐시하지 않는다")
+    void get_doesNotCachePartialResults() {
+        // given
+        AtomicInteger searches = new AtomicInteger();
+
+        // when
+        LogAnalysisResult partial = cache.get(List.of("error", "timeout"), START, END, 25, (s, e) -> {
+            searches.incrementAndGet();
+            return SearchOutcome.partial(LogAnalysisResult.empty("partial"));
+        });
+        LogAnalysisResult retried = cache.get(List.of("error", "timeout"), START, END, 25, (s, e) -> {
+            searches.incrementAndGet();
+            return SearchOutcome.complete(LogAnalysisResult.empty("complete"));
+        });
+        LogAnalysisResult cached = cache.get(List.of("error", "timeout"), START, END, 25, (s, e) -> {
+            searches.incrementAndGet();
+            return SearchOutcome.complete(LogAnalysisResult.empty("unexpected"));
+        });
+
+        // then
+        assertThat(partial.summary()).isEqualTo("partial");
+        assertThat(retried.summary()).isEqualTo("complete");
+        assertThat(cached.summary()).isEqualTo("complete");
+        assertThat(searches.get()).isEqualTo(2);
+    }
+
+    private static void awaitBlocked(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!isBlocked(thread) && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(isBlocked(thread)).as("%s is blocked", thread.getName()).isTrue();
+    }
+
+    private static boolean isBlocked(Thread thread) {
+        Thread.State state = thread.getState();
+        return state == Thread.State.WAITING || state == Thread.State.TIMED_WAITING;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -5,7 +5,6 @@ import com.geonho.vocautobot.application.analysis.dto.LogEntry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.opensearch.client.opensearch._types.SortOrder;
 import org.opensearch.client.opensearch.core.SearchResponse;
 import org.opensearch.client.opensearch.core.search.Hit;
 import org.opensearch.client.opensearch.core.search.HitsMetadata;
@@ -35,15 +34,17 @@ class LogSearchMapperTest {
     @DisplayName("Hit을 LogEntry로 변환 - 성공")
     void toLogEntry_Success() {
         // given
-        Map<String, Object> source = new HashMap<>();
-        source.put("@timestamp", "2024-01-25T10:30:00");
-        source.put("level", "ERROR");
-        source.put("service", "voc-service");
-        source.put("message", "Database connection failed");
-        source.put("logger", "com.example.DbService");
-        source.put("thread", "main");
-
-        Hit<Map> hit = mock(Hit.class);
+        LogDocument source = new LogDocument(
+            LocalDateTime.of(2024, 1, 25, 10, 30),
+            "ERROR",
+            "voc-service",
+            "Database connection failed",
+            "com.example.DbService",
+            "main",
+            Map.of("trace_id", "abc123")
+        );
+
+        Hit<LogDocument> hit = mock(Hit.class);
         when(hit.id()).thenReturn("test-log-1");
         when(hit.source()).thenReturn(source);
 
@@ -53,44 +54,21 @@ class LogSearchMapperTest {
         // then
         assertThat(result).isNotNull();
         assertThat(result.id()).isEqualTo("test-log-1");
+        assertThat(result.timestamp()).isEqualTo(LocalDateTime.of(2024, 1, 25, 10, 30));
         assertThat(result.logLevel()).isEqualTo("ERROR");
         assertThat(result.serviceName()).isEqualTo("voc-service");
         assertThat(result.message()).isEqualTo("Database connection failed");
         assertThat(result.logger()).isEqualTo("com.example.DbService");
         assertThat(result.thread()).isEqualTo("main");
+        assertThat(result.additionalFields()).containsEntry("trace_id", "abc123");
         assertThat(result.isError()).isTrue();
     }
 
-    @Test
-    @DisplayName("Hit을 LogEntry로 변환 - 대체 필드명 사용")
-    void toLogEntry_AlternativeFieldNames() {
-        // given
-        Map<String, Object> source = new HashMap<>();
-        source.put("timestamp", "2024-01-25T10:30:00");
-        source.put("log_level", "WARN");
-        source.put("service_name", "voc-service");
-        source.put("msg", "Warning message");
-
-        Hit<Map> hit = mock(Hit.class);
-        when(hit.id()).thenReturn("test-log-2");
-        when(hit.source()).thenReturn(source);
-
-        // when
-        LogEntry result = mapper.toLogEntry(hit);
-
-        // then
-        assertThat(result).isNotNull();
-        assertThat(result.logLevel()).isEqualTo("WARN");
-        assertThat(result.serviceName()).isEqualTo("voc-service");
-        assertThat(result.message()).isEqualTo("Warning message");
-        assertThat(result.isWarning()).isTrue();
-    }
-
     @Test
     @DisplayName("Hit을 LogEntry로 변환 - null source 처리")
     void toLogEntry_NullSource() {
         // given
-        Hit<Map> hit = mock(Hit.class);
+        Hit<LogDocument> hit = mock(Hit.class);
         when(hit.id()).thenReturn("test-log-3");
         when(hit.source()).thenReturn(null);
 
@@ -105,15 +83,15 @@ class LogSearchMapperTest {
     @DisplayName("SearchResponse를 LogAnalysisResult로 변환 - 성공")
     void toLogAnalysisResult_Success() {
         // given
-        List<Hit<Map>> hits = createTestHits();
+        List<Hit<LogDocument>> hits = createTestHits();
 
-        HitsMetadata<Map> hitsMetadata = mock(HitsMetadata.class);
+        HitsMetadata<LogDocument> hitsMetadata = mock(HitsMetadata.class);
         when(hitsMetadata.hits()).thenReturn(hits);
         when(hitsMetadata.total()).thenReturn(
             TotalHits.of(t -> t.value(3).relation(TotalHitsRelation.Eq))
         );
 
-        SearchResponse<Map> response = mock(SearchResponse.class);
+        SearchResponse<LogDocument> response = mock(SearchResponse.class);
         when(response.hits()).thenReturn(hitsMetadata);
 
         // when
@@ -134,15 +112,15 @@ class LogSearchMapperTest {
     @DisplayName("에러 로그 필터링")
     void getErrorLogs() {
         // given
-        List<Hit<Map>> hits = createTestHits();
+        List<Hit<LogDocument>> hits = createTestHits();
 
-        HitsMetadata<Map> hitsMetadata = mock(HitsMetadata.class);
+        HitsMetadata<LogDocument> hitsMetadata = mock(HitsMetadata.class);
         when(hitsMetadata.hits()).thenReturn(hits);
         when(hitsMetadata.total()).thenReturn(
             TotalHits.of(t -> t.value(3).relation(TotalHitsRelation.Eq))
         );
 
-        SearchResponse<Map> response = mock(SearchResponse.class);
+        SearchResponse<LogDocument> response = mock(SearchResponse.class);
         when(response.hits()).thenReturn(hitsMetadata);
 
         LogAnalysisResult result = mapper.toLogAnalysisResult(response);
@@ -159,15 +137,15 @@ class LogSearchMapperTest {
     @DisplayName("서비스별 로그 필터링")
     void getLogsForService() {
         // given
-        List<Hit<Map>> hits = createTestHits();
+        List<Hit<LogDocument>> hits = createTestHits();
 
-        HitsMetadata<Map> hitsMetadata = mock(HitsMetadata.class);
+        HitsMetadata<LogDocument> hitsMetadata = mock(HitsMetadata.class);
         when(hitsMetadata.hits()).thenReturn(hits);
         when(hitsMetadata.total()).thenReturn(
             TotalHits.of(t -> t.value(3).relation(TotalHitsRelation.Eq))
         );
 
-        SearchResponse<Map> response = mock(SearchResponse.class);
+        SearchResponse<LogDocument> response = mock(SearchResponse.class);
         when(response.hits()).thenReturn(hitsMetadata);
 
         LogAnalysisResult result = mapper.toLogAnalysisResult(response);
@@ -184,15 +162,15 @@ class LogSearchMapperTest {
     @DisplayName("가장 많은 에러 발생 서비스 조회")
     void getMostErrorProneService() {
         // given
-        List<Hit<Map>> hits = createTestHits();
+        List<Hit<LogDocument>> hits = createTestHits();
 
-        HitsMetadata<Map> hitsMetadata = mock(HitsMetadata.class);
+        HitsMetadata<LogDocument> hitsMetadata = mock(HitsMetadata.class);
         when(hitsMetadata.hits()).thenReturn(hits);
         when(hitsMetadata.total()).thenReturn(
             TotalHits.of(t -> t.value(3).relation(TotalHitsRelation.Eq))
         );
 
-        SearchResponse<Map> response = mock(SearchResponse.class);
+        SearchResponse<LogDocument> response = mock(SearchResponse.class);
         when(response.hits()).thenReturn(hitsMetadata);
 
         LogAnalysisResult result = mapper.toLogAnalysisResult(response);
@@ -204,48 +182,44 @@ class LogSearchMapperTest {
         assertThat(mostErrorProneService).isEqualTo("voc-service");
     }
 
+    @Test
+    @DisplayName("다중 검색 결과 병합 - 문서 ID 기준 중복 제거")
+    void toMergedLogAnalysisResult_DeduplicatesById() {
+        // given - 두 쿼리 결과에 log-2가 중복 포함
+        List<Hit<LogDocument>> hits = createTestHits();
+        List<Hit<LogDocument>> firstQueryHits = List.of(hits.get(0), hits.get(1));
+        List<Hit<LogDocument>> secondQueryHits = List.of(hits.get(1), hits.get(2));
+
+        // when
+        LogAnalysisResult result = mapper.toMergedLogAnalysisResult(List.of(firstQueryHits, secondQueryHits));
+
+        // then
+        assertThat(result.logs()).extracting(LogEntry::id)
+            .containsExactly("log-1", "log-2", "log-3");
+        assertThat(result.totalCount()).isEqualTo(3);
+        assertThat(result.errorCounts().get("voc-service")).isEqualTo(2);
+    }
+
     /**
      * 테스트용 Hit 리스트 생성
      */
-    private List<Hit<Map>> createTestHits() {
-        List<Hit<Map>> hits = new ArrayList<>();
-
-        // Hit 1 - ERROR
-        Map<String, Object> source1 = new HashMap<>();
-        source1.put("@timestamp", "2024-01-25T10:30:00");
-        source1.put("level", "ERROR");
-        source1.put("service", "voc-service");
-        source1.put("message", "Database error");
-
-        Hit<Map> hit1 = mock(Hit.class);
-        when(hit1.id()).thenReturn("log-1");
-        when(hit1.source()).thenReturn(source1);
-        hits.add(hit1);
-
-        // Hit 2 - ERROR
-        Map<String, Object> source2 = new HashMap<>();
-        source2.put("@timestamp", "2024-01-25T10:31:00");
-        source2.put("level", "ERROR");
-        source2.put("service", "voc-service");
-        source2.put("message", "Network error");
-
-        Hit<Map> hit2 = mock(Hit.class);
-        when(hit2.id()).thenReturn("log-2");
-        when(hit2.source()).thenReturn(source2);
-        hits.add(hit2);
-
-        // Hit 3 - INFO
-        Map<String, Object> source3 = new HashMap<>();
-        source3.put("@timestamp", "2024-01-25T10:32:00");
-        source3.put("level", "INFO");
-        source3.put("service", "voc-service");
-        source3.put("message", "Application started");
-
-        Hit<Map> hit3 = mock(Hit.class);
-        when(hit3.id()).thenReturn("log-3");
-        when(hit3.source()).thenReturn(source3);
-        hits.add(hit3);
+    private List<Hit<LogDocument>> createTestHits() {
+        List<Hit<LogDocument>> hits = new ArrayList<>();
+
+        hits.add(hit("log-1", new LogDocument(
+            LocalDateTime.of(2024, 1, 25, 10, 30), "ERROR", "voc-service", "Database error", null, null, Map.of())));
+        hits.add(hit("log-2", new LogDocument(
+            LocalDateTime.of(2024, 1, 25, 10, 31), "ERROR", "voc-service", "Network error", null, null, Map.of())));
+        hits.add(hit("log-3", new LogDocument(
+            LocalDateTime.of(2024, 1, 25, 10, 32), "INFO", "voc-service", "Application started", null, null, Map.of())));
 
         return hits;
     }
+
+    private Hit<LogDocument> hit(String id, LogDocument source) {
+        Hit<LogDocument> hit = mock(Hit.class);
+        when(hit.id()).thenReturn(id);
+        when(hit.source()).thenReturn(source);
+        return hit;
+    }
 }
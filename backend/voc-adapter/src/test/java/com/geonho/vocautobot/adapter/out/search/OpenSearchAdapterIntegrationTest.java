@@ -1,28 +1,139 @@
 package com.geonho.vocautobot.adapter.out.search;
 
-import org.junit.jupiter.api.Disabled;
+import com.geonho.vocautobot.application.analysis.dto.LogAnalysisResult;
+import com.geonho.vocautobot.application.analysis.dto.LogEntry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch._types.Refresh;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 /**
  * OpenSearchAdapter 통합 테스트
- * Testcontainers를 사용하여 실제 OpenSearch 컨테이너와 연동 테스트
- *
- * NOTE: This test requires opensearch-testcontainers dependency.
- * Currently disabled until dependency is added.
- *
- * To enable this test:
- * 1. Add to build.gradle: testImplementation 'org.opensearch:opensearch-testcontainers:2.0.1'
- * 2. Uncomment the test methods and container setup
+ * Testcontainers로 실제 OpenSearch를 띄워 풀링 트랜스포트(OpenSearchConfig), _msearch, PIT + search_after를 검증
+ * Docker가 없으면 건너뜀
  */
-@Disabled("OpenSearch Testcontainers dependency not available - requires org.opensearch:opensearch-testcontainers")
+@Testcontainers(disabledWithoutDocker = true)
 @DisplayName("OpenSearchAdapter 통합 테스트")
 class OpenSearchAdapterIntegrationTest {
 
+    private static final String INDEX = "logs-it";
+    private static final int TIMESTAMPS = 5;
+    private static final int LOGS_PER_TIMESTAMP = 5;
+
+    @Container
+    private static final GenericContainer<?> OPENSEARCH = new GenericContainer<>("opensearchproject/opensearch:2.11.1")
+        .withEnv("discovery.type", "single-node")
+        .withEnv("DISABLE_SECURITY_PLUGIN", "true")
+        .withEnv("DISABLE_INSTALL_DEMO_CONFIG", "true")
+        .withEnv("OPENSEARCH_JAVA_OPTS", "-Xms512m -Xmx512m")
+        .withExposedPorts(9200)
+        .waitingFor(Wait.forHttp("/_cluster/health").forPort(9200).forStatusCode(200)
+            .withStartupTimeout(Duration.ofMinutes(3)));
+
+    private static OpenSearchTransport transport;
+    private static OpenSearchClient client;
+    private static OpenSearchAdapter adapter;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        OpenSearchProperties properties = new OpenSearchProperties();
+        properties.setHost(OPENSEARCH.getHost());
+        properties.setPort(OPENSEARCH.getMappedPort(9200));
+        // 페이지 경계가 같은 타임스탬프 묶음 중간에 걸리도록 작은 페이지 크기 사용
+        properties.setBatchSize(4);
+        properties.setSearchCacheTtlSeconds(0);
+
+        transport = new OpenSearchConfig().openSearchTransport(properties);
+        client = new OpenSearchClient(transport);
+        adapter = new OpenSearchAdapter(properties, new LogSearchMapper(), new LogSearchCache(properties),
+            client, new OpenSearchAsyncClient(transport));
+        adapter.initialize();
+
+        client.indices().create(c -> c
+            .index(INDEX)
+            .mappings(m -> m
+                .properties("@timestamp", p -> p.date(d -> d))
+                .properties("level", p -> p.keyword(k -> k))
+                .properties("service", p -> p.keyword(k -> k))
+                .properties("message", p -> p.text(t -> t))));
+
+        // 같은 타임스탬프의 로그가 5건씩 (search_after 보조 정렬이 없으면 페이지 경계에서 빠지거나 중복됨)
+        Instant base = Instant.now().minus(10, ChronoUnit.MINUTES).truncatedTo(ChronoUnit.SECONDS);
+        client.bulk(b -> {
+            for (int t = 0; t < TIMESTAMPS; t++) {
+                String timestamp = base.plusSeconds(t).toString();
+                for (int i = 0; i < LOGS_PER_TIMESTAMP; i++) {
+                    String id = "log-" + t + "-" + i;
+                    String message = i % 2 == 0 ? "payment timeout failure" : "order failure";
+                    b.operations(op -> op.index(idx -> idx
+                        .index(INDEX)
+                        .id(id)
+                        .document(Map.of(
+                            "@timestamp", timestamp,
+                            "level", "ERROR",
+                            "service", "voc-backend",
+                            "message", message))));
+                }
+            }
+            return b.refresh(Refresh.True);
+        });
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        if (transport != null) {
+            transport.close();
+        }
+    }
+
+    @Test
+    @DisplayName("기동 시 연결을 확인하면 검색을 사용할 수 있다")
+    void initialize_marksAvailable() {
+        assertThat(adapter.isAvailable()).isTrue();
+    }
+
     @Test
-    @DisplayName("Placeholder test - integration tests disabled")
-    void placeholderTest() {
-        // This test class requires opensearch-testcontainers dependency
-        // See class-level Javadoc for enabling instructions
+    @DisplayName("PIT 페이지 조회는 같은 타임스탬프의 로그도 빠짐·중복 없이 모두 반환한다")
+    void searchLogs_pagesThroughTiesWithoutGapsOrDuplicates() {
+        // when - batch-size(4)보다 많이 요청해 PIT + search_after 경로 사용
+        LogAnalysisResult result = adapter.searchLogs("failure",
+            LocalDateTime.now().minusHours(1), LocalDateTime.now().plusMinutes(1), 100);
+
+        // then
+        List<String> ids = result.logs().stream().map(LogEntry::id).toList();
+        assertThat(ids).hasSize(TIMESTAMPS * LOGS_PER_TIMESTAMP).doesNotHaveDuplicates();
+        assertThat(result.totalCount()).isEqualTo(TIMESTAMPS * LOGS_PER_TIMESTAMP);
+        assertThat(result.logs()).extracting(LogEntry::timestamp).isSortedAccordingTo((a, b) -> b.compareTo(a));
+    }
+
+    @Test
+    @DisplayName("여러 검색어를 _msearch 한 번으로 검색하고 문서 ID로 중복을 제거한다")
+    void multiSearchLogs_mergesAndDeduplicates() {
+        // when
+        LogAnalysisResult result = adapter.multiSearchLogs(List.of("timeout", "payment"),
+            LocalDateTime.now().minusHours(1), LocalDateTime.now().plusMinutes(1), 50);
+
+        // then - 두 검색어 모두 "payment timeout failure" 문서(타임스탬프당 3건)에 걸림
+        assertThat(result.logs()).extracting(LogEntry::id)
+            .hasSize(TIMESTAMPS * 3)
+            .doesNotHaveDuplicates()
+            .allMatch(id -> id.endsWith("-0") || id.endsWith("-2") || id.endsWith("-4"));
     }
 }
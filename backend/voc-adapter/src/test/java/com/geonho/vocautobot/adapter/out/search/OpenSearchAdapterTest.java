@@ -1,22 +1,273 @@
 package com.geonho.vocautobot.adapter.out.search;
 
-import org.junit.jupiter.api.Disabled;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.geonho.vocautobot.application.analysis.dto.LogAnalysisResult;
+import com.geonho.vocautobot.application.analysis.dto.LogEntry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.httpclient5.ApacheHttpClient5TransportBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 /**
  * OpenSearchAdapter 단위 테스트
- *
- * NOTE: This test has complex mocking requirements for OpenSearchClient.
- * Temporarily disabled until proper test setup is implemented.
+ * MockWebServer를 OpenSearch 대역으로 사용하여 요청 본문과 응답 매핑을 검증
  */
-@Disabled("OpenSearchClient mocking issues - requires proper test setup")
 @DisplayName("OpenSearchAdapter 테스트")
 class OpenSearchAdapterTest {
 
+    private MockWebServer mockWebServer;
+    private OpenSearchTransport transport;
+    private OpenSearchProperties properties;
+    private OpenSearchAdapter adapter;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockWebServer = new MockWebServer();
+        mockWebServer.start();
+
+        transport = ApacheHttpClient5TransportBuilder
+            .builder(new HttpHost("http", mockWebServer.getHostName(), mockWebServer.getPort()))
+            .setMapper(new JacksonJsonpMapper())
+            .build();
+
+        properties = new OpenSearchProperties();
+        properties.setBatchSize(2);
+
+        adapter = new OpenSearchAdapter(properties, new LogSearchMapper(), new LogSearchCache(properties),
+            new OpenSearchClient(transport), new OpenSearchAsyncClient(transport));
+
+        // initialize()의 연결 확인(ping) 응답
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200));
+        adapter.initialize();
+        mockWebServer.takeRequest();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        transport.close();
+        mockWebServer.shutdown();
+    }
+
     @Test
-    @DisplayName("Placeholder test - unit tests disabled pending proper mock setup")
-    void placeholderTest() {
-        // This test class requires proper OpenSearchClient mock setup
+    @DisplayName("로그 통계는 문서 없이(size: 0) 서버 측 집계로 조회한다")
+    void getLogStatistics_usesServerSideAggregations() throws Exception {
+        // given
+        mockWebServer.enqueue(jsonResponse("""
+            {
+              "took": 3,
+              "timed_out": false,
+              "_shards": {"total": 1, "successful": 1, "skipped": 0, "failed": 0},
+              "hits": {"total": {"value": 25000, "relation": "eq"}, "max_score": null, "hits": []},
+              "aggregations": {
+                "sterms#levels": {
+                  "doc_count_error_upper_bound": 0,
+                  "sum_other_doc_count": 0,
+                  "buckets": [
+                    {"key": "INFO", "doc_count": 23000},
+                    {"key": "WARN", "doc_count": 1500},
+                    {"key": "ERROR", "doc_count": 500}
+                  ]
+                },
+                "sterms#services": {
+                  "doc_count_error_upper_bound": 0,
+                  "sum_other_doc_count": 0,
+                  "buckets": [
+                    {"key": "voc-backend", "doc_count": 20000},
+                    {"key": "ai-service", "doc_count": 5000}
+                  ]
+                },
+                "filter#errors": {
+                  "doc_count": 500,
+                  "sterms#services": {
+                    "doc_count_error_upper_bound": 0,
+                    "sum_other_doc_count": 0,
+                    "buckets": [
+                      {"key": "ai-service", "doc_count": 420},
+                      {"key": "voc-backend", "doc_count": 80}
+                    ]
+                  },
+                  "date_histogram#timeline": {
+                    "buckets": [
+                      {"key_as_string": "2026-01-01 09:00", "key": 1767258000000, "doc_count": 100},
+                      {"key_as_string": "2026-01-01 10:00", "key": 1767261600000, "doc_count": 400}
+                    ]
+                  }
+                }
+              }
+            }
+            """));
+
+        // when
+        LogAnalysisResult result = adapter.getLogStatistics(
+            LocalDateTime.now().minusHours(24), LocalDateTime.now());
+
+        // then
+        assertThat(result.logs()).isEmpty();
+        assertThat(result.totalCount()).isEqualTo(25000);
+        assertThat(result.logLevelCounts()).containsEntry("ERROR", 500).containsEntry("INFO", 23000);
+        assertThat(result.serviceCounts()).containsEntry("voc-backend", 20000);
+        assertThat(result.errorCounts()).containsEntry("ai-service", 420).containsEntry("voc-backend", 80);
+        assertThat(result.getMostErrorProneService()).isEqualTo("ai-service");
+        assertThat(result.summary()).contains("500건의 에러", "2026-01-01 10:00");
+
+        RecordedRequest request = mockWebServer.takeRequest();
+        assertThat(request.getPath()).contains("/_search");
+        JsonNode body = objectMapper.readTree(request.getBody().readUtf8());
+        assertThat(body.get("size").asInt()).isZero();
+        assertThat(body.get("aggregations").has("levels")).isTrue();
+        assertThat(body.get("aggregations").get("errors").get("aggregations").has("timeline")).isTrue();
+    }
+
+    @Test
+    @DisplayName("batch-size보다 많은 결과는 PIT + search_after로 페이지 단위 조회 후 PIT를 해제한다")
+    void searchLogs_pagesWithPitAndSearchAfter() throws Exception {
+        // given - PIT 생성, 가득 찬 1페이지, 마지막 2페이지, PIT 삭제
+        mockWebServer.enqueue(jsonResponse("""
+            {"pit_id": "pit-1", "_shards": {"total": 1, "successful": 1, "skipped": 0, "failed": 0}, "creation_time": 1767258000000}
+            """));
+        mockWebServer.enqueue(jsonResponse(searchPage(5,
+            hit("log-1", "2026-01-01T10:05:00", 5), hit("log-2", "2026-01-01T10:04:00", 4))));
+        mockWebServer.enqueue(jsonResponse(searchPage(5,
+            hit("log-3", "2026-01-01T10:03:00", 3))));
+        mockWebServer.enqueue(jsonResponse("""
+            {"pits": [{"successful": true, "pit_id": "pit-1"}]}
+            """));
+
+        // when
+        LogAnalysisResult result = adapter.searchLogs("error",
+            LocalDateTime.now().minusHours(1), LocalDateTime.now(), 10);
+
+        // then
+        assertThat(result.logs()).extracting(LogEntry::id).containsExactly("log-1", "log-2", "log-3");
+        assertThat(result.totalCount()).isEqualTo(5);
+
+        RecordedRequest createPit = mockWebServer.takeRequest();
+        assertThat(createPit.getMethod()).isEqualTo("POST");
+        assertThat(createPit.getPath()).contains("/_search/point_in_time");
+
+        JsonNode firstPage = objectMapper.readTree(mockWebServer.takeRequest().getBody().readUtf8());
+        assertThat(firstPage.get("pit").get("id").asText()).isEqualTo("pit-1");
+        assertThat(firstPage.get("size").asInt()).isEqualTo(2);
+        assertThat(firstPage.has("search_after")).isFalse();
+        // 같은 타임스탬프끼리는 _id로 순서를 고정
+        assertThat(firstPage.get("sort")).hasSize(2);
+        assertThat(firstPage.get("sort").get(1).has("_id")).isTrue();
+
+        JsonNode secondPage = objectMapper.readTree(mockWebServer.takeRequest().getBody().readUtf8());
+        assertThat(secondPage.get("search_after").get(0).asText()).isEqualTo("4");
+        assertThat(secondPage.get("search_after").get(1).asText()).isEqualTo("log-2");
+
+        RecordedRequest deletePit = mockWebServer.takeRequest();
+        assertThat(deletePit.getMethod()).isEqualTo("DELETE");
+        assertThat(deletePit.getPath()).contains("/_search/point_in_time");
+    }
+
+    @Test
+    @DisplayName("_msearch 일부 검색어가 실패하면 성공한 결과만 반환하고 캐시하지 않는다")
+    void multiSearchLogs_doesNotCachePartialFailures() throws Exception {
+        // given - "timeout"은 성공, "payment"는 실패
+        String partial = """
+            {"took": 1, "responses": [
+              %s,
+              {"error": {"type": "search_phase_execution_exception", "reason": "all shards failed"}, "status": 503}
+            ]}
+            """.formatted(msearchItem(hit("log-1", "2026-01-01T10:05:00", 5)));
+        mockWebServer.enqueue(jsonResponse(partial));
+        mockWebServer.enqueue(jsonResponse(partial));
+        LocalDateTime end = LocalDateTime.now();
+
+        // when
+        LogAnalysisResult first = adapter.multiSearchLogs(List.of("timeout", "payment"), end.minusHours(1), end, 10);
+        LogAnalysisResult second = adapter.multiSearchLogs(List.of("timeout", "payment"), end.minusHours(1), end, 10);
+
+        // then - 같은 키지만 두 번 모두 _msearch 요청
+        assertThat(first.logs()).extracting(LogEntry::id).containsExactly("log-1");
+        assertThat(second.logs()).extracting(LogEntry::id).containsExactly("log-1");
+        assertThat(mockWebServer.takeRequest().getPath()).contains("/_msearch");
+        assertThat(mockWebServer.takeRequest().getPath()).contains("/_msearch");
+    }
+
+    @Test
+    @DisplayName("연결이 끊기면 빈 결과를 반환하고, 주기적 재확인으로 복구되면 다시 검색한다")
+    void refreshAvailability_followsOutageAndRecovery() throws Exception {
+        // given - 재확인 ping 실패
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+        adapter.refreshAvailability();
+        mockWebServer.takeRequest();
+
+        // when
+        LogAnalysisResult whileDown = adapter.searchLogs("error", LocalDateTime.now().minusHours(1),
+            LocalDateTime.now(), 1);
+
+        // then - 검색 요청을 보내지 않음
+        assertThat(adapter.isAvailable()).isFalse();
+        assertThat(whileDown.logs()).isEmpty();
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(2);
+
+        // when - 복구 후 재확인 ping 성공
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200));
+        adapter.refreshAvailability();
+        mockWebServer.takeRequest();
+        mockWebServer.enqueue(jsonResponse(searchPage(1, hit("log-1", "2026-01-01T10:05:00", 5))));
+        LogAnalysisResult recovered = adapter.searchLogs("error", LocalDateTime.now().minusHours(1),
+            LocalDateTime.now(), 1);
+
+        // then
+        assertThat(adapter.isAvailable()).isTrue();
+        assertThat(recovered.logs()).extracting(LogEntry::id).containsExactly("log-1");
+    }
+
+    private String searchPage(long total, String... hits) {
+        return """
+            {
+              "took": 1,
+              "timed_out": false,
+              "_shards": {"total": 1, "successful": 1, "skipped": 0, "failed": 0},
+              "hits": {"total": {"value": %d, "relation": "eq"}, "max_score": null, "hits": [%s]}
+            }
+            """.formatted(total, String.join(",", hits));
+    }
+
+    private String msearchItem(String... hits) {
+        return """
+            {
+              "took": 1,
+              "timed_out": false,
+              "_shards": {"total": 1, "successful": 1, "skipped": 0, "failed": 0},
+              "hits": {"total": {"value": %d, "relation": "eq"}, "max_score": null, "hits": [%s]},
+              "status": 200
+            }
+            """.formatted(hits.length, String.join(",", hits));
+    }
+
+    private String hit(String id, String timestamp, long sortValue) {
+        return """
+            {"_index": "logs-2026.01.01", "_id": "%s", "_score": null,
+             "_source": {"@timestamp": "%s", "level": "ERROR", "service": "voc-backend", "message": "failure"},
+             "sort": [%d, "%s"]}
+            """.formatted(id, timestamp, sortValue, id);
+    }
+
+    private MockResponse jsonResponse(String body) {
+        return new MockResponse()
+            .setBody(body)
+            .addHeader("Content-Type", "application/json");
     }
 }
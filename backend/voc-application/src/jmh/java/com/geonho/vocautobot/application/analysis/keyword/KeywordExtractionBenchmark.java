@@ -0,0 +1,82 @@
+package com.geonho.vocautobot.application.analysis.keyword;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 긴 VOC 본문 키워드 추출 처리량 비교
+ * - containsScan: 본문 소문자 변환 후 표현마다 String.contains (기존 방식)
+ * - ahoCorasick: KeywordExtractor 단일 순회
+ *
+ * 실행: ./gradlew :voc-application:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class KeywordExtractionBenchmark {
+
+    private static final String PARAGRAPH =
+        "어제 오후부터 모바일 앱에서 주문 내역 조회가 계속 실패합니다. 화면이 한참 멈춰 있다가 "
+            + "'일시적인 문제가 발생했습니다'라는 메시지가 뜨고, 다시 시도하면 로그인 화면으로 돌아갑니다. "
+            + "The order history page keeps spinning and then shows a generic message. "
+            + "고객센터 안내대로 앱을 재설치하고 캐시도 삭제했지만 증상은 동일합니다. ";
+
+    @Param({"1000", "10000", "100000"})
+    private int bodyLength;
+
+    @Param({"7", "200"})
+    private int dictionarySize;
+
+    private String title;
+    private String body;
+    private KeywordDictionary dictionary;
+    private KeywordExtractor extractor;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder(bodyLength + PARAGRAPH.length());
+        while (builder.length() < bodyLength) {
+            builder.append(PARAGRAPH);
+        }
+        body = builder.append(" 결국 timeout 에러").toString();
+        title = "주문 내역 조회 실패";
+
+        List<KeywordDictionary.Entry> entries = new ArrayList<>(KeywordDictionary.defaults().entries());
+        for (int i = entries.size(); i < dictionarySize; i++) {
+            entries.add(new KeywordDictionary.Entry("keyword-" + i, List.of("표현" + i, "term-" + i)));
+        }
+        dictionary = new KeywordDictionary(entries);
+        extractor = new KeywordExtractor(() -> dictionary);
+        extractor.reload();
+    }
+
+    @Benchmark
+    public List<String> containsScan() {
+        String text = (title + " " + body).toLowerCase();
+        List<String> keywords = new ArrayList<>();
+        for (KeywordDictionary.Entry entry : dictionary.entries()) {
+            for (String term : entry.terms()) {
+                if (text.contains(term)) {
+                    keywords.add(entry.keyword());
+                    break;
+                }
+            }
+        }
+        return keywords;
+    }
+
+    @Benchmark
+    public List<String> ahoCorasick() {
+        return extractor.extractKeywords(title, body);
+    }
+}
@@ -0,0 +1,64 @@
+package com.geonho.vocautobot.application.statistics.cluster;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * bge-m3(1024차원) 임베딩 한 페이지의 mini-batch 학습·배정 시간
+ * 페이지당 시간 * (전체 임베딩 수 / pageSize)로 전체 배치 소요 시간을 가늠
+ *
+ * 실행: ./gradlew :voc-application:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class KMeansBatchBenchmark {
+
+    private static final int DIMENSION = 1024;
+
+    @Param({"2048"})
+    private int pageSize;
+
+    @Param({"20", "50"})
+    private int k;
+
+    private float[] vectors;
+    private int[] assignments;
+    private float[] similarities;
+    private SphericalMiniBatchKMeans model;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        vectors = new float[pageSize * DIMENSION];
+        for (int i = 0; i < vectors.length; i++) {
+            vectors[i] = (float) random.nextGaussian();
+        }
+        SphericalMiniBatchKMeans.normalize(vectors, pageSize, DIMENSION);
+        model = SphericalMiniBatchKMeans.initialize(vectors, pageSize, DIMENSION, k, random, ForkJoinPool.commonPool());
+        assignments = new int[pageSize];
+        similarities = new float[pageSize];
+    }
+
+    @Benchmark
+    public SphericalMiniBatchKMeans partialFit() {
+        model.partialFit(vectors, pageSize);
+        return model;
+    }
+
+    @Benchmark
+    public int[] assign() {
+        model.assign(vectors, pageSize, assignments, similarities);
+        return assignments;
+    }
+}
@@ -0,0 +1,98 @@
+package com.geonho.vocautobot.application.analysis.burst;
+
+import com.geonho.vocautobot.application.analysis.dto.LogAnalysisResult;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 인시던트 그룹
+ * 같은 카테고리/키워드로 VOC가 급증한 구간의 VOC 묶음
+ * 키워드 그룹은 그 키워드의 로그 검색을 그룹당 한 번만 수행하고, 요약·원인·권장 조치는 VOC마다 따로 생성
+ */
+public final class IncidentGroup {
+
+    static final String CATEGORY_PREFIX = "category:";
+    static final String KEYWORD_PREFIX = "keyword:";
+
+    private final String key;
+    private final Instant openedAt;
+    private final Long triggerVocId;
+    private final Set<Long> vocIds = ConcurrentHashMap.newKeySet();
+    private final AtomicReference<CompletableFuture<LogAnalysisResult>> logSearch = new AtomicReference<>();
+
+    IncidentGroup(String key, Instant openedAt, Long triggerVocId) {
+        this.key = key;
+        this.openedAt = openedAt;
+        this.triggerVocId = triggerVocId;
+    }
+
+    /**
+     * 그룹 공유 로그 검색
+     * 처음 호출한 VOC만 search를 실행하고 나머지는 같은 검색 결과를 기다림, 실패하면 다음 호출에서 다시 검색
+     */
+    public CompletableFuture<LogAnalysisResult> sharedLogSearch(Supplier<CompletableFuture<LogAnalysisResult>> search) {
+        CompletableFuture<LogAnalysisResult> current = logSearch.get();
+        if (current != null) {
+            return current;
+        }
+
+        CompletableFuture<LogAnalysisResult> pending = new CompletableFuture<>();
+        if (!logSearch.compareAndSet(null, pending)) {
+            return logSearch.get();
+        }
+
+        try {
+            search.get().whenComplete((result, error) -> {
+                if (error != null) {
+                    logSearch.compareAndSet(pending, null);
+                    pending.completeExceptionally(error);
+                } else {
+                    pending.complete(result);
+                }
+            });
+        } catch (RuntimeException e) {
+            logSearch.compareAndSet(pending, null);
+            pending.completeExceptionally(e);
+        }
+        return pending;
+    }
+
+    void add(Long vocId) {
+        vocIds.add(vocId);
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * 키워드 그룹의 대표 키워드 (카테고리 그룹이면 null)
+     */
+    public String getKeyword() {
+        return isKeywordGroup() ? key.substring(KEYWORD_PREFIX.length()) : null;
+    }
+
+    /**
+     * 키워드로 묶인 그룹인지 여부 (카테고리 그룹은 내용이 서로 다를 수 있어 로그 검색을 공유하지 않음)
+     */
+    public boolean isKeywordGroup() {
+        return key.startsWith(KEYWORD_PREFIX);
+    }
+
+    public Instant getOpenedAt() {
+        return openedAt;
+    }
+
+    public Long getTriggerVocId() {
+        return triggerVocId;
+    }
+
+    public int size() {
+        return vocIds.size();
+    }
+}
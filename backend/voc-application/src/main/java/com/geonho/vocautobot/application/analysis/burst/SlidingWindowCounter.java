@@ -0,0 +1,75 @@
+package com.geonho.vocautobot.application.analysis.burst;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 시간 버킷 링 버퍼 기반 슬라이딩 윈도우 카운터
+ * 버킷별 LongAdder로 동시 증가를 경합 없이 집계하고,
+ * 링이 한 바퀴 돌아 버킷을 재사용할 때는 CAS로 새 버킷으로 교체 (락 없음)
+ */
+public final class SlidingWindowCounter {
+
+    private final long bucketMillis;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    /**
+     * @param bucketSize 버킷 하나의 시간 폭
+     * @param bucketCount 보관할 버킷 수 (조회 가능한 최대 과거 범위)
+     */
+    public SlidingWindowCounter(Duration bucketSize, int bucketCount) {
+        this.bucketMillis = bucketSize.toMillis();
+        this.buckets = new AtomicReferenceArray<>(bucketCount);
+    }
+
+    /**
+     * 시각이 속한 버킷 번호
+     */
+    public long epochOf(long epochMillis) {
+        return Math.floorDiv(epochMillis, bucketMillis);
+    }
+
+    public void increment(long epochMillis) {
+        long epoch = epochOf(epochMillis);
+        int index = indexOf(epoch);
+        Bucket bucket = buckets.get(index);
+        while (bucket == null || bucket.epoch() < epoch) {
+            Bucket fresh = new Bucket(epoch, new LongAdder());
+            if (buckets.compareAndSet(index, bucket, fresh)) {
+                bucket = fresh;
+                break;
+            }
+            bucket = buckets.get(index);
+        }
+        if (bucket.epoch() == epoch) {
+            bucket.count().increment();
+        }
+    }
+
+    /**
+     * 특정 버킷의 건수 (이미 덮어써진 버킷은 0)
+     */
+    public long count(long epoch) {
+        Bucket bucket = buckets.get(indexOf(epoch));
+        return bucket != null && bucket.epoch() == epoch ? bucket.count().sum() : 0;
+    }
+
+    /**
+     * 마지막 버킷부터 과거로 bucketSpan개 버킷의 합
+     */
+    public long sum(long lastEpoch, int bucketSpan) {
+        long total = 0;
+        for (long epoch = lastEpoch - bucketSpan + 1; epoch <= lastEpoch; epoch++) {
+            total += count(epoch);
+        }
+        return total;
+    }
+
+    private int indexOf(long epoch) {
+        return (int) Math.floorMod(epoch, (long) buckets.length());
+    }
+
+    private record Bucket(long epoch, LongAdder count) {
+    }
+}
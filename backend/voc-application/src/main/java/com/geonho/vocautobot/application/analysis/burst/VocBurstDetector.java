@@ -0,0 +1,226 @@
+package com.geonho.vocautobot.application.analysis.burst;
+
+import com.geonho.vocautobot.application.analysis.keyword.KeywordExtractor;
+import com.geonho.vocautobot.application.notification.usecase.NotificationService;
+import com.geonho.vocautobot.domain.notification.NotificationType;
+import com.geonho.vocautobot.domain.voc.VocDomain;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * VOC 급증(burst) 감지기
+ * 카테고리·추출 키워드별 슬라이딩 윈도우 건수를 EWMA 기준선과 비교해 급증을 감지하고,
+ * 급증 구간의 VOC를 인시던트 그룹으로 묶어 키워드 그룹의 로그 검색을 그룹당 한 번만 수행하도록 함
+ *
+ * - 급증 조건: 최근 windowBuckets개 버킷 건수 >= max(minCount, 기준선 * factor)
+ * - 기준선: 버킷마다 윈도우 건수를 EWMA로 반영 (그룹이 열린 동안은 반영하지 않음)
+ * - 그룹 종료: 건수가 급증 조건 아래로 내려가거나 groupTtl 경과
+ */
+@Slf4j
+@Component
+public class VocBurstDetector {
+
+    private static final String CATEGORY_KEY = IncidentGroup.CATEGORY_PREFIX;
+    private static final String KEYWORD_KEY = IncidentGroup.KEYWORD_PREFIX;
+    private static final double IDLE_BASELINE = 0.01;
+
+    private final KeywordExtractor keywordExtractor;
+    private final NotificationService notificationService;
+    private final Settings settings;
+    private final Clock clock;
+    private final long warmUpUntil;
+
+    private final ConcurrentMap<String, KeyStats> stats = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, IncidentGroup> openGroups = new ConcurrentHashMap<>();
+
+    @Autowired
+    public VocBurstDetector(
+            KeywordExtractor keywordExtractor,
+            NotificationService notificationService,
+            @Value("${voc.burst.bucket-size-ms:60000}") long bucketSizeMs,
+            @Value("${voc.burst.window-buckets:5}") int windowBuckets,
+            @Value("${voc.burst.ewma-alpha:0.2}") double ewmaAlpha,
+            @Value("${voc.burst.factor:3.0}") double factor,
+            @Value("${voc.burst.min-count:5}") long minCount,
+            @Value("${voc.burst.group-ttl-minutes:60}") long groupTtlMinutes
+    ) {
+        this(keywordExtractor, notificationService,
+                new Settings(Duration.ofMillis(bucketSizeMs), windowBuckets, ewmaAlpha, factor, minCount,
+                        Duration.ofMinutes(groupTtlMinutes)),
+                Clock.systemDefaultZone());
+    }
+
+    VocBurstDetector(KeywordExtractor keywordExtractor, NotificationService notificationService,
+                     Settings settings, Clock clock) {
+        this.keywordExtractor = keywordExtractor;
+        this.notificationService = notificationService;
+        this.settings = settings;
+        this.clock = clock;
+        // 기동 직후에는 기준선이 없으므로 두 윈도우 동안은 감지하지 않음
+        this.warmUpUntil = clock.millis() + settings.window().toMillis() * 2;
+    }
+
+    /**
+     * VOC 유입 기록
+     * 카테고리 급증도 감지·알림하지만, 로그 검색을 공유할 그룹은 키워드 그룹만 반환
+     *
+     * @return VOC가 속한 키워드 인시던트 그룹 (급증 구간이 아니거나 카테고리 그룹뿐이면 empty)
+     */
+    public Optional<IncidentGroup> record(VocDomain voc) {
+        long now = clock.millis();
+        IncidentGroup joined = null;
+
+        for (String key : keysOf(voc)) {
+            KeyStats keyStats = stats.computeIfAbsent(key, k -> new KeyStats(
+                    new SlidingWindowCounter(settings.bucketSize(), settings.windowBuckets() * 2)));
+            keyStats.counter.increment(now);
+            long epoch = keyStats.counter.epochOf(now);
+            keyStats.lastSeenEpoch = epoch;
+
+            IncidentGroup group = openGroups.get(key);
+            if (group == null && now >= warmUpUntil) {
+                long windowCount = keyStats.counter.sum(epoch, settings.windowBuckets());
+                if (windowCount >= threshold(keyStats.baseline)) {
+                    group = openGroup(key, voc, windowCount, keyStats.baseline, now);
+                }
+            }
+            if (group != null) {
+                group.add(voc.getId());
+                if (joined == null && group.isKeywordGroup()) {
+                    joined = group;
+                }
+            }
+        }
+        return Optional.ofNullable(joined);
+    }
+
+    /**
+     * 버킷마다 기준선 갱신 및 가라앉은 그룹 종료
+     */
+    @Scheduled(fixedDelayString = "${voc.burst.bucket-size-ms:60000}")
+    public void tick() {
+        long now = clock.millis();
+
+        stats.forEach((key, keyStats) -> {
+            long lastCompleted = keyStats.counter.epochOf(now) - 1;
+            long windowCount = keyStats.counter.sum(lastCompleted, settings.windowBuckets());
+
+            if (!openGroups.containsKey(key) && keyStats.lastSampledEpoch < lastCompleted) {
+                keyStats.baseline = settings.ewmaAlpha() * windowCount
+                        + (1 - settings.ewmaAlpha()) * keyStats.baseline;
+                keyStats.lastSampledEpoch = lastCompleted;
+            }
+
+            boolean idle = windowCount == 0 && keyStats.baseline < IDLE_BASELINE
+                    && keyStats.lastSeenEpoch < lastCompleted - settings.windowBuckets();
+            if (idle && !openGroups.containsKey(key)) {
+                stats.remove(key, keyStats);
+            }
+        });
+
+        openGroups.forEach((key, group) -> {
+            KeyStats keyStats = stats.get(key);
+            long windowCount = keyStats != null
+                    ? keyStats.counter.sum(keyStats.counter.epochOf(now), settings.windowBuckets())
+                    : 0;
+            boolean subsided = keyStats == null || windowCount < threshold(keyStats.baseline);
+            boolean expired = Duration.between(group.getOpenedAt(), Instant.ofEpochMilli(now))
+                    .compareTo(settings.groupTtl()) >= 0;
+
+            if ((subsided || expired) && openGroups.remove(key, group)) {
+                log.info("Incident group closed - key: {}, VOCs: {}, reason: {}",
+                        key, group.size(), expired ? "ttl" : "subsided");
+            }
+        });
+    }
+
+    private List<String> keysOf(VocDomain voc) {
+        List<String> keys = new ArrayList<>();
+        if (voc.getCategoryId() != null) {
+            keys.add(CATEGORY_KEY + voc.getCategoryId());
+        }
+        for (String keyword : keywordExtractor.extractKeywords(voc.getTitle(), voc.getContent())) {
+            keys.add(KEYWORD_KEY + keyword);
+        }
+        return keys;
+    }
+
+    private double threshold(double baseline) {
+        return Math.max(settings.minCount(), baseline * settings.factor());
+    }
+
+    private IncidentGroup openGroup(String key, VocDomain voc, long windowCount, double baseline, long now) {
+        IncidentGroup candidate = new IncidentGroup(key, Instant.ofEpochMilli(now), voc.getId());
+        IncidentGroup existing = openGroups.putIfAbsent(key, candidate);
+        if (existing != null) {
+            return existing;
+        }
+
+        log.warn("VOC burst detected - key: {}, count: {} in {}, baseline: {}",
+                key, windowCount, settings.window(), String.format("%.1f", baseline));
+        broadcastBurst(key, voc, windowCount, baseline);
+        return candidate;
+    }
+
+    private void broadcastBurst(String key, VocDomain voc, long windowCount, double baseline) {
+        try {
+            notificationService.broadcast(
+                    NotificationType.INCIDENT_BURST,
+                    "VOC 급증 감지",
+                    String.format("%s VOC가 최근 %d분간 %d건 접수되었습니다 (평소 %.1f건). 최초 VOC: [%s] %s",
+                            describe(key), settings.window().toMinutes(), windowCount, baseline,
+                            voc.getTicketId(), voc.getTitle()),
+                    voc.getId()
+            );
+        } catch (Exception e) {
+            log.warn("Failed to broadcast VOC burst notification: {}", e.getMessage());
+        }
+    }
+
+    private static String describe(String key) {
+        if (key.startsWith(CATEGORY_KEY)) {
+            return "카테고리 #" + key.substring(CATEGORY_KEY.length());
+        }
+        return "'" + key.substring(KEYWORD_KEY.length()) + "' 관련";
+    }
+
+    /**
+     * @param bucketSize 카운터 버킷 폭 (기준선 갱신 주기)
+     * @param windowBuckets 급증 판단 윈도우의 버킷 수
+     * @param ewmaAlpha 기준선 EWMA 가중치
+     * @param factor 기준선 대비 급증 배수
+     * @param minCount 급증으로 보는 최소 건수
+     * @param groupTtl 인시던트 그룹 최대 유지 시간
+     */
+    record Settings(Duration bucketSize, int windowBuckets, double ewmaAlpha, double factor, long minCount,
+                    Duration groupTtl) {
+
+        Duration window() {
+            return bucketSize.multipliedBy(windowBuckets);
+        }
+    }
+
+    private static final class KeyStats {
+
+        private final SlidingWindowCounter counter;
+        private volatile double baseline;
+        private volatile long lastSampledEpoch = Long.MIN_VALUE;
+        private volatile long lastSeenEpoch;
+
+        private KeyStats(SlidingWindowCounter counter) {
+            this.counter = counter;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.geonho.vocautobot.application.analysis.keyword;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aho-Corasick 다중 패턴 매처
+ * 패턴 수와 무관하게 텍스트를 한 번만 순회하며 모든 패턴의 출현 여부를 판별 (대소문자 무시)
+ *
+ * 생성 후 불변이므로 여러 스레드에서 공유 가능
+ */
+public final class AhoCorasickMatcher {
+
+    private static final int ROOT = 0;
+
+    /** 노드별 전이 문자 (오름차순) */
+    private final char[][] labels;
+    /** 노드별 전이 대상 노드 (labels와 같은 순서) */
+    private final int[][] targets;
+    private final int[] fail;
+    /** 노드에 도달했을 때 매칭되는 패턴 인덱스 (실패 링크로 이어진 패턴 포함) */
+    private final int[][] outputs;
+    private final int patternCount;
+
+    /**
+     * @param patterns 패턴 목록 (인덱스가 매칭 결과의 비트 위치, 빈 문자열은 무시)
+     */
+    public AhoCorasickMatcher(List<String> patterns) {
+        this.patternCount = patterns.size();
+
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<List<Integer>> nodeOutputs = new ArrayList<>();
+        children.add(new TreeMap<>());
+        nodeOutputs.add(new ArrayList<>());
+
+        for (int id = 0; id < patterns.size(); id++) {
+            String pattern = patterns.get(id);
+            if (pattern == null || pattern.isEmpty()) {
+                continue;
+            }
+            int node = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = Character.toLowerCase(pattern.charAt(i));
+                Integer next = children.get(node).get(c);
+                if (next == null) {
+                    next = children.size();
+                    children.get(node).put(c, next);
+                    children.add(new TreeMap<>());
+                    nodeOutputs.add(new ArrayList<>());
+                }
+                node = next;
+            }
+            nodeOutputs.get(node).add(id);
+        }
+
+        int size = children.size();
+        this.labels = new char[size][];
+        this.targets = new int[size][];
+        for (int node = 0; node < size; node++) {
+            TreeMap<Character, Integer> edges = children.get(node);
+            labels[node] = new char[edges.size()];
+            targets[node] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                labels[node][i] = edge.getKey();
+                targets[node][i] = edge.getValue();
+                i++;
+            }
+        }
+
+        // BFS로 실패 링크 계산, 출력은 실패 노드의 출력을 이어 붙임
+        this.fail = new int[size];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[ROOT]) {
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < labels[node].length; i++) {
+                char c = labels[node][i];
+                int child = targets[node][i];
+                int state = fail[node];
+                int next = transition(state, c);
+                while (next < 0 && state != ROOT) {
+                    state = fail[state];
+                    next = transition(state, c);
+                }
+                fail[child] = next < 0 ? ROOT : next;
+                nodeOutputs.get(child).addAll(nodeOutputs.get(fail[child]));
+                queue.add(child);
+            }
+        }
+
+        this.outputs = new int[size][];
+        for (int node = 0; node < size; node++) {
+            outputs[node] = nodeOutputs.get(node).stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * 텍스트에 나타난 패턴 인덱스를 matched에 표시
+     */
+    public void match(CharSequence text, BitSet matched) {
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            int next = transition(state, c);
+            while (next < 0 && state != ROOT) {
+                state = fail[state];
+                next = transition(state, c);
+            }
+            state = next < 0 ? ROOT : next;
+            for (int id : outputs[state]) {
+                matched.set(id);
+            }
+        }
+    }
+
+    /**
+     * 텍스트에 나타난 패턴 인덱스
+     */
+    public BitSet match(CharSequence text) {
+        BitSet matched = new BitSet(patternCount);
+        match(text, matched);
+        return matched;
+    }
+
+    private int transition(int node, char c) {
+        int index = Arrays.binarySearch(labels[node], c);
+        return index >= 0 ? targets[node][index] : -1;
+    }
+}
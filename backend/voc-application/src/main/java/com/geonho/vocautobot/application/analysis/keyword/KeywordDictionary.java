@@ -0,0 +1,54 @@
+package com.geonho.vocautobot.application.analysis.keyword;
+
+import java.util.List;
+
+/**
+ * 키워드 사전
+ * 대표 키워드별로 VOC 본문에서 찾을 동의어(terms)와 로그 검색어(logQuery)를 정의
+ *
+ * @param entries 대표 키워드 목록 (추출 결과는 이 순서를 따름)
+ */
+public record KeywordDictionary(List<Entry> entries) {
+
+    public KeywordDictionary {
+        entries = List.copyOf(entries);
+    }
+
+    /**
+     * @param keyword 대표 키워드
+     * @param terms 본문에서 찾을 표현 (한/영 동의어, 대소문자 무시)
+     * @param logQuery 로그 검색어 (없으면 대표 키워드 사용)
+     */
+    public record Entry(String keyword, List<String> terms, String logQuery) {
+
+        public Entry {
+            terms = List.copyOf(terms);
+            if (logQuery == null || logQuery.isBlank()) {
+                logQuery = keyword;
+            }
+        }
+
+        public Entry(String keyword, List<String> terms) {
+            this(keyword, terms, null);
+        }
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * 사전 저장소를 사용할 수 없을 때의 기본 사전
+     */
+    public static KeywordDictionary defaults() {
+        return new KeywordDictionary(List.of(
+            new Entry("error", List.of("오류", "에러", "error")),
+            new Entry("failed", List.of("실패", "failed", "failure")),
+            new Entry("timeout", List.of("느림", "느려", "slow", "timeout")),
+            new Entry("connection", List.of("연결", "connection")),
+            new Entry("database", List.of("데이터베이스", "database", "db")),
+            new Entry("api", List.of("api")),
+            new Entry("auth", List.of("인증", "로그인", "auth"))
+        ));
+    }
+}
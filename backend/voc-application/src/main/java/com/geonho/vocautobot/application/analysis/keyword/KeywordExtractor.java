@@ -0,0 +1,160 @@
+package com.geonho.vocautobot.application.analysis.keyword;
+
+import com.geonho.vocautobot.application.analysis.port.out.KeywordDictionaryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 키워드 추출기
+ * 사전의 모든 표현을 하나의 Aho-Corasick 오토마톤으로 컴파일해 본문을 한 번만 순회
+ *
+ * 사전은 주기적으로 다시 읽어 변경된 경우에만 오토마톤을 교체 (재기동 없이 반영)
+ * 로그 분석, 중복 VOC 탐지, 검색 등에서 공통으로 사용
+ */
+@Component
+public class KeywordExtractor {
+
+    private static final Logger log = LoggerFactory.getLogger(KeywordExtractor.class);
+
+    private final KeywordDictionaryPort dictionaryPort;
+    private volatile CompiledDictionary compiled;
+
+    public KeywordExtractor(KeywordDictionaryPort dictionaryPort) {
+        this.dictionaryPort = dictionaryPort;
+    }
+
+    /**
+     * 본문에 등장한 사전 항목 (사전 순서)
+     */
+    public List<KeywordDictionary.Entry> extract(String... texts) {
+        CompiledDictionary current = current();
+        BitSet matchedTerms = new BitSet(current.termOwners().length);
+        for (String text : texts) {
+            if (text != null) {
+                current.matcher().match(text, matchedTerms);
+            }
+        }
+
+        BitSet matchedEntries = new BitSet(current.dictionary().entries().size());
+        for (int term = matchedTerms.nextSetBit(0); term >= 0; term = matchedTerms.nextSetBit(term + 1)) {
+            matchedEntries.set(current.termOwners()[term]);
+        }
+
+        List<KeywordDictionary.Entry> result = new ArrayList<>(matchedEntries.cardinality());
+        for (int entry = matchedEntries.nextSetBit(0); entry >= 0; entry = matchedEntries.nextSetBit(entry + 1)) {
+            result.add(current.dictionary().entries().get(entry));
+        }
+        return result;
+    }
+
+    /**
+     * 본문에 등장한 대표 키워드
+     */
+    public List<String> extractKeywords(String... texts) {
+        return extract(texts).stream()
+            .map(KeywordDictionary.Entry::keyword)
+            .toList();
+    }
+
+    /**
+     * 본문에 등장한 키워드의 로그 검색어 (중복 제거)
+     */
+    public List<String> extractLogQueries(String... texts) {
+        return extract(texts).stream()
+            .map(KeywordDictionary.Entry::logQuery)
+            .distinct()
+            .toList();
+    }
+
+    /**
+     * 대표 키워드의 로그 검색어 (사전에 없으면 키워드 그대로)
+     */
+    public String logQueryOf(String keyword) {
+        for (KeywordDictionary.Entry entry : current().dictionary().entries()) {
+            if (entry.keyword().equals(keyword)) {
+                return entry.logQuery();
+            }
+        }
+        return keyword;
+    }
+
+    /**
+     * 사전 다시 읽기
+     * 내용이 같으면 기존 오토마톤을 유지하고, 조회 실패 시에도 기존 사전으로 계속 동작
+     */
+    @Scheduled(
+        initialDelayString = "${voc.keywords.reload-interval-ms:60000}",
+        fixedDelayString = "${voc.keywords.reload-interval-ms:60000}"
+    )
+    public void reload() {
+        KeywordDictionary dictionary = loadDictionary();
+        synchronized (this) {
+            if (compiled != null && compiled.dictionary().equals(dictionary)) {
+                return;
+            }
+            compiled = compile(dictionary);
+        }
+        log.info("Keyword dictionary loaded - {} keywords", dictionary.entries().size());
+    }
+
+    private CompiledDictionary current() {
+        CompiledDictionary current = compiled;
+        if (current == null) {
+            synchronized (this) {
+                if (compiled == null) {
+                    compiled = compile(loadDictionary());
+                }
+                current = compiled;
+            }
+        }
+        return current;
+    }
+
+    private KeywordDictionary loadDictionary() {
+        try {
+            KeywordDictionary dictionary = dictionaryPort.loadDictionary();
+            if (dictionary != null && !dictionary.isEmpty()) {
+                return dictionary;
+            }
+            log.warn("Keyword dictionary is empty, using default dictionary");
+        } catch (Exception e) {
+            CompiledDictionary current = compiled;
+            if (current != null) {
+                log.warn("Failed to reload keyword dictionary, keeping current one: {}", e.getMessage());
+                return current.dictionary();
+            }
+            log.warn("Failed to load keyword dictionary, using default dictionary: {}", e.getMessage());
+        }
+        return KeywordDictionary.defaults();
+    }
+
+    private static CompiledDictionary compile(KeywordDictionary dictionary) {
+        List<String> terms = new ArrayList<>();
+        List<Integer> owners = new ArrayList<>();
+        List<KeywordDictionary.Entry> entries = dictionary.entries();
+        for (int i = 0; i < entries.size(); i++) {
+            for (String term : entries.get(i).terms()) {
+                terms.add(term);
+                owners.add(i);
+            }
+        }
+
+        return new CompiledDictionary(
+            dictionary,
+            new AhoCorasickMatcher(terms),
+            owners.stream().mapToInt(Integer::intValue).toArray()
+        );
+    }
+
+    /**
+     * @param termOwners 표현 인덱스 → 사전 항목 인덱스
+     */
+    private record CompiledDictionary(KeywordDictionary dictionary, AhoCorasickMatcher matcher, int[] termOwners) {
+    }
+}
@@ -2,6 +2,8 @@ package com.geonho.vocautobot.application.analysis.port.out;
 
 import com.geonho.vocautobot.application.analysis.dto.VocLogAnalysis;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * AI 분석 서비스 연동을 위한 포트 인터페이스
  * Python AI 서비스 또는 다른 AI 서비스 구현체를 주입받아 사용
@@ -16,4 +18,14 @@ public interface AiAnalysisPort {
      * @return AI 분석 결과
      */
     VocLogAnalysis analyzeVoc(String vocTitle, String vocContent);
+
+    /**
+     * VOC를 AI 서비스로 분석 (비동기)
+     * 응답을 기다리는 동안 호출 스레드를 점유하지 않음
+     *
+     * @param vocTitle VOC 제목
+     * @param vocContent VOC 내용
+     * @return AI 분석 결과 Future
+     */
+    CompletableFuture<VocLogAnalysis> analyzeVocAsync(String vocTitle, String vocContent);
 }
@@ -0,0 +1,18 @@
+package com.geonho.vocautobot.application.analysis.port.out;
+
+import com.geonho.vocautobot.application.analysis.routing.RoutingRule;
+
+import java.util.List;
+
+/**
+ * 분석 라우팅 규칙 조회 Port
+ */
+public interface AnalysisRoutingRulePort {
+
+    /**
+     * 활성 규칙 조회
+     *
+     * @return 평가 순서대로 정렬된 규칙 (없으면 빈 리스트)
+     */
+    List<RoutingRule> loadRules();
+}
@@ -0,0 +1,26 @@
+package com.geonho.vocautobot.application.analysis.port.out;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 텍스트 임베딩 생성을 위한 Output Port
+ */
+public interface EmbeddingPort {
+
+    /**
+     * 텍스트를 임베딩 벡터로 변환
+     *
+     * @param text 임베딩할 텍스트
+     * @return 임베딩 벡터
+     */
+    float[] generateEmbedding(String text);
+
+    /**
+     * 텍스트를 임베딩 벡터로 변환 (비동기)
+     * 응답을 기다리는 동안 호출 스레드를 점유하지 않음
+     *
+     * @param text 임베딩할 텍스트
+     * @return 임베딩 벡터 Future
+     */
+    CompletableFuture<float[]> generateEmbeddingAsync(String text);
+}
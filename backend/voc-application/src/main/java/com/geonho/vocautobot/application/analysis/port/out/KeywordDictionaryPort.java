@@ -0,0 +1,16 @@
+package com.geonho.vocautobot.application.analysis.port.out;
+
+import com.geonho.vocautobot.application.analysis.keyword.KeywordDictionary;
+
+/**
+ * 키워드 사전 조회 Port
+ */
+public interface KeywordDictionaryPort {
+
+    /**
+     * 현재 키워드 사전 조회
+     *
+     * @return 키워드 사전 (등록된 항목이 없으면 빈 사전)
+     */
+    KeywordDictionary loadDictionary();
+}
@@ -2,6 +2,8 @@ package com.geonho.vocautobot.application.analysis.port.out;
 
 import com.geonho.vocautobot.application.analysis.port.in.dto.VocAnalysisResult;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * LLM 호출을 위한 Output Port
  * Hexagonal Architecture의 외부 의존성을 추상화
@@ -23,5 +25,58 @@ public interface LlmPort {
      * @param prompt 전송할 프롬프트
      * @return LLM 응답 텍스트
      */
-    String sendPrompt(String prompt);
+    default String sendPrompt(String prompt) {
+        return sendPrompt(prompt, LlmTask.GENERAL);
+    }
+
+    /**
+     * 용도를 지정하여 프롬프트 전송
+     *
+     * @param prompt 전송할 프롬프트
+     * @param task 호출 용도 (메트릭 태그)
+     * @return LLM 응답 텍스트
+     */
+    String sendPrompt(String prompt, LlmTask task);
+
+    /**
+     * VOC 분석 (비동기)
+     * 응답을 기다리는 동안 호출 스레드를 점유하지 않음
+     *
+     * @param vocContent VOC 내용
+     * @param vocTitle VOC 제목
+     * @return 분석 결과 Future
+     */
+    CompletableFuture<VocAnalysisResult> analyzeVocAsync(String vocContent, String vocTitle);
+
+    /**
+     * 프롬프트 전송 (비동기)
+     * 응답을 기다리는 동안 호출 스레드를 점유하지 않음
+     *
+     * @param prompt 전송할 프롬프트
+     * @return LLM 응답 텍스트 Future
+     */
+    default CompletableFuture<String> sendPromptAsync(String prompt) {
+        return sendPromptAsync(prompt, LlmTask.GENERAL);
+    }
+
+    /**
+     * 용도를 지정하여 프롬프트 전송 (비동기)
+     *
+     * @param prompt 전송할 프롬프트
+     * @param task 호출 용도 (메트릭 태그)
+     * @return LLM 응답 텍스트 Future
+     */
+    default CompletableFuture<String> sendPromptAsync(String prompt, LlmTask task) {
+        return sendPromptAsync(prompt, task, null);
+    }
+
+    /**
+     * 용도와 모델을 지정하여 프롬프트 전송 (비동기)
+     *
+     * @param prompt 전송할 프롬프트
+     * @param task 호출 용도 (메트릭 태그)
+     * @param model 사용할 모델 (null이면 기본 모델)
+     * @return LLM 응답 텍스트 Future
+     */
+    CompletableFuture<String> sendPromptAsync(String prompt, LlmTask task, String model);
 }
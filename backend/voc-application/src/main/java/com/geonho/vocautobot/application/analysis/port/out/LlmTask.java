@@ -0,0 +1,20 @@
+package com.geonho.vocautobot.application.analysis.port.out;
+
+/**
+ * LLM 호출 용도
+ * 어댑터가 용도별 지연 시간·토큰 수를 집계하는 데 사용
+ */
+public enum LlmTask {
+
+    /** 카테고리 추천 */
+    CATEGORY_SUGGESTION,
+
+    /** VOC 분석 (카테고리·우선순위·감성) */
+    VOC_ANALYSIS,
+
+    /** VOC 관련 로그 분석 */
+    LOG_ANALYSIS,
+
+    /** 용도 미지정 */
+    GENERAL
+}
@@ -1,8 +1,12 @@
 package com.geonho.vocautobot.application.analysis.port.out;
 
 import com.geonho.vocautobot.application.analysis.dto.LogAnalysisResult;
+import com.geonho.vocautobot.application.analysis.dto.LogEntry;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 로그 검색을 위한 Output Port
@@ -21,6 +25,35 @@ public interface LogSearchPort {
      */
     LogAnalysisResult searchLogs(String query, LocalDateTime startTime, LocalDateTime endTime, int maxResults);
 
+    /**
+     * 여러 쿼리로 로그를 한 번에 검색
+     * 결과는 쿼리 순서대로 병합되며 문서 ID 기준으로 중복 제거됨
+     *
+     * 기본 구현은 쿼리별로 searchLogs를 호출하므로,
+     * 한 번의 왕복으로 처리할 수 있는 구현체는 재정의해야 함
+     *
+     * @param queries 검색 쿼리 목록
+     * @param startTime 검색 시작 시간
+     * @param endTime 검색 종료 시간
+     * @param maxResultsPerQuery 쿼리당 최대 결과 개수
+     * @return 로그 분석 결과 (중복 제거된 로그)
+     */
+    default LogAnalysisResult multiSearchLogs(
+        List<String> queries,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        int maxResultsPerQuery
+    ) {
+        Map<String, LogEntry> uniqueLogs = new LinkedHashMap<>();
+        for (String query : queries) {
+            for (LogEntry entry : searchLogs(query, startTime, endTime, maxResultsPerQuery).logs()) {
+                uniqueLogs.putIfAbsent(entry.id(), entry);
+            }
+        }
+        List<LogEntry> logs = List.copyOf(uniqueLogs.values());
+        return new LogAnalysisResult(logs, Map.of(), Map.of(), Map.of(), logs.size(), "Multi-query search");
+    }
+
     /**
      * 에러 로그 검색
      *
@@ -34,10 +67,11 @@ public interface LogSearchPort {
 
     /**
      * 로그 통계 조회
+     * 기간 내 전체 로그를 대상으로 집계하며, 개별 로그(logs)는 포함하지 않음
      *
      * @param startTime 검색 시작 시간
      * @param endTime 검색 종료 시간
-     * @return 로그 분석 결과 (통계 정보 포함)
+     * @return 로그 분석 결과 (전체 건수, 레벨별/서비스별/서비스별 에러 건수)
      */
     LogAnalysisResult getLogStatistics(LocalDateTime startTime, LocalDateTime endTime);
 
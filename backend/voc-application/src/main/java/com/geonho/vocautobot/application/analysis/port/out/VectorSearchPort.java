@@ -1,6 +1,7 @@
 package com.geonho.vocautobot.application.analysis.port.out;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Vector Search를 위한 Output Port
@@ -17,6 +18,25 @@ public interface VectorSearchPort {
      */
     Long saveEmbedding(Long vocId, String text);
 
+    /**
+     * VOC의 임베딩 벡터를 생성하고 저장 (비동기)
+     * 임베딩 응답을 기다리는 동안 스레드를 점유하지 않고, 저장만 별도 스레드에서 수행
+     *
+     * @param vocId VOC ID
+     * @param text 임베딩할 텍스트 (제목 + 내용)
+     * @return 저장된 임베딩 ID Future
+     */
+    CompletableFuture<Long> saveEmbeddingAsync(Long vocId, String text);
+
+    /**
+     * 여러 VOC의 임베딩을 한 번에 생성하고 저장 (일괄 재색인용)
+     * 길이가 비슷한 텍스트끼리 묶어 임베딩 요청 수와 배치 내 패딩을 줄임
+     *
+     * @param textsByVocId VOC ID별 임베딩할 텍스트
+     * @return 저장된 VOC 수
+     */
+    int saveEmbeddings(java.util.Map<Long, String> textsByVocId);
+
     /**
      * 유사한 VOC를 벡터 유사도 기반으로 검색
      *
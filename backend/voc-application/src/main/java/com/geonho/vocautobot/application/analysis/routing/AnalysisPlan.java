@@ -0,0 +1,29 @@
+package com.geonho.vocautobot.application.analysis.routing;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * VOC 한 건에 대한 보강 단계 실행 계획
+ *
+ * @param stages 실행할 단계
+ * @param llmModel LLM 분석 모델 (null이면 기본 모델)
+ * @param ruleName 적용된 규칙 이름 (기본 계획이면 null)
+ */
+public record AnalysisPlan(Set<EnrichmentStage> stages, String llmModel, String ruleName) {
+
+    private static final AnalysisPlan FULL =
+        new AnalysisPlan(Collections.unmodifiableSet(EnumSet.allOf(EnrichmentStage.class)), null, null);
+
+    /**
+     * 모든 단계를 기본 모델로 실행하는 계획
+     */
+    public static AnalysisPlan full() {
+        return FULL;
+    }
+
+    public boolean runs(EnrichmentStage stage) {
+        return stages.contains(stage);
+    }
+}
@@ -0,0 +1,223 @@
+package com.geonho.vocautobot.application.analysis.routing;
+
+import com.geonho.vocautobot.application.analysis.port.out.AnalysisRoutingRulePort;
+import com.geonho.vocautobot.domain.voc.VocDomain;
+import com.geonho.vocautobot.domain.voc.VocPriority;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * VOC 분석 라우터
+ * 카테고리·우선순위·본문 길이·고객 이메일 도메인으로 보강 단계와 LLM 모델을 결정
+ *
+ * - 규칙은 기동 시 한 번 컴파일하고, 주기적으로 다시 읽어 변경된 경우에만 교체 (재기동 없이 반영)
+ * - 카테고리별 후보 규칙 배열을 미리 만들어 평가 시 해당 카테고리 규칙만 순서대로 확인
+ * - 첫 번째로 일치한 규칙의 계획을 적용하고, 일치하는 규칙이 없으면 전체 단계 실행
+ * - 건너뛴 단계 수를 단계·규칙별로 집계 (GPU 사용 절감량 산출용)
+ */
+@Component
+public class AnalysisRouter implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(AnalysisRouter.class);
+
+    private final AnalysisRoutingRulePort rulePort;
+    private volatile CompiledRules compiled = CompiledRules.compile(List.of());
+
+    private final Map<EnrichmentStage, LongAdder> skipped = new EnumMap<>(EnrichmentStage.class);
+    private final Map<String, LongAdder> ruleMatches = new ConcurrentHashMap<>();
+    private final LongAdder routed = new LongAdder();
+
+    public AnalysisRouter(AnalysisRoutingRulePort rulePort) {
+        this.rulePort = rulePort;
+        for (EnrichmentStage stage : EnrichmentStage.values()) {
+            skipped.put(stage, new LongAdder());
+        }
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        reload();
+    }
+
+    /**
+     * VOC의 보강 단계 실행 계획 결정
+     */
+    public AnalysisPlan route(VocDomain voc) {
+        AnalysisPlan plan = compiled.evaluate(voc);
+        routed.increment();
+
+        if (plan.ruleName() != null) {
+            ruleMatches.computeIfAbsent(plan.ruleName(), name -> new LongAdder()).increment();
+            for (EnrichmentStage stage : EnrichmentStage.values()) {
+                if (!plan.runs(stage)) {
+                    skipped.get(stage).increment();
+                }
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * 규칙 다시 읽기
+     * 내용이 같으면 기존 컴파일 결과를 유지하고, 조회 실패 시에도 기존 규칙으로 계속 동작
+     */
+    @Scheduled(
+        initialDelayString = "${voc.routing.reload-interval-ms:60000}",
+        fixedDelayString = "${voc.routing.reload-interval-ms:60000}"
+    )
+    public void reload() {
+        List<RoutingRule> rules;
+        try {
+            rules = rulePort.loadRules();
+        } catch (Exception e) {
+            log.warn("Failed to load analysis routing rules, keeping current {} rules: {}",
+                compiled.rules().size(), e.getMessage());
+            return;
+        }
+
+        synchronized (this) {
+            if (compiled.rules().equals(rules)) {
+                return;
+            }
+            compiled = CompiledRules.compile(rules);
+        }
+        log.info("Analysis routing rules loaded - {} rules", rules.size());
+    }
+
+    /**
+     * 단계별 건너뛴 횟수
+     */
+    public Map<EnrichmentStage, Long> skippedCounts() {
+        Map<EnrichmentStage, Long> result = new EnumMap<>(EnrichmentStage.class);
+        skipped.forEach((stage, count) -> result.put(stage, count.sum()));
+        return result;
+    }
+
+    /**
+     * 규칙별 적용 횟수
+     */
+    public Map<String, Long> ruleMatchCounts() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        ruleMatches.forEach((name, count) -> result.put(name, count.sum()));
+        return result;
+    }
+
+    /**
+     * 라우팅한 전체 VOC 수
+     */
+    public long routedCount() {
+        return routed.sum();
+    }
+
+    /**
+     * 컴파일된 규칙 집합
+     *
+     * @param rules 원본 규칙 (변경 감지용)
+     * @param byCategory 카테고리 조건에 등장한 카테고리별 후보 규칙 (카테고리 무관 규칙 포함, 평가 순서 유지)
+     * @param anyCategory 카테고리 무관 규칙
+     */
+    private record CompiledRules(
+        List<RoutingRule> rules,
+        Map<Long, CompiledRule[]> byCategory,
+        CompiledRule[] anyCategory
+    ) {
+
+        static CompiledRules compile(List<RoutingRule> rules) {
+            List<CompiledRule> all = rules.stream().map(CompiledRule::compile).toList();
+
+            List<CompiledRule> anyCategory = new ArrayList<>();
+            Set<Long> categoryIds = new HashSet<>();
+            for (CompiledRule rule : all) {
+                if (rule.rule().categoryIds().isEmpty()) {
+                    anyCategory.add(rule);
+                }
+                categoryIds.addAll(rule.rule().categoryIds());
+            }
+
+            Map<Long, CompiledRule[]> byCategory = new HashMap<>();
+            for (Long categoryId : categoryIds) {
+                byCategory.put(categoryId, all.stream()
+                    .filter(rule -> rule.rule().categoryIds().isEmpty()
+                        || rule.rule().categoryIds().contains(categoryId))
+                    .toArray(CompiledRule[]::new));
+            }
+            return new CompiledRules(List.copyOf(rules), Map.copyOf(byCategory),
+                anyCategory.toArray(CompiledRule[]::new));
+        }
+
+        AnalysisPlan evaluate(VocDomain voc) {
+            CompiledRule[] candidates = voc.getCategoryId() != null
+                ? byCategory.getOrDefault(voc.getCategoryId(), anyCategory)
+                : anyCategory;
+            for (CompiledRule candidate : candidates) {
+                if (candidate.matches(voc)) {
+                    return candidate.plan();
+                }
+            }
+            return AnalysisPlan.full();
+        }
+    }
+
+    /**
+     * 컴파일된 규칙 (카테고리 외 조건과 적용할 계획을 미리 계산)
+     */
+    private record CompiledRule(
+        RoutingRule rule,
+        EnumSet<VocPriority> priorities,
+        int minContentLength,
+        int maxContentLength,
+        Set<String> emailDomains,
+        AnalysisPlan plan
+    ) {
+
+        static CompiledRule compile(RoutingRule rule) {
+            EnumSet<EnrichmentStage> stages = EnumSet.allOf(EnrichmentStage.class);
+            stages.removeAll(rule.skipStages());
+
+            return new CompiledRule(
+                rule,
+                rule.priorities().isEmpty() ? null : EnumSet.copyOf(rule.priorities()),
+                rule.minContentLength() != null ? rule.minContentLength() : 0,
+                rule.maxContentLength() != null ? rule.maxContentLength() : Integer.MAX_VALUE,
+                rule.customerEmailDomains().isEmpty() ? null : rule.customerEmailDomains(),
+                new AnalysisPlan(Collections.unmodifiableSet(stages), rule.llmModel(), rule.name())
+            );
+        }
+
+        boolean matches(VocDomain voc) {
+            if (priorities != null && (voc.getPriority() == null || !priorities.contains(voc.getPriority()))) {
+                return false;
+            }
+            int length = voc.getContent() != null ? voc.getContent().length() : 0;
+            if (length < minContentLength || length > maxContentLength) {
+                return false;
+            }
+            return emailDomains == null || emailDomains.contains(emailDomainOf(voc.getCustomerEmail()));
+        }
+
+        private static String emailDomainOf(String email) {
+            if (email == null) {
+                return "";
+            }
+            int at = email.lastIndexOf('@');
+            return at < 0 ? "" : email.substring(at + 1).toLowerCase(Locale.ROOT);
+        }
+    }
+}
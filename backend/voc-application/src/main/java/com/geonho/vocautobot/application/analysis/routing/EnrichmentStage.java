@@ -0,0 +1,19 @@
+package com.geonho.vocautobot.application.analysis.routing;
+
+/**
+ * VOC 접수 후 수행하는 보강(enrichment) 단계
+ */
+public enum EnrichmentStage {
+
+    /** 관련 로그 검색 + LLM 분석 */
+    LOG_ANALYSIS,
+
+    /** 유사 VOC 검색용 임베딩 저장 */
+    EMBEDDING,
+
+    /** 감성 분석 */
+    SENTIMENT,
+
+    /** 실시간 접수 알림 */
+    NOTIFICATION
+}
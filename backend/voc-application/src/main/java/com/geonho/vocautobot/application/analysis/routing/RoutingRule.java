@@ -0,0 +1,38 @@
+package com.geonho.vocautobot.application.analysis.routing;
+
+import com.geonho.vocautobot.domain.voc.VocPriority;
+
+import java.util.Set;
+
+/**
+ * 분석 라우팅 규칙
+ * 조건을 모두 만족하는 VOC에 대해 skipStages 단계를 건너뛰고, llmModel이 있으면 해당 모델로 LLM 분석
+ * 비어 있는(또는 null인) 조건은 모든 VOC와 일치
+ *
+ * @param name 규칙 이름 (스킵 집계 태그)
+ * @param categoryIds 대상 카테고리 ID
+ * @param priorities 대상 우선순위
+ * @param minContentLength 본문 최소 길이 (포함)
+ * @param maxContentLength 본문 최대 길이 (포함)
+ * @param customerEmailDomains 대상 고객 이메일 도메인 (소문자)
+ * @param skipStages 건너뛸 단계
+ * @param llmModel LLM 모델 (null이면 기본 모델)
+ */
+public record RoutingRule(
+    String name,
+    Set<Long> categoryIds,
+    Set<VocPriority> priorities,
+    Integer minContentLength,
+    Integer maxContentLength,
+    Set<String> customerEmailDomains,
+    Set<EnrichmentStage> skipStages,
+    String llmModel
+) {
+
+    public RoutingRule {
+        categoryIds = categoryIds == null ? Set.of() : Set.copyOf(categoryIds);
+        priorities = priorities == null ? Set.of() : Set.copyOf(priorities);
+        customerEmailDomains = customerEmailDomains == null ? Set.of() : Set.copyOf(customerEmailDomains);
+        skipStages = skipStages == null ? Set.of() : Set.copyOf(skipStages);
+    }
+}
@@ -2,14 +2,18 @@ package com.geonho.vocautobot.application.analysis.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.geonho.vocautobot.application.analysis.burst.IncidentGroup;
+import com.geonho.vocautobot.application.analysis.burst.VocBurstDetector;
 import com.geonho.vocautobot.application.analysis.dto.VocAnalysisDto;
 import com.geonho.vocautobot.application.analysis.dto.VocLogAnalysis;
 import com.geonho.vocautobot.application.analysis.port.out.VocAnalysisPersistencePort;
+import com.geonho.vocautobot.application.analysis.routing.AnalysisPlan;
 import com.geonho.vocautobot.application.notification.port.out.NotificationPort;
 import com.geonho.vocautobot.domain.voc.VocDomain;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
@@ -17,6 +21,9 @@ import org.springframework.stereotype.Service;
 import com.geonho.vocautobot.application.voc.port.in.GetVocDetailUseCase;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
  * VOC 비동기 분석 서비스
@@ -29,6 +36,7 @@ import java.util.Optional;
 public class AsyncVocAnalysisService {
 
     private final VocLogAnalysisService vocLogAnalysisService;
+    private final VocBurstDetector burstDetector;
     private final VocAnalysisPersistencePort vocAnalysisPersistencePort;
     private final GetVocDetailUseCase getVocDetailUseCase;
     private final ObjectMapper objectMapper;
@@ -40,6 +48,10 @@ public class AsyncVocAnalysisService {
     @Autowired(required = false)
     private NotificationPort notificationPort;
 
+    @Autowired
+    @Qualifier("analysisExecutor")
+    private Executor analysisExecutor;
+
     /**
      * VOC 분석 레코드 생성 (PENDING 상태)
      * VOC 생성 직후 호출됨
@@ -77,7 +89,7 @@ public class AsyncVocAnalysisService {
         try {
             vocAnalysisPersistencePort.resetAnalysis(vocId);
             VocDomain voc = getVocDetailUseCase.getVocById(vocId);
-            self.analyzeVocAsync(voc);
+            self.reanalyzeVocAsync(voc);
             log.info("Reanalysis triggered for VOC ID: {}", vocId);
             return true;
         } catch (Exception e) {
@@ -89,10 +101,62 @@ public class AsyncVocAnalysisService {
 
     /**
      * 비동기로 VOC 분석 수행
-     * 분석 완료 후 Slack 알림 전송
+     * AI 응답을 기다리는 동안 스레드를 점유하지 않으며,
+     * 결과 저장과 Slack 알림은 analysisExecutor에서 이어서 처리
+     *
+     * VOC 급증 구간의 키워드 인시던트 그룹에 속하면 그룹의 로그 검색 결과를 공유하고 VOC별로 분석
+     *
+     * @param llmModel LLM 분석 모델 (null이면 기본 모델)
+     */
+    @Async("analysisExecutor")
+    public void analyzeVocAsync(VocDomain voc, String llmModel) {
+        analyze(voc, true, llmModel);
+    }
+
+    /**
+     * 재분석 (급증 감지 집계와 그룹 공유 로그 검색에서 제외)
+     */
+    @Async("analysisExecutor")
+    public void reanalyzeVocAsync(VocDomain voc) {
+        analyze(voc, false, null);
+    }
+
+    /**
+     * 라우팅 규칙으로 로그 분석을 건너뛴 VOC 처리
+     * PENDING 분석 레코드를 건너뛴 사유와 함께 완료 처리하고 기본 Slack 알림만 전송
+     * 로그 분석은 하지 않아도 급증 감지 집계에는 포함
+     * Slack 웹훅 호출이 VOC 생성 응답을 지연시키지 않도록 analysisExecutor에서 실행
      */
     @Async("analysisExecutor")
-    public void analyzeVocAsync(VocDomain voc) {
+    public void skipAnalysis(VocDomain voc, AnalysisPlan plan) {
+        recordBurst(voc);
+        log.info("Log analysis skipped for VOC: {} by routing rule: {}", voc.getTicketId(), plan.ruleName());
+        try {
+            vocAnalysisPersistencePort.completeAnalysis(
+                voc.getId(),
+                "분석 규칙 '" + plan.ruleName() + "'에 따라 로그 분석을 생략했습니다.",
+                0.0,
+                "[]",
+                "[]",
+                "[]",
+                null
+            );
+        } catch (Exception e) {
+            log.warn("Failed to record skipped analysis for VOC: {}", voc.getTicketId(), e);
+        }
+
+        if (notificationPort == null) {
+            log.debug("NotificationPort not available, skipping Slack notification");
+            return;
+        }
+        try {
+            notificationPort.notifyVocCreated(voc);
+        } catch (Exception e) {
+            log.error("Failed to send Slack notification for VOC: {}", voc.getTicketId(), e);
+        }
+    }
+
+    private void analyze(VocDomain voc, boolean detectBurst, String llmModel) {
         Long vocId = voc.getId();
         log.info("Starting async analysis for VOC: {} (ID: {})", voc.getTicketId(), vocId);
 
@@ -100,30 +164,81 @@ public class AsyncVocAnalysisService {
             // 분석 시작 상태로 변경
             vocAnalysisPersistencePort.startAnalysis(vocId);
 
-            // AI 분석 수행
-            VocLogAnalysis analysis = vocLogAnalysisService.analyzeLogsForVoc(
-                voc.getTitle(),
-                voc.getContent()
-            );
+            Optional<IncidentGroup> incident = detectBurst ? recordBurst(voc) : Optional.empty();
+
+            // AI 분석 수행 (완료 시 결과 저장 및 알림)
+            incident
+                .map(group -> analyzeWithGroupLogs(voc, group, llmModel))
+                .orElseGet(() -> analyzeLogs(voc, llmModel))
+                .whenCompleteAsync((analysis, error) -> {
+                    if (error != null) {
+                        handleAnalysisFailure(voc, unwrap(error));
+                    } else {
+                        completeAnalysis(voc, analysis);
+                    }
+                }, analysisExecutor);
+
+        } catch (Exception e) {
+            handleAnalysisFailure(voc, e);
+        }
+    }
 
+    private Optional<IncidentGroup> recordBurst(VocDomain voc) {
+        try {
+            Optional<IncidentGroup> incident = burstDetector.record(voc);
+            incident.ifPresent(group -> log.info("VOC {} joined incident group {} ({} VOCs)",
+                voc.getTicketId(), group.getKey(), group.size()));
+            return incident;
+        } catch (Exception e) {
+            log.warn("Failed to record VOC {} for burst detection: {}", voc.getTicketId(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 그룹 키워드의 로그 검색은 그룹당 한 번만 수행하고, 요약·원인·권장 조치는 이 VOC 기준으로 생성
+     */
+    private CompletableFuture<VocLogAnalysis> analyzeWithGroupLogs(VocDomain voc, IncidentGroup group,
+                                                                   String llmModel) {
+        return group
+            .sharedLogSearch(() ->
+                vocLogAnalysisService.searchLogsForKeywordAsync(group.getKeyword(), analysisExecutor))
+            .thenCompose(logs -> vocLogAnalysisService.analyzeLogsWithEvidenceAsync(
+                voc.getTitle(), voc.getContent(), logs, llmModel));
+    }
+
+    private CompletableFuture<VocLogAnalysis> analyzeLogs(VocDomain voc, String llmModel) {
+        return vocLogAnalysisService.analyzeLogsForVocAsync(
+            voc.getTitle(), voc.getContent(), llmModel, analysisExecutor);
+    }
+
+    private void completeAnalysis(VocDomain voc, VocLogAnalysis analysis) {
+        try {
             // 분석 결과 저장
-            saveAnalysisResult(vocId, analysis);
+            saveAnalysisResult(voc.getId(), analysis);
 
             log.info("Async analysis completed for VOC: {} with confidence: {}",
                 voc.getTicketId(), analysis.confidence());
 
             // Slack 알림 전송 (분석 결과 포함)
             sendSlackNotificationWithAnalysis(voc, analysis);
-
         } catch (Exception e) {
-            log.error("Failed to analyze VOC: {} (ID: {})", voc.getTicketId(), vocId, e);
-            vocAnalysisPersistencePort.failAnalysis(vocId, e.getMessage());
-
-            // 분석 실패해도 기본 Slack 알림 전송
-            sendSlackNotificationWithoutAnalysis(voc, e.getMessage());
+            handleAnalysisFailure(voc, e);
         }
     }
 
+    private void handleAnalysisFailure(VocDomain voc, Throwable e) {
+        log.error("Failed to analyze VOC: {} (ID: {})", voc.getTicketId(), voc.getId(), e);
+        vocAnalysisPersistencePort.failAnalysis(voc.getId(), e.getMessage());
+
+        // 분석 실패해도 기본 Slack 알림 전송
+        sendSlackNotificationWithoutAnalysis(voc, e.getMessage());
+    }
+
+    private Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
     private void saveAnalysisResult(Long vocId, VocLogAnalysis analysis) {
         try {
             String keywordsJson = objectMapper.writeValueAsString(analysis.keywords());
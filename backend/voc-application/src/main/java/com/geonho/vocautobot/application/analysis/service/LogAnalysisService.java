@@ -1,6 +1,7 @@
 package com.geonho.vocautobot.application.analysis.service;
 
 import com.geonho.vocautobot.application.analysis.dto.LogAnalysisResult;
+import com.geonho.vocautobot.application.analysis.keyword.KeywordExtractor;
 import com.geonho.vocautobot.application.analysis.port.out.LogSearchPort;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -8,6 +9,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 로그 분석 서비스
@@ -21,6 +25,7 @@ public class LogAnalysisService {
     private static final int DEFAULT_MAX_RESULTS = 1000;
 
     private final LogSearchPort logSearchPort;
+    private final KeywordExtractor keywordExtractor;
 
     /**
      * 최근 24시간 에러 로그 분석
@@ -75,6 +80,7 @@ public class LogAnalysisService {
 
     /**
      * 키워드로 로그 검색
+     * 입력에 키워드 사전의 표현(예: "느려요")이 있으면 해당 로그 검색어(예: "timeout")도 함께 검색
      *
      * @param keyword 검색 키워드
      * @param hours 검색 시간 범위 (시간)
@@ -86,12 +92,18 @@ public class LogAnalysisService {
         LocalDateTime endTime = LocalDateTime.now();
         LocalDateTime startTime = endTime.minusHours(hours);
 
-        LogAnalysisResult result = logSearchPort.searchLogs(
-            keyword,
-            startTime,
-            endTime,
-            DEFAULT_MAX_RESULTS
-        );
+        List<String> queries = new ArrayList<>();
+        queries.add(keyword);
+        for (String logQuery : keywordExtractor.extractLogQueries(keyword)) {
+            if (!logQuery.equalsIgnoreCase(keyword)) {
+                queries.add(logQuery);
+            }
+        }
+
+        LogAnalysisResult result = queries.size() == 1
+            ? logSearchPort.searchLogs(keyword, startTime, endTime, DEFAULT_MAX_RESULTS)
+            : logSearchPort.multiSearchLogs(queries, startTime, endTime,
+                Math.max(1, DEFAULT_MAX_RESULTS / queries.size()));
 
         log.info("Keyword search completed - Logs found: {}", result.logs().size());
 
@@ -159,14 +171,14 @@ public class LogAnalysisService {
         LocalDateTime endTime = LocalDateTime.now();
         LocalDateTime startTime = endTime.minusHours(hours);
 
-        // 전체 로그 통계 조회
+        // 전체/에러 건수와 서비스별 에러 분포를 한 번의 집계로 조회
         LogAnalysisResult statistics = logSearchPort.getLogStatistics(startTime, endTime);
 
-        // 에러 로그 조회
-        LogAnalysisResult errorLogs = logSearchPort.searchErrorLogs(null, startTime, endTime, DEFAULT_MAX_RESULTS);
-
         long totalLogs = statistics.totalCount();
-        long errorCount = errorLogs.getErrorLogs().size();
+        long errorCount = statistics.logLevelCounts().entrySet().stream()
+            .filter(entry -> "ERROR".equalsIgnoreCase(entry.getKey()))
+            .mapToLong(Map.Entry::getValue)
+            .sum();
 
         // 에러율 계산 (전체 로그 대비 에러 로그 비율)
         double errorRate = totalLogs > 0 ? (double) errorCount / totalLogs * 100 : 0;
@@ -174,7 +186,7 @@ public class LogAnalysisService {
         // 에러율 5% 이상이면 비정상으로 판단
         boolean isHealthy = errorRate < 5.0;
 
-        String mostErrorProneService = errorLogs.getMostErrorProneService();
+        String mostErrorProneService = statistics.getMostErrorProneService();
 
         log.info("System health check completed - Healthy: {}, Error rate: {:.2f}%, Most errors in: {}",
             isHealthy, errorRate, mostErrorProneService);
@@ -185,7 +197,7 @@ public class LogAnalysisService {
             errorCount,
             totalLogs,
             mostErrorProneService,
-            errorLogs.summary()
+            statistics.summary()
         );
     }
 
@@ -4,9 +4,11 @@ import com.geonho.vocautobot.application.analysis.dto.LogAnalysisResult;
 import com.geonho.vocautobot.application.analysis.dto.LogEntry;
 import com.geonho.vocautobot.application.analysis.dto.VocLogAnalysis;
 import com.geonho.vocautobot.application.analysis.dto.VocLogAnalysis.RelatedLog;
+import com.geonho.vocautobot.application.analysis.keyword.KeywordExtractor;
 import com.geonho.vocautobot.application.analysis.port.out.AiAnalysisPort;
 import com.geonho.vocautobot.application.analysis.port.out.LogSearchPort;
 import com.geonho.vocautobot.application.analysis.port.out.LlmPort;
+import com.geonho.vocautobot.application.analysis.port.out.LlmTask;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +21,8 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -40,6 +44,7 @@ public class VocLogAnalysisService {
     private final LogSearchPort logSearchPort;
     private final LlmPort llmPort;
     private final ObjectMapper objectMapper;
+    private final KeywordExtractor keywordExtractor;
 
     @Autowired(required = false)
     private AiAnalysisPort aiAnalysisPort;
@@ -77,6 +82,149 @@ public class VocLogAnalysisService {
         return analyzeLogsLegacy(vocTitle, vocContent);
     }
 
+    /**
+     * VOC 내용을 기반으로 관련 로그를 분석 (비동기)
+     * AI 서비스와 LLM 응답을 기다리는 동안 스레드를 점유하지 않으며,
+     * 폴백 경로의 블로킹 로그 검색만 blockingExecutor에서 수행
+     *
+     * @param vocTitle VOC 제목
+     * @param vocContent VOC 내용
+     * @param blockingExecutor 블로킹 작업(로그 검색)을 실행할 Executor
+     * @return AI 로그 분석 결과 Future
+     */
+    public CompletableFuture<VocLogAnalysis> analyzeLogsForVocAsync(
+        String vocTitle,
+        String vocContent,
+        Executor blockingExecutor
+    ) {
+        return analyzeLogsForVocAsync(vocTitle, vocContent, null, blockingExecutor);
+    }
+
+    /**
+     * VOC 내용을 기반으로 관련 로그를 분석 (비동기, LLM 모델 지정)
+     *
+     * @param vocTitle VOC 제목
+     * @param vocContent VOC 내용
+     * @param llmModel OpenSearch + LLM 경로에서 사용할 모델 (null이면 기본 모델)
+     * @param blockingExecutor 블로킹 작업(로그 검색)을 실행할 Executor
+     * @return AI 로그 분석 결과 Future
+     */
+    public CompletableFuture<VocLogAnalysis> analyzeLogsForVocAsync(
+        String vocTitle,
+        String vocContent,
+        String llmModel,
+        Executor blockingExecutor
+    ) {
+        log.info("Analyzing logs for VOC (async): {}", vocTitle);
+
+        if (aiAnalysisPort == null) {
+            return analyzeLogsLegacyAsync(vocTitle, vocContent, llmModel, blockingExecutor);
+        }
+
+        CompletableFuture<VocLogAnalysis> aiResult;
+        try {
+            log.debug("Using AI analysis port for log analysis (async)");
+            aiResult = aiAnalysisPort.analyzeVocAsync(vocTitle, vocContent);
+        } catch (Exception e) {
+            aiResult = CompletableFuture.failedFuture(e);
+        }
+
+        return aiResult
+            .exceptionally(e -> {
+                log.warn("Failed to use AI analysis service, falling back to legacy method: {}", e.getMessage());
+                return null;
+            })
+            .thenCompose(result -> {
+                if (result != null && result.isValid()) {
+                    log.info("Successfully analyzed VOC using AI analysis service");
+                    return CompletableFuture.completedFuture(result);
+                }
+                if (result != null) {
+                    log.warn("AI analysis service returned invalid result, falling back to legacy method");
+                }
+                log.debug("Using legacy OpenSearch + LLM for log analysis (async)");
+                return analyzeLogsLegacyAsync(vocTitle, vocContent, llmModel, blockingExecutor);
+            });
+    }
+
+    /**
+     * 인시던트 그룹 공유 로그 검색
+     * 그룹 키워드의 로그 검색어로 최근 24시간 로그를 검색 (블로킹 검색은 blockingExecutor에서 수행)
+     *
+     * @param keyword 인시던트 그룹의 대표 키워드
+     * @param blockingExecutor 블로킹 작업(로그 검색)을 실행할 Executor
+     * @return 로그 검색 결과 Future
+     */
+    public CompletableFuture<LogAnalysisResult> searchLogsForKeywordAsync(String keyword, Executor blockingExecutor) {
+        return CompletableFuture.supplyAsync(
+            () -> searchRelevantLogs(List.of(keywordExtractor.logQueryOf(keyword))), blockingExecutor);
+    }
+
+    /**
+     * 이미 검색한 로그로 VOC 분석 (비동기)
+     * 인시던트 그룹이 공유한 로그를 근거로 쓰되, 요약·원인·권장 조치는 VOC 제목·내용으로 따로 생성
+     *
+     * @param vocTitle VOC 제목
+     * @param vocContent VOC 내용
+     * @param logSearchResult 공유 로그 검색 결과
+     * @param llmModel LLM 분석 모델 (null이면 기본 모델)
+     * @return AI 로그 분석 결과 Future
+     */
+    public CompletableFuture<VocLogAnalysis> analyzeLogsWithEvidenceAsync(
+        String vocTitle,
+        String vocContent,
+        LogAnalysisResult logSearchResult,
+        String llmModel
+    ) {
+        if (logSearchResult.logs().isEmpty()) {
+            log.info("No relevant logs found for VOC");
+            return CompletableFuture.completedFuture(VocLogAnalysis.empty("관련 로그를 찾을 수 없습니다."));
+        }
+
+        try {
+            String prompt = createLogAnalysisPrompt(vocTitle, vocContent, formatLogsForLlm(logSearchResult.logs()));
+
+            return llmPort.sendPromptAsync(prompt, LlmTask.LOG_ANALYSIS, llmModel)
+                .thenApply(llmResponse -> parseLogAnalysisResponse(llmResponse, logSearchResult.logs()))
+                .exceptionally(e -> {
+                    log.error("Error analyzing logs with LLM", e);
+                    return VocLogAnalysis.empty("AI 분석 중 오류가 발생했습니다.");
+                });
+        } catch (Exception e) {
+            log.error("Error analyzing logs for VOC", e);
+            return CompletableFuture.completedFuture(
+                VocLogAnalysis.empty("로그 분석 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 기존 방식의 로그 분석 (OpenSearch + LLM, 비동기)
+     * 블로킹 로그 검색만 blockingExecutor에서 수행하고 LLM 응답은 비동기로 대기
+     */
+    private CompletableFuture<VocLogAnalysis> analyzeLogsLegacyAsync(String vocTitle, String vocContent,
+                                                                      String llmModel, Executor blockingExecutor) {
+        List<String> keywords;
+        try {
+            keywords = extractKeywords(vocTitle, vocContent);
+        } catch (Exception e) {
+            log.error("Error analyzing logs for VOC", e);
+            return CompletableFuture.completedFuture(
+                VocLogAnalysis.empty("로그 분석 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+        if (keywords.isEmpty()) {
+            log.warn("No keywords extracted from VOC content");
+            return CompletableFuture.completedFuture(
+                VocLogAnalysis.empty("VOC 내용에서 키워드를 추출할 수 없습니다."));
+        }
+
+        return CompletableFuture.supplyAsync(() -> searchRelevantLogs(keywords), blockingExecutor)
+            .thenCompose(logs -> analyzeLogsWithEvidenceAsync(vocTitle, vocContent, logs, llmModel))
+            .exceptionally(e -> {
+                log.error("Error analyzing logs for VOC", e);
+                return VocLogAnalysis.empty("로그 분석 중 오류가 발생했습니다: " + e.getMessage());
+            });
+    }
+
     /**
      * 기존 방식의 로그 분석 (OpenSearch + LLM)
      */
@@ -109,33 +257,7 @@ public class VocLogAnalysisService {
      * VOC 제목과 내용에서 키워드 추출
      */
     private List<String> extractKeywords(String title, String content) {
-        List<String> keywords = new ArrayList<>();
-
-        // 간단한 키워드 추출 (실제로는 더 정교한 NLP 기법 사용 가능)
-        String text = (title + " " + content).toLowerCase();
-
-        // 에러 관련 키워드
-        if (text.contains("오류") || text.contains("에러") || text.contains("error")) {
-            keywords.add("error");
-        }
-        if (text.contains("실패") || text.contains("failed") || text.contains("failure")) {
-            keywords.add("failed");
-        }
-        if (text.contains("느림") || text.contains("느려") || text.contains("slow") || text.contains("timeout")) {
-            keywords.add("timeout");
-        }
-        if (text.contains("연결") || text.contains("connection")) {
-            keywords.add("connection");
-        }
-        if (text.contains("데이터베이스") || text.contains("database") || text.contains("db")) {
-            keywords.add("database");
-        }
-        if (text.contains("api")) {
-            keywords.add("api");
-        }
-        if (text.contains("인증") || text.contains("로그인") || text.contains("auth")) {
-            keywords.add("auth");
-        }
+        List<String> keywords = new ArrayList<>(keywordExtractor.extractLogQueries(title, content));
 
         // 최소한 "error"는 기본으로 검색
         if (keywords.isEmpty()) {
@@ -154,28 +276,23 @@ public class VocLogAnalysisService {
         LocalDateTime endTime = LocalDateTime.now();
         LocalDateTime startTime = endTime.minusHours(LOG_SEARCH_HOURS);
 
-        // 각 키워드로 로그 검색 후 병합
-        List<LogEntry> allLogs = new ArrayList<>();
-        for (String keyword : keywords) {
-            try {
-                LogAnalysisResult result = logSearchPort.searchLogs(
-                    keyword,
-                    startTime,
-                    endTime,
-                    MAX_LOG_RESULTS / keywords.size() // 키워드당 할당량 분배
-                );
-                allLogs.addAll(result.logs());
-            } catch (Exception e) {
-                log.warn("Failed to search logs with keyword: {}", keyword, e);
-            }
+        // 모든 키워드를 한 번의 요청으로 검색 (ID 기준 중복 제거)
+        List<LogEntry> uniqueLogs;
+        try {
+            LogAnalysisResult result = logSearchPort.multiSearchLogs(
+                keywords,
+                startTime,
+                endTime,
+                Math.max(1, MAX_LOG_RESULTS / keywords.size()) // 키워드당 할당량 분배 (키워드가 많아도 최소 1건)
+            );
+            uniqueLogs = result.logs().stream()
+                .limit(MAX_LOG_RESULTS)
+                .toList();
+        } catch (Exception e) {
+            log.warn("Failed to search logs with keywords: {}", keywords, e);
+            uniqueLogs = List.of();
         }
 
-        // 중복 제거 (ID 기준)
-        List<LogEntry> uniqueLogs = allLogs.stream()
-            .distinct()
-            .limit(MAX_LOG_RESULTS)
-            .toList();
-
         log.info("Found {} relevant logs", uniqueLogs.size());
 
         return new LogAnalysisResult(
@@ -205,7 +322,7 @@ public class VocLogAnalysisService {
             String prompt = createLogAnalysisPrompt(vocTitle, vocContent, logsText);
 
             // LLM 호출
-            String llmResponse = llmPort.sendPrompt(prompt);
+            String llmResponse = llmPort.sendPrompt(prompt, LlmTask.LOG_ANALYSIS);
 
             // 응답 파싱
             return parseLogAnalysisResponse(llmResponse, logSearchResult.logs());
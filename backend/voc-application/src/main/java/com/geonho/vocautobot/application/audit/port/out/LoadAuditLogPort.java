@@ -1,5 +1,7 @@
 package com.geonho.vocautobot.application.audit.port.out;
 
+import com.geonho.vocautobot.application.common.pagination.CursorPage;
+import com.geonho.vocautobot.application.common.pagination.CursorRequest;
 import com.geonho.vocautobot.domain.audit.AuditAction;
 import com.geonho.vocautobot.domain.audit.AuditEntityType;
 import com.geonho.vocautobot.domain.audit.AuditLog;
@@ -19,4 +21,17 @@ public interface LoadAuditLogPort {
             LocalDateTime endDate,
             Pageable pageable
     );
+
+    /**
+     * 최신순 키셋 페이지 조회
+     */
+    CursorPage<AuditLog> loadAuditLogsAfter(
+            Long userId,
+            AuditAction action,
+            AuditEntityType entityType,
+            String entityId,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            CursorRequest cursor
+    );
 }
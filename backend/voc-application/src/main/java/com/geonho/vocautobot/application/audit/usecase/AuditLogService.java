@@ -3,6 +3,8 @@ package com.geonho.vocautobot.application.audit.usecase;
 import com.geonho.vocautobot.application.audit.port.in.GetAuditLogsUseCase;
 import com.geonho.vocautobot.application.audit.port.out.LoadAuditLogPort;
 import com.geonho.vocautobot.application.common.UseCase;
+import com.geonho.vocautobot.application.common.pagination.CursorPage;
+import com.geonho.vocautobot.application.common.pagination.CursorRequest;
 import com.geonho.vocautobot.domain.audit.AuditAction;
 import com.geonho.vocautobot.domain.audit.AuditEntityType;
 import com.geonho.vocautobot.domain.audit.AuditLog;
@@ -32,4 +34,17 @@ public class AuditLogService implements GetAuditLogsUseCase {
     ) {
         return loadAuditLogPort.loadAuditLogs(userId, action, entityType, entityId, startDate, endDate, pageable);
     }
+
+    @Override
+    public CursorPage<AuditLog> getAuditLogsAfter(
+            Long userId,
+            AuditAction action,
+            AuditEntityType entityType,
+            String entityId,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            CursorRequest cursor
+    ) {
+        return loadAuditLogPort.loadAuditLogsAfter(userId, action, entityType, entityId, startDate, endDate, cursor);
+    }
 }
@@ -3,6 +3,7 @@ package com.geonho.vocautobot.application.category.usecase;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.geonho.vocautobot.application.analysis.port.out.LlmPort;
+import com.geonho.vocautobot.application.analysis.port.out.LlmTask;
 import com.geonho.vocautobot.application.category.port.in.SuggestCategoryUseCase;
 import com.geonho.vocautobot.application.category.port.in.dto.CategorySuggestionResult;
 import com.geonho.vocautobot.application.category.port.out.LoadCategoryPort;
@@ -46,7 +47,7 @@ public class SuggestCategoryService implements SuggestCategoryUseCase {
                     .toList();
 
             String prompt = createCategorySuggestionPrompt(title, content, categoryNamesWithCodes);
-            String llmResponse = llmPort.sendPrompt(prompt);
+            String llmResponse = llmPort.sendPrompt(prompt, LlmTask.CATEGORY_SUGGESTION);
 
             return parseSuggestions(llmResponse, activeCategories);
         } catch (Exception e) {
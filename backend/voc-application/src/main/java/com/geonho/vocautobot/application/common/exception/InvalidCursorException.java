@@ -0,0 +1,8 @@
+package com.geonho.vocautobot.application.common.exception;
+
+public class InvalidCursorException extends BusinessException {
+
+    public InvalidCursorException(String message) {
+        super("INVALID_CURSOR", message);
+    }
+}
@@ -0,0 +1,38 @@
+package com.geonho.vocautobot.application.common.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이지 결과
+ *
+ * @param content 조회 결과
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ * @param approximateTotal 대략적인 전체 건수 (요청하지 않았으면 null)
+ */
+public record CursorPage<T>(List<T> content, String nextCursor, Long approximateTotal) {
+
+    /**
+     * size + 1건까지 조회한 결과로 페이지 구성
+     * size보다 많이 조회됐으면 초과분을 버리고 마지막 행 위치를 다음 커서로 사용
+     *
+     * @param fetched size + 1건까지 조회한 결과
+     * @param cursorOf 행의 키셋 위치
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int size,
+                                       Function<T, KeysetCursor> cursorOf, Long approximateTotal) {
+        if (fetched.size() <= size) {
+            return new CursorPage<>(List.copyOf(fetched), null, approximateTotal);
+        }
+        List<T> content = List.copyOf(fetched.subList(0, size));
+        return new CursorPage<>(content, cursorOf.apply(content.get(size - 1)).encode(), approximateTotal);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(content.stream().map(mapper).toList(), nextCursor, approximateTotal);
+    }
+}
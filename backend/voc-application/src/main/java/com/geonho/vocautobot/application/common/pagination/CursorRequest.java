@@ -0,0 +1,27 @@
+package com.geonho.vocautobot.application.common.pagination;
+
+/**
+ * 키셋 페이지 요청
+ *
+ * @param after 이 위치 다음부터 조회 (null이면 첫 페이지)
+ * @param size 페이지 크기 (1 ~ 100, 범위를 벗어나면 20)
+ * @param ascending true면 오래된 순, false면 최신순
+ * @param withTotal 대략적인 전체 건수 포함 여부
+ */
+public record CursorRequest(KeysetCursor after, int size, boolean ascending, boolean withTotal) {
+
+    public CursorRequest {
+        if (size <= 0 || size > 100) size = 20;
+    }
+
+    public static CursorRequest of(String cursor, int size, boolean ascending, boolean withTotal) {
+        return new CursorRequest(KeysetCursor.decode(cursor), size, ascending, withTotal);
+    }
+
+    /**
+     * 최신순 요청
+     */
+    public static CursorRequest latest(String cursor, int size, boolean withTotal) {
+        return of(cursor, size, false, withTotal);
+    }
+}
@@ -0,0 +1,47 @@
+package com.geonho.vocautobot.application.common.pagination;
+
+import com.geonho.vocautobot.application.common.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 위치 (created_at, id)
+ * 클라이언트에는 내용을 해석할 수 없도록 base64url 문자열로만 노출
+ *
+ * @param createdAt 마지막으로 반환한 행의 생성 시각
+ * @param id 마지막으로 반환한 행의 ID (같은 시각의 행 구분)
+ */
+public record KeysetCursor(LocalDateTime createdAt, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return cursor가 비어 있으면 null (첫 페이지)
+     * @throws InvalidCursorException 형식이 올바르지 않은 경우
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException("잘못된 커서입니다");
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("잘못된 커서입니다");
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.geonho.vocautobot.application.notification.port.out;
 
+import com.geonho.vocautobot.application.common.pagination.CursorPage;
+import com.geonho.vocautobot.application.common.pagination.CursorRequest;
 import com.geonho.vocautobot.domain.notification.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -8,5 +10,10 @@ public interface LoadNotificationPort {
 
     Page<Notification> loadByUserId(Long userId, Pageable pageable);
 
+    /**
+     * 최신순 키셋 페이지 조회
+     */
+    CursorPage<Notification> loadByUserIdAfter(Long userId, CursorRequest cursor);
+
     long countUnread(Long userId);
 }
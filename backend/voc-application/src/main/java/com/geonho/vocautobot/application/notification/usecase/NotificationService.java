@@ -1,5 +1,7 @@
 package com.geonho.vocautobot.application.notification.usecase;
 
+import com.geonho.vocautobot.application.common.pagination.CursorPage;
+import com.geonho.vocautobot.application.common.pagination.CursorRequest;
 import com.geonho.vocautobot.application.notification.port.out.LoadNotificationPort;
 import com.geonho.vocautobot.application.notification.port.out.SaveNotificationPort;
 import com.geonho.vocautobot.application.notification.port.out.SseEmitterPort;
@@ -59,6 +61,11 @@ public class NotificationService {
         return loadNotificationPort.loadByUserId(userId, pageable);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<Notification> getNotificationsAfter(Long userId, CursorRequest cursor) {
+        return loadNotificationPort.loadByUserIdAfter(userId, cursor);
+    }
+
     @Transactional(readOnly = true)
     public long getUnreadCount(Long userId) {
         return loadNotificationPort.countUnread(userId);
@@ -0,0 +1,236 @@
+package com.geonho.vocautobot.application.statistics.cluster;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 구면(spherical) mini-batch k-means
+ * L2 정규화된 벡터를 내적(코사인 유사도)으로 가장 가까운 중심에 배정하고,
+ * 중심별 누적 배정 수의 역수를 학습률로 중심을 갱신한 뒤 다시 정규화 (Sculley, 2010)
+ *
+ * 전체 배정 합계로 중심을 다시 계산하는 Lloyd 단계(recenter)도 제공해,
+ * 한 epoch 학습 뒤 늦게 등장한 주제로 치우친 중심을 바로잡을 수 있음
+ *
+ * 벡터와 중심은 모두 행 우선(row-major) 평탄 float 배열로 다루며,
+ * 배정 단계는 행 구간을 fork/join으로 나눠 코어 수만큼 병렬 처리
+ *
+ * 스레드 안전하지 않음 - 학습은 단일 스레드(배치 작업)에서만 호출
+ */
+class SphericalMiniBatchKMeans {
+
+    /** fork/join 분할을 멈추는 행 수 */
+    private static final int SEQUENTIAL_ROWS = 256;
+
+    private final int k;
+    private final int dimension;
+    private final float[] centroids;
+    private final long[] counts;
+    private final ForkJoinPool pool;
+
+    private SphericalMiniBatchKMeans(int k, int dimension, float[] centroids, ForkJoinPool pool) {
+        this.k = k;
+        this.dimension = dimension;
+        this.centroids = centroids;
+        this.counts = new long[k];
+        this.pool = pool;
+    }
+
+    /**
+     * k-means++ 방식으로 첫 배치에서 초기 중심 선택
+     *
+     * @param vectors 정규화된 벡터 (size * dimension)
+     * @param size 벡터 수 (k 이상)
+     */
+    static SphericalMiniBatchKMeans initialize(float[] vectors, int size, int dimension, int k,
+                                               Random random, ForkJoinPool pool) {
+        if (size < k) {
+            throw new IllegalArgumentException("초기화에는 최소 k개의 벡터가 필요합니다: " + size + " < " + k);
+        }
+        float[] centroids = new float[k * dimension];
+        float[] distances = new float[size];
+        Arrays.fill(distances, Float.MAX_VALUE);
+
+        int first = random.nextInt(size);
+        System.arraycopy(vectors, first * dimension, centroids, 0, dimension);
+
+        for (int c = 1; c < k; c++) {
+            // 직전 중심과의 코사인 거리로 최근접 거리 갱신
+            double total = 0;
+            int previous = (c - 1) * dimension;
+            for (int i = 0; i < size; i++) {
+                float distance = 1f - dot(vectors, i * dimension, centroids, previous, dimension);
+                if (distance < distances[i]) {
+                    distances[i] = Math.max(distance, 0f);
+                }
+                total += (double) distances[i] * distances[i];
+            }
+
+            int chosen = size - 1;
+            double target = random.nextDouble() * total;
+            for (int i = 0; i < size; i++) {
+                target -= (double) distances[i] * distances[i];
+                if (target <= 0) {
+                    chosen = i;
+                    break;
+                }
+            }
+            System.arraycopy(vectors, chosen * dimension, centroids, c * dimension, dimension);
+        }
+        return new SphericalMiniBatchKMeans(k, dimension, centroids, pool);
+    }
+
+    /**
+     * 배치 하나로 중심 갱신
+     *
+     * @param vectors 정규화된 벡터 (size * dimension)
+     */
+    void partialFit(float[] vectors, int size) {
+        int[] assignments = new int[size];
+        assign(vectors, size, assignments, null);
+
+        boolean[] touched = new boolean[k];
+        for (int i = 0; i < size; i++) {
+            int c = assignments[i];
+            float eta = 1f / ++counts[c];
+            int centroid = c * dimension;
+            int row = i * dimension;
+            for (int d = 0; d < dimension; d++) {
+                centroids[centroid + d] += eta * (vectors[row + d] - centroids[centroid + d]);
+            }
+            touched[c] = true;
+        }
+        for (int c = 0; c < k; c++) {
+            if (touched[c]) {
+                normalizeRow(centroids, c * dimension, dimension);
+            }
+        }
+    }
+
+    /**
+     * 각 벡터를 가장 유사한 중심에 배정
+     *
+     * @param assignments 배정 결과 (size 이상)
+     * @param similarities 배정된 중심과의 코사인 유사도 (null이면 기록하지 않음)
+     */
+    void assign(float[] vectors, int size, int[] assignments, float[] similarities) {
+        pool.invoke(new AssignTask(vectors, assignments, similarities, 0, size));
+    }
+
+    /**
+     * 배정 결과를 중심 재계산용 합계(k * dimension)에 누적
+     */
+    void addToSums(double[] sums, float[] vectors, int size, int[] assignments) {
+        for (int i = 0; i < size; i++) {
+            int centroid = assignments[i] * dimension;
+            int row = i * dimension;
+            for (int d = 0; d < dimension; d++) {
+                sums[centroid + d] += vectors[row + d];
+            }
+        }
+    }
+
+    /**
+     * 전체 배정 합계로 중심을 다시 계산 (Lloyd 1회)
+     * 배정된 벡터가 없는 중심은 그대로 둠
+     */
+    void recenter(double[] sums) {
+        for (int c = 0; c < k; c++) {
+            int centroid = c * dimension;
+            double norm = 0;
+            for (int d = 0; d < dimension; d++) {
+                norm += sums[centroid + d] * sums[centroid + d];
+            }
+            if (norm == 0) {
+                continue;
+            }
+            double scale = 1.0 / Math.sqrt(norm);
+            for (int d = 0; d < dimension; d++) {
+                centroids[centroid + d] = (float) (sums[centroid + d] * scale);
+            }
+        }
+    }
+
+    int k() {
+        return k;
+    }
+
+    int dimension() {
+        return dimension;
+    }
+
+    /**
+     * 행 단위 L2 정규화 (영벡터는 그대로 둠)
+     */
+    static void normalize(float[] vectors, int size, int dimension) {
+        for (int i = 0; i < size; i++) {
+            normalizeRow(vectors, i * dimension, dimension);
+        }
+    }
+
+    private static void normalizeRow(float[] values, int offset, int dimension) {
+        double norm = 0;
+        for (int d = 0; d < dimension; d++) {
+            norm += (double) values[offset + d] * values[offset + d];
+        }
+        if (norm == 0) {
+            return;
+        }
+        float scale = (float) (1.0 / Math.sqrt(norm));
+        for (int d = 0; d < dimension; d++) {
+            values[offset + d] *= scale;
+        }
+    }
+
+    private static float dot(float[] a, int aOffset, float[] b, int bOffset, int dimension) {
+        float sum = 0f;
+        for (int d = 0; d < dimension; d++) {
+            sum += a[aOffset + d] * b[bOffset + d];
+        }
+        return sum;
+    }
+
+    private final class AssignTask extends RecursiveAction {
+
+        private final float[] vectors;
+        private final int[] assignments;
+        private final float[] similarities;
+        private final int from;
+        private final int to;
+
+        private AssignTask(float[] vectors, int[] assignments, float[] similarities, int from, int to) {
+            this.vectors = vectors;
+            this.assignments = assignments;
+            this.similarities = similarities;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_ROWS) {
+                for (int i = from; i < to; i++) {
+                    int row = i * dimension;
+                    int best = 0;
+                    float bestSimilarity = Float.NEGATIVE_INFINITY;
+                    for (int c = 0; c < k; c++) {
+                        float similarity = dot(vectors, row, centroids, c * dimension, dimension);
+                        if (similarity > bestSimilarity) {
+                            bestSimilarity = similarity;
+                            best = c;
+                        }
+                    }
+                    assignments[i] = best;
+                    if (similarities != null) {
+                        similarities[i] = bestSimilarity;
+                    }
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new AssignTask(vectors, assignments, similarities, from, middle),
+                    new AssignTask(vectors, assignments, similarities, middle, to));
+        }
+    }
+}
@@ -0,0 +1,341 @@
+package com.geonho.vocautobot.application.statistics.cluster;
+
+import com.geonho.vocautobot.application.statistics.port.in.GetVocClustersUseCase;
+import com.geonho.vocautobot.application.statistics.port.in.dto.VocClusterResult;
+import com.geonho.vocautobot.application.statistics.port.out.EmbeddingScanPort;
+import com.geonho.vocautobot.application.statistics.port.out.EmbeddingScanPort.EmbeddingPage;
+import com.geonho.vocautobot.application.voc.port.out.LoadVocPort;
+import com.geonho.vocautobot.domain.voc.VocDomain;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * VOC 임베딩 주제 군집화 배치
+ * vector_embeddings를 id 순 페이지로 훑으며 구면 mini-batch k-means로 군집을 학습하고,
+ * 군집별 건수·대표 VOC·증가율을 스냅샷으로 보관
+ *
+ * - 최초 실행: 전체 임베딩으로 한 번 학습한 뒤 전체를 다시 배정해 통계 산출
+ * - 이후 실행: 마지막으로 본 id 이후의 새 임베딩만 학습·배정 (증분)
+ * - reassignEvery회마다: 중심 이동과 삭제를 반영하도록 전체를 다시 배정하고 중심을 재계산
+ *
+ * 한 번에 한 페이지만 메모리에 올리므로 전체 임베딩 수와 무관하게 메모리 사용량이 일정
+ * 스케줄러 스레드는 실행만 예약하고, 학습·배정은 전용 풀(clusteringExecutor)에서 수행해
+ * 다른 @Scheduled 작업(급증 감지, 규칙 재적재, 일괄 작업 디스패치 등)을 막지 않음
+ */
+@Slf4j
+@Component
+public class VocClusteringService implements GetVocClustersUseCase {
+
+    private final EmbeddingScanPort embeddingScanPort;
+    private final LoadVocPort loadVocPort;
+    private final Settings settings;
+    private final Clock clock;
+    private final Random random;
+    private final ForkJoinPool pool;
+    private final ReentrantLock running = new ReentrantLock();
+
+    // 배치 스레드 전용 상태 (running 락 안에서만 접근)
+    private SphericalMiniBatchKMeans model;
+    private ClusterStats[] stats;
+    private long cursor;
+    private int refreshes;
+
+    private volatile VocClusterResult snapshot = VocClusterResult.empty();
+
+    @Autowired
+    public VocClusteringService(
+            EmbeddingScanPort embeddingScanPort,
+            LoadVocPort loadVocPort,
+            @Qualifier("clusteringExecutor") ForkJoinPool pool,
+            @Value("${voc.clustering.k:20}") int k,
+            @Value("${voc.clustering.page-size:2048}") int pageSize,
+            @Value("${voc.clustering.reassign-every:36}") int reassignEvery,
+            @Value("${voc.clustering.representatives:5}") int representatives,
+            @Value("${voc.clustering.growth-window-days:7}") int growthWindowDays
+    ) {
+        this(embeddingScanPort, loadVocPort, pool,
+                new Settings(k, pageSize, reassignEvery, representatives, growthWindowDays),
+                Clock.systemDefaultZone(), new Random());
+    }
+
+    VocClusteringService(EmbeddingScanPort embeddingScanPort, LoadVocPort loadVocPort, ForkJoinPool pool,
+                         Settings settings, Clock clock, Random random) {
+        this.embeddingScanPort = embeddingScanPort;
+        this.loadVocPort = loadVocPort;
+        this.pool = pool;
+        this.settings = settings;
+        this.clock = clock;
+        this.random = random;
+    }
+
+    @Override
+    public VocClusterResult getClusters() {
+        return snapshot;
+    }
+
+    /**
+     * 군집 갱신을 전용 풀에 예약 (스케줄러 스레드는 바로 반환)
+     */
+    @Scheduled(initialDelayString = "${voc.clustering.initial-delay-ms:60000}",
+            fixedDelayString = "${voc.clustering.refresh-interval-ms:600000}")
+    public void scheduleRefresh() {
+        pool.execute(this::refresh);
+    }
+
+    /**
+     * 군집 갱신 (이전 실행이 끝나지 않았으면 건너뜀)
+     */
+    public void refresh() {
+        if (!running.tryLock()) {
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            if (model == null) {
+                if (!train()) {
+                    log.debug("Not enough embeddings to cluster yet (k={})", settings.k());
+                    return;
+                }
+                reassign();
+            } else {
+                learnNew();
+                if (++refreshes % settings.reassignEvery() == 0) {
+                    reassign();
+                }
+            }
+            snapshot = buildSnapshot();
+            log.info("VOC clusters refreshed - vectors: {}, k: {}, took: {}ms",
+                    snapshot.totalVectors(), model.k(), (System.nanoTime() - started) / 1_000_000);
+        } catch (Exception e) {
+            // 차원 변경 등으로 학습 상태를 신뢰할 수 없으면 다음 실행에서 처음부터 다시 학습
+            log.warn("VOC clustering failed, model will be rebuilt: {}", e.getMessage());
+            model = null;
+        } finally {
+            running.unlock();
+        }
+    }
+
+    /**
+     * 전체 임베딩으로 1 epoch 학습
+     *
+     * @return 초기화에 필요한 임베딩이 부족하면 false
+     */
+    private boolean train() {
+        EmbeddingPage page = embeddingScanPort.scan(0, settings.pageSize());
+        if (page.size() < settings.k()) {
+            return false;
+        }
+        SphericalMiniBatchKMeans.normalize(page.vectors(), page.size(), page.dimension());
+        model = SphericalMiniBatchKMeans.initialize(
+                page.vectors(), page.size(), page.dimension(), settings.k(), random, pool);
+
+        while (!page.isEmpty()) {
+            checkDimension(page);
+            model.partialFit(page.vectors(), page.size());
+            page = nextNormalized(page.lastId());
+        }
+        return true;
+    }
+
+    /**
+     * 새 임베딩 학습 후 통계에 반영
+     */
+    private void learnNew() {
+        for (EmbeddingPage page = nextNormalized(cursor); !page.isEmpty(); page = nextNormalized(cursor)) {
+            checkDimension(page);
+            model.partialFit(page.vectors(), page.size());
+            accumulate(page);
+            cursor = page.lastId();
+        }
+    }
+
+    /**
+     * 현재 중심으로 전체 임베딩을 다시 배정해 통계를 새로 산출하고,
+     * 같은 배정으로 중심을 다시 계산해 다음 배정에 반영
+     */
+    private void reassign() {
+        ClusterStats[] fresh = newStats();
+        ClusterStats[] previous = stats;
+        double[] sums = new double[model.k() * model.dimension()];
+        stats = fresh;
+        long last = 0;
+        try {
+            for (EmbeddingPage page = nextNormalized(0); !page.isEmpty(); page = nextNormalized(last)) {
+                checkDimension(page);
+                int[] assignments = accumulate(page);
+                model.addToSums(sums, page.vectors(), page.size(), assignments);
+                last = page.lastId();
+            }
+            cursor = last;
+        } catch (RuntimeException e) {
+            stats = previous;
+            throw e;
+        }
+        model.recenter(sums);
+    }
+
+    private int[] accumulate(EmbeddingPage page) {
+        int[] assignments = new int[page.size()];
+        float[] similarities = new float[page.size()];
+        model.assign(page.vectors(), page.size(), assignments, similarities);
+
+        int today = (int) LocalDate.now(clock).toEpochDay();
+        for (int i = 0; i < page.size(); i++) {
+            stats[assignments[i]].add(page.vocIds()[i], page.createdDays()[i], similarities[i], today);
+        }
+        return assignments;
+    }
+
+    private EmbeddingPage nextNormalized(long afterId) {
+        EmbeddingPage page = embeddingScanPort.scan(afterId, settings.pageSize());
+        SphericalMiniBatchKMeans.normalize(page.vectors(), page.size(), page.dimension());
+        return page;
+    }
+
+    private void checkDimension(EmbeddingPage page) {
+        if (page.dimension() != model.dimension()) {
+            throw new IllegalStateException(
+                    "임베딩 차원이 변경되었습니다: " + model.dimension() + " -> " + page.dimension());
+        }
+    }
+
+    private ClusterStats[] newStats() {
+        ClusterStats[] result = new ClusterStats[settings.k()];
+        for (int c = 0; c < result.length; c++) {
+            result[c] = new ClusterStats(settings.representatives(), settings.growthWindowDays() * 2);
+        }
+        return result;
+    }
+
+    private VocClusterResult buildSnapshot() {
+        long total = 0;
+        List<Long> representativeIds = new ArrayList<>();
+        for (ClusterStats stat : stats) {
+            total += stat.size;
+            stat.representatives.forEach(member -> representativeIds.add(member.vocId()));
+        }
+
+        Map<Long, VocDomain> vocs = representativeIds.isEmpty()
+                ? Map.of()
+                : loadVocPort.loadVocsByIds(representativeIds).stream()
+                        .collect(Collectors.toMap(VocDomain::getId, Function.identity(), (a, b) -> a));
+
+        int today = (int) LocalDate.now(clock).toEpochDay();
+        int window = settings.growthWindowDays();
+        List<VocClusterResult.Cluster> clusters = new ArrayList<>();
+        for (int c = 0; c < stats.length; c++) {
+            ClusterStats stat = stats[c];
+            if (stat.size == 0) {
+                continue;
+            }
+            long recent = stat.countBetween(today - window + 1, today);
+            long previous = stat.countBetween(today - 2 * window + 1, today - window);
+            Double growthRate = previous > 0
+                    ? Math.round((recent - previous) * 1000.0 / previous) / 10.0
+                    : null;
+            double percentage = Math.round(stat.size * 10000.0 / total) / 100.0;
+
+            List<VocClusterResult.Representative> representatives = stat.representatives.stream()
+                    .sorted(Comparator.comparingDouble(Member::similarity).reversed())
+                    .map(member -> {
+                        VocDomain voc = vocs.get(member.vocId());
+                        return new VocClusterResult.Representative(member.vocId(),
+                                voc != null ? voc.getTicketId() : null,
+                                voc != null ? voc.getTitle() : null,
+                                Math.round(member.similarity() * 1000.0) / 1000.0);
+                    })
+                    .toList();
+
+            clusters.add(new VocClusterResult.Cluster(
+                    c, stat.size, percentage, recent, previous, growthRate, representatives));
+        }
+        clusters.sort(Comparator.comparingLong(VocClusterResult.Cluster::size).reversed());
+        return new VocClusterResult(List.copyOf(clusters), total, LocalDateTime.now(clock));
+    }
+
+    /**
+     * @param k 군집 수
+     * @param pageSize 한 번에 조회·학습하는 임베딩 수 (mini-batch 크기)
+     * @param reassignEvery 전체 재배정 주기 (갱신 횟수)
+     * @param representatives 군집별 대표 VOC 수
+     * @param growthWindowDays 증가율 비교 기간 (일)
+     */
+    record Settings(int k, int pageSize, int reassignEvery, int representatives, int growthWindowDays) {
+    }
+
+    private record Member(long vocId, float similarity) {
+    }
+
+    /**
+     * 군집별 누적 통계
+     * 일별 유입 건수는 최근 2 * growthWindowDays일만 링 버퍼로 보관
+     */
+    private static final class ClusterStats {
+
+        private final int representativeLimit;
+        private final PriorityQueue<Member> representatives =
+                new PriorityQueue<>(Comparator.comparingDouble(Member::similarity));
+        private final int[] days;
+        private final long[] dayCounts;
+        private long size;
+
+        private ClusterStats(int representativeLimit, int retainedDays) {
+            this.representativeLimit = representativeLimit;
+            this.days = new int[retainedDays];
+            this.dayCounts = new long[retainedDays];
+            Arrays.fill(days, Integer.MIN_VALUE);
+        }
+
+        private void add(long vocId, int createdDay, float similarity, int today) {
+            size++;
+
+            if (representatives.size() < representativeLimit) {
+                representatives.add(new Member(vocId, similarity));
+            } else if (representativeLimit > 0 && representatives.peek().similarity() < similarity) {
+                representatives.poll();
+                representatives.add(new Member(vocId, similarity));
+            }
+
+            if (createdDay <= today - days.length || createdDay > today) {
+                return;
+            }
+            int slot = Math.floorMod(createdDay, days.length);
+            if (days[slot] < createdDay) {
+                days[slot] = createdDay;
+                dayCounts[slot] = 0;
+            }
+            if (days[slot] == createdDay) {
+                dayCounts[slot]++;
+            }
+        }
+
+        private long countBetween(int fromDay, int toDay) {
+            long count = 0;
+            for (int slot = 0; slot < days.length; slot++) {
+                if (days[slot] >= fromDay && days[slot] <= toDay) {
+                    count += dayCounts[slot];
+                }
+            }
+            return count;
+        }
+    }
+}
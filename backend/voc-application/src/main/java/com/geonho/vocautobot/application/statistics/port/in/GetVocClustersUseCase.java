@@ -0,0 +1,19 @@
+package com.geonho.vocautobot.application.statistics.port.in;
+
+import com.geonho.vocautobot.application.statistics.port.in.dto.VocClusterResult;
+
+/**
+ * VOC 주제 군집 조회 UseCase.
+ */
+public interface GetVocClustersUseCase {
+
+    /**
+     * 임베딩 군집화 배치의 최근 결과를 조회합니다.
+     * - 군집별 VOC 건수와 비율
+     * - 중심에 가장 가까운 대표 VOC
+     * - 최근 기간 대비 증가율
+     *
+     * @return 군집 조회 결과 (아직 군집화 전이면 빈 결과)
+     */
+    VocClusterResult getClusters();
+}
@@ -0,0 +1,44 @@
+package com.geonho.vocautobot.application.statistics.port.in.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * VOC 주제 군집 조회 결과 DTO.
+ *
+ * @param totalVectors 군집화에 사용된 임베딩 수
+ * @param computedAt 결과 산출 시각 (군집화 전이면 null)
+ */
+public record VocClusterResult(
+        List<Cluster> clusters,
+        long totalVectors,
+        LocalDateTime computedAt
+) {
+    public static VocClusterResult empty() {
+        return new VocClusterResult(List.of(), 0, null);
+    }
+
+    /**
+     * @param recentCount 최근 growthWindowDays일 동안 유입된 건수
+     * @param previousCount 그 직전 같은 기간 동안 유입된 건수
+     * @param growthRate (recent - previous) / previous (%), 직전 기간이 0건이면 null
+     */
+    public record Cluster(
+            int clusterId,
+            long size,
+            double percentage,
+            long recentCount,
+            long previousCount,
+            Double growthRate,
+            List<Representative> representatives
+    ) {
+    }
+
+    public record Representative(
+            Long vocId,
+            String ticketId,
+            String title,
+            double similarity
+    ) {
+    }
+}
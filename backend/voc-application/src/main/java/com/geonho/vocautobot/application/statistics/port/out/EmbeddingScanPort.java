@@ -0,0 +1,44 @@
+package com.geonho.vocautobot.application.statistics.port.out;
+
+/**
+ * VOC 임베딩 순차 조회 포트.
+ * 군집화 배치가 전체 임베딩을 메모리에 올리지 않고 id 순 페이지 단위로 훑을 때 사용합니다.
+ */
+public interface EmbeddingScanPort {
+
+    /**
+     * afterId보다 큰 id의 임베딩을 id 오름차순으로 조회합니다.
+     *
+     * @param afterId 직전 페이지의 마지막 id (처음이면 0)
+     * @param limit 최대 조회 건수
+     * @return 임베딩 페이지 (더 없으면 size 0)
+     */
+    EmbeddingPage scan(long afterId, int limit);
+
+    /**
+     * 임베딩 페이지.
+     *
+     * @param vocIds VOC ID (size개)
+     * @param createdDays 임베딩 생성일 (epoch day, size개)
+     * @param vectors 행 우선 평탄 벡터 (size * dimension)
+     * @param dimension 벡터 차원
+     * @param size 페이지 건수
+     * @param lastId 페이지 마지막 행의 id (다음 조회의 afterId)
+     */
+    record EmbeddingPage(
+            long[] vocIds,
+            int[] createdDays,
+            float[] vectors,
+            int dimension,
+            int size,
+            long lastId
+    ) {
+        public static EmbeddingPage empty(long afterId) {
+            return new EmbeddingPage(new long[0], new int[0], new float[0], 0, 0, afterId);
+        }
+
+        public boolean isEmpty() {
+            return size == 0;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.geonho.vocautobot.application.voc.autocomplete;
+
+import java.util.Map;
+
+/**
+ * 한글 자모 분해
+ * 완성형 음절과 호환 자모를 입력 순서대로의 기본 자모열로 바꿔, 조합 중인 음절로도 접두어 일치가 되도록 함
+ *
+ * - 음절: 초성·중성·종성으로 분해 (예: '배송' -> ㅂㅐㅅㅗㅇ)
+ * - 겹모음·겹받침: 입력 순서대로 나눔 (예: '과' -> ㄱㅗㅏ, '닭' -> ㄷㅏㄹㄱ)
+ *   '뱃'(배+ㅅ 입력 중), '고'(과 입력 중)처럼 조합 중인 글자도 완성된 단어의 접두어가 됨
+ * - 그 외 문자: 소문자로, 연속 공백은 공백 한 칸으로
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int VOWEL_COUNT = 21;
+    private static final int FINAL_COUNT = 28;
+
+    private static final String INITIALS = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String VOWELS = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    /** 0번은 받침 없음 */
+    private static final String FINALS = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    /** 겹모음·겹받침의 입력 순서 분해 */
+    private static final Map<Character, String> COMPOUNDS = Map.ofEntries(
+            Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"),
+            Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"),
+            Map.entry('ㅢ', "ㅡㅣ"),
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"),
+            Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"),
+            Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+            Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ")
+    );
+
+    private HangulJamo() {}
+
+    /**
+     * @return 자모 분해·소문자·공백 정리된 문자열 (null이면 빈 문자열)
+     */
+    public static String decompose(CharSequence text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder out = new StringBuilder(text.length() * 3);
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = !out.isEmpty();
+                continue;
+            }
+            if (pendingSpace) {
+                out.append(' ');
+                pendingSpace = false;
+            }
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int offset = c - SYLLABLE_BASE;
+                out.append(INITIALS.charAt(offset / (VOWEL_COUNT * FINAL_COUNT)));
+                appendJamo(out, VOWELS.charAt(offset % (VOWEL_COUNT * FINAL_COUNT) / FINAL_COUNT));
+                int fin = offset % FINAL_COUNT;
+                if (fin != 0) {
+                    appendJamo(out, FINALS.charAt(fin));
+                }
+            } else {
+                appendJamo(out, c);
+            }
+        }
+        return out.toString();
+    }
+
+    private static void appendJamo(StringBuilder out, char c) {
+        String split = COMPOUNDS.get(c);
+        if (split != null) {
+            out.append(split);
+        } else {
+            out.append(Character.toLowerCase(c));
+        }
+    }
+}
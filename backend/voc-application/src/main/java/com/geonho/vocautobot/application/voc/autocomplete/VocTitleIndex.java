@@ -0,0 +1,221 @@
+package com.geonho.vocautobot.application.voc.autocomplete;
+
+import com.geonho.vocautobot.application.voc.port.in.AutocompleteVocUseCase;
+import com.geonho.vocautobot.application.voc.port.in.dto.VocTitle;
+import com.geonho.vocautobot.application.voc.port.out.LoadVocSummaryPort;
+import com.geonho.vocautobot.domain.voc.VocDomain;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * VOC 제목·티켓 ID 자동완성 색인 (메모리)
+ * 자모 분해한 단어 시작 위치부터의 문자열을 정렬 맵 키로 두고, 입력값 접두어의 키 범위를 읽어 후보를 찾음
+ *
+ * - 키: HangulJamo.decompose(텍스트)의 각 단어 시작 위치부터 최대 MAX_KEY_LENGTH자 + 구분자 + VOC id
+ *   예) '배송 지연' -> 'ㅂㅐㅅㅗㅇ ㅈㅣㅇㅕㄴ', 'ㅈㅣㅇㅕㄴ' / 'VOC-20240101-0001' -> 'voc-20240101-0001', '20240101-0001', '0001'
+ * - 조회: 키 범위 탐색 O(log n + 결과), DB를 거치지 않음. MAX_KEY_LENGTH보다 긴 입력은 후보를 원문으로 재확인
+ * - 갱신: VOC 생성·제목 수정 시 커밋 후 해당 VOC 키만 교체,
+ *   다른 인스턴스의 변경·삭제는 주기적 재적재(voc.autocomplete.rebuild-interval-ms)로 반영
+ * - 메모리: 최신 maxVocs건만 유지하고 넘치면 id가 가장 작은 VOC부터 제거 (VOC당 대략 1KB)
+ *
+ * 조회는 잠금 없이 동시 실행되고, 쓰기는 인스턴스 락으로 직렬화
+ */
+@Slf4j
+@Component
+public class VocTitleIndex implements AutocompleteVocUseCase {
+
+    /** 색인 키 최대 길이 (자모 수, 한글 약 5~6음절) */
+    static final int MAX_KEY_LENGTH = 16;
+    /** VOC당 최대 키 수 (티켓 ID 구간 먼저, 이후 제목 단어) */
+    static final int MAX_KEYS_PER_VOC = 8;
+    /** 조회 한 번에 반환하는 최대 결과 수 (API 밖 호출자도 이 값을 넘지 않음) */
+    static final int MAX_LIMIT = 20;
+    /** 조회 한 번에 훑는 최대 키 수 */
+    private static final int MAX_SCAN = 512;
+    private static final char ID_SEPARATOR = '\u0000';
+    private static final char PREFIX_END = '\uffff';
+
+    private final LoadVocSummaryPort loadVocSummaryPort;
+    private final int maxVocs;
+    private final ReentrantLock rebuilding = new ReentrantLock();
+
+    private volatile Store store = new Store();
+    /** 재적재 중 반영된 갱신 (새 색인에 다시 적용, this 락 안에서만 접근) */
+    private List<VocTitle> pending;
+
+    public VocTitleIndex(LoadVocSummaryPort loadVocSummaryPort,
+                         @Value("${voc.autocomplete.max-vocs:20000}") int maxVocs) {
+        this.loadVocSummaryPort = loadVocSummaryPort;
+        this.maxVocs = maxVocs;
+    }
+
+    @Override
+    public List<VocTitle> autocomplete(String prefix, int limit) {
+        String query = HangulJamo.decompose(prefix);
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        boolean truncated = query.length() > MAX_KEY_LENGTH;
+        String probe = truncated ? query.substring(0, MAX_KEY_LENGTH) : query;
+
+        int maxResults = Math.min(limit, MAX_LIMIT);
+
+        Map<Long, VocTitle> matches = new LinkedHashMap<>();
+        int scanned = 0;
+        for (VocTitle title : store.keys.subMap(probe, probe + PREFIX_END).values()) {
+            if (matches.size() >= maxResults || ++scanned > MAX_SCAN) {
+                break;
+            }
+            if (truncated && !matchesWordStart(title, query)) {
+                continue;
+            }
+            matches.putIfAbsent(title.id(), title);
+        }
+        return List.copyOf(matches.values());
+    }
+
+    /**
+     * VOC 생성·수정 반영 (트랜잭션 안이면 커밋 후, 롤백되면 반영하지 않음)
+     */
+    public void index(VocDomain voc) {
+        VocTitle title = new VocTitle(voc.getId(), voc.getTicketId(), voc.getTitle());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(title);
+                }
+            });
+        } else {
+            put(title);
+        }
+    }
+
+    synchronized void put(VocTitle title) {
+        if (title.id() == null) {
+            return;
+        }
+        store.put(title, maxVocs);
+        if (pending != null) {
+            pending.add(title);
+        }
+    }
+
+    /**
+     * DB에서 최신 maxVocs건을 읽어 색인을 새로 만든 뒤 교체 (실패하면 기존 색인 유지)
+     */
+    @Scheduled(initialDelayString = "${voc.autocomplete.initial-delay-ms:0}",
+            fixedDelayString = "${voc.autocomplete.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        if (!rebuilding.tryLock()) {
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            synchronized (this) {
+                pending = new ArrayList<>();
+            }
+            Store fresh = new Store();
+            for (VocTitle title : loadVocSummaryPort.loadRecentVocTitles(maxVocs)) {
+                fresh.put(title, maxVocs);
+            }
+            synchronized (this) {
+                pending.forEach(title -> fresh.put(title, maxVocs));
+                pending = null;
+                store = fresh;
+            }
+            log.info("VOC autocomplete index rebuilt - vocs: {}, keys: {}, took: {}ms",
+                    fresh.vocCount, fresh.keys.size(), (System.nanoTime() - started) / 1_000_000);
+        } catch (Exception e) {
+            synchronized (this) {
+                pending = null;
+            }
+            log.warn("VOC autocomplete index rebuild failed, keeping previous index: {}", e.getMessage());
+        } finally {
+            rebuilding.unlock();
+        }
+    }
+
+    static String[] keysOf(VocTitle title) {
+        String suffix = ID_SEPARATOR + String.valueOf(title.id());
+        Set<String> keys = new LinkedHashSet<>();
+        addWordKeys(keys, HangulJamo.decompose(title.ticketId()), suffix);
+        addWordKeys(keys, HangulJamo.decompose(title.title()), suffix);
+        return keys.toArray(String[]::new);
+    }
+
+    private static void addWordKeys(Set<String> keys, String text, String suffix) {
+        for (int i = 0; i < text.length() && keys.size() < MAX_KEYS_PER_VOC; i++) {
+            if (isWordStart(text, i)) {
+                keys.add(text.substring(i, Math.min(text.length(), i + MAX_KEY_LENGTH)) + suffix);
+            }
+        }
+    }
+
+    private static boolean matchesWordStart(VocTitle title, String query) {
+        return startsAnyWord(HangulJamo.decompose(title.ticketId()), query)
+                || startsAnyWord(HangulJamo.decompose(title.title()), query);
+    }
+
+    private static boolean startsAnyWord(String text, String query) {
+        for (int i = 0; i + query.length() <= text.length(); i++) {
+            if (isWordStart(text, i) && text.startsWith(query, i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isWordStart(String text, int i) {
+        return Character.isLetterOrDigit(text.charAt(i))
+                && (i == 0 || !Character.isLetterOrDigit(text.charAt(i - 1)));
+    }
+
+    /**
+     * 키 맵과 VOC별 키 목록
+     * 공유 중인 Store는 VocTitleIndex 락 안에서만 수정
+     */
+    private static final class Store {
+
+        private final ConcurrentSkipListMap<String, VocTitle> keys = new ConcurrentSkipListMap<>();
+        private final ConcurrentSkipListMap<Long, String[]> keysById = new ConcurrentSkipListMap<>();
+        private int vocCount;
+
+        void put(VocTitle title, int maxVocs) {
+            remove(title.id());
+            String[] titleKeys = keysOf(title);
+            for (String key : titleKeys) {
+                keys.put(key, title);
+            }
+            keysById.put(title.id(), titleKeys);
+            vocCount++;
+            while (vocCount > maxVocs) {
+                remove(keysById.firstKey());
+            }
+        }
+
+        private void remove(Long id) {
+            String[] previous = keysById.remove(id);
+            if (previous == null) {
+                return;
+            }
+            for (String key : previous) {
+                keys.remove(key);
+            }
+            vocCount--;
+        }
+    }
+}
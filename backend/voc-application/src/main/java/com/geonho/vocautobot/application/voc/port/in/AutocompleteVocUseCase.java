@@ -0,0 +1,20 @@
+package com.geonho.vocautobot.application.voc.port.in;
+
+import com.geonho.vocautobot.application.voc.port.in.dto.VocTitle;
+
+import java.util.List;
+
+/**
+ * VOC 제목·티켓 ID 자동완성
+ */
+public interface AutocompleteVocUseCase {
+
+    /**
+     * 제목 단어 또는 티켓 ID 구간이 prefix로 시작하는 VOC
+     * 한글은 자모 단위로 비교하므로 조합 중인 글자('뱃', 'ㅂ')로도 일치
+     *
+     * @param prefix 입력 중인 검색어
+     * @param limit 최대 건수
+     */
+    List<VocTitle> autocomplete(String prefix, int limit);
+}
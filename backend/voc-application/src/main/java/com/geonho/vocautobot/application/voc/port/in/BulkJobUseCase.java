@@ -0,0 +1,32 @@
+package com.geonho.vocautobot.application.voc.port.in;
+
+import com.geonho.vocautobot.application.voc.port.in.dto.SubmitBulkJobCommand;
+import com.geonho.vocautobot.domain.voc.BulkJob;
+import com.geonho.vocautobot.domain.voc.BulkJobItemError;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Use case for asynchronous bulk VOC jobs
+ */
+public interface BulkJobUseCase {
+
+    /**
+     * 작업을 등록하고 바로 반환 (처리는 워커가 묶음 단위로 진행)
+     */
+    BulkJob submit(SubmitBulkJobCommand command);
+
+    BulkJob getJob(Long jobId);
+
+    Page<BulkJobItemError> getErrors(Long jobId, Pageable pageable);
+
+    /**
+     * 대기·처리 중·실패 작업 취소 (처리 중인 묶음은 롤백되고, 이미 커밋된 묶음은 유지)
+     */
+    BulkJob cancel(Long jobId);
+
+    /**
+     * 실패한 작업을 마지막으로 커밋된 위치부터 다시 처리
+     */
+    BulkJob resume(Long jobId);
+}
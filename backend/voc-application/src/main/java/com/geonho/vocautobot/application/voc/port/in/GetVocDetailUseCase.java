@@ -1,5 +1,6 @@
 package com.geonho.vocautobot.application.voc.port.in;
 
+import com.geonho.vocautobot.application.voc.port.in.dto.VocDetailView;
 import com.geonho.vocautobot.domain.voc.VocDomain;
 
 import java.util.Optional;
@@ -11,6 +12,15 @@ public interface GetVocDetailUseCase {
 
     VocDomain getVocById(Long id);
 
+    /**
+     * Retrieves VOC detail for display: the VOC with attachments and memos plus its AI analysis,
+     * read in a single query.
+     *
+     * @param id the VOC ID
+     * @return the detail view (analysis is null when no analysis record exists)
+     */
+    VocDetailView getVocDetail(Long id);
+
     VocDomain getVocByTicketId(String ticketId);
 
     /**
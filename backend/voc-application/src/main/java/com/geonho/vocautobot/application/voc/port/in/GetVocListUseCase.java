@@ -1,6 +1,9 @@
 package com.geonho.vocautobot.application.voc.port.in;
 
+import com.geonho.vocautobot.application.common.pagination.CursorPage;
+import com.geonho.vocautobot.application.common.pagination.CursorRequest;
 import com.geonho.vocautobot.application.voc.port.in.dto.VocListQuery;
+import com.geonho.vocautobot.application.voc.port.in.dto.VocSummary;
 import com.geonho.vocautobot.domain.voc.VocDomain;
 import org.springframework.data.domain.Page;
 
@@ -10,4 +13,14 @@ import org.springframework.data.domain.Page;
 public interface GetVocListUseCase {
 
     Page<VocDomain> getVocList(VocListQuery query);
+
+    /**
+     * 목록 화면용 조회 (본문 제외, 고객 정보는 includePii일 때만 포함)
+     */
+    Page<VocSummary> getVocSummaries(VocListQuery query, boolean includePii);
+
+    /**
+     * 목록 화면용 키셋 페이지 조회 (createdAt 정렬만 지원, query의 page·size는 사용하지 않음)
+     */
+    CursorPage<VocSummary> getVocSummariesAfter(VocListQuery query, boolean includePii, CursorRequest cursor);
 }
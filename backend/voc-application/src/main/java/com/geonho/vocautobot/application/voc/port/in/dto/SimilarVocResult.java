@@ -3,6 +3,7 @@ package com.geonho.vocautobot.application.voc.port.in.dto;
 import com.geonho.vocautobot.domain.voc.VocStatus;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Result DTO for similar VOC queries.
@@ -14,6 +15,7 @@ import java.time.LocalDateTime;
  * @param status      the VOC status
  * @param similarity  the similarity score (0.0 to 1.0)
  * @param createdAt   the VOC creation time
+ * @param sharedKeywords dictionary keywords that also appear in the source VOC
  */
 public record SimilarVocResult(
         Long id,
@@ -21,6 +23,10 @@ public record SimilarVocResult(
         String title,
         VocStatus status,
         double similarity,
-        LocalDateTime createdAt
+        LocalDateTime createdAt,
+        List<String> sharedKeywords
 ) {
+    public SimilarVocResult {
+        sharedKeywords = sharedKeywords == null ? List.of() : List.copyOf(sharedKeywords);
+    }
 }
@@ -0,0 +1,21 @@
+package com.geonho.vocautobot.application.voc.port.in.dto;
+
+import com.geonho.vocautobot.domain.voc.BulkJobType;
+import com.geonho.vocautobot.domain.voc.VocPriority;
+import com.geonho.vocautobot.domain.voc.VocStatus;
+
+import java.util.List;
+
+/**
+ * Command for submitting an asynchronous bulk VOC job.
+ * Only the field matching the job type is used (status / assigneeId / priority).
+ */
+public record SubmitBulkJobCommand(
+        BulkJobType type,
+        List<Long> vocIds,
+        VocStatus status,
+        Long assigneeId,
+        VocPriority priority,
+        String reason
+) {
+}
@@ -0,0 +1,14 @@
+package com.geonho.vocautobot.application.voc.port.in.dto;
+
+import com.geonho.vocautobot.application.analysis.dto.VocAnalysisDto;
+import com.geonho.vocautobot.domain.voc.VocDomain;
+
+/**
+ * VOC 상세 화면 조회 결과
+ * VOC(첨부·메모 포함)와 AI 분석 결과를 한 번에 담음 (분석 레코드가 없으면 analysis는 null)
+ */
+public record VocDetailView(
+        VocDomain voc,
+        VocAnalysisDto analysis
+) {
+}
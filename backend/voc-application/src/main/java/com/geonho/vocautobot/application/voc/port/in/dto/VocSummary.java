@@ -0,0 +1,31 @@
+package com.geonho.vocautobot.application.voc.port.in.dto;
+
+import com.geonho.vocautobot.domain.voc.VocPriority;
+import com.geonho.vocautobot.domain.voc.VocStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * VOC 목록 행
+ * 목록 화면에 필요한 컬럼만 담으며 본문(content)은 포함하지 않음
+ * 고객 정보(customerEmail/Name/Phone)는 명시적으로 요청한 경우에만 채워지고, 그 외에는 null
+ */
+public record VocSummary(
+        Long id,
+        String ticketId,
+        String title,
+        VocStatus status,
+        VocPriority priority,
+        Long categoryId,
+        String customerEmail,
+        String customerName,
+        String customerPhone,
+        Long assigneeId,
+        LocalDateTime resolvedAt,
+        LocalDateTime closedAt,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        String sentiment,
+        Double sentimentConfidence
+) {
+}
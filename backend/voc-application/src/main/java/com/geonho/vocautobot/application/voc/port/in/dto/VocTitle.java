@@ -0,0 +1,11 @@
+package com.geonho.vocautobot.application.voc.port.in.dto;
+
+/**
+ * 자동완성 후보 (VOC 제목·티켓 ID)
+ */
+public record VocTitle(
+        Long id,
+        String ticketId,
+        String title
+) {
+}
@@ -0,0 +1,55 @@
+package com.geonho.vocautobot.application.voc.port.out;
+
+import com.geonho.vocautobot.domain.voc.BulkJob;
+import com.geonho.vocautobot.domain.voc.BulkJobItemError;
+import com.geonho.vocautobot.domain.voc.BulkJobStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * VOC 일괄 작업 영속성 포트
+ * 상태 전이·진행 기록은 현재 상태를 조건으로 거는 UPDATE로, 동시에 바뀐 경우 false를 반환
+ */
+public interface BulkJobPersistencePort {
+
+    BulkJob save(BulkJob job);
+
+    Optional<BulkJob> findById(Long jobId);
+
+    Page<BulkJobItemError> findErrors(Long jobId, Pageable pageable);
+
+    /**
+     * QUEUED -> RUNNING (한 워커만 성공)
+     */
+    boolean claim(Long jobId);
+
+    /**
+     * 묶음 처리 결과 기록 (RUNNING이고 진행 위치가 expectedProcessed일 때만)
+     *
+     * @param progressed 묶음 반영 후의 진행 상태
+     * @param errors 묶음에서 처리하지 못한 VOC
+     */
+    boolean recordProgress(Long jobId, int expectedProcessed, BulkJob progressed, List<BulkJobItemError> errors);
+
+    /**
+     * from 중 하나인 작업을 to로 전이
+     */
+    boolean transition(Long jobId, Set<BulkJobStatus> from, BulkJobStatus to, String failureMessage);
+
+    /**
+     * 오래된 순 QUEUED 작업 id
+     */
+    List<Long> findQueuedIds(int limit);
+
+    /**
+     * before 이후 진행 기록이 없는 RUNNING 작업을 QUEUED로 되돌림 (처리하던 인스턴스가 중단된 경우)
+     *
+     * @return 되돌린 작업 수
+     */
+    int requeueStale(LocalDateTime before);
+}
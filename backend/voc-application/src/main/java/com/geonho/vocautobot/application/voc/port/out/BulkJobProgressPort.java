@@ -0,0 +1,11 @@
+package com.geonho.vocautobot.application.voc.port.out;
+
+import com.geonho.vocautobot.domain.voc.BulkJob;
+
+/**
+ * 일괄 작업 진행 상황 알림 포트 (SSE 구독자에게 전달)
+ */
+public interface BulkJobProgressPort {
+
+    void publish(BulkJob job);
+}
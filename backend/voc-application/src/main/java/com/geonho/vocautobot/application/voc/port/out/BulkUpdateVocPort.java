@@ -0,0 +1,40 @@
+package com.geonho.vocautobot.application.voc.port.out;
+
+import com.geonho.vocautobot.domain.voc.VocPriority;
+import com.geonho.vocautobot.domain.voc.VocStatus;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * VOC 일괄 변경 출력 포트
+ * 엔티티를 읽지 않고 (id, version, status)만 조회한 뒤, 묶음 단위 UPDATE 한 문장으로 반영
+ *
+ * - 변경 메서드는 조회 시점 version이 그대로인 행만 갱신하고 version을 올림
+ * - 반환값은 실제로 갱신된 VOC id (빠진 id는 그 사이 다른 요청이 먼저 수정한 행)
+ */
+public interface BulkUpdateVocPort {
+
+    /**
+     * @return 존재하는 VOC의 상태 (없는 id는 결과에서 빠짐)
+     */
+    List<VocState> loadVocStates(List<Long> vocIds);
+
+    /**
+     * 상태 변경 + 상태 변경 이력 일괄 저장
+     */
+    Set<Long> updateStatus(List<VocState> targets, VocStatus status, String reason);
+
+    /**
+     * 담당자 지정 (NEW 상태는 IN_PROGRESS로 바꾸고 이력 저장)
+     */
+    Set<Long> assign(List<VocState> targets, Long assigneeId);
+
+    Set<Long> updatePriority(List<VocState> targets, VocPriority priority);
+
+    /**
+     * 일괄 변경 판단에 필요한 VOC 상태
+     */
+    record VocState(Long id, Long version, VocStatus status) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.geonho.vocautobot.application.voc.port.out;
+
+import com.geonho.vocautobot.application.voc.port.in.dto.VocDetailView;
+
+import java.util.Optional;
+
+/**
+ * VOC 상세 화면 조회 전용 출력 포트
+ * VOC·첨부·메모·분석 결과를 한 번의 조회로 읽음
+ */
+public interface LoadVocDetailPort {
+
+    Optional<VocDetailView> loadVocDetail(Long id);
+}
@@ -0,0 +1,54 @@
+package com.geonho.vocautobot.application.voc.port.out;
+
+import com.geonho.vocautobot.application.common.pagination.CursorPage;
+import com.geonho.vocautobot.application.common.pagination.CursorRequest;
+import com.geonho.vocautobot.application.voc.port.in.dto.VocSummary;
+import com.geonho.vocautobot.application.voc.port.in.dto.VocTitle;
+import com.geonho.vocautobot.domain.voc.VocPriority;
+import com.geonho.vocautobot.domain.voc.VocStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * VOC 목록 조회 전용 출력 포트
+ * 엔티티·첨부·메모를 읽지 않고 목록 컬럼만 조회
+ */
+public interface LoadVocSummaryPort {
+
+    /**
+     * @param includePii true일 때만 고객 정보 컬럼을 조회·복호화
+     */
+    Page<VocSummary> loadVocSummaries(
+            VocStatus status,
+            VocPriority priority,
+            Long categoryId,
+            Long assigneeId,
+            String customerEmail,
+            String search,
+            boolean includePii,
+            Pageable pageable
+    );
+
+    /**
+     * 키셋 페이지 조회 (created_at, id 순)
+     */
+    CursorPage<VocSummary> loadVocSummariesAfter(
+            VocStatus status,
+            VocPriority priority,
+            Long categoryId,
+            Long assigneeId,
+            String customerEmail,
+            String search,
+            boolean includePii,
+            CursorRequest cursor
+    );
+
+    /**
+     * 자동완성 색인 적재용 제목 목록 (최신 id 순)
+     *
+     * @param limit 최대 건수
+     */
+    List<VocTitle> loadRecentVocTitles(int limit);
+}
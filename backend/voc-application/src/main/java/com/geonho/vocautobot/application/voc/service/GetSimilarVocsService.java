@@ -1,5 +1,6 @@
 package com.geonho.vocautobot.application.voc.service;
 
+import com.geonho.vocautobot.application.analysis.keyword.KeywordExtractor;
 import com.geonho.vocautobot.application.analysis.port.out.VectorSearchPort;
 import com.geonho.vocautobot.application.voc.exception.VocNotFoundException;
 import com.geonho.vocautobot.application.voc.port.in.GetSimilarVocsUseCase;
@@ -20,6 +21,8 @@ import java.util.stream.Collectors;
  * Service implementing similar VOC search use case.
  * Uses pgvector-based vector similarity search and enriches results
  * with VOC metadata from the persistence layer.
+ * Each result also lists the dictionary keywords (KeywordExtractor) it shares with the source VOC,
+ * so reviewers can tell a likely duplicate from a merely related one.
  */
 @Slf4j
 @Service
@@ -29,12 +32,14 @@ public class GetSimilarVocsService implements GetSimilarVocsUseCase {
 
     private final LoadVocPort loadVocPort;
     private final VectorSearchPort vectorSearchPort;
+    private final KeywordExtractor keywordExtractor;
 
     @Override
     public List<SimilarVocResult> getSimilarVocs(Long vocId, int limit) {
         // 1. Verify the source VOC exists
-        loadVocPort.loadVocById(vocId)
+        VocDomain source = loadVocPort.loadVocById(vocId)
                 .orElseThrow(() -> new VocNotFoundException(vocId));
+        List<String> sourceKeywords = keywordExtractor.extractKeywords(source.getTitle(), source.getContent());
 
         // 2. pgvector similarity search (SQL already excludes self)
         List<VectorSearchPort.SimilarVocResult> aiResults =
@@ -48,7 +53,7 @@ public class GetSimilarVocsService implements GetSimilarVocsUseCase {
         Map<Long, VocDomain> vocMap = loadVocPort.loadVocsByIds(similarVocIds).stream()
                 .collect(Collectors.toMap(VocDomain::getId, v -> v));
 
-        // 4. Enrich results with VOC metadata
+        // 4. Enrich results with VOC metadata and keywords shared with the source
         List<SimilarVocResult> enrichedResults = new ArrayList<>();
         for (VectorSearchPort.SimilarVocResult aiResult : aiResults) {
             VocDomain voc = vocMap.get(aiResult.vocId());
@@ -59,7 +64,8 @@ public class GetSimilarVocsService implements GetSimilarVocsUseCase {
                         voc.getTitle(),
                         voc.getStatus(),
                         aiResult.similarityScore(),
-                        voc.getCreatedAt()
+                        voc.getCreatedAt(),
+                        sharedKeywords(sourceKeywords, voc)
                 ));
             }
 
@@ -71,4 +77,17 @@ public class GetSimilarVocsService implements GetSimilarVocsUseCase {
         log.info("Found {} similar VOCs for VOC ID: {}", enrichedResults.size(), vocId);
         return enrichedResults;
     }
+
+    /**
+     * Dictionary keywords found in both VOCs, in dictionary order.
+     */
+    private List<String> sharedKeywords(List<String> sourceKeywords, VocDomain voc) {
+        if (sourceKeywords.isEmpty()) {
+            return List.of();
+        }
+        List<String> keywords = keywordExtractor.extractKeywords(voc.getTitle(), voc.getContent());
+        return sourceKeywords.stream()
+                .filter(keywords::contains)
+                .toList();
+    }
 }
@@ -0,0 +1,134 @@
+package com.geonho.vocautobot.application.voc.usecase;
+
+import com.geonho.vocautobot.application.common.exception.BusinessException;
+import com.geonho.vocautobot.application.voc.port.in.BulkJobUseCase;
+import com.geonho.vocautobot.application.voc.port.in.dto.SubmitBulkJobCommand;
+import com.geonho.vocautobot.application.voc.port.out.BulkJobPersistencePort;
+import com.geonho.vocautobot.domain.voc.BulkJob;
+import com.geonho.vocautobot.domain.voc.BulkJobItemError;
+import com.geonho.vocautobot.domain.voc.BulkJobStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 비동기 VOC 일괄 작업 등록·조회·취소·재개
+ * 실제 처리는 BulkJobWorker가 커밋 이후 별도 스레드에서 묶음 단위로 수행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkJobService implements BulkJobUseCase {
+
+    private final BulkJobPersistencePort bulkJobPersistencePort;
+    private final BulkJobWorker bulkJobWorker;
+
+    @Override
+    @Transactional
+    public BulkJob submit(SubmitBulkJobCommand command) {
+        validate(command);
+        // 중복 id가 서로 다른 묶음에 걸쳐 두 번 처리되지 않도록 요청 순서를 유지한 채 제거
+        BulkJob job = bulkJobPersistencePort.save(BulkJob.create(
+                command.type(),
+                new ArrayList<>(new LinkedHashSet<>(command.vocIds())),
+                command.status(),
+                command.priority(),
+                command.assigneeId(),
+                command.reason()
+        ));
+        log.info("Bulk job {} submitted: {} for {} VOCs", job.id(), command.type(), job.totalCount());
+        dispatchAfterCommit(job.id());
+        return job;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BulkJob getJob(Long jobId) {
+        return bulkJobPersistencePort.findById(jobId)
+                .orElseThrow(() -> notFound(jobId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<BulkJobItemError> getErrors(Long jobId, Pageable pageable) {
+        getJob(jobId);
+        return bulkJobPersistencePort.findErrors(jobId, pageable);
+    }
+
+    @Override
+    @Transactional
+    public BulkJob cancel(Long jobId) {
+        BulkJob job = getJob(jobId);
+        if (!bulkJobPersistencePort.transition(jobId,
+                Set.of(BulkJobStatus.QUEUED, BulkJobStatus.RUNNING, BulkJobStatus.FAILED),
+                BulkJobStatus.CANCELLED, null)) {
+            throw invalidState(job, "취소할 수 없는 작업입니다");
+        }
+        log.info("Bulk job {} cancelled at {}/{}", jobId, job.processedCount(), job.totalCount());
+        return job.withStatus(BulkJobStatus.CANCELLED, null);
+    }
+
+    @Override
+    @Transactional
+    public BulkJob resume(Long jobId) {
+        BulkJob job = getJob(jobId);
+        if (!bulkJobPersistencePort.transition(jobId, Set.of(BulkJobStatus.FAILED), BulkJobStatus.QUEUED, null)) {
+            throw invalidState(job, "실패한 작업만 재개할 수 있습니다");
+        }
+        log.info("Bulk job {} resumed from {}/{}", jobId, job.processedCount(), job.totalCount());
+        dispatchAfterCommit(jobId);
+        return job.withStatus(BulkJobStatus.QUEUED, null);
+    }
+
+    private void validate(SubmitBulkJobCommand command) {
+        if (command.type() == null) {
+            throw new BusinessException("INVALID_BULK_JOB", "작업 종류를 선택해주세요");
+        }
+        if (command.vocIds() == null || command.vocIds().isEmpty()) {
+            throw new BusinessException("INVALID_BULK_JOB", "VOC ID 목록을 입력해주세요");
+        }
+        boolean missingTarget = switch (command.type()) {
+            case STATUS -> command.status() == null;
+            case ASSIGN -> command.assigneeId() == null;
+            case PRIORITY -> command.priority() == null;
+        };
+        if (missingTarget) {
+            throw new BusinessException("INVALID_BULK_JOB",
+                    command.type().getDisplayName() + " 대상 값을 입력해주세요");
+        }
+    }
+
+    /**
+     * 작업 행이 커밋된 뒤에 워커에 넘김 (커밋 전에 워커가 조회하면 작업을 찾지 못함)
+     */
+    private void dispatchAfterCommit(Long jobId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bulkJobWorker.dispatch(jobId);
+                }
+            });
+        } else {
+            bulkJobWorker.dispatch(jobId);
+        }
+    }
+
+    private static BusinessException notFound(Long jobId) {
+        return new BusinessException("BULK_JOB_NOT_FOUND", "일괄 작업을 찾을 수 없습니다. ID: " + jobId, 404);
+    }
+
+    private static BusinessException invalidState(BulkJob job, String message) {
+        return new BusinessException("BULK_JOB_INVALID_STATE",
+                message + " (현재 상태: " + job.status().getDisplayName() + ")", 409);
+    }
+}
@@ -0,0 +1,186 @@
+package com.geonho.vocautobot.application.voc.usecase;
+
+import com.geonho.vocautobot.application.voc.port.in.BulkVocUseCase;
+import com.geonho.vocautobot.application.voc.port.in.dto.BulkAssignCommand;
+import com.geonho.vocautobot.application.voc.port.in.dto.BulkPriorityChangeCommand;
+import com.geonho.vocautobot.application.voc.port.in.dto.BulkStatusChangeCommand;
+import com.geonho.vocautobot.application.voc.port.out.BulkJobPersistencePort;
+import com.geonho.vocautobot.application.voc.port.out.BulkJobProgressPort;
+import com.geonho.vocautobot.domain.voc.BulkJob;
+import com.geonho.vocautobot.domain.voc.BulkJobItemError;
+import com.geonho.vocautobot.domain.voc.BulkJobStatus;
+import com.geonho.vocautobot.domain.voc.BulkOperationResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * VOC 일괄 작업 워커
+ * 작업 하나를 chunkSize건씩 나눠, 묶음마다 VOC 변경과 진행 기록을 한 트랜잭션으로 커밋
+ *
+ * - 진행 기록은 RUNNING이고 진행 위치가 그대로일 때만 성공하므로,
+ *   취소되었거나 다른 워커가 가져간 작업은 해당 묶음을 롤백하고 멈춤
+ * - 묶음 처리 중 오류면 FAILED로 두고, 재개하면 마지막으로 커밋된 위치부터 이어서 처리
+ * - 주기적으로 QUEUED 작업을 실행하고, 진행 기록이 staleAfterMs 넘게 없는 RUNNING 작업은 QUEUED로 되돌림
+ *   (요청 직후 실행이 거절되었거나 처리하던 인스턴스가 중단된 경우)
+ */
+@Slf4j
+@Component
+public class BulkJobWorker {
+
+    private static final int DISPATCH_BATCH = 20;
+
+    private final BulkJobPersistencePort bulkJobPersistencePort;
+    private final BulkVocUseCase bulkVocUseCase;
+    private final BulkJobProgressPort bulkJobProgressPort;
+    private final Executor bulkJobExecutor;
+    private final int chunkSize;
+    private final long staleAfterMs;
+
+    /** 이 인스턴스에서 실행 대기·실행 중인 작업 (같은 작업을 중복 제출하지 않도록) */
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    @Lazy
+    @Autowired
+    private BulkJobWorker self;
+
+    @Autowired
+    public BulkJobWorker(
+            BulkJobPersistencePort bulkJobPersistencePort,
+            BulkVocUseCase bulkVocUseCase,
+            BulkJobProgressPort bulkJobProgressPort,
+            @Qualifier("bulkJobExecutor") Executor bulkJobExecutor,
+            @Value("${voc.bulk-job.chunk-size:500}") int chunkSize,
+            @Value("${voc.bulk-job.stale-after-ms:300000}") long staleAfterMs
+    ) {
+        this.bulkJobPersistencePort = bulkJobPersistencePort;
+        this.bulkVocUseCase = bulkVocUseCase;
+        this.bulkJobProgressPort = bulkJobProgressPort;
+        this.bulkJobExecutor = bulkJobExecutor;
+        this.chunkSize = chunkSize;
+        this.staleAfterMs = staleAfterMs;
+    }
+
+    /**
+     * 프록시 없이 쓰는 테스트용 생성자 (묶음 트랜잭션 없이 실행)
+     */
+    BulkJobWorker(BulkJobPersistencePort bulkJobPersistencePort, BulkVocUseCase bulkVocUseCase,
+                  BulkJobProgressPort bulkJobProgressPort, Executor bulkJobExecutor, int chunkSize) {
+        this(bulkJobPersistencePort, bulkVocUseCase, bulkJobProgressPort, bulkJobExecutor, chunkSize, 300000);
+        this.self = this;
+    }
+
+    /**
+     * 작업 실행 예약 (이미 이 인스턴스에서 대기·실행 중이면 무시)
+     */
+    public void dispatch(Long jobId) {
+        if (!inFlight.add(jobId)) {
+            return;
+        }
+        try {
+            bulkJobExecutor.execute(() -> {
+                try {
+                    run(jobId);
+                } finally {
+                    inFlight.remove(jobId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(jobId);
+            log.warn("Bulk job {} rejected by executor, will retry on next dispatch", jobId);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${voc.bulk-job.dispatch-interval-ms:5000}",
+            fixedDelayString = "${voc.bulk-job.dispatch-interval-ms:5000}")
+    public void dispatchPending() {
+        int requeued = bulkJobPersistencePort.requeueStale(LocalDateTime.now().minus(Duration.ofMillis(staleAfterMs)));
+        if (requeued > 0) {
+            log.warn("Requeued {} stalled bulk job(s)", requeued);
+        }
+        bulkJobPersistencePort.findQueuedIds(DISPATCH_BATCH).forEach(this::dispatch);
+    }
+
+    void run(Long jobId) {
+        if (!bulkJobPersistencePort.claim(jobId)) {
+            return;
+        }
+        BulkJob job = bulkJobPersistencePort.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+        long started = System.nanoTime();
+        log.info("Bulk job {} ({}) started at {}/{}", jobId, job.type(), job.processedCount(), job.totalCount());
+        try {
+            while (job.hasRemaining()) {
+                job = self.processChunk(job);
+                bulkJobProgressPort.publish(job);
+            }
+            if (bulkJobPersistencePort.transition(jobId, Set.of(BulkJobStatus.RUNNING), BulkJobStatus.COMPLETED, null)) {
+                job = job.withStatus(BulkJobStatus.COMPLETED, null);
+            }
+            log.info("Bulk job {} completed: {} succeeded, {} failed, took {}ms", jobId,
+                    job.successCount(), job.failedCount(), (System.nanoTime() - started) / 1_000_000);
+        } catch (JobInterruptedException e) {
+            job = bulkJobPersistencePort.findById(jobId).orElse(job);
+            log.info("Bulk job {} stopped at {}/{} ({})", jobId, job.processedCount(), job.totalCount(), job.status());
+        } catch (Exception e) {
+            log.error("Bulk job {} failed at {}/{}", jobId, job.processedCount(), job.totalCount(), e);
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            if (bulkJobPersistencePort.transition(jobId, Set.of(BulkJobStatus.RUNNING), BulkJobStatus.FAILED, message)) {
+                job = job.withStatus(BulkJobStatus.FAILED, message);
+            }
+        }
+        bulkJobProgressPort.publish(job);
+    }
+
+    /**
+     * 다음 묶음 처리 + 진행 기록 (같은 트랜잭션)
+     *
+     * @return 묶음 반영 후의 작업
+     * @throws JobInterruptedException 취소되었거나 다른 워커가 진행시킨 작업 (묶음 롤백)
+     */
+    @Transactional
+    public BulkJob processChunk(BulkJob job) {
+        List<Long> chunk = job.nextChunk(chunkSize);
+        BulkOperationResult result = switch (job.type()) {
+            case STATUS -> bulkVocUseCase.bulkChangeStatus(
+                    new BulkStatusChangeCommand(chunk, job.targetStatus(), job.reason()));
+            case ASSIGN -> bulkVocUseCase.bulkAssign(new BulkAssignCommand(chunk, job.assigneeId()));
+            case PRIORITY -> bulkVocUseCase.bulkChangePriority(
+                    new BulkPriorityChangeCommand(chunk, job.targetPriority()));
+        };
+        List<BulkJobItemError> errors = result.errors().entrySet().stream()
+                .map(error -> new BulkJobItemError(error.getKey(), error.getValue()))
+                .toList();
+
+        BulkJob progressed = job.advance(chunk.size(), result);
+        if (!bulkJobPersistencePort.recordProgress(job.id(), job.processedCount(), progressed, errors)) {
+            throw new JobInterruptedException();
+        }
+        return progressed;
+    }
+
+    /**
+     * 작업이 이 워커 밖에서 바뀌어 진행 기록이 거절됨
+     */
+    static class JobInterruptedException extends RuntimeException {
+
+        JobInterruptedException() {
+            super("Bulk job was cancelled or taken over");
+        }
+    }
+}
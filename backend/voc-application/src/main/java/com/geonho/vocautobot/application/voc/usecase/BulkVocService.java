@@ -4,134 +4,110 @@ import com.geonho.vocautobot.application.voc.port.in.BulkVocUseCase;
 import com.geonho.vocautobot.application.voc.port.in.dto.BulkAssignCommand;
 import com.geonho.vocautobot.application.voc.port.in.dto.BulkPriorityChangeCommand;
 import com.geonho.vocautobot.application.voc.port.in.dto.BulkStatusChangeCommand;
-import com.geonho.vocautobot.application.voc.port.out.LoadVocPort;
-import com.geonho.vocautobot.application.voc.port.out.SaveVocPort;
+import com.geonho.vocautobot.application.voc.port.out.BulkUpdateVocPort;
+import com.geonho.vocautobot.application.voc.port.out.BulkUpdateVocPort.VocState;
 import com.geonho.vocautobot.domain.voc.BulkOperationResult;
-import com.geonho.vocautobot.domain.voc.VocDomain;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.function.Function;
 
 /**
  * Service implementing bulk VOC operations.
- * Supports partial failure - each VOC is processed individually,
- * and failures on one VOC do not prevent others from being processed.
+ * Supports partial failure - transitions are validated per VOC in memory,
+ * and the valid ones are applied with set-based updates instead of one save per VOC.
+ * VOCs modified concurrently since they were read (version mismatch) are reported as failures.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class BulkVocService implements BulkVocUseCase {
 
-    private final LoadVocPort loadVocPort;
-    private final SaveVocPort saveVocPort;
+    private static final String NOT_FOUND = "VOC를 찾을 수 없습니다";
+    private static final String CONFLICT = "다른 사용자가 먼저 수정했습니다. 다시 시도해주세요";
+
+    private final BulkUpdateVocPort bulkUpdateVocPort;
 
     @Override
     @Transactional
     public BulkOperationResult bulkChangeStatus(BulkStatusChangeCommand command) {
-        List<VocDomain> vocs = loadVocPort.loadVocsByIds(command.vocIds());
-        Map<Long, VocDomain> vocMap = buildVocMap(vocs);
-
-        int successCount = 0;
-        List<Long> failedIds = new ArrayList<>();
-        Map<Long, String> errors = new LinkedHashMap<>();
-
-        for (Long vocId : command.vocIds()) {
-            VocDomain voc = vocMap.get(vocId);
-            if (voc == null) {
-                failedIds.add(vocId);
-                errors.put(vocId, "VOC를 찾을 수 없습니다");
-                continue;
-            }
-            try {
-                voc.updateStatus(command.status());
-                saveVocPort.saveVoc(voc);
-                successCount++;
-            } catch (IllegalStateException e) {
-                failedIds.add(vocId);
-                errors.put(vocId, e.getMessage());
-            }
-        }
+        BulkOperationResult result = apply(command.vocIds(),
+                state -> state.status().canTransitionTo(command.status())
+                        ? null
+                        : String.format("Cannot transition from %s to %s", state.status(), command.status()),
+                targets -> bulkUpdateVocPort.updateStatus(targets, command.status(), command.reason()));
 
         log.info("Bulk status change completed: {} succeeded, {} failed out of {} total",
-                successCount, failedIds.size(), command.vocIds().size());
+                result.successCount(), result.failedIds().size(), command.vocIds().size());
 
-        return new BulkOperationResult(successCount, failedIds, errors);
+        return result;
     }
 
     @Override
     @Transactional
     public BulkOperationResult bulkAssign(BulkAssignCommand command) {
-        List<VocDomain> vocs = loadVocPort.loadVocsByIds(command.vocIds());
-        Map<Long, VocDomain> vocMap = buildVocMap(vocs);
-
-        int successCount = 0;
-        List<Long> failedIds = new ArrayList<>();
-        Map<Long, String> errors = new LinkedHashMap<>();
-
-        for (Long vocId : command.vocIds()) {
-            VocDomain voc = vocMap.get(vocId);
-            if (voc == null) {
-                failedIds.add(vocId);
-                errors.put(vocId, "VOC를 찾을 수 없습니다");
-                continue;
-            }
-            try {
-                voc.assign(command.assigneeId());
-                saveVocPort.saveVoc(voc);
-                successCount++;
-            } catch (Exception e) {
-                failedIds.add(vocId);
-                errors.put(vocId, e.getMessage());
-            }
-        }
+        BulkOperationResult result = apply(command.vocIds(),
+                state -> null,
+                targets -> bulkUpdateVocPort.assign(targets, command.assigneeId()));
 
         log.info("Bulk assign completed: {} succeeded, {} failed out of {} total",
-                successCount, failedIds.size(), command.vocIds().size());
+                result.successCount(), result.failedIds().size(), command.vocIds().size());
 
-        return new BulkOperationResult(successCount, failedIds, errors);
+        return result;
     }
 
     @Override
     @Transactional
     public BulkOperationResult bulkChangePriority(BulkPriorityChangeCommand command) {
-        List<VocDomain> vocs = loadVocPort.loadVocsByIds(command.vocIds());
-        Map<Long, VocDomain> vocMap = buildVocMap(vocs);
+        BulkOperationResult result = apply(command.vocIds(),
+                state -> null,
+                targets -> bulkUpdateVocPort.updatePriority(targets, command.priority()));
 
-        int successCount = 0;
-        List<Long> failedIds = new ArrayList<>();
-        Map<Long, String> errors = new LinkedHashMap<>();
+        log.info("Bulk priority change completed: {} succeeded, {} failed out of {} total",
+                result.successCount(), result.failedIds().size(), command.vocIds().size());
+
+        return result;
+    }
+
+    /**
+     * Loads the current state of the requested VOCs, validates each one and updates the valid ones at once.
+     *
+     * @param validator returns an error message for a VOC that cannot be changed, or null if it can
+     * @param updater applies the change and returns the ids that were actually updated
+     */
+    private BulkOperationResult apply(List<Long> vocIds,
+                                      Function<VocState, String> validator,
+                                      Function<List<VocState>, Set<Long>> updater) {
+        Map<Long, VocState> states = new HashMap<>();
+        for (VocState state : bulkUpdateVocPort.loadVocStates(vocIds)) {
+            states.put(state.id(), state);
+        }
 
-        for (Long vocId : command.vocIds()) {
-            VocDomain voc = vocMap.get(vocId);
-            if (voc == null) {
-                failedIds.add(vocId);
-                errors.put(vocId, "VOC를 찾을 수 없습니다");
-                continue;
+        Map<Long, String> errors = new LinkedHashMap<>();
+        List<VocState> targets = new ArrayList<>();
+        for (Long vocId : new LinkedHashSet<>(vocIds)) {
+            VocState state = states.get(vocId);
+            String error = state == null ? NOT_FOUND : validator.apply(state);
+            if (error != null) {
+                errors.put(vocId, error);
+            } else {
+                targets.add(state);
             }
-            try {
-                voc.updatePriority(command.priority());
-                saveVocPort.saveVoc(voc);
+        }
+
+        int successCount = 0;
+        Set<Long> updated = updater.apply(targets);
+        for (VocState target : targets) {
+            if (updated.contains(target.id())) {
                 successCount++;
-            } catch (Exception e) {
-                failedIds.add(vocId);
-                errors.put(vocId, e.getMessage());
+            } else {
+                errors.put(target.id(), CONFLICT);
             }
         }
 
-        log.info("Bulk priority change completed: {} succeeded, {} failed out of {} total",
-                successCount, failedIds.size(), command.vocIds().size());
-
-        return new BulkOperationResult(successCount, failedIds, errors);
-    }
-
-    private Map<Long, VocDomain> buildVocMap(List<VocDomain> vocs) {
-        Map<Long, VocDomain> map = new HashMap<>();
-        for (VocDomain voc : vocs) {
-            map.put(voc.getId(), voc);
-        }
-        return map;
+        return new BulkOperationResult(successCount, new ArrayList<>(errors.keySet()), errors);
     }
 }
@@ -3,8 +3,12 @@ package com.geonho.vocautobot.application.voc.usecase;
 import com.geonho.vocautobot.application.analysis.dto.VocLogAnalysis;
 import com.geonho.vocautobot.application.analysis.port.out.ProgressiveLearningPort;
 import com.geonho.vocautobot.application.audit.Audited;
+import com.geonho.vocautobot.application.common.exception.BusinessException;
+import com.geonho.vocautobot.application.common.pagination.CursorPage;
+import com.geonho.vocautobot.application.common.pagination.CursorRequest;
 import com.geonho.vocautobot.application.notification.port.out.NotificationPort;
 import com.geonho.vocautobot.application.user.port.out.LoadUserPort;
+import com.geonho.vocautobot.application.voc.autocomplete.VocTitleIndex;
 import com.geonho.vocautobot.application.voc.exception.TicketIdGenerationException;
 import com.geonho.vocautobot.application.voc.exception.VocAccessDeniedException;
 import com.geonho.vocautobot.application.voc.exception.VocNotFoundException;
@@ -12,7 +16,9 @@ import com.geonho.vocautobot.application.voc.port.in.*;
 import com.geonho.vocautobot.application.voc.port.in.dto.*;
 import com.geonho.vocautobot.application.voc.port.out.GenerateTicketIdPort;
 import com.geonho.vocautobot.application.voc.port.out.LoadStatusHistoryPort;
+import com.geonho.vocautobot.application.voc.port.out.LoadVocDetailPort;
 import com.geonho.vocautobot.application.voc.port.out.LoadVocPort;
+import com.geonho.vocautobot.application.voc.port.out.LoadVocSummaryPort;
 import com.geonho.vocautobot.application.voc.port.out.SaveStatusHistoryPort;
 import com.geonho.vocautobot.application.voc.port.out.SaveVocPort;
 import com.geonho.vocautobot.domain.user.User;
@@ -50,6 +56,8 @@ public class VocService implements
         GetVocStatusHistoryUseCase {
 
     private final LoadVocPort loadVocPort;
+    private final LoadVocSummaryPort loadVocSummaryPort;
+    private final LoadVocDetailPort loadVocDetailPort;
     private final SaveVocPort saveVocPort;
     private final GenerateTicketIdPort generateTicketIdPort;
     private final LoadUserPort loadUserPort;
@@ -57,6 +65,7 @@ public class VocService implements
     private final ProgressiveLearningPort progressiveLearningPort;
     private final SaveStatusHistoryPort saveStatusHistoryPort;
     private final LoadStatusHistoryPort loadStatusHistoryPort;
+    private final VocTitleIndex vocTitleIndex;
 
     @Override
     @Transactional
@@ -78,6 +87,7 @@ public class VocService implements
         );
 
         VocDomain savedVoc = saveVocPort.saveVoc(voc);
+        vocTitleIndex.index(savedVoc);
 
         // Send notification (non-blocking - failures should not affect VOC creation)
         sendNotificationSafely(() -> notificationPort.notifyVocCreated(savedVoc),
@@ -106,7 +116,9 @@ public class VocService implements
             voc.updateCategory(command.categoryId());
         }
 
-        return saveVocPort.saveVoc(voc);
+        VocDomain savedVoc = saveVocPort.saveVoc(voc);
+        vocTitleIndex.index(savedVoc);
+        return savedVoc;
     }
 
     @Override
@@ -249,12 +261,49 @@ public class VocService implements
         );
     }
 
+    @Override
+    public Page<VocSummary> getVocSummaries(VocListQuery query, boolean includePii) {
+        return loadVocSummaryPort.loadVocSummaries(
+                query.status(),
+                query.priority(),
+                query.categoryId(),
+                query.assigneeId(),
+                query.customerEmail(),
+                query.search(),
+                includePii,
+                query.toPageable()
+        );
+    }
+
+    @Override
+    public CursorPage<VocSummary> getVocSummariesAfter(VocListQuery query, boolean includePii, CursorRequest cursor) {
+        if (!"createdAt".equals(query.sortBy())) {
+            throw new BusinessException("UNSUPPORTED_SORT", "커서 페이지 조회는 createdAt 정렬만 지원합니다");
+        }
+        return loadVocSummaryPort.loadVocSummariesAfter(
+                query.status(),
+                query.priority(),
+                query.categoryId(),
+                query.assigneeId(),
+                query.customerEmail(),
+                query.search(),
+                includePii,
+                cursor
+        );
+    }
+
     @Override
     public VocDomain getVocById(Long id) {
         return loadVocPort.loadVocById(id)
                 .orElseThrow(() -> new VocNotFoundException(id));
     }
 
+    @Override
+    public VocDetailView getVocDetail(Long id) {
+        return loadVocDetailPort.loadVocDetail(id)
+                .orElseThrow(() -> new VocNotFoundException(id));
+    }
+
     @Override
     public VocDomain getVocByTicketId(String ticketId) {
         return loadVocPort.loadVocByTicketId(ticketId)
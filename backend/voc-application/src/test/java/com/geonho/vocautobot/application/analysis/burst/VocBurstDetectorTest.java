@@ -0,0 +1,222 @@
+package com.geonho.vocautobot.application.analysis.burst;
+
+import com.geonho.vocautobot.application.analysis.dto.LogAnalysisResult;
+import com.geonho.vocautobot.application.analysis.keyword.KeywordDictionary;
+import com.geonho.vocautobot.application.analysis.keyword.KeywordExtractor;
+import com.geonho.vocautobot.application.notification.usecase.NotificationService;
+import com.geonho.vocautobot.domain.notification.NotificationType;
+import com.geonho.vocautobot.domain.voc.VocDomain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VOC 급증 감지기 테스트")
+class VocBurstDetectorTest {
+
+    @Mock
+    private NotificationService notificationService;
+
+    private MutableClock clock;
+    private VocBurstDetector detector;
+    private long nextVocId = 1;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-01T09:00:00Z"));
+        VocBurstDetector.Settings settings = new VocBurstDetector.Settings(
+                Duration.ofMinutes(1), 5, 0.5, 3.0, 5, Duration.ofHours(1));
+        detector = new VocBurstDetector(
+                new KeywordExtractor(KeywordDictionary::defaults), notificationService, settings, clock);
+
+        // 워밍업(2 윈도우) 동안 평소 트래픽 없음
+        for (int minute = 0; minute < 10; minute++) {
+            clock.advance(Duration.ofMinutes(1));
+            detector.tick();
+        }
+    }
+
+    @Test
+    @DisplayName("기준선 대비 급증하면 키워드 인시던트 그룹을 열고 한 번만 브로드캐스트한다")
+    void record_opensIncidentGroupOnBurst() {
+        // when - 기준선 0, 최소 건수 5
+        for (int i = 0; i < 4; i++) {
+            assertThat(detector.record(timeoutVoc())).isEmpty();
+        }
+        Optional<IncidentGroup> fifth = detector.record(timeoutVoc());
+        Optional<IncidentGroup> sixth = detector.record(timeoutVoc());
+
+        // then
+        assertThat(fifth).isPresent();
+        assertThat(sixth).containsSame(fifth.get());
+        assertThat(fifth.get().getKey()).isEqualTo("keyword:timeout");
+        assertThat(fifth.get().getKeyword()).isEqualTo("timeout");
+        assertThat(fifth.get().size()).isEqualTo(2);
+        verify(notificationService, times(1)).broadcast(
+                eq(NotificationType.INCIDENT_BURST), anyString(), anyString(), eq(fifth.get().getTriggerVocId()));
+    }
+
+    @Test
+    @DisplayName("카테고리 급증은 알림만 보내고 로그 검색을 공유할 그룹으로 반환하지 않는다")
+    void record_doesNotShareCategoryGroup() {
+        // when
+        for (int i = 0; i < 6; i++) {
+            assertThat(detector.record(paymentVoc())).isEmpty();
+        }
+
+        // then
+        verify(notificationService, times(1)).broadcast(
+                eq(NotificationType.INCIDENT_BURST), anyString(), anyString(), eq(5L));
+    }
+
+    @Test
+    @DisplayName("유입이 가라앉으면 그룹을 닫고 이후 VOC는 개별 분석한다")
+    void tick_closesSubsidedGroup() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            detector.record(timeoutVoc());
+        }
+
+        // when - 윈도우(5분)가 지나도록 유입 없음
+        for (int minute = 0; minute < 6; minute++) {
+            clock.advance(Duration.ofMinutes(1));
+            detector.tick();
+        }
+
+        // then
+        assertThat(detector.record(timeoutVoc())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("워밍업 중에는 급증으로 판단하지 않는다")
+    void record_ignoresBurstDuringWarmUp() {
+        // given
+        VocBurstDetector fresh = new VocBurstDetector(
+                new KeywordExtractor(KeywordDictionary::defaults), notificationService,
+                new VocBurstDetector.Settings(Duration.ofMinutes(1), 5, 0.5, 3.0, 5, Duration.ofHours(1)), clock);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            assertThat(fresh.record(paymentVoc())).isEmpty();
+        }
+
+        // then
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    @DisplayName("그룹 공유 로그 검색은 한 번만 실행된다")
+    void sharedLogSearch_runsOnce() {
+        // given
+        IncidentGroup group = new IncidentGroup("keyword:timeout", clock.instant(), 1L);
+        AtomicInteger runs = new AtomicInteger();
+        CompletableFuture<LogAnalysisResult> result = new CompletableFuture<>();
+
+        // when
+        CompletableFuture<LogAnalysisResult> first = group.sharedLogSearch(() -> {
+            runs.incrementAndGet();
+            return result;
+        });
+        CompletableFuture<LogAnalysisResult> second = group.sharedLogSearch(() -> {
+            runs.incrementAndGet();
+            return result;
+        });
+        result.complete(new LogAnalysisResult(List.of(), Map.of(), Map.of(), Map.of(), 0, "shared"));
+
+        // then
+        assertThat(runs.get()).isEqualTo(1);
+        assertThat(second).isSameAs(first);
+        assertThat(first.join().summary()).isEqualTo("shared");
+    }
+
+    @Test
+    @DisplayName("링 버퍼 버킷은 재사용 시 이전 건수를 버린다")
+    void slidingWindowCounter_resetsReusedBuckets() {
+        // given
+        SlidingWindowCounter counter = new SlidingWindowCounter(Duration.ofMinutes(1), 4);
+        long start = clock.millis();
+        counter.increment(start);
+        counter.increment(start);
+        counter.increment(start + Duration.ofMinutes(1).toMillis());
+
+        // when - 4분 뒤 같은 슬롯 재사용
+        long later = start + Duration.ofMinutes(4).toMillis();
+        counter.increment(later);
+
+        // then
+        long epoch = counter.epochOf(later);
+        assertThat(counter.count(epoch)).isEqualTo(1);
+        assertThat(counter.count(epoch - 4)).isZero();
+        assertThat(counter.sum(epoch, 4)).isEqualTo(2);
+    }
+
+    private VocDomain timeoutVoc() {
+        long id = nextVocId++;
+        return VocDomain.builder()
+                .id(id)
+                .ticketId("VOC-" + id)
+                .title("주문 조회가 느려요")
+                .content("화면이 계속 로딩되다가 timeout 메시지가 나옵니다")
+                .build();
+    }
+
+    private VocDomain paymentVoc() {
+        long id = nextVocId++;
+        return VocDomain.builder()
+                .id(id)
+                .ticketId("VOC-" + id)
+                .title("결제 화면이 멈춰요")
+                .content("결제 버튼을 눌러도 반응이 없습니다")
+                .categoryId(7L)
+                .build();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.geonho.vocautobot.application.analysis.keyword;
+
+import com.geonho.vocautobot.application.analysis.port.out.KeywordDictionaryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("키워드 추출기 테스트")
+class KeywordExtractorTest {
+
+    @Test
+    @DisplayName("겹치거나 포함 관계인 패턴도 한 번의 순회로 모두 찾는다")
+    void matcher_findsOverlappingPatterns() {
+        // given
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("he", "she", "his", "hers", "데이터", "데이터베이스"));
+
+        // when
+        BitSet matched = matcher.match("USHERS 데이터베이스");
+
+        // then - his만 없음
+        assertThat(matched.stream().toArray()).containsExactly(0, 1, 3, 4, 5);
+    }
+
+    @Test
+    @DisplayName("한/영 동의어를 대표 키워드로 묶어 사전 순서대로 반환한다")
+    void extract_groupsSynonymsInDictionaryOrder() {
+        // given
+        KeywordExtractor extractor = new KeywordExtractor(KeywordDictionary::defaults);
+
+        // when
+        List<String> keywords = extractor.extractKeywords(
+            "로그인이 느려요", "DB Connection 에러가 반복됩니다");
+
+        // then
+        assertThat(keywords).containsExactly("error", "timeout", "connection", "database", "auth");
+    }
+
+    @Test
+    @DisplayName("로그 검색어가 지정된 항목은 검색어로 변환하고 중복을 제거한다")
+    void extractLogQueries_usesMappedQueries() {
+        // given
+        KeywordExtractor extractor = new KeywordExtractor(() -> new KeywordDictionary(List.of(
+            new KeywordDictionary.Entry("payment", List.of("결제", "payment"), "payment OR billing"),
+            new KeywordDictionary.Entry("refund", List.of("환불"), "payment OR billing"),
+            new KeywordDictionary.Entry("error", List.of("오류"))
+        )));
+
+        // when
+        List<String> queries = extractor.extractLogQueries("결제 후 환불 처리 중 오류");
+
+        // then
+        assertThat(queries).containsExactly("payment OR billing", "error");
+    }
+
+    @Test
+    @DisplayName("reload 시 변경된 사전을 반영하고 조회 실패 시 기존 사전을 유지한다")
+    void reload_swapsDictionaryAndKeepsCurrentOnFailure() {
+        // given
+        AtomicReference<KeywordDictionary> source = new AtomicReference<>(new KeywordDictionary(List.of(
+            new KeywordDictionary.Entry("error", List.of("오류"))
+        )));
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        KeywordDictionaryPort port = () -> {
+            if (failure.get() != null) {
+                throw failure.get();
+            }
+            return source.get();
+        };
+        KeywordExtractor extractor = new KeywordExtractor(port);
+        assertThat(extractor.extractKeywords("결제 오류")).containsExactly("error");
+
+        // when - 사전에 결제 키워드 추가
+        source.set(new KeywordDictionary(List.of(
+            new KeywordDictionary.Entry("error", List.of("오류")),
+            new KeywordDictionary.Entry("payment", List.of("결제"))
+        )));
+        extractor.reload();
+
+        // then
+        assertThat(extractor.extractKeywords("결제 오류")).containsExactly("error", "payment");
+
+        // when - 저장소 조회 실패
+        failure.set(new IllegalStateException("db down"));
+        extractor.reload();
+
+        // then
+        assertThat(extractor.extractKeywords("결제 오류")).containsExactly("error", "payment");
+    }
+}
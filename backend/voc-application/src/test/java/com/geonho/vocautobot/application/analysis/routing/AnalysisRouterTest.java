@@ -0,0 +1,132 @@
+package com.geonho.vocautobot.application.analysis.routing;
+
+import com.geonho.vocautobot.domain.voc.VocDomain;
+import com.geonho.vocautobot.domain.voc.VocPriority;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VOC 분석 라우터 테스트")
+class AnalysisRouterTest {
+
+    private static final long FEATURE = 10L;
+    private static final long ERROR = 20L;
+
+    @Test
+    @DisplayName("일치하는 규칙이 없으면 모든 단계를 기본 모델로 실행한다")
+    void route_returnsFullPlanWithoutMatch() {
+        // given
+        AnalysisRouter router = routerWith(List.of(skipLogs("feature", Set.of(FEATURE))));
+
+        // when
+        AnalysisPlan plan = router.route(voc(ERROR, VocPriority.NORMAL, "결제 오류", "user@example.com"));
+
+        // then
+        assertThat(plan).isEqualTo(AnalysisPlan.full());
+        assertThat(router.routedCount()).isEqualTo(1);
+        assertThat(router.skippedCounts()).containsEntry(EnrichmentStage.LOG_ANALYSIS, 0L);
+        assertThat(router.ruleMatchCounts()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("처음 일치한 규칙의 단계와 모델을 적용하고 건너뛴 단계를 집계한다")
+    void route_appliesFirstMatchingRule() {
+        // given - 카테고리 무관 규칙이 카테고리 규칙보다 앞에 있으면 먼저 평가
+        AnalysisRouter router = routerWith(List.of(
+            new RoutingRule("urgent-large-model", null, Set.of(VocPriority.URGENT), null, null, null,
+                null, "qwen2.5:14b"),
+            skipLogs("feature", Set.of(FEATURE))
+        ));
+
+        // when
+        AnalysisPlan urgent = router.route(voc(FEATURE, VocPriority.URGENT, "긴급 기능 요청", "a@example.com"));
+        AnalysisPlan feature = router.route(voc(FEATURE, VocPriority.NORMAL, "기능 요청", "b@example.com"));
+
+        // then
+        assertThat(urgent.ruleName()).isEqualTo("urgent-large-model");
+        assertThat(urgent.llmModel()).isEqualTo("qwen2.5:14b");
+        assertThat(urgent.runs(EnrichmentStage.LOG_ANALYSIS)).isTrue();
+
+        assertThat(feature.ruleName()).isEqualTo("feature");
+        assertThat(feature.runs(EnrichmentStage.LOG_ANALYSIS)).isFalse();
+        assertThat(feature.runs(EnrichmentStage.EMBEDDING)).isTrue();
+
+        assertThat(router.skippedCounts()).containsEntry(EnrichmentStage.LOG_ANALYSIS, 1L);
+        assertThat(router.ruleMatchCounts()).containsEntry("urgent-large-model", 1L).containsEntry("feature", 1L);
+    }
+
+    @Test
+    @DisplayName("본문 길이와 고객 이메일 도메인 조건을 모두 만족해야 규칙이 적용된다")
+    void route_matchesLengthAndEmailDomain() {
+        // given
+        AnalysisRouter router = routerWith(List.of(
+            new RoutingRule("internal-short", null, null, null, 10, Set.of("corp.example.com"),
+                Set.of(EnrichmentStage.LOG_ANALYSIS, EnrichmentStage.SENTIMENT), null)
+        ));
+
+        // when
+        AnalysisPlan matched = router.route(voc(ERROR, VocPriority.LOW, "테스트", "QA@Corp.Example.com"));
+        AnalysisPlan tooLong = router.route(voc(ERROR, VocPriority.LOW, "테스트 본문이 열 글자를 넘습니다", "qa@corp.example.com"));
+        AnalysisPlan external = router.route(voc(ERROR, VocPriority.LOW, "테스트", "qa@example.com"));
+
+        // then
+        assertThat(matched.stages()).containsExactlyInAnyOrder(EnrichmentStage.EMBEDDING, EnrichmentStage.NOTIFICATION);
+        assertThat(tooLong).isEqualTo(AnalysisPlan.full());
+        assertThat(external).isEqualTo(AnalysisPlan.full());
+    }
+
+    @Test
+    @DisplayName("규칙을 다시 읽어 재기동 없이 반영하고, 조회 실패 시 기존 규칙을 유지한다")
+    void reload_swapsRulesAndKeepsCurrentOnFailure() {
+        // given
+        AtomicReference<List<RoutingRule>> rules = new AtomicReference<>(List.of());
+        AtomicReference<Boolean> failing = new AtomicReference<>(false);
+        AnalysisRouter router = new AnalysisRouter(() -> {
+            if (failing.get()) {
+                throw new IllegalStateException("db down");
+            }
+            return rules.get();
+        });
+        router.afterSingletonsInstantiated();
+        VocDomain feature = voc(FEATURE, VocPriority.NORMAL, "기능 요청", "a@example.com");
+        assertThat(router.route(feature).ruleName()).isNull();
+
+        // when
+        rules.set(List.of(skipLogs("feature", Set.of(FEATURE))));
+        router.reload();
+        AnalysisPlan reloaded = router.route(feature);
+        failing.set(true);
+        router.reload();
+        AnalysisPlan afterFailure = router.route(feature);
+
+        // then
+        assertThat(reloaded.ruleName()).isEqualTo("feature");
+        assertThat(afterFailure.ruleName()).isEqualTo("feature");
+    }
+
+    private static AnalysisRouter routerWith(List<RoutingRule> rules) {
+        AnalysisRouter router = new AnalysisRouter(() -> rules);
+        router.afterSingletonsInstantiated();
+        return router;
+    }
+
+    private static RoutingRule skipLogs(String name, Set<Long> categoryIds) {
+        return new RoutingRule(name, categoryIds, null, null, null, null, Set.of(EnrichmentStage.LOG_ANALYSIS), null);
+    }
+
+    private static VocDomain voc(long categoryId, VocPriority priority, String content, String email) {
+        return VocDomain.builder()
+            .id(1L)
+            .title("제목")
+            .content(content)
+            .categoryId(categoryId)
+            .priority(priority)
+            .customerEmail(email)
+            .build();
+    }
+}
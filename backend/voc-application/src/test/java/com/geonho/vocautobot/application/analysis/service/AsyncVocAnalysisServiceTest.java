@@ -0,0 +1,85 @@
+package com.geonho.vocautobot.application.analysis.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.geonho.vocautobot.application.analysis.burst.VocBurstDetector;
+import com.geonho.vocautobot.application.analysis.port.out.VocAnalysisPersistencePort;
+import com.geonho.vocautobot.application.analysis.routing.AnalysisPlan;
+import com.geonho.vocautobot.application.analysis.routing.EnrichmentStage;
+import com.geonho.vocautobot.application.voc.port.in.GetVocDetailUseCase;
+import com.geonho.vocautobot.domain.voc.VocDomain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.annotation.Async;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VOC 비동기 분석 서비스 테스트")
+class AsyncVocAnalysisServiceTest {
+
+    @Mock
+    private VocLogAnalysisService vocLogAnalysisService;
+
+    @Mock
+    private VocBurstDetector burstDetector;
+
+    @Mock
+    private VocAnalysisPersistencePort vocAnalysisPersistencePort;
+
+    @Mock
+    private GetVocDetailUseCase getVocDetailUseCase;
+
+    private AsyncVocAnalysisService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new AsyncVocAnalysisService(vocLogAnalysisService, burstDetector, vocAnalysisPersistencePort,
+                getVocDetailUseCase, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("로그 분석을 생략한 VOC도 급증 감지에 집계하고 생략 사유로 분석을 완료한다")
+    void skipAnalysis_recordsBurstAndCompletesWithReason() {
+        // given
+        VocDomain voc = VocDomain.builder().id(3L).ticketId("VOC-3").title("배송 문의").content("언제 오나요").build();
+        AnalysisPlan plan = new AnalysisPlan(Set.of(EnrichmentStage.EMBEDDING), null, "low-priority");
+        given(burstDetector.record(voc)).willReturn(Optional.empty());
+
+        // when
+        service.skipAnalysis(voc, plan);
+
+        // then
+        verify(burstDetector).record(voc);
+        verify(vocAnalysisPersistencePort).completeAnalysis(eq(3L), contains("low-priority"), eq(0.0),
+                eq("[]"), eq("[]"), eq("[]"), isNull());
+        verifyNoInteractions(vocLogAnalysisService);
+    }
+
+    @Test
+    @DisplayName("분석·생략 진입점은 모두 analysisExecutor에서 비동기로 실행된다")
+    void entryPoints_runOnAnalysisExecutor() throws NoSuchMethodException {
+        // when
+        Async skip = AsyncVocAnalysisService.class
+                .getMethod("skipAnalysis", VocDomain.class, AnalysisPlan.class).getAnnotation(Async.class);
+        Async analyze = AsyncVocAnalysisService.class
+                .getMethod("analyzeVocAsync", VocDomain.class, String.class).getAnnotation(Async.class);
+
+        // then
+        assertThat(skip).isNotNull();
+        assertThat(skip.value()).isEqualTo("analysisExecutor");
+        assertThat(analyze.value()).isEqualTo(skip.value());
+    }
+}
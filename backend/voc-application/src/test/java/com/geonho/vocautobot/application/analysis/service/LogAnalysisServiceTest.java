@@ -2,12 +2,13 @@ package com.geonho.vocautobot.application.analysis.service;
 
 import com.geonho.vocautobot.application.analysis.dto.LogAnalysisResult;
 import com.geonho.vocautobot.application.analysis.dto.LogEntry;
+import com.geonho.vocautobot.application.analysis.keyword.KeywordDictionary;
+import com.geonho.vocautobot.application.analysis.keyword.KeywordExtractor;
 import com.geonho.vocautobot.application.analysis.port.out.LogSearchPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -29,7 +30,6 @@ class LogAnalysisServiceTest {
     @Mock
     private LogSearchPort logSearchPort;
 
-    @InjectMocks
     private LogAnalysisService service;
 
     private LogAnalysisResult mockErrorResult;
@@ -38,6 +38,8 @@ class LogAnalysisServiceTest {
 
     @BeforeEach
     void setUp() {
+        service = new LogAnalysisService(logSearchPort, new KeywordExtractor(KeywordDictionary::defaults));
+
         // Mock 에러 로그 결과
         List<LogEntry> errorLogs = List.of(
             createLogEntry("log-1", "ERROR", "voc-service", "Database error"),
@@ -168,6 +170,29 @@ class LogAnalysisServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("키워드로 로그 검색 - 사전 표현은 로그 검색어로 함께 검색")
+    void searchLogsByKeyword_addsDictionaryLogQueries() {
+        // given - "느려요"는 기본 사전의 timeout 표현
+        String keyword = "결제가 느려요";
+
+        when(logSearchPort.multiSearchLogs(anyList(), any(), any(), anyInt()))
+            .thenReturn(mockSearchResult);
+
+        // when
+        LogAnalysisResult result = service.searchLogsByKeyword(keyword, 1);
+
+        // then
+        assertThat(result.logs()).hasSize(2);
+        verify(logSearchPort).multiSearchLogs(
+            eq(List.of(keyword, "timeout")),
+            any(LocalDateTime.class),
+            any(LocalDateTime.class),
+            eq(500)
+        );
+        verify(logSearchPort, never()).searchLogs(anyString(), any(), any(), anyInt());
+    }
+
     @Test
     @DisplayName("로그 통계 조회 - 성공")
     void getLogStatistics_Success() {
@@ -243,23 +268,7 @@ class LogAnalysisServiceTest {
 
         // 100개 중 3개 에러 (3% 에러율)
         when(logSearchPort.getLogStatistics(any(), any()))
-            .thenReturn(mockStatistics);
-
-        List<LogEntry> minorErrors = List.of(
-            createLogEntry("log-1", "ERROR", "voc-service", "Minor error")
-        );
-
-        LogAnalysisResult minorErrorResult = new LogAnalysisResult(
-            minorErrors,
-            Map.of("voc-service", 1),
-            Map.of("ERROR", 1),
-            Map.of("voc-service", 1),
-            1,
-            "1건의 에러"
-        );
-
-        when(logSearchPort.searchErrorLogs(isNull(), any(), any(), anyInt()))
-            .thenReturn(minorErrorResult);
+            .thenReturn(statisticsWithErrors(3));
 
         // when
         LogAnalysisService.SystemHealthCheck health = service.checkSystemHealth(hours);
@@ -269,6 +278,9 @@ class LogAnalysisServiceTest {
         assertThat(health.isHealthy()).isTrue();
         assertThat(health.errorRate()).isLessThan(5.0);
         assertThat(health.getHealthStatus()).isEqualTo("HEALTHY");
+
+        // 집계 결과만 사용하고 에러 로그 문서는 조회하지 않음
+        verify(logSearchPort, never()).searchErrorLogs(any(), any(), any(), anyInt());
     }
 
     @Test
@@ -277,31 +289,9 @@ class LogAnalysisServiceTest {
         // given
         int hours = 1;
 
-        when(logSearchPort.getLogStatistics(any(), any()))
-            .thenReturn(mockStatistics);
-
         // 100개 중 7개 에러 (7% 에러율)
-        List<LogEntry> warningErrors = List.of(
-            createLogEntry("log-1", "ERROR", "voc-service", "Error 1"),
-            createLogEntry("log-2", "ERROR", "voc-service", "Error 2"),
-            createLogEntry("log-3", "ERROR", "voc-service", "Error 3"),
-            createLogEntry("log-4", "ERROR", "voc-service", "Error 4"),
-            createLogEntry("log-5", "ERROR", "voc-service", "Error 5"),
-            createLogEntry("log-6", "ERROR", "voc-service", "Error 6"),
-            createLogEntry("log-7", "ERROR", "voc-service", "Error 7")
-        );
-
-        LogAnalysisResult warningResult = new LogAnalysisResult(
-            warningErrors,
-            Map.of("voc-service", 7),
-            Map.of("ERROR", 7),
-            Map.of("voc-service", 7),
-            7,
-            "7건의 에러"
-        );
-
-        when(logSearchPort.searchErrorLogs(isNull(), any(), any(), anyInt()))
-            .thenReturn(warningResult);
+        when(logSearchPort.getLogStatistics(any(), any()))
+            .thenReturn(statisticsWithErrors(7));
 
         // when
         LogAnalysisService.SystemHealthCheck health = service.checkSystemHealth(hours);
@@ -310,6 +300,7 @@ class LogAnalysisServiceTest {
         assertThat(health).isNotNull();
         assertThat(health.isHealthy()).isFalse();
         assertThat(health.errorRate()).isBetween(5.0, 10.0);
+        assertThat(health.errorCount()).isEqualTo(7);
         assertThat(health.getHealthStatus()).isEqualTo("WARNING");
     }
 
@@ -319,39 +310,9 @@ class LogAnalysisServiceTest {
         // given
         int hours = 1;
 
-        when(logSearchPort.getLogStatistics(any(), any()))
-            .thenReturn(mockStatistics);
-
         // 100개 중 15개 에러 (15% 에러율)
-        List<LogEntry> criticalErrors = List.of(
-            createLogEntry("log-1", "ERROR", "voc-service", "Critical error 1"),
-            createLogEntry("log-2", "ERROR", "voc-service", "Critical error 2"),
-            createLogEntry("log-3", "ERROR", "voc-service", "Critical error 3"),
-            createLogEntry("log-4", "ERROR", "voc-service", "Critical error 4"),
-            createLogEntry("log-5", "ERROR", "voc-service", "Critical error 5"),
-            createLogEntry("log-6", "ERROR", "voc-service", "Critical error 6"),
-            createLogEntry("log-7", "ERROR", "voc-service", "Critical error 7"),
-            createLogEntry("log-8", "ERROR", "voc-service", "Critical error 8"),
-            createLogEntry("log-9", "ERROR", "voc-service", "Critical error 9"),
-            createLogEntry("log-10", "ERROR", "voc-service", "Critical error 10"),
-            createLogEntry("log-11", "ERROR", "voc-service", "Critical error 11"),
-            createLogEntry("log-12", "ERROR", "voc-service", "Critical error 12"),
-            createLogEntry("log-13", "ERROR", "voc-service", "Critical error 13"),
-            createLogEntry("log-14", "ERROR", "voc-service", "Critical error 14"),
-            createLogEntry("log-15", "ERROR", "voc-service", "Critical error 15")
-        );
-
-        LogAnalysisResult criticalResult = new LogAnalysisResult(
-            criticalErrors,
-            Map.of("voc-service", 15),
-            Map.of("ERROR", 15),
-            Map.of("voc-service", 15),
-            15,
-            "15건의 에러"
-        );
-
-        when(logSearchPort.searchErrorLogs(isNull(), any(), any(), anyInt()))
-            .thenReturn(criticalResult);
+        when(logSearchPort.getLogStatistics(any(), any()))
+            .thenReturn(statisticsWithErrors(15));
 
         // when
         LogAnalysisService.SystemHealthCheck health = service.checkSystemHealth(hours);
@@ -364,6 +325,20 @@ class LogAnalysisServiceTest {
         assertThat(health.mostErrorProneService()).isEqualTo("voc-service");
     }
 
+    /**
+     * 전체 100건 중 errorCount건이 에러인 집계 결과 생성
+     */
+    private LogAnalysisResult statisticsWithErrors(int errorCount) {
+        return new LogAnalysisResult(
+            List.of(),
+            Map.of("voc-service", errorCount),
+            Map.of("INFO", 100 - errorCount, "ERROR", errorCount),
+            Map.of("voc-service", 60, "user-service", 40),
+            100,
+            "총 100건의 로그, " + errorCount + "건의 에러 발생"
+        );
+    }
+
     /**
      * 테스트용 LogEntry 생성
      */
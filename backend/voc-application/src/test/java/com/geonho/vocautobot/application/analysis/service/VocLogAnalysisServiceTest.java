@@ -4,8 +4,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.geonho.vocautobot.application.analysis.dto.LogAnalysisResult;
 import com.geonho.vocautobot.application.analysis.dto.LogEntry;
 import com.geonho.vocautobot.application.analysis.dto.VocLogAnalysis;
+import com.geonho.vocautobot.application.analysis.keyword.KeywordDictionary;
+import com.geonho.vocautobot.application.analysis.keyword.KeywordExtractor;
 import com.geonho.vocautobot.application.analysis.port.out.LogSearchPort;
 import com.geonho.vocautobot.application.analysis.port.out.LlmPort;
+import com.geonho.vocautobot.application.analysis.port.out.LlmTask;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,8 +17,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -40,7 +45,8 @@ class VocLogAnalysisServiceTest {
         vocLogAnalysisService = new VocLogAnalysisService(
                 logSearchPort,
                 llmPort,
-                objectMapper
+                objectMapper,
+                new KeywordExtractor(KeywordDictionary::defaults)
         );
     }
 
@@ -84,7 +90,7 @@ class VocLogAnalysisServiceTest {
                 "Found 2 error logs"
         );
 
-        when(logSearchPort.searchLogs(anyString(), any(), any(), anyInt()))
+        when(logSearchPort.multiSearchLogs(anyList(), any(), any(), anyInt()))
                 .thenReturn(mockSearchResult);
 
         // Mock LLM response
@@ -102,7 +108,7 @@ class VocLogAnalysisServiceTest {
                 }
                 """;
 
-        when(llmPort.sendPrompt(anyString())).thenReturn(mockLlmResponse);
+        when(llmPort.sendPrompt(anyString(), eq(LlmTask.LOG_ANALYSIS))).thenReturn(mockLlmResponse);
 
         // When
         VocLogAnalysis result = vocLogAnalysisService.analyzeLogsForVoc(vocTitle, vocContent);
@@ -117,8 +123,9 @@ class VocLogAnalysisServiceTest {
         assertThat(result.relatedLogs()).hasSize(2);
 
         // Verify interactions
-        verify(logSearchPort, atLeastOnce()).searchLogs(anyString(), any(), any(), anyInt());
-        verify(llmPort, times(1)).sendPrompt(anyString());
+        verify(logSearchPort, times(1)).multiSearchLogs(anyList(), any(), any(), anyInt());
+        verify(logSearchPort, never()).searchLogs(anyString(), any(), any(), anyInt());
+        verify(llmPort, times(1)).sendPrompt(anyString(), eq(LlmTask.LOG_ANALYSIS));
     }
 
     @Test
@@ -137,7 +144,7 @@ class VocLogAnalysisServiceTest {
                 "No logs found"
         );
 
-        when(logSearchPort.searchLogs(anyString(), any(), any(), anyInt()))
+        when(logSearchPort.multiSearchLogs(anyList(), any(), any(), anyInt()))
                 .thenReturn(emptySearchResult);
 
         // When
@@ -150,7 +157,36 @@ class VocLogAnalysisServiceTest {
         assertThat(result.isValid()).isFalse();
 
         // LLM은 호출되지 않아야 함
-        verify(llmPort, never()).sendPrompt(anyString());
+        verify(llmPort, never()).sendPrompt(anyString(), eq(LlmTask.LOG_ANALYSIS));
+    }
+
+    @Test
+    @DisplayName("키워드가 최대 로그 수(50)보다 많아도 키워드당 최소 1건씩 검색한다")
+    void analyzeLogsForVoc_searchesAtLeastOneLogPerKeyword() {
+        // Given - 60개 키워드가 모두 등장하는 VOC
+        List<KeywordDictionary.Entry> entries = new ArrayList<>();
+        List<LogEntry> logs = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            entries.add(new KeywordDictionary.Entry("kw" + i, List.of("term" + i)));
+            logs.add(new LogEntry("log-" + i, LocalDateTime.now(), "ERROR", "voc-backend", "term" + i,
+                    null, null, Map.of()));
+        }
+        VocLogAnalysisService service = new VocLogAnalysisService(logSearchPort, llmPort, objectMapper,
+                new KeywordExtractor(() -> new KeywordDictionary(entries)));
+        String vocContent = String.join(" ", entries.stream().flatMap(entry -> entry.terms().stream()).toList());
+
+        when(logSearchPort.multiSearchLogs(anyList(), any(), any(), anyInt()))
+                .thenReturn(new LogAnalysisResult(logs, Map.of(), Map.of(), Map.of(), logs.size(), "found"));
+        when(llmPort.sendPrompt(anyString(), eq(LlmTask.LOG_ANALYSIS))).thenReturn("""
+                {"summary": "다수 키워드 분석", "confidence": 0.5, "keywords": [], "possibleCauses": [], "relatedLogs": []}
+                """);
+
+        // When
+        service.analyzeLogsForVoc("다수 키워드", vocContent);
+
+        // Then
+        verify(logSearchPort).multiSearchLogs(argThat(keywords -> keywords.size() == 60), any(), any(), eq(1));
+        verify(llmPort).sendPrompt(anyString(), eq(LlmTask.LOG_ANALYSIS));
     }
 
     @Test
@@ -160,18 +196,17 @@ class VocLogAnalysisServiceTest {
         String vocTitle = "시스템 오류";
         String vocContent = "알 수 없는 오류가 발생했습니다.";
 
-        when(logSearchPort.searchLogs(anyString(), any(), any(), anyInt()))
+        when(logSearchPort.multiSearchLogs(anyList(), any(), any(), anyInt()))
                 .thenThrow(new RuntimeException("OpenSearch connection failed"));
 
         // When
         VocLogAnalysis result = vocLogAnalysisService.analyzeLogsForVoc(vocTitle, vocContent);
 
         // Then
-        // Service gracefully handles per-keyword search errors and returns empty result
-        // when all keyword searches fail (no logs found)
+        // Service gracefully handles search errors and returns empty result (no logs found)
         assertThat(result).isNotNull();
         assertThat(result.confidence()).isEqualTo(0.0);
-        // Implementation catches errors per-keyword, resulting in empty logs and "no logs found" message
+        // Implementation catches the search error, resulting in empty logs and "no logs found" message
         assertThat(result.summary()).contains("관련 로그를 찾을 수 없습니다");
     }
 
@@ -204,10 +239,10 @@ class VocLogAnalysisServiceTest {
                 "Found logs"
         );
 
-        when(logSearchPort.searchLogs(anyString(), any(), any(), anyInt()))
+        when(logSearchPort.multiSearchLogs(anyList(), any(), any(), anyInt()))
                 .thenReturn(mockSearchResult);
 
-        when(llmPort.sendPrompt(anyString()))
+        when(llmPort.sendPrompt(anyString(), eq(LlmTask.LOG_ANALYSIS)))
                 .thenThrow(new RuntimeException("LLM service unavailable"));
 
         // When
@@ -218,4 +253,111 @@ class VocLogAnalysisServiceTest {
         assertThat(result.summary()).contains("AI 분석 중 오류가 발생했습니다");
         assertThat(result.confidence()).isEqualTo(0.0);
     }
+
+    @Test
+    @DisplayName("비동기 분석은 LLM 응답 Future를 조합하여 결과를 반환한다")
+    void analyzeLogsForVocAsync_Success() {
+        // Given
+        String vocTitle = "결제 오류";
+        String vocContent = "결제 요청 시 에러가 발생합니다.";
+
+        List<LogEntry> mockLogs = List.of(
+                new LogEntry(
+                        "log-1",
+                        LocalDateTime.now(),
+                        "ERROR",
+                        "voc-backend",
+                        "Payment gateway error",
+                        "test.logger",
+                        "test-thread",
+                        Map.of()
+                )
+        );
+
+        when(logSearchPort.multiSearchLogs(anyList(), any(), any(), anyInt()))
+                .thenReturn(new LogAnalysisResult(mockLogs, Map.of(), Map.of(), Map.of(), 1, "Found logs"));
+
+        CompletableFuture<String> llmResponse = new CompletableFuture<>();
+        when(llmPort.sendPromptAsync(anyString(), eq(LlmTask.LOG_ANALYSIS), isNull())).thenReturn(llmResponse);
+
+        // When
+        CompletableFuture<VocLogAnalysis> future =
+                vocLogAnalysisService.analyzeLogsForVocAsync(vocTitle, vocContent, Runnable::run);
+
+        // Then - LLM 응답 전에는 완료되지 않음
+        assertThat(future).isNotDone();
+
+        llmResponse.complete("""
+                {
+                  "summary": "Payment gateway failure",
+                  "confidence": 0.7,
+                  "keywords": ["payment"],
+                  "possibleCauses": ["Gateway timeout"],
+                  "recommendation": "Check gateway status"
+                }
+                """);
+
+        VocLogAnalysis result = future.join();
+        assertThat(result.summary()).isEqualTo("Payment gateway failure");
+        assertThat(result.confidence()).isEqualTo(0.7);
+        assertThat(result.relatedLogs()).hasSize(1);
+        verify(llmPort, never()).sendPrompt(anyString(), eq(LlmTask.LOG_ANALYSIS));
+    }
+
+    @Test
+    @DisplayName("비동기 분석은 블로킹 로그 검색만 전달받은 Executor에서 실행한다")
+    void analyzeLogsForVocAsync_searchesLogsOnBlockingExecutor() {
+        // Given
+        List<Runnable> blockingTasks = new ArrayList<>();
+        when(logSearchPort.multiSearchLogs(anyList(), any(), any(), anyInt()))
+                .thenReturn(new LogAnalysisResult(List.of(), Map.of(), Map.of(), Map.of(), 0, "No logs"));
+
+        // When
+        CompletableFuture<VocLogAnalysis> future =
+                vocLogAnalysisService.analyzeLogsForVocAsync("결제 오류", "결제 요청 시 에러가 발생합니다.", blockingTasks::add);
+
+        // Then - 호출 스레드에서는 검색하지 않고 Executor에 한 번만 제출
+        verifyNoInteractions(logSearchPort);
+        assertThat(future).isNotDone();
+        assertThat(blockingTasks).hasSize(1);
+
+        blockingTasks.get(0).run();
+
+        assertThat(future.join().summary()).contains("관련 로그를 찾을 수 없습니다");
+        verify(logSearchPort).multiSearchLogs(anyList(), any(), any(), anyInt());
+        verifyNoInteractions(llmPort);
+    }
+
+    @Test
+    @DisplayName("공유 로그 검색 결과로 분석해도 프롬프트는 VOC마다 자기 제목·내용으로 만든다")
+    void analyzeLogsWithEvidenceAsync_usesOwnVocContent() {
+        // Given - 그룹 키워드 검색 한 번
+        List<LogEntry> mockLogs = List.of(
+                new LogEntry(
+                        "log-1",
+                        LocalDateTime.now(),
+                        "ERROR",
+                        "order-service",
+                        "Read timed out",
+                        "test.logger",
+                        "test-thread",
+                        Map.of()
+                )
+        );
+        when(logSearchPort.multiSearchLogs(eq(List.of("timeout")), any(), any(), anyInt()))
+                .thenReturn(new LogAnalysisResult(mockLogs, Map.of(), Map.of(), Map.of(), 1, "Found logs"));
+        when(llmPort.sendPromptAsync(anyString(), eq(LlmTask.LOG_ANALYSIS), isNull()))
+                .thenReturn(CompletableFuture.completedFuture("{}"));
+
+        LogAnalysisResult shared = vocLogAnalysisService.searchLogsForKeywordAsync("timeout", Runnable::run).join();
+
+        // When
+        vocLogAnalysisService.analyzeLogsWithEvidenceAsync("주문 조회가 느려요", "주문 목록이 안 떠요", shared, null).join();
+        vocLogAnalysisService.analyzeLogsWithEvidenceAsync("배송 조회 timeout", "배송 상태가 안 보여요", shared, null).join();
+
+        // Then
+        verify(logSearchPort, times(1)).multiSearchLogs(anyList(), any(), any(), anyInt());
+        verify(llmPort).sendPromptAsync(contains("주문 목록이 안 떠요"), eq(LlmTask.LOG_ANALYSIS), isNull());
+        verify(llmPort).sendPromptAsync(contains("배송 상태가 안 보여요"), eq(LlmTask.LOG_ANALYSIS), isNull());
+    }
 }
@@ -2,6 +2,7 @@ package com.geonho.vocautobot.application.category.usecase;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.geonho.vocautobot.application.analysis.port.out.LlmPort;
+import com.geonho.vocautobot.application.analysis.port.out.LlmTask;
 import com.geonho.vocautobot.application.category.port.in.dto.CategorySuggestionResult;
 import com.geonho.vocautobot.application.category.port.out.LoadCategoryPort;
 import com.geonho.vocautobot.domain.category.Category;
@@ -20,6 +21,7 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 
 @ExtendWith(MockitoExtension.class)
@@ -70,7 +72,7 @@ class SuggestCategoryServiceTest {
                       ]
                     }
                     """;
-            given(llmPort.sendPrompt(anyString())).willReturn(llmResponse);
+            given(llmPort.sendPrompt(anyString(), eq(LlmTask.CATEGORY_SUGGESTION))).willReturn(llmResponse);
 
             // when
             List<CategorySuggestionResult> results = suggestCategoryService.suggestCategories(
@@ -99,7 +101,7 @@ class SuggestCategoryServiceTest {
                     createCategory(1L, "결제 문의", "PAYMENT")
             );
             given(loadCategoryPort.loadActiveCategories()).willReturn(categories);
-            given(llmPort.sendPrompt(anyString())).willThrow(new RuntimeException("LLM 서버 오류"));
+            given(llmPort.sendPrompt(anyString(), eq(LlmTask.CATEGORY_SUGGESTION))).willThrow(new RuntimeException("LLM 서버 오류"));
 
             // when
             List<CategorySuggestionResult> results = suggestCategoryService.suggestCategories(
@@ -129,7 +131,7 @@ class SuggestCategoryServiceTest {
                       ]
                     }
                     """;
-            given(llmPort.sendPrompt(anyString())).willReturn(llmResponse);
+            given(llmPort.sendPrompt(anyString(), eq(LlmTask.CATEGORY_SUGGESTION))).willReturn(llmResponse);
 
             // when
             List<CategorySuggestionResult> results = suggestCategoryService.suggestCategories(
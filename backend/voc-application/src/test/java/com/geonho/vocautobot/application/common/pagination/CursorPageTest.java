@@ -0,0 +1,75 @@
+package com.geonho.vocautobot.application.common.pagination;
+
+import com.geonho.vocautobot.application.common.exception.InvalidCursorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("키셋 페이지 테스트")
+class CursorPageTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 2, 10, 15, 30, 123_456_000);
+
+    private record Row(long id, LocalDateTime createdAt) {
+    }
+
+    @Test
+    @DisplayName("커서는 인코딩 후 같은 위치로 복원된다")
+    void cursor_roundTrip() {
+        // given
+        KeysetCursor cursor = new KeysetCursor(NOW, 42L);
+
+        // when
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(cursor.encode()).doesNotContain("=", "+", "/");
+    }
+
+    @Test
+    @DisplayName("빈 커서는 첫 페이지, 형식이 잘못된 커서는 예외")
+    void cursor_decodeBlankAndInvalid() {
+        assertThat(KeysetCursor.decode("")).isNull();
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor"))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(new KeysetCursor(NOW, 1L).encode() + "!"))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("size보다 많이 조회되면 초과분을 버리고 마지막 행 위치를 다음 커서로 반환한다")
+    void of_withExtraRow_returnsNextCursor() {
+        // given - size 2, 3건 조회
+        List<Row> fetched = List.of(
+                new Row(3, NOW), new Row(2, NOW), new Row(1, NOW.minusSeconds(1)));
+
+        // when
+        CursorPage<Row> page = CursorPage.of(fetched, 2, row -> new KeysetCursor(row.createdAt(), row.id()), 10L);
+
+        // then
+        assertThat(page.content()).extracting(Row::id).containsExactly(3L, 2L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(KeysetCursor.decode(page.nextCursor())).isEqualTo(new KeysetCursor(NOW, 2L));
+        assertThat(page.approximateTotal()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("size 이하로 조회되면 마지막 페이지")
+    void of_withoutExtraRow_isLastPage() {
+        // when
+        CursorPage<Row> page = CursorPage.of(List.of(new Row(1, NOW)), 2,
+                row -> new KeysetCursor(row.createdAt(), row.id()), null);
+
+        // then
+        assertThat(page.content()).hasSize(1);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+}
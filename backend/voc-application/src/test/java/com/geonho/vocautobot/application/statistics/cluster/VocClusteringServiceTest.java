@@ -0,0 +1,209 @@
+package com.geonho.vocautobot.application.statistics.cluster;
+
+import com.geonho.vocautobot.application.statistics.port.in.dto.VocClusterResult;
+import com.geonho.vocautobot.application.statistics.port.out.EmbeddingScanPort;
+import com.geonho.vocautobot.application.voc.port.out.LoadVocPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VOC 임베딩 군집화 테스트")
+class VocClusteringServiceTest {
+
+    private static final int DIMENSION = 8;
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 15);
+
+    @Mock
+    private LoadVocPort loadVocPort;
+
+    private InMemoryEmbeddings embeddings;
+    private VocClusteringService service;
+    private final Random noise = new Random(7);
+    private final ForkJoinPool pool = new ForkJoinPool(2);
+
+    @BeforeEach
+    void setUp() {
+        embeddings = new InMemoryEmbeddings();
+        Clock clock = Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        // 페이지(16)보다 많은 임베딩으로 여러 mini-batch를 거치도록 구성
+        VocClusteringService.Settings settings = new VocClusteringService.Settings(3, 16, 100, 3, 7);
+        service = new VocClusteringService(embeddings, loadVocPort, pool, settings, clock, new Random(42));
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("임베딩이 k개 미만이면 군집화하지 않는다")
+    void refresh_skipsWhenTooFewEmbeddings() {
+        // given
+        embeddings.add(0, TODAY, 2);
+
+        // when
+        service.refresh();
+
+        // then
+        assertThat(service.getClusters().clusters()).isEmpty();
+        assertThat(service.getClusters().computedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("분리된 주제를 군집으로 묶고 건수 순으로 대표 VOC와 함께 반환한다")
+    void refresh_clustersSeparatedTopics() {
+        // given
+        List<Long> topicA = embeddings.add(0, TODAY.minusDays(20), 60);
+        List<Long> topicB = embeddings.add(1, TODAY.minusDays(20), 30);
+        List<Long> topicC = embeddings.add(2, TODAY.minusDays(20), 10);
+
+        // when
+        service.refresh();
+
+        // then
+        VocClusterResult result = service.getClusters();
+        assertThat(result.totalVectors()).isEqualTo(100);
+        assertThat(result.clusters()).extracting(VocClusterResult.Cluster::size).containsExactly(60L, 30L, 10L);
+        assertThat(result.clusters().get(0).percentage()).isEqualTo(60.0);
+        assertThat(result.clusters().get(0).representatives())
+                .hasSize(3)
+                .allSatisfy(representative -> {
+                    assertThat(topicA).contains(representative.vocId());
+                    assertThat(representative.similarity()).isGreaterThan(0.9);
+                });
+        assertThat(result.clusters().get(1).representatives())
+                .allSatisfy(representative -> assertThat(topicB).contains(representative.vocId()));
+        assertThat(result.clusters().get(2).representatives())
+                .allSatisfy(representative -> assertThat(topicC).contains(representative.vocId()));
+    }
+
+    @Test
+    @DisplayName("최근 기간과 직전 기간의 유입 건수로 증가율을 계산한다")
+    void refresh_computesGrowthRate() {
+        // given - 직전 7일 10건, 최근 7일 20건
+        embeddings.add(0, TODAY.minusDays(10), 10);
+        embeddings.add(0, TODAY.minusDays(2), 20);
+        embeddings.add(1, TODAY.minusDays(30), 15);
+        embeddings.add(2, TODAY.minusDays(30), 5);
+
+        // when
+        service.refresh();
+
+        // then
+        VocClusterResult.Cluster growing = service.getClusters().clusters().get(0);
+        assertThat(growing.size()).isEqualTo(30);
+        assertThat(growing.recentCount()).isEqualTo(20);
+        assertThat(growing.previousCount()).isEqualTo(10);
+        assertThat(growing.growthRate()).isEqualTo(100.0);
+
+        VocClusterResult.Cluster old = service.getClusters().clusters().get(1);
+        assertThat(old.recentCount()).isZero();
+        assertThat(old.growthRate()).isNull();
+    }
+
+    @Test
+    @DisplayName("이후 실행에서는 새로 추가된 임베딩만 읽어 군집에 반영한다")
+    void refresh_learnsNewEmbeddingsIncrementally() {
+        // given
+        embeddings.add(0, TODAY.minusDays(20), 40);
+        embeddings.add(1, TODAY.minusDays(20), 30);
+        embeddings.add(2, TODAY.minusDays(20), 10);
+        service.refresh();
+        embeddings.scannedFrom.clear();
+
+        // when
+        embeddings.add(2, TODAY, 25);
+        service.refresh();
+
+        // then - 마지막으로 읽은 id 이후부터만 조회
+        assertThat(embeddings.scannedFrom).doesNotContain(0L);
+        assertThat(service.getClusters().totalVectors()).isEqualTo(105);
+        assertThat(service.getClusters().clusters())
+                .extracting(VocClusterResult.Cluster::size)
+                .containsExactly(40L, 35L, 30L);
+    }
+
+    @Test
+    @DisplayName("스케줄 실행은 호출 스레드를 막지 않고 전용 풀에서 군집화한다")
+    void scheduleRefresh_runsOnClusteringPool() throws InterruptedException {
+        // given
+        embeddings.add(0, TODAY.minusDays(20), 20);
+        embeddings.add(1, TODAY.minusDays(20), 20);
+        embeddings.add(2, TODAY.minusDays(20), 20);
+
+        // when
+        service.scheduleRefresh();
+        pool.shutdown();
+
+        // then
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(embeddings.scanThreads).isNotEmpty()
+                .allSatisfy(thread -> assertThat(thread).isNotEqualTo(Thread.currentThread()));
+        assertThat(service.getClusters().totalVectors()).isEqualTo(60);
+    }
+
+    private class InMemoryEmbeddings implements EmbeddingScanPort {
+
+        private final List<float[]> vectors = new ArrayList<>();
+        private final List<Integer> days = new ArrayList<>();
+        private final List<Long> scannedFrom = new ArrayList<>();
+        private final List<Thread> scanThreads = new ArrayList<>();
+
+        /**
+         * topic 축 방향으로 잡음을 섞은 임베딩 추가
+         *
+         * @return 추가된 VOC ID
+         */
+        List<Long> add(int topic, LocalDate createdAt, int count) {
+            List<Long> vocIds = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                float[] vector = new float[DIMENSION];
+                for (int d = 0; d < DIMENSION; d++) {
+                    vector[d] = (float) (noise.nextGaussian() * 0.05);
+                }
+                vector[topic] += 1f;
+                vectors.add(vector);
+                days.add((int) createdAt.toEpochDay());
+                vocIds.add((long) vectors.size());
+            }
+            return vocIds;
+        }
+
+        @Override
+        public EmbeddingPage scan(long afterId, int limit) {
+            scannedFrom.add(afterId);
+            scanThreads.add(Thread.currentThread());
+            int from = (int) afterId;
+            int size = Math.max(0, Math.min(limit, vectors.size() - from));
+            if (size == 0) {
+                return EmbeddingPage.empty(afterId);
+            }
+            long[] vocIds = new long[size];
+            int[] createdDays = new int[size];
+            float[] flat = new float[size * DIMENSION];
+            for (int i = 0; i < size; i++) {
+                // id와 VOC ID를 같게 둠
+                vocIds[i] = from + i + 1;
+                createdDays[i] = days.get(from + i);
+                System.arraycopy(vectors.get(from + i), 0, flat, i * DIMENSION, DIMENSION);
+            }
+            return new EmbeddingPage(vocIds, createdDays, flat, DIMENSION, size, from + size);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.geonho.vocautobot.application.voc.autocomplete;
+
+import com.geonho.vocautobot.application.voc.port.in.dto.VocTitle;
+import com.geonho.vocautobot.application.voc.port.out.LoadVocSummaryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VOC 제목 자동완성 색인 테스트")
+class VocTitleIndexTest {
+
+    @Mock
+    private LoadVocSummaryPort loadVocSummaryPort;
+
+    private VocTitleIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new VocTitleIndex(loadVocSummaryPort, 3);
+    }
+
+    @Test
+    @DisplayName("한글 음절을 입력 순서대로의 자모로 분해한다")
+    void decompose_splitsSyllablesInTypingOrder() {
+        assertThat(HangulJamo.decompose("배송")).isEqualTo("ㅂㅐㅅㅗㅇ");
+        assertThat(HangulJamo.decompose("과 닭")).isEqualTo("ㄱㅗㅏ ㄷㅏㄹㄱ");
+        assertThat(HangulJamo.decompose("  API   오류 ")).isEqualTo("api ㅇㅗㄹㅠ");
+    }
+
+    @Test
+    @DisplayName("조합 중인 글자로도 제목 단어 접두어가 일치한다")
+    void autocomplete_matchesPartialSyllables() {
+        // given
+        index.put(new VocTitle(1L, "VOC-20260210-0001", "배송 지연 문의"));
+        index.put(new VocTitle(2L, "VOC-20260210-0002", "결제 오류"));
+
+        // when & then
+        assertThat(index.autocomplete("뱃", 10)).extracting(VocTitle::id).containsExactly(1L);
+        assertThat(index.autocomplete("ㅂ", 10)).extracting(VocTitle::id).containsExactly(1L);
+        assertThat(index.autocomplete("지여", 10)).extracting(VocTitle::id).containsExactly(1L);
+        assertThat(index.autocomplete("결ㅈ", 10)).extracting(VocTitle::id).containsExactly(2L);
+        assertThat(index.autocomplete("송", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("티켓 ID는 하이픈으로 나뉜 구간마다 일치한다")
+    void autocomplete_matchesTicketIdSegments() {
+        // given
+        index.put(new VocTitle(1L, "VOC-20260210-0001", "배송 지연 문의"));
+        index.put(new VocTitle(2L, "VOC-20260210-0002", "결제 오류"));
+
+        // when & then
+        assertThat(index.autocomplete("voc-2026", 10)).extracting(VocTitle::id).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.autocomplete("0002", 10)).extracting(VocTitle::id).containsExactly(2L);
+        assertThat(index.autocomplete("VOC", 1)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 limit은 0 이하면 빈 결과, MAX_LIMIT 초과면 MAX_LIMIT건으로 제한한다")
+    void autocomplete_clampsOutOfRangeLimit() {
+        // given
+        VocTitleIndex large = new VocTitleIndex(loadVocSummaryPort, 100);
+        for (long id = 1; id <= VocTitleIndex.MAX_LIMIT + 10; id++) {
+            large.put(new VocTitle(id, "VOC-" + id, "배송 문의 " + id));
+        }
+
+        // when & then
+        assertThat(large.autocomplete("배송", 1000)).hasSize(VocTitleIndex.MAX_LIMIT);
+        assertThat(large.autocomplete("배송", 0)).isEmpty();
+        assertThat(large.autocomplete("배송", -5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("색인 키보다 긴 입력은 원문으로 다시 확인한다")
+    void autocomplete_rechecksQueriesLongerThanKey() {
+        // given
+        index.put(new VocTitle(1L, "VOC-1", "앱이 자꾸 강제로 종료됩니다"));
+        index.put(new VocTitle(2L, "VOC-2", "앱이 자꾸 강제로 꺼집니다"));
+
+        // when
+        List<VocTitle> result = index.autocomplete("앱이 자꾸 강제로 종료", 10);
+
+        // then
+        assertThat(result).extracting(VocTitle::id).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("제목이 바뀌면 이전 제목으로는 찾지 않는다")
+    void put_replacesPreviousKeys() {
+        // given
+        index.put(new VocTitle(1L, "VOC-1", "배송 지연"));
+
+        // when
+        index.put(new VocTitle(1L, "VOC-1", "환불 요청"));
+
+        // then
+        assertThat(index.autocomplete("배송", 10)).isEmpty();
+        assertThat(index.autocomplete("환불", 10)).extracting(VocTitle::title).containsExactly("환불 요청");
+    }
+
+    @Test
+    @DisplayName("상한을 넘으면 id가 가장 작은 VOC부터 제거한다")
+    void put_evictsOldestBeyondCapacity() {
+        // when
+        for (long id = 1; id <= 4; id++) {
+            index.put(new VocTitle(id, "VOC-" + id, "배송 문의 " + id));
+        }
+
+        // then
+        assertThat(index.autocomplete("배송", 10)).extracting(VocTitle::id).containsExactlyInAnyOrder(2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("재적재하면 DB 목록으로 색인을 교체한다")
+    void rebuild_replacesIndexFromDatabase() {
+        // given
+        index.put(new VocTitle(9L, "VOC-9", "삭제된 VOC"));
+        given(loadVocSummaryPort.loadRecentVocTitles(anyInt()))
+                .willReturn(List.of(new VocTitle(1L, "VOC-1", "로그인 실패")));
+
+        // when
+        index.rebuild();
+
+        // then
+        assertThat(index.autocomplete("삭제", 10)).isEmpty();
+        assertThat(index.autocomplete("로그", 10)).extracting(VocTitle::id).containsExactly(1L);
+    }
+}
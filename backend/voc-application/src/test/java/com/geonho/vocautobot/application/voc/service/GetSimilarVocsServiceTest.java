@@ -0,0 +1,89 @@
+package com.geonho.vocautobot.application.voc.service;
+
+import com.geonho.vocautobot.application.analysis.keyword.KeywordDictionary;
+import com.geonho.vocautobot.application.analysis.keyword.KeywordExtractor;
+import com.geonho.vocautobot.application.analysis.port.out.VectorSearchPort;
+import com.geonho.vocautobot.application.voc.exception.VocNotFoundException;
+import com.geonho.vocautobot.application.voc.port.in.dto.SimilarVocResult;
+import com.geonho.vocautobot.application.voc.port.out.LoadVocPort;
+import com.geonho.vocautobot.domain.voc.VocDomain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("유사 VOC 조회 서비스 테스트")
+class GetSimilarVocsServiceTest {
+
+    @Mock
+    private LoadVocPort loadVocPort;
+
+    @Mock
+    private VectorSearchPort vectorSearchPort;
+
+    private GetSimilarVocsService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new GetSimilarVocsService(loadVocPort, vectorSearchPort,
+                new KeywordExtractor(KeywordDictionary::defaults));
+    }
+
+    @Test
+    @DisplayName("유사도 순서를 유지하고 원본 VOC와 공통된 사전 키워드를 함께 반환한다")
+    void getSimilarVocs_includesSharedKeywords() {
+        // given
+        given(loadVocPort.loadVocById(1L)).willReturn(Optional.of(
+                voc(1L, "결제 API 타임아웃", "결제 요청이 느려요. api 응답에서 timeout 에러가 납니다")));
+        given(vectorSearchPort.findSimilarVocs(1L, 5, 0.7)).willReturn(List.of(
+                new VectorSearchPort.SimilarVocResult(2L, 0.92),
+                new VectorSearchPort.SimilarVocResult(3L, 0.81)));
+        given(loadVocPort.loadVocsByIds(List.of(2L, 3L))).willReturn(List.of(
+                voc(3L, "배송 문의", "배송이 언제 되나요"),
+                voc(2L, "결제 지연", "결제 화면이 느려서 timeout 오류가 나요")));
+
+        // when
+        List<SimilarVocResult> results = service.getSimilarVocs(1L, 5);
+
+        // then
+        assertThat(results).extracting(SimilarVocResult::id).containsExactly(2L, 3L);
+        assertThat(results.get(0).sharedKeywords()).containsExactly("error", "timeout");
+        assertThat(results.get(1).sharedKeywords()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("원본 VOC가 없으면 유사 검색을 하지 않고 예외를 던진다")
+    void getSimilarVocs_throwsWhenSourceMissing() {
+        // given
+        given(loadVocPort.loadVocById(1L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> service.getSimilarVocs(1L, 5))
+                .isInstanceOf(VocNotFoundException.class);
+        verify(vectorSearchPort, never()).findSimilarVocs(anyLong(), anyInt(), anyDouble());
+    }
+
+    private VocDomain voc(Long id, String title, String content) {
+        return VocDomain.builder()
+                .id(id)
+                .ticketId("VOC-" + id)
+                .title(title)
+                .content(content)
+                .build();
+    }
+}
@@ -0,0 +1,154 @@
+package com.geonho.vocautobot.application.voc.usecase;
+
+import com.geonho.vocautobot.application.voc.port.in.BulkVocUseCase;
+import com.geonho.vocautobot.application.voc.port.in.dto.BulkAssignCommand;
+import com.geonho.vocautobot.application.voc.port.out.BulkJobPersistencePort;
+import com.geonho.vocautobot.application.voc.port.out.BulkJobProgressPort;
+import com.geonho.vocautobot.domain.voc.BulkJob;
+import com.geonho.vocautobot.domain.voc.BulkJobItemError;
+import com.geonho.vocautobot.domain.voc.BulkJobStatus;
+import com.geonho.vocautobot.domain.voc.BulkJobType;
+import com.geonho.vocautobot.domain.voc.BulkOperationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VOC 일괄 작업 워커 테스트")
+class BulkJobWorkerTest {
+
+    @Mock
+    private BulkJobPersistencePort bulkJobPersistencePort;
+
+    @Mock
+    private BulkVocUseCase bulkVocUseCase;
+
+    @Mock
+    private BulkJobProgressPort bulkJobProgressPort;
+
+    private BulkJobWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new BulkJobWorker(bulkJobPersistencePort, bulkVocUseCase, bulkJobProgressPort, Runnable::run, 2);
+    }
+
+    @Test
+    @DisplayName("마지막으로 커밋된 위치 다음 VOC부터 묶음 단위로 처리하고 완료 처리한다")
+    void run_resumesFromProcessedCount() {
+        // given
+        BulkJob job = assignJob(List.of(1L, 2L, 3L, 4L, 5L), 2);
+        given(bulkJobPersistencePort.claim(7L)).willReturn(true);
+        given(bulkJobPersistencePort.findById(7L)).willReturn(Optional.of(job));
+        given(bulkVocUseCase.bulkAssign(any())).willAnswer(invocation -> {
+            BulkAssignCommand command = invocation.getArgument(0);
+            List<Long> failed = command.vocIds().contains(4L) ? List.of(4L) : List.of();
+            Map<Long, String> errors = failed.isEmpty() ? Map.of() : Map.of(4L, "VOC를 찾을 수 없습니다");
+            return new BulkOperationResult(command.vocIds().size() - failed.size(), failed, errors);
+        });
+        given(bulkJobPersistencePort.recordProgress(eq(7L), anyInt(), any(), anyList())).willReturn(true);
+        given(bulkJobPersistencePort.transition(7L, Set.of(BulkJobStatus.RUNNING), BulkJobStatus.COMPLETED, null))
+                .willReturn(true);
+
+        // when
+        worker.dispatch(7L);
+
+        // then
+        ArgumentCaptor<BulkAssignCommand> commands = ArgumentCaptor.forClass(BulkAssignCommand.class);
+        verify(bulkVocUseCase, times(2)).bulkAssign(commands.capture());
+        assertThat(commands.getAllValues()).extracting(BulkAssignCommand::vocIds)
+                .containsExactly(List.of(3L, 4L), List.of(5L));
+        verify(bulkJobPersistencePort).recordProgress(eq(7L), eq(2), any(),
+                eq(List.of(new BulkJobItemError(4L, "VOC를 찾을 수 없습니다"))));
+
+        ArgumentCaptor<BulkJob> published = ArgumentCaptor.forClass(BulkJob.class);
+        verify(bulkJobProgressPort, times(3)).publish(published.capture());
+        BulkJob last = published.getValue();
+        assertThat(last.status()).isEqualTo(BulkJobStatus.COMPLETED);
+        assertThat(last.processedCount()).isEqualTo(5);
+        assertThat(last.successCount()).isEqualTo(4);
+        assertThat(last.failedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("진행 기록이 거절되면(취소) 다음 묶음을 처리하지 않고 멈춘다")
+    void run_stopsWhenCancelled() {
+        // given
+        BulkJob job = assignJob(List.of(1L, 2L, 3L, 4L), 0);
+        given(bulkJobPersistencePort.claim(7L)).willReturn(true);
+        given(bulkJobPersistencePort.findById(7L))
+                .willReturn(Optional.of(job), Optional.of(job.withStatus(BulkJobStatus.CANCELLED, null)));
+        given(bulkVocUseCase.bulkAssign(any())).willReturn(new BulkOperationResult(2, List.of(), Map.of()));
+        given(bulkJobPersistencePort.recordProgress(eq(7L), anyInt(), any(), anyList())).willReturn(false);
+
+        // when
+        worker.dispatch(7L);
+
+        // then
+        verify(bulkVocUseCase, times(1)).bulkAssign(any());
+        verify(bulkJobPersistencePort, never()).transition(any(), any(), any(), any());
+        ArgumentCaptor<BulkJob> published = ArgumentCaptor.forClass(BulkJob.class);
+        verify(bulkJobProgressPort).publish(published.capture());
+        assertThat(published.getValue().status()).isEqualTo(BulkJobStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("묶음 처리 중 오류가 나면 FAILED로 두어 재개할 수 있게 한다")
+    void run_marksFailedOnError() {
+        // given
+        BulkJob job = assignJob(List.of(1L, 2L, 3L), 0);
+        given(bulkJobPersistencePort.claim(7L)).willReturn(true);
+        given(bulkJobPersistencePort.findById(7L)).willReturn(Optional.of(job));
+        given(bulkVocUseCase.bulkAssign(any())).willThrow(new IllegalStateException("connection reset"));
+        given(bulkJobPersistencePort.transition(7L, Set.of(BulkJobStatus.RUNNING), BulkJobStatus.FAILED,
+                "connection reset")).willReturn(true);
+
+        // when
+        worker.dispatch(7L);
+
+        // then
+        ArgumentCaptor<BulkJob> published = ArgumentCaptor.forClass(BulkJob.class);
+        verify(bulkJobProgressPort).publish(published.capture());
+        assertThat(published.getValue().status()).isEqualTo(BulkJobStatus.FAILED);
+        assertThat(published.getValue().processedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 워커가 이미 가져간 작업은 처리하지 않는다")
+    void run_skipsUnclaimedJob() {
+        // given
+        given(bulkJobPersistencePort.claim(7L)).willReturn(false);
+
+        // when
+        worker.dispatch(7L);
+
+        // then
+        verify(bulkVocUseCase, never()).bulkAssign(any());
+        verify(bulkJobProgressPort, never()).publish(any());
+    }
+
+    private static BulkJob assignJob(List<Long> vocIds, int processedCount) {
+        return new BulkJob(7L, BulkJobType.ASSIGN, BulkJobStatus.RUNNING, vocIds, null, null, 3L, null,
+                processedCount, processedCount, 0, null, LocalDateTime.now(), LocalDateTime.now(), null);
+    }
+}
@@ -0,0 +1,69 @@
+package com.geonho.vocautobot.application.voc.usecase;
+
+import com.geonho.vocautobot.application.voc.port.in.dto.BulkAssignCommand;
+import com.geonho.vocautobot.application.voc.port.in.dto.BulkStatusChangeCommand;
+import com.geonho.vocautobot.application.voc.port.out.BulkUpdateVocPort;
+import com.geonho.vocautobot.application.voc.port.out.BulkUpdateVocPort.VocState;
+import com.geonho.vocautobot.domain.voc.BulkOperationResult;
+import com.geonho.vocautobot.domain.voc.VocStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VOC 일괄 변경 서비스 테스트")
+class BulkVocServiceTest {
+
+    @Mock
+    private BulkUpdateVocPort bulkUpdateVocPort;
+
+    @InjectMocks
+    private BulkVocService bulkVocService;
+
+    @Test
+    @DisplayName("전이할 수 있는 VOC만 한 번에 갱신하고, 없는 VOC와 전이 불가 VOC는 실패로 돌려준다")
+    void bulkChangeStatus_updatesOnlyValidTransitions() {
+        // given
+        VocState inProgress = new VocState(1L, 3L, VocStatus.IN_PROGRESS);
+        VocState closed = new VocState(2L, 5L, VocStatus.CLOSED);
+        given(bulkUpdateVocPort.loadVocStates(List.of(1L, 2L, 3L))).willReturn(List.of(inProgress, closed));
+        given(bulkUpdateVocPort.updateStatus(List.of(inProgress), VocStatus.RESOLVED, "일괄 처리"))
+                .willReturn(Set.of(1L));
+
+        // when
+        BulkOperationResult result = bulkVocService.bulkChangeStatus(
+                new BulkStatusChangeCommand(List.of(1L, 2L, 3L), VocStatus.RESOLVED, "일괄 처리"));
+
+        // then
+        assertThat(result.successCount()).isEqualTo(1);
+        assertThat(result.failedIds()).containsExactly(2L, 3L);
+        assertThat(result.errors()).containsEntry(2L, "Cannot transition from CLOSED to RESOLVED")
+                .containsEntry(3L, "VOC를 찾을 수 없습니다");
+    }
+
+    @Test
+    @DisplayName("조회 후 다른 요청이 먼저 수정한 VOC는 충돌로 실패 처리한다")
+    void bulkAssign_reportsVersionConflicts() {
+        // given
+        List<VocState> states = List.of(new VocState(1L, 0L, VocStatus.NEW), new VocState(2L, 0L, VocStatus.NEW));
+        given(bulkUpdateVocPort.loadVocStates(List.of(1L, 2L))).willReturn(states);
+        given(bulkUpdateVocPort.assign(states, 7L)).willReturn(Set.of(2L));
+
+        // when
+        BulkOperationResult result = bulkVocService.bulkAssign(new BulkAssignCommand(List.of(1L, 2L), 7L));
+
+        // then
+        assertThat(result.successCount()).isEqualTo(1);
+        assertThat(result.failedIds()).containsExactly(1L);
+        assertThat(result.errors().get(1L)).contains("다시 시도");
+    }
+}
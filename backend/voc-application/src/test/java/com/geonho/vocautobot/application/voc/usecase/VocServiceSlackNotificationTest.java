@@ -3,6 +3,7 @@ package com.geonho.vocautobot.application.voc.usecase;
 import com.geonho.vocautobot.application.analysis.port.out.ProgressiveLearningPort;
 import com.geonho.vocautobot.application.notification.port.out.NotificationPort;
 import com.geonho.vocautobot.application.user.port.out.LoadUserPort;
+import com.geonho.vocautobot.application.voc.autocomplete.VocTitleIndex;
 import com.geonho.vocautobot.application.voc.port.in.dto.AssignVocCommand;
 import com.geonho.vocautobot.application.voc.port.in.dto.ChangeStatusCommand;
 import com.geonho.vocautobot.application.voc.port.in.dto.CreateVocCommand;
@@ -63,6 +64,9 @@ class VocServiceSlackNotificationTest {
     @Mock
     private LoadStatusHistoryPort loadStatusHistoryPort;
 
+    @Mock
+    private VocTitleIndex vocTitleIndex;
+
     @InjectMocks
     private VocService vocService;
 
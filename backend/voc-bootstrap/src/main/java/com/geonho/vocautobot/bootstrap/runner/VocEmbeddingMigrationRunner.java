@@ -13,13 +13,16 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
  * VOC 임베딩 마이그레이션 Runner
  * 애플리케이션 시작 시 임베딩이 없는 VOC에 대해 pgvector 임베딩을 생성합니다.
  * 멱등성을 보장하여 이미 임베딩이 존재하는 VOC는 건너뜁니다.
+ * 페이지 단위로 모아 일괄 임베딩하고, 일괄 처리가 실패하면 해당 페이지만 건별로 다시 시도합니다.
  */
 @Component
 @Profile("!test")
@@ -60,19 +63,31 @@ public class VocEmbeddingMigrationRunner implements ApplicationRunner {
                 List<Long> vocIds = vocs.stream().map(VocDomain::getId).toList();
                 Set<Long> existingIds = vectorSearchPort.findVocIdsWithEmbeddings(vocIds);
 
+                Map<Long, String> pending = new LinkedHashMap<>();
                 for (VocDomain voc : vocs) {
                     if (existingIds.contains(voc.getId())) {
                         totalSkipped++;
-                        continue;
+                    } else {
+                        pending.put(voc.getId(), voc.getEmbeddingSourceText());
                     }
+                }
 
+                if (!pending.isEmpty()) {
                     try {
-                        vectorSearchPort.saveEmbedding(voc.getId(), voc.getEmbeddingSourceText());
-                        totalProcessed++;
-                    } catch (Exception e) {
-                        totalFailed++;
-                        log.warn("Failed to migrate embedding for VOC ID: {}: {}",
-                                voc.getId(), e.getMessage());
+                        totalProcessed += vectorSearchPort.saveEmbeddings(pending);
+                    } catch (Exception batchError) {
+                        log.warn("Batch embedding failed for page {}, retrying one by one: {}",
+                                pageNumber, batchError.getMessage());
+                        for (Map.Entry<Long, String> entry : pending.entrySet()) {
+                            try {
+                                vectorSearchPort.saveEmbedding(entry.getKey(), entry.getValue());
+                                totalProcessed++;
+                            } catch (Exception e) {
+                                totalFailed++;
+                                log.warn("Failed to migrate embedding for VOC ID: {}: {}",
+                                        entry.getKey(), e.getMessage());
+                            }
+                        }
                     }
                 }
 
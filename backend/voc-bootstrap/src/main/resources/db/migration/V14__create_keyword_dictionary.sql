@@ -0,0 +1,24 @@
+-- 키워드 사전 (VOC 본문 키워드 추출, 로그 검색어 매핑)
+-- 표현(term) 1건당 1행, 같은 keyword의 행이 동의어 묶음
+CREATE TABLE keyword_dictionary (
+    id BIGSERIAL PRIMARY KEY,
+    keyword VARCHAR(100) NOT NULL,
+    term VARCHAR(100) NOT NULL,
+    log_query VARCHAR(200),
+    sort_order INT NOT NULL DEFAULT 0,
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_keyword_dictionary_term UNIQUE (keyword, term)
+);
+
+CREATE INDEX idx_keyword_dictionary_active ON keyword_dictionary(is_active, sort_order);
+
+-- 기존 하드코딩 키워드 이관
+INSERT INTO keyword_dictionary (keyword, term, sort_order) VALUES
+    ('error', '오류', 10), ('error', '에러', 10), ('error', 'error', 10),
+    ('failed', '실패', 20), ('failed', 'failed', 20), ('failed', 'failure', 20),
+    ('timeout', '느림', 30), ('timeout', '느려', 30), ('timeout', 'slow', 30), ('timeout', 'timeout', 30),
+    ('connection', '연결', 40), ('connection', 'connection', 40),
+    ('database', '데이터베이스', 50), ('database', 'database', 50), ('database', 'db', 50),
+    ('api', 'api', 60),
+    ('auth', '인증', 70), ('auth', '로그인', 70), ('auth', 'auth', 70);
@@ -0,0 +1,25 @@
+-- 분석 라우팅 규칙 (VOC 유형별 보강 단계 생략, LLM 모델 지정)
+-- sort_order 순으로 평가해 처음 일치한 규칙 적용, 비어 있는 조건은 모든 VOC와 일치
+-- 목록형 컬럼은 쉼표 구분 (category_codes의 대분류 코드는 하위 카테고리 포함)
+-- skip_stages: LOG_ANALYSIS, EMBEDDING, SENTIMENT, NOTIFICATION
+CREATE TABLE analysis_routing_rules (
+    id BIGSERIAL PRIMARY KEY,
+    name VARCHAR(100) NOT NULL UNIQUE,
+    category_codes VARCHAR(500),
+    priorities VARCHAR(100),
+    min_content_length INT,
+    max_content_length INT,
+    customer_email_domains VARCHAR(500),
+    skip_stages VARCHAR(200),
+    llm_model VARCHAR(100),
+    sort_order INT NOT NULL DEFAULT 0,
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_analysis_routing_rules_active ON analysis_routing_rules(is_active, sort_order);
+
+-- 기능 요청·칭찬과 사용법·계정 문의는 서버 로그와 무관하므로 로그 분석 생략
+INSERT INTO analysis_routing_rules (name, category_codes, skip_stages, sort_order) VALUES
+    ('feature-praise-no-logs', 'FEATURE,PRAISE', 'LOG_ANALYSIS', 10),
+    ('usage-inquiry-no-logs', 'INQUIRY_USAGE,INQUIRY_ACCOUNT', 'LOG_ANALYSIS', 20);
@@ -0,0 +1,16 @@
+-- 긴 VOC의 청크별 임베딩
+-- 본문을 문장 단위 청크로 나눠 임베딩한 경우 청크별 벡터를 저장하고,
+-- vector_embeddings에는 청크 길이 가중 평균(정규화) 벡터를 대표 벡터로 저장
+-- 유사 VOC 검색은 대표 벡터와 청크 벡터 후보를 합쳐 VOC별 최고 유사도로 집계
+CREATE TABLE vector_embedding_chunks (
+    id BIGSERIAL PRIMARY KEY,
+    voc_id BIGINT NOT NULL REFERENCES vocs(id) ON DELETE CASCADE,
+    chunk_index INT NOT NULL,
+    char_count INT NOT NULL,
+    embedding vector(1024) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_vector_embedding_chunks_voc_chunk UNIQUE (voc_id, chunk_index)
+);
+
+CREATE INDEX idx_vector_embedding_chunks_vector
+    ON vector_embedding_chunks USING hnsw (embedding vector_cosine_ops);
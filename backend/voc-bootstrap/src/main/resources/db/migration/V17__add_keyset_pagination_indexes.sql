@@ -0,0 +1,19 @@
+-- 키셋(커서) 페이지네이션용 (created_at, id) 복합 인덱스
+-- 목록을 created_at, id 순으로 정렬해 마지막 행 위치 다음부터 읽으므로,
+-- 정렬과 위치 조건을 하나의 인덱스 범위 탐색으로 처리 (역방향 스캔으로 최신순도 처리)
+
+-- VOC 목록: 전체, 상태별, 담당자별
+CREATE INDEX IF NOT EXISTS idx_voc_created_id ON vocs(created_at, id);
+CREATE INDEX IF NOT EXISTS idx_voc_status_created_id ON vocs(status, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_voc_assignee_created_id ON vocs(assignee_id, created_at, id);
+
+-- 감사 로그 목록
+CREATE INDEX IF NOT EXISTS idx_audit_created_id ON audit_logs(created_at, id);
+
+-- 사용자별 알림 목록
+CREATE INDEX IF NOT EXISTS idx_notification_user_created_id ON notifications(user_id, created_at, id);
+
+-- 복합 인덱스의 선두 컬럼과 겹치는 단일 컬럼 인덱스 정리
+DROP INDEX IF EXISTS idx_voc_created_at;
+DROP INDEX IF EXISTS idx_audit_created;
+DROP INDEX IF EXISTS idx_notification_user_id;
@@ -0,0 +1,63 @@
+-- VOC 본문 검색용 bigram 전문 검색 인덱스
+-- 한국어는 형태소 분석 없이도 검색되도록 단어(공백·문장부호 사이 구간)를 1글자·2글자 단위 어휘소로 나눠 색인
+-- 예) '배송지연' -> 배, 송, 지, 연, 배송, 송지, 지연
+--
+-- 검색어도 같은 방식으로 나눠(1글자 단어는 1글자, 그 외는 2글자 어휘소) AND로 묶어 GIN 인덱스에서 후보를 고르고,
+-- 애플리케이션은 기존 LIKE 조건을 후보에 대해서만 다시 확인해 결과 집합을 LIKE 방식과 동일하게 유지
+--
+-- 별도 컬럼 없이 표현식 인덱스로 만들어 기존 행 재작성 없이 적용하며,
+-- voc_search_match / voc_search_rank는 단일 SELECT SQL 함수라 호출 위치에 인라인되어 인덱스 표현식과 일치함
+
+CREATE OR REPLACE FUNCTION voc_search_lexemes(input TEXT, with_unigrams BOOLEAN)
+RETURNS TEXT[]
+LANGUAGE sql IMMUTABLE PARALLEL SAFE
+AS $$
+    SELECT coalesce(array_agg(DISTINCT lexeme), '{}')
+    FROM (
+        SELECT substr(word, i, 2) AS lexeme
+        FROM regexp_split_to_table(lower(coalesce(input, '')), '[[:space:][:punct:]]+') AS word,
+             generate_series(1, char_length(word) - 1) AS i
+        WHERE char_length(word) > 1
+        UNION ALL
+        SELECT substr(word, i, 1)
+        FROM regexp_split_to_table(lower(coalesce(input, '')), '[[:space:][:punct:]]+') AS word,
+             generate_series(1, char_length(word)) AS i
+        WHERE with_unigrams OR char_length(word) = 1
+    ) lexemes
+    WHERE lexeme <> ''
+$$;
+
+-- 문서: 제목·티켓 ID는 가중치 A, 본문은 B
+CREATE OR REPLACE FUNCTION voc_search_document(title TEXT, content TEXT, ticket_id TEXT)
+RETURNS tsvector
+LANGUAGE sql IMMUTABLE PARALLEL SAFE
+AS $$
+    SELECT setweight(array_to_tsvector(voc_search_lexemes(title || ' ' || ticket_id, TRUE)), 'A')
+        || setweight(array_to_tsvector(voc_search_lexemes(content, TRUE)), 'B')
+$$;
+
+-- 검색어: 1글자 단어는 1글자, 그 외 단어는 2글자 어휘소를 모두 포함해야 일치
+CREATE OR REPLACE FUNCTION voc_search_query(search TEXT)
+RETURNS tsquery
+LANGUAGE sql IMMUTABLE PARALLEL SAFE
+AS $$
+    SELECT coalesce(string_agg(quote_literal(lexeme), ' & '), '')::tsquery
+    FROM unnest(voc_search_lexemes(search, FALSE)) AS lexeme
+$$;
+
+CREATE OR REPLACE FUNCTION voc_search_match(title TEXT, content TEXT, ticket_id TEXT, search TEXT)
+RETURNS BOOLEAN
+LANGUAGE sql IMMUTABLE PARALLEL SAFE
+AS $$
+    SELECT voc_search_document(title, content, ticket_id) @@ voc_search_query(search)
+$$;
+
+CREATE OR REPLACE FUNCTION voc_search_rank(title TEXT, content TEXT, ticket_id TEXT, search TEXT)
+RETURNS REAL
+LANGUAGE sql IMMUTABLE PARALLEL SAFE
+AS $$
+    SELECT ts_rank(voc_search_document(title, content, ticket_id), voc_search_query(search))
+$$;
+
+CREATE INDEX IF NOT EXISTS idx_voc_search_document
+    ON vocs USING gin (voc_search_document(title, content, ticket_id));
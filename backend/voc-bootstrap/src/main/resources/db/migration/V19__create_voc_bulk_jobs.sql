@@ -0,0 +1,35 @@
+-- VOC 일괄 작업 (/v1/vocs/batch/jobs)
+-- voc_ids 순서대로 묶음 단위 트랜잭션으로 처리하고, processed_count는 마지막으로 커밋된 묶음까지의 위치
+-- 실패·서버 중단 후에는 processed_count 다음 VOC부터 이어서 처리
+-- updated_at은 묶음마다 갱신되어, RUNNING인데 오래 갱신되지 않은 작업은 다시 QUEUED로 돌려 재개
+CREATE TABLE voc_bulk_jobs (
+    id BIGSERIAL PRIMARY KEY,
+    job_type VARCHAR(20) NOT NULL CHECK (job_type IN ('STATUS', 'ASSIGN', 'PRIORITY')),
+    status VARCHAR(20) NOT NULL DEFAULT 'QUEUED' CHECK (status IN ('QUEUED', 'RUNNING', 'COMPLETED', 'FAILED', 'CANCELLED')),
+    voc_ids JSONB NOT NULL,
+    target_status VARCHAR(20),
+    target_priority VARCHAR(20),
+    assignee_id BIGINT REFERENCES users(id),
+    reason TEXT,
+    total_count INT NOT NULL,
+    processed_count INT NOT NULL DEFAULT 0,
+    success_count INT NOT NULL DEFAULT 0,
+    failed_count INT NOT NULL DEFAULT 0,
+    failure_message TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP,
+    finished_at TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_voc_bulk_jobs_status_updated ON voc_bulk_jobs(status, updated_at);
+
+-- 작업 중 처리하지 못한 VOC (해당 묶음과 같은 트랜잭션으로 저장)
+CREATE TABLE voc_bulk_job_errors (
+    id BIGSERIAL PRIMARY KEY,
+    job_id BIGINT NOT NULL REFERENCES voc_bulk_jobs(id) ON DELETE CASCADE,
+    voc_id BIGINT NOT NULL,
+    message TEXT NOT NULL
+);
+
+CREATE INDEX idx_voc_bulk_job_errors_job ON voc_bulk_job_errors(job_id, id);
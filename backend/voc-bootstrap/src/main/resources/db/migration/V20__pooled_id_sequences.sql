@@ -0,0 +1,34 @@
+-- 다건 저장이 잦은 테이블의 ID 시퀀스를 Hibernate pooled 방식(allocationSize = 50)에 맞춤
+-- IDENTITY는 INSERT마다 생성된 키를 바로 받아야 해서 JDBC 배치가 꺼지므로,
+-- 엔티티는 BIGSERIAL이 만든 기존 시퀀스(<table>_id_seq)에서 50개 단위로 ID를 미리 받아 INSERT를 묶어 보냄
+--
+-- pooled 최적화기는 시퀀스 값 V를 받으면 (V - 49) ~ V 구간을 사용하므로,
+-- 현재 최대 ID + 50부터 시작해야 기존 행과 겹치지 않음
+-- 컬럼 DEFAULT nextval을 쓰는 네이티브 INSERT도 50 단위로 증가한 값을 받아 애플리케이션 구간과 겹치지 않음 (ID가 듬성듬성해질 뿐)
+--
+-- vector_embeddings는 IDENTITY 유지: 군집화 배치가 "id > 마지막으로 읽은 id"로 새 임베딩을 이어 읽으므로
+-- 저장 순서를 따르는 id가 필요하고, VOC당 한 건씩 저장되어 배치 이득도 없음
+
+ALTER SEQUENCE vocs_id_seq INCREMENT BY 50;
+SELECT setval('vocs_id_seq', COALESCE((SELECT MAX(id) FROM vocs), 0) + 50, false);
+
+ALTER SEQUENCE voc_memos_id_seq INCREMENT BY 50;
+SELECT setval('voc_memos_id_seq', COALESCE((SELECT MAX(id) FROM voc_memos), 0) + 50, false);
+
+ALTER SEQUENCE voc_attachments_id_seq INCREMENT BY 50;
+SELECT setval('voc_attachments_id_seq', COALESCE((SELECT MAX(id) FROM voc_attachments), 0) + 50, false);
+
+ALTER SEQUENCE voc_status_history_id_seq INCREMENT BY 50;
+SELECT setval('voc_status_history_id_seq', COALESCE((SELECT MAX(id) FROM voc_status_history), 0) + 50, false);
+
+ALTER SEQUENCE notifications_id_seq INCREMENT BY 50;
+SELECT setval('notifications_id_seq', COALESCE((SELECT MAX(id) FROM notifications), 0) + 50, false);
+
+ALTER SEQUENCE audit_logs_id_seq INCREMENT BY 50;
+SELECT setval('audit_logs_id_seq', COALESCE((SELECT MAX(id) FROM audit_logs), 0) + 50, false);
+
+ALTER SEQUENCE vector_embedding_chunks_id_seq INCREMENT BY 50;
+SELECT setval('vector_embedding_chunks_id_seq', COALESCE((SELECT MAX(id) FROM vector_embedding_chunks), 0) + 50, false);
+
+ALTER SEQUENCE voc_bulk_job_errors_id_seq INCREMENT BY 50;
+SELECT setval('voc_bulk_job_errors_id_seq', COALESCE((SELECT MAX(id) FROM voc_bulk_job_errors), 0) + 50, false);
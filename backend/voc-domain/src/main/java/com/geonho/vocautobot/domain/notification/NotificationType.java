@@ -6,5 +6,6 @@ package com.geonho.vocautobot.domain.notification;
 public enum NotificationType {
     VOC_CREATED,
     STATUS_CHANGED,
-    AI_ANALYSIS_COMPLETE
+    AI_ANALYSIS_COMPLETE,
+    INCIDENT_BURST
 }
@@ -0,0 +1,63 @@
+package com.geonho.vocautobot.domain.voc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * VOC 일괄 작업 도메인 모델
+ * 대상 VOC id 목록을 순서대로 묶음 처리하며, processedCount까지가 커밋된 진행 위치
+ * (중단 후 재개하면 processedCount 다음 VOC부터 이어서 처리)
+ */
+public record BulkJob(
+        Long id,
+        BulkJobType type,
+        BulkJobStatus status,
+        List<Long> vocIds,
+        VocStatus targetStatus,
+        VocPriority targetPriority,
+        Long assigneeId,
+        String reason,
+        int processedCount,
+        int successCount,
+        int failedCount,
+        String failureMessage,
+        LocalDateTime createdAt,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt
+) {
+    public static BulkJob create(BulkJobType type, List<Long> vocIds, VocStatus targetStatus,
+                                 VocPriority targetPriority, Long assigneeId, String reason) {
+        return new BulkJob(null, type, BulkJobStatus.QUEUED, List.copyOf(vocIds), targetStatus, targetPriority,
+                assigneeId, reason, 0, 0, 0, null, LocalDateTime.now(), null, null);
+    }
+
+    public int totalCount() {
+        return vocIds.size();
+    }
+
+    public boolean hasRemaining() {
+        return processedCount < vocIds.size();
+    }
+
+    /**
+     * 진행 위치 다음부터 최대 size건
+     */
+    public List<Long> nextChunk(int size) {
+        return vocIds.subList(processedCount, Math.min(vocIds.size(), processedCount + size));
+    }
+
+    /**
+     * 묶음 하나를 처리한 뒤의 진행 상태
+     */
+    public BulkJob advance(int processed, BulkOperationResult result) {
+        return new BulkJob(id, type, status, vocIds, targetStatus, targetPriority, assigneeId, reason,
+                processedCount + processed, successCount + result.successCount(),
+                failedCount + result.failedIds().size(), failureMessage, createdAt, startedAt, finishedAt);
+    }
+
+    public BulkJob withStatus(BulkJobStatus status, String failureMessage) {
+        LocalDateTime finished = status.isTerminal() || status == BulkJobStatus.FAILED ? LocalDateTime.now() : finishedAt;
+        return new BulkJob(id, type, status, vocIds, targetStatus, targetPriority, assigneeId, reason,
+                processedCount, successCount, failedCount, failureMessage, createdAt, startedAt, finished);
+    }
+}
@@ -0,0 +1,10 @@
+package com.geonho.vocautobot.domain.voc;
+
+/**
+ * 일괄 작업 중 처리하지 못한 VOC와 사유
+ */
+public record BulkJobItemError(
+        Long vocId,
+        String message
+) {
+}
@@ -0,0 +1,27 @@
+package com.geonho.vocautobot.domain.voc;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * VOC 일괄 작업 진행 상태
+ * QUEUED -> RUNNING -> COMPLETED, 실행 중 오류면 FAILED (재개 시 QUEUED), 취소하면 CANCELLED
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BulkJobStatus {
+    QUEUED("대기"),
+    RUNNING("처리 중"),
+    COMPLETED("완료"),
+    FAILED("실패"),
+    CANCELLED("취소");
+
+    private final String displayName;
+
+    /**
+     * 더 이상 처리하지 않는 상태인지 (FAILED는 재개할 수 있으므로 제외)
+     */
+    public boolean isTerminal() {
+        return this == COMPLETED || this == CANCELLED;
+    }
+}
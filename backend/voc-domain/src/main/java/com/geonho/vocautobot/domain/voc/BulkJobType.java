@@ -0,0 +1,17 @@
+package com.geonho.vocautobot.domain.voc;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * VOC 일괄 작업 종류
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BulkJobType {
+    STATUS("상태 변경"),
+    ASSIGN("담당자 배정"),
+    PRIORITY("우선순위 변경");
+
+    private final String displayName;
+}
@@ -12,6 +12,7 @@ const TYPE_ICON: Record<string, string> = {
   VOC_CREATED: 'add_circle',
   STATUS_CHANGED: 'sync',
   AI_ANALYSIS_COMPLETE: 'psychology',
+  INCIDENT_BURST: 'warning',
 };
 
 function formatTimeAgo(dateString: string): string {
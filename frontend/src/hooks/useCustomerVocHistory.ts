@@ -43,6 +43,7 @@ export function useCustomerVocHistory(email: string | undefined): UseCustomerVoc
         size: 50,
         sortBy: 'createdAt',
         sortDirection: 'DESC',
+        includePii: true,
       };
       const response = await api.get<PageResponse<Voc>>('/vocs', params as Record<string, unknown>);
       return response.data;
@@ -1,4 +1,4 @@
-export type NotificationType = 'VOC_CREATED' | 'STATUS_CHANGED' | 'AI_ANALYSIS_COMPLETE';
+export type NotificationType = 'VOC_CREATED' | 'STATUS_CHANGED' | 'AI_ANALYSIS_COMPLETE' | 'INCIDENT_BURST';
 
 export interface NotificationItem {
   id: number;
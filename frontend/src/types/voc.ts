@@ -294,6 +294,8 @@ export interface VocListParams {
   toDate?: string;
   sortBy?: string;
   sortDirection?: 'ASC' | 'DESC';
+  /** 목록 응답에 고객 정보(이메일·이름·전화번호)를 포함할지 여부 (기본 false) */
+  includePii?: boolean;
 }
 
 export interface VocFilterState {
@@ -0,0 +1,68 @@
+-- VOC 검색 실행 계획·시간 비교 (LIKE vs bigram 전문 검색, 100만 건)
+--
+-- 사용법 (V18까지 마이그레이션된 개발 DB, 카테고리 시드 데이터 필요):
+--   psql -h localhost -U voc_user -d vocautobot -f scripts/perf/voc-search-explain.sql
+--
+-- 한 트랜잭션 안에서 합성 VOC 100만 건을 넣고 실행 계획을 출력한 뒤 ROLLBACK하므로 데이터는 남지 않음
+-- 확인할 항목:
+--   1) LIKE: vocs Seq Scan, Rows Removed by Filter ≈ 전체 행 수
+--   2) FULLTEXT: Bitmap Index Scan on idx_voc_search_document, 이후 LIKE는 후보 행에 대한 Filter로만 적용
+--   3) 두 방식의 결과 건수가 같은지 (count 쿼리)
+
+\timing on
+BEGIN;
+
+INSERT INTO vocs (ticket_id, title, content, status, priority, category_id, customer_email, created_at, updated_at)
+SELECT 'VOC-PERF-' || lpad(n::text, 8, '0'),
+       (ARRAY['배송 지연 문의', '결제 오류', '로그인이 안 됩니다', '환불 요청', '앱이 자꾸 종료됩니다'])[1 + n % 5] || ' ' || n,
+       repeat((ARRAY[
+           '주문한 상품이 예정일보다 3일 지연되고 있습니다. 배송 조회가 되지 않습니다. ',
+           '카드 결제 시 오류 코드 E1023이 표시되며 결제가 완료되지 않습니다. ',
+           '비밀번호를 변경한 뒤로 로그인이 계속 실패합니다. 계정 잠금 여부를 확인해 주세요. ',
+           '상품 불량으로 환불을 요청드립니다. 포장 상태는 양호합니다. ',
+           '업데이트 이후 홈 화면에서 앱이 강제 종료됩니다. 재설치해도 동일합니다. '
+       ])[1 + (n / 7) % 5], 1 + n % 4),
+       'NEW', 'NORMAL',
+       (SELECT min(id) FROM category),
+       'perf' || n || '@example.com',
+       now() - (n || ' seconds')::interval,
+       now() - (n || ' seconds')::interval
+FROM generate_series(1, 1000000) AS n;
+
+ANALYZE vocs;
+
+-- 1) 기존 LIKE
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, ticket_id, title, created_at
+FROM vocs
+WHERE lower(title) LIKE '%강제 종료%' OR lower(content) LIKE '%강제 종료%' OR lower(ticket_id) LIKE '%강제 종료%'
+ORDER BY created_at DESC
+LIMIT 20;
+
+-- 2) FULLTEXT (애플리케이션이 생성하는 조건과 동일)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, ticket_id, title, created_at
+FROM vocs
+WHERE voc_search_match(title, content, ticket_id, '강제 종료')
+  AND (lower(title) LIKE '%강제 종료%' OR lower(content) LIKE '%강제 종료%' OR lower(ticket_id) LIKE '%강제 종료%')
+ORDER BY created_at DESC
+LIMIT 20;
+
+-- 3) FULLTEXT + 관련도순 (sortBy=relevance)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, ticket_id, title, created_at
+FROM vocs
+WHERE voc_search_match(title, content, ticket_id, '결제 오류')
+  AND (lower(title) LIKE '%결제 오류%' OR lower(content) LIKE '%결제 오류%' OR lower(ticket_id) LIKE '%결제 오류%')
+ORDER BY voc_search_rank(title, content, ticket_id, '결제 오류') DESC, created_at DESC
+LIMIT 20;
+
+-- 결과 건수 비교
+SELECT
+    (SELECT count(*) FROM vocs
+     WHERE lower(title) LIKE '%강제 종료%' OR lower(content) LIKE '%강제 종료%' OR lower(ticket_id) LIKE '%강제 종료%') AS like_count,
+    (SELECT count(*) FROM vocs
+     WHERE voc_search_match(title, content, ticket_id, '강제 종료')
+       AND (lower(title) LIKE '%강제 종료%' OR lower(content) LIKE '%강제 종료%' OR lower(ticket_id) LIKE '%강제 종료%')) AS fulltext_count;
+
+ROLLBACK;